@@ -0,0 +1,56 @@
+package com.api.gerenciadorprojetos.ChangeFeed.Controllers;
+
+import com.api.gerenciadorprojetos.ChangeFeed.Hub.ChangeFeedHub;
+import com.api.gerenciadorprojetos.Exceptions.UnauthorizedException;
+import com.api.gerenciadorprojetos.Users.Entities.User;
+import com.api.gerenciadorprojetos.Utils.SecurityUtils;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controller do fluxo de alterações (Server-Sent Events) de projetos e tarefas do usuário autenticado.
+ * <p>
+ * Eventos enviados: "alteracao" (ChangeEventDTO), "conectado" (ID do último evento, ao abrir a conexão) e
+ * "recarregar" (eventos perdidos; o cliente deve recarregar os dados). Ao reconectar, o cliente informa o último
+ * evento recebido em Last-Event-ID, o que o EventSource do navegador faz automaticamente.
+ *
+ * @author victor.marcelo
+ *
+ * @see ChangeFeedHub
+ */
+@RestController
+@RequestMapping("/eventos")
+@Api(value = "Eventos Controller", tags = "Fluxo de Alterações de Projetos e Tarefas")
+public class ChangeFeedController {
+
+    private final ChangeFeedHub changeFeedHub;
+    private final SecurityUtils securityUtils;
+
+    @Autowired
+    public ChangeFeedController(ChangeFeedHub changeFeedHub, SecurityUtils securityUtils) {
+        this.changeFeedHub = changeFeedHub;
+        this.securityUtils = securityUtils;
+    }
+
+    @ApiOperation("Abre o fluxo de alterações dos projetos e tarefas em que o usuário autenticado está envolvido")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @ApiParam(value = "Último evento recebido, para retomar o fluxo") @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            @RequestHeader("Authorization") String token) {
+        User userAuthenticated = securityUtils.getUsuarioLogado();
+
+        if (userAuthenticated == null) {
+            throw new UnauthorizedException("Usuário não autenticado");
+        }
+
+        return changeFeedHub.subscribe(userAuthenticated.getId(), lastEventId);
+    }
+}
@@ -0,0 +1,31 @@
+package com.api.gerenciadorprojetos.ChangeFeed.DTO;
+
+import com.api.gerenciadorprojetos.ChangeFeed.Enums.TipoAlteracao;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO de um evento do fluxo de alterações (/eventos). Informa apenas o que mudou; o cliente busca os dados atualizados
+ * nos endpoints de leitura, que respondem 304 se o ETag não mudou.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ChangeEventDTO {
+    /** Sequência do evento nesta instância, enviada como id do evento SSE (Last-Event-ID na reconexão). */
+    private long id;
+    private TipoAlteracao tipo;
+    /**
+     * IDs das entidades alteradas. Tarefas do mesmo projeto alteradas na mesma transação (por exemplo, deslocadas pela
+     * propagação do cronograma) chegam em um único evento.
+     */
+    private List<Long> entidadeIds;
+    private Long projetoId;
+    private LocalDateTime dataEvento;
+}
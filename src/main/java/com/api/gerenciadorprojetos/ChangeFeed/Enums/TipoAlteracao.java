@@ -0,0 +1,21 @@
+package com.api.gerenciadorprojetos.ChangeFeed.Enums;
+
+/**
+ * Tipo de entidade alterada em um evento do fluxo de alterações.
+ *
+ * @author victor.marcelo
+ */
+public enum TipoAlteracao {
+    PROJETO("Projeto"),
+    TAREFA("Tarefa");
+
+    private final String descricao;
+
+    TipoAlteracao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
@@ -0,0 +1,209 @@
+package com.api.gerenciadorprojetos.ChangeFeed.Hub;
+
+import com.api.gerenciadorprojetos.ChangeFeed.DTO.ChangeEventDTO;
+import com.api.gerenciadorprojetos.ChangeFeed.Enums.TipoAlteracao;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Conexões SSE abertas nesta instância e distribuição dos eventos de alteração aos usuários envolvidos.
+ * <p>
+ * Cada conexão tem uma fila limitada; um cliente que não acompanha os eventos (fila cheia) é desconectado e, ao
+ * reconectar com Last-Event-ID, recebe do histórico os eventos perdidos. Se eles já saíram do histórico, ou o ID é de
+ * outra instância ou de antes de um reinício, recebe um evento "recarregar". A numeração dos eventos é local à
+ * instância: com várias instâncias o balanceador deve manter o cliente na mesma (sticky session).
+ * <p>
+ * Registro, histórico e distribuição são sincronizados por um único lock, o que garante a ordem dos eventos em cada
+ * conexão. A distribuição apenas enfileira; a escrita no cliente acontece na virtual thread de cada conexão.
+ *
+ * @author victor.marcelo
+ */
+@Component
+public class ChangeFeedHub {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedHub.class);
+
+    private final int capacidadeFila;
+    private final int maxConexoesPorUsuario;
+    private final long timeoutMillis;
+    private final EventReplayBuffer historico;
+    private final Counter descartes;
+
+    private final Object lock = new Object();
+    private final Map<Long, List<SseConnection>> conexoesPorUsuario = new HashMap<>();
+    private int totalConexoes;
+    private long ultimoId;
+
+    @Autowired
+    public ChangeFeedHub(MeterRegistry meterRegistry,
+                         @Value("${app.change-feed.queue-capacity:256}") int capacidadeFila,
+                         @Value("${app.change-feed.replay-capacity:10000}") int capacidadeHistorico,
+                         @Value("${app.change-feed.max-connections-per-user:5}") int maxConexoesPorUsuario,
+                         @Value("${app.change-feed.timeout:30m}") Duration timeout) {
+        this.capacidadeFila = Math.max(1, capacidadeFila);
+        this.maxConexoesPorUsuario = Math.max(1, maxConexoesPorUsuario);
+        this.timeoutMillis = timeout.toMillis();
+        this.historico = new EventReplayBuffer(capacidadeHistorico);
+        this.descartes = Counter.builder("eventos.descartes")
+                .description("Conexões SSE encerradas por não acompanharem os eventos (fila cheia)")
+                .register(meterRegistry);
+        Gauge.builder("eventos.conexoes", this, ChangeFeedHub::getTotalConexoes)
+                .description("Conexões SSE abertas nesta instância")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre uma conexão de eventos para o usuário. Acima do limite de conexões por usuário, a mais antiga é encerrada.
+     *
+     * @param userId         ID do usuário autenticado.
+     * @param ultimoEventoId Último evento recebido pelo cliente (Last-Event-ID), ou null em uma conexão nova.
+     * @return Emissor SSE da conexão.
+     */
+    public SseEmitter subscribe(Long userId, Long ultimoEventoId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        SseConnection conexao = new SseConnection(userId, emitter, capacidadeFila, this::remover);
+
+        SseConnection excedente = null;
+        synchronized (lock) {
+            List<SseConnection> doUsuario = conexoesPorUsuario.computeIfAbsent(userId, id -> new ArrayList<>(1));
+            if (doUsuario.size() >= maxConexoesPorUsuario) {
+                excedente = doUsuario.get(0);
+            }
+
+            if (ultimoEventoId != null) {
+                reenviar(conexao, ultimoEventoId);
+            }
+            // Depois dos eventos reenviados, para que o Last-Event-ID do cliente só avance quando todos forem entregues
+            conexao.enviar(Mensagem.conectado(ultimoId));
+
+            doUsuario.add(conexao);
+            totalConexoes++;
+        }
+
+        if (excedente != null) {
+            log.info("Usuário {} excedeu {} conexões de eventos. Encerrando a mais antiga.", userId, maxConexoesPorUsuario);
+            excedente.encerrar(true);
+        }
+
+        conexao.iniciar();
+        return emitter;
+    }
+
+    /**
+     * Publica um evento de alteração para os usuários informados, registrando-o no histórico.
+     *
+     * @param tipo         Tipo da entidade alterada.
+     * @param entidadeIds  IDs das entidades alteradas.
+     * @param projetoId    ID do projeto da entidade.
+     * @param destinatarios IDs dos usuários que devem receber o evento.
+     */
+    public void publish(TipoAlteracao tipo, Collection<Long> entidadeIds, Long projetoId, Collection<Long> destinatarios) {
+        if (destinatarios.isEmpty()) {
+            return;
+        }
+
+        List<SseConnection> lentas = new ArrayList<>();
+        synchronized (lock) {
+            ChangeEventDTO evento = new ChangeEventDTO(++ultimoId, tipo, List.copyOf(entidadeIds), projetoId,
+                    LocalDateTime.now());
+            historico.adicionar(evento, Set.copyOf(destinatarios));
+
+            Mensagem mensagem = Mensagem.alteracao(evento);
+            for (Long userId : destinatarios) {
+                List<SseConnection> conexoes = conexoesPorUsuario.get(userId);
+                if (conexoes == null) {
+                    continue;
+                }
+                for (SseConnection conexao : conexoes) {
+                    if (!conexao.enviar(mensagem)) {
+                        lentas.add(conexao);
+                    }
+                }
+            }
+        }
+
+        descartar(lentas);
+    }
+
+    /**
+     * Envia um heartbeat (comentário SSE) a todas as conexões, mantendo-as abertas em proxies e detectando clientes
+     * desconectados, cuja escrita falha.
+     */
+    @Scheduled(fixedDelayString = "${app.change-feed.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        List<SseConnection> lentas = new ArrayList<>();
+        synchronized (lock) {
+            for (List<SseConnection> conexoes : conexoesPorUsuario.values()) {
+                for (SseConnection conexao : conexoes) {
+                    if (!conexao.enviar(Mensagem.HEARTBEAT)) {
+                        lentas.add(conexao);
+                    }
+                }
+            }
+        }
+
+        descartar(lentas);
+    }
+
+    public int getTotalConexoes() {
+        synchronized (lock) {
+            return totalConexoes;
+        }
+    }
+
+    /**
+     * Reenfileira os eventos do histórico posteriores ao informado pelo cliente. Se não couberem na fila da conexão,
+     * ou não estiverem mais no histórico, pede ao cliente que recarregue os dados.
+     */
+    private void reenviar(SseConnection conexao, long ultimoEventoId) {
+        List<ChangeEventDTO> perdidos = historico.desde(ultimoEventoId, conexao.getUserId(), ultimoId);
+
+        // Reserva uma posição da fila para a mensagem de conexão
+        if (perdidos == null || perdidos.size() >= capacidadeFila - 1) {
+            conexao.enviar(Mensagem.recarregar(ultimoId));
+            return;
+        }
+        for (ChangeEventDTO evento : perdidos) {
+            conexao.enviar(Mensagem.alteracao(evento));
+        }
+    }
+
+    private void descartar(List<SseConnection> lentas) {
+        for (SseConnection conexao : lentas) {
+            // Conexões encerradas também recusam mensagens até serem removidas
+            if (conexao.encerrar(true)) {
+                log.info("Conexão de eventos do usuário {} encerrada: fila cheia", conexao.getUserId());
+                descartes.increment();
+            }
+        }
+    }
+
+    private void remover(SseConnection conexao) {
+        synchronized (lock) {
+            List<SseConnection> conexoes = conexoesPorUsuario.get(conexao.getUserId());
+            if (conexoes != null && conexoes.remove(conexao)) {
+                totalConexoes--;
+                if (conexoes.isEmpty()) {
+                    conexoesPorUsuario.remove(conexao.getUserId());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.api.gerenciadorprojetos.ChangeFeed.Hub;
+
+import com.api.gerenciadorprojetos.ChangeFeed.DTO.ChangeEventDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Buffer circular com os últimos eventos publicados e seus destinatários, usado para reenviar os eventos perdidos por
+ * um cliente que reconecta com Last-Event-ID. Os IDs dos eventos são consecutivos.
+ * <p>
+ * Não é thread-safe: o acesso é sincronizado pelo {@link ChangeFeedHub}.
+ *
+ * @author victor.marcelo
+ */
+final class EventReplayBuffer {
+
+    private final ChangeEventDTO[] eventos;
+    private final List<Set<Long>> destinatarios;
+    private int inicio;
+    private int tamanho;
+
+    EventReplayBuffer(int capacidade) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade do histórico de eventos deve ser positiva");
+        }
+        this.eventos = new ChangeEventDTO[capacidade];
+        this.destinatarios = new ArrayList<>(capacidade);
+        for (int i = 0; i < capacidade; i++) {
+            destinatarios.add(Set.of());
+        }
+    }
+
+    void adicionar(ChangeEventDTO evento, Set<Long> usuarios) {
+        int posicao = (inicio + tamanho) % eventos.length;
+        eventos[posicao] = evento;
+        destinatarios.set(posicao, usuarios);
+        if (tamanho < eventos.length) {
+            tamanho++;
+        } else {
+            inicio = (inicio + 1) % eventos.length;
+        }
+    }
+
+    /**
+     * Lista os eventos do usuário posteriores a {@code ultimoId}.
+     *
+     * @param ultimoId    ID do último evento recebido pelo cliente.
+     * @param userId      ID do usuário.
+     * @param ultimoIdAtual ID do último evento publicado.
+     * @return Eventos do usuário, ou null se parte dos eventos posteriores já saiu do histórico (ou o ID não pertence
+     *         a esta instância, por exemplo após um reinício) e o cliente precisa recarregar os dados.
+     */
+    List<ChangeEventDTO> desde(long ultimoId, Long userId, long ultimoIdAtual) {
+        if (ultimoId > ultimoIdAtual || ultimoId < 0) {
+            return null;
+        }
+        if (ultimoId == ultimoIdAtual) {
+            return List.of();
+        }
+        if (tamanho == 0 || ultimoId < eventos[inicio].getId() - 1) {
+            return null;
+        }
+
+        List<ChangeEventDTO> resultado = new ArrayList<>();
+        for (int i = (int) (ultimoId - eventos[inicio].getId() + 1); i < tamanho; i++) {
+            int posicao = (inicio + i) % eventos.length;
+            if (destinatarios.get(posicao).contains(userId)) {
+                resultado.add(eventos[posicao]);
+            }
+        }
+        return resultado;
+    }
+}
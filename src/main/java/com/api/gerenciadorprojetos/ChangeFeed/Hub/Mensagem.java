@@ -0,0 +1,55 @@
+package com.api.gerenciadorprojetos.ChangeFeed.Hub;
+
+import com.api.gerenciadorprojetos.ChangeFeed.DTO.ChangeEventDTO;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Mensagem imutável enfileirada nas conexões SSE. A mesma mensagem é compartilhada por todas as conexões destinatárias;
+ * o {@link SseEmitter.SseEventBuilder}, que não pode ser compartilhado, é criado na escrita.
+ *
+ * @author victor.marcelo
+ */
+final class Mensagem {
+
+    static final String EVENTO_ALTERACAO = "alteracao";
+    static final String EVENTO_CONECTADO = "conectado";
+    static final String EVENTO_RECARREGAR = "recarregar";
+
+    static final Mensagem HEARTBEAT = new Mensagem(null, 0, null);
+
+    private final String nome;
+    private final long id;
+    private final Object dados;
+
+    private Mensagem(String nome, long id, Object dados) {
+        this.nome = nome;
+        this.id = id;
+        this.dados = dados;
+    }
+
+    static Mensagem alteracao(ChangeEventDTO evento) {
+        return new Mensagem(EVENTO_ALTERACAO, evento.getId(), evento);
+    }
+
+    /**
+     * Primeira mensagem da conexão, com o ID do último evento publicado para que o cliente retome a partir dele.
+     */
+    static Mensagem conectado(long ultimoId) {
+        return new Mensagem(EVENTO_CONECTADO, ultimoId, ultimoId);
+    }
+
+    /**
+     * Avisa que eventos foram perdidos (fora do histórico) e o cliente deve recarregar os dados.
+     */
+    static Mensagem recarregar(long ultimoId) {
+        return new Mensagem(EVENTO_RECARREGAR, ultimoId, ultimoId);
+    }
+
+    SseEmitter.SseEventBuilder paraEvento() {
+        if (nome == null) {
+            // Comentário: mantém a conexão aberta em proxies e detecta clientes desconectados
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event().name(nome).id(String.valueOf(id)).data(dados);
+    }
+}
@@ -0,0 +1,100 @@
+package com.api.gerenciadorprojetos.ChangeFeed.Hub;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Conexão SSE de um usuário, com fila limitada e uma virtual thread que escreve os eventos no cliente.
+ * <p>
+ * Quem publica apenas enfileira ({@link #enviar(Mensagem)} não bloqueia); a escrita no socket, que pode bloquear com um
+ * cliente lento, acontece na virtual thread da conexão. Sem eventos a thread fica estacionada na fila, sem ocupar
+ * thread de plataforma, o que permite dezenas de milhares de conexões ociosas. A fila é alocada sob demanda.
+ *
+ * @author victor.marcelo
+ */
+final class SseConnection {
+
+    private static final Logger log = LoggerFactory.getLogger(SseConnection.class);
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Mensagem> fila;
+    private final Consumer<SseConnection> aoEncerrar;
+    private final AtomicBoolean encerrada = new AtomicBoolean();
+    private volatile Thread escritor;
+
+    SseConnection(Long userId, SseEmitter emitter, int capacidadeFila, Consumer<SseConnection> aoEncerrar) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.fila = new LinkedBlockingQueue<>(capacidadeFila);
+        this.aoEncerrar = aoEncerrar;
+
+        emitter.onCompletion(() -> encerrar(false));
+        emitter.onTimeout(() -> encerrar(true));
+        emitter.onError(erro -> encerrar(false));
+    }
+
+    Long getUserId() {
+        return userId;
+    }
+
+    void iniciar() {
+        escritor = Thread.ofVirtual().name("eventos-usuario-" + userId).start(this::escrever);
+    }
+
+    /**
+     * Enfileira uma mensagem para o cliente.
+     *
+     * @return false se a fila estiver cheia (cliente que não acompanha os eventos) ou a conexão já tiver sido encerrada.
+     */
+    boolean enviar(Mensagem mensagem) {
+        return !encerrada.get() && fila.offer(mensagem);
+    }
+
+    /**
+     * Encerra a conexão: interrompe a escrita e, se {@code completarEmissor}, finaliza a resposta ao cliente, que pode
+     * reconectar com Last-Event-ID.
+     *
+     * @return false se a conexão já estava encerrada.
+     */
+    boolean encerrar(boolean completarEmissor) {
+        if (!encerrada.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread thread = escritor;
+        if (thread != null && thread != Thread.currentThread()) {
+            thread.interrupt();
+        }
+        fila.clear();
+        if (completarEmissor) {
+            try {
+                emitter.complete();
+            } catch (RuntimeException ex) {
+                log.debug("Erro ao finalizar a conexão de eventos do usuário {}: {}", userId, ex.getMessage());
+            }
+        }
+        aoEncerrar.accept(this);
+        return true;
+    }
+
+    private void escrever() {
+        try {
+            while (!encerrada.get()) {
+                emitter.send(fila.take().paraEvento());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException ex) {
+            // Cliente desconectado: o contêiner finaliza a requisição assíncrona
+            log.debug("Conexão de eventos do usuário {} interrompida: {}", userId, ex.getMessage());
+            encerrar(false);
+        }
+    }
+}
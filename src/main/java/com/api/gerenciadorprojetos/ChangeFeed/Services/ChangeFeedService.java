@@ -0,0 +1,98 @@
+package com.api.gerenciadorprojetos.ChangeFeed.Services;
+
+import com.api.gerenciadorprojetos.ChangeFeed.Enums.TipoAlteracao;
+import com.api.gerenciadorprojetos.ChangeFeed.Hub.ChangeFeedHub;
+import com.api.gerenciadorprojetos.Infra.Transactions.AfterCommitBatch;
+import com.api.gerenciadorprojetos.Projects.Events.ProjectChangedEvent;
+import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import com.api.gerenciadorprojetos.Tasks.Events.TaskChangedEvent;
+import com.api.gerenciadorprojetos.Tasks.Repositories.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Converte os eventos de alteração de projetos e tarefas, após o commit, em eventos do fluxo /eventos para os usuários
+ * envolvidos no projeto (membros, gerente e criador).
+ *
+ * @author victor.marcelo
+ *
+ * @see ChangeFeedHub
+ */
+@Service
+public class ChangeFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedService.class);
+
+    private final ChangeFeedHub changeFeedHub;
+    private final ProjetoJpaRepository projectRepository;
+    private final TaskRepository taskRepository;
+
+    private final AfterCommitBatch<TaskChangedEvent> tarefasAlteradas = new AfterCommitBatch<>(this::publicarTarefas);
+
+    @Autowired
+    public ChangeFeedService(ChangeFeedHub changeFeedHub, ProjetoJpaRepository projectRepository, TaskRepository taskRepository) {
+        this.changeFeedHub = changeFeedHub;
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+    }
+
+    /**
+     * Publica a alteração de um projeto para os envolvidos atuais e para os que foram desvinculados na operação.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Long projectId = event.getProjectId();
+
+        Set<Long> destinatarios = new HashSet<>(projectRepository.findInvolvedUserIds(projectId));
+        destinatarios.addAll(event.getUsuariosDesvinculados());
+
+        changeFeedHub.publish(TipoAlteracao.PROJETO, List.of(projectId), projectId, destinatarios);
+    }
+
+    /**
+     * Registra a alteração de uma tarefa para ser publicada após o commit, junto com as demais tarefas alteradas na
+     * mesma transação.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        tarefasAlteradas.adicionar(event);
+    }
+
+    /**
+     * Publica um evento por projeto com as tarefas alteradas na transação, consultando os envolvidos uma vez por
+     * projeto. Uma propagação do cronograma que desloca centenas de tarefas gera uma única mensagem por usuário.
+     */
+    private void publicarTarefas(List<TaskChangedEvent> eventos) {
+        Map<Long, Set<Long>> tarefasPorProjeto = new LinkedHashMap<>();
+
+        for (TaskChangedEvent event : eventos) {
+            Long projectId = event.getProjectId() != null
+                    ? event.getProjectId()
+                    : taskRepository.findProjectIdByTaskId(event.getTaskId()).orElse(null);
+
+            if (projectId == null) {
+                log.debug("Projeto da tarefa {} não encontrado. Evento de alteração não publicado.", event.getTaskId());
+                continue;
+            }
+
+            tarefasPorProjeto.computeIfAbsent(projectId, id -> new LinkedHashSet<>()).add(event.getTaskId());
+        }
+
+        for (Map.Entry<Long, Set<Long>> entry : tarefasPorProjeto.entrySet()) {
+            changeFeedHub.publish(TipoAlteracao.TAREFA, entry.getValue(), entry.getKey(),
+                    projectRepository.findInvolvedUserIds(entry.getKey()));
+        }
+    }
+}
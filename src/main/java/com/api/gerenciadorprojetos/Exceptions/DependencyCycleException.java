@@ -0,0 +1,25 @@
+package com.api.gerenciadorprojetos.Exceptions;
+
+import java.util.List;
+
+/**
+ * Exceção lançada quando uma dependência entre tarefas formaria um ciclo no cronograma do projeto.
+ *
+ * @author victor.marcelo
+ */
+public class DependencyCycleException extends RuntimeException {
+
+    private final List<Long> tarefasNoCiclo;
+
+    public DependencyCycleException(String message, List<Long> tarefasNoCiclo) {
+        super(message);
+        this.tarefasNoCiclo = List.copyOf(tarefasNoCiclo);
+    }
+
+    /**
+     * @return IDs de tarefas que participam do ciclo (ou dependem dele), limitados a uma amostra.
+     */
+    public List<Long> getTarefasNoCiclo() {
+        return tarefasNoCiclo;
+    }
+}
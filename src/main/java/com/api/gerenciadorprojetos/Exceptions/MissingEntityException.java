@@ -0,0 +1,26 @@
+package com.api.gerenciadorprojetos.Exceptions;
+
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exceção lançada quando uma entidade buscada pelo ID não existe. Não captura a pilha de chamadas: é uma resposta
+ * esperada (404), frequente em IDs excluídos, e a pilha não seria usada.
+ * <p>
+ * Estende {@link EntityNotFoundException}, então continua sendo tratada como ela.
+ *
+ * @author victor.marcelo
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class MissingEntityException extends EntityNotFoundException {
+
+    public MissingEntityException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
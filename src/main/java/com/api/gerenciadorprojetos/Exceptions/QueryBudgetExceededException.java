@@ -0,0 +1,14 @@
+package com.api.gerenciadorprojetos.Exceptions;
+
+/**
+ * Exceção lançada quando uma requisição executa mais consultas SQL que o orçamento configurado
+ * ({@code app.sql.query-budget}) com a verificação obrigatória habilitada, normalmente apenas no perfil dev.
+ *
+ * @author victor.marcelo
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
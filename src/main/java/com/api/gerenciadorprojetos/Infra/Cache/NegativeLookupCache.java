@@ -0,0 +1,162 @@
+package com.api.gerenciadorprojetos.Infra.Cache;
+
+import com.api.gerenciadorprojetos.Infra.DataSource.ReadReplicaRoutingDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache de buscas por ID que não encontraram a entidade (cache negativo), para que IDs excluídos ou inexistentes,
+ * consultados repetidamente por clientes desatualizados, não voltem ao banco a cada requisição.
+ * <p>
+ * Cada ausência é lembrada por um TTL curto ({@code app.negative-cache.ttl}). A criação de uma entidade remove a
+ * ausência do seu ID após o commit; uma busca concluída ao mesmo tempo que a criação não registra a ausência. Entidades
+ * criadas por outra instância da aplicação só são vistas aqui depois do TTL.
+ * <p>
+ * Apenas ausências lidas do primário são registradas: uma réplica atrasada pode ainda não ter uma entidade recém
+ * criada, e registrar essa ausência a esconderia de todos, inclusive de quem a criou, até o fim do TTL.
+ * <p>
+ * Métricas em {@code cache.negativo}, por entidade e resultado: acerto (a busca foi evitada) e registro (ausência
+ * registrada).
+ *
+ * @author victor.marcelo
+ */
+@Component
+public class NegativeLookupCache {
+
+    private final MeterRegistry meterRegistry;
+    private final long ttlMillis;
+    private final int maxEntradas;
+    private final Clock clock;
+
+    private final Map<Class<?>, Ausencias> ausenciasPorEntidade = new ConcurrentHashMap<>();
+
+    @Autowired
+    public NegativeLookupCache(MeterRegistry meterRegistry,
+                               @Value("${app.negative-cache.ttl:30s}") Duration ttl,
+                               @Value("${app.negative-cache.max-entries:100000}") int maxEntradas) {
+        this(meterRegistry, ttl, maxEntradas, Clock.systemUTC());
+    }
+
+    NegativeLookupCache(MeterRegistry meterRegistry, Duration ttl, int maxEntradas, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntradas = maxEntradas;
+        this.clock = clock;
+    }
+
+    /**
+     * Busca a entidade pelo ID, a menos que ela tenha sido recentemente buscada e não encontrada.
+     *
+     * @param tipo  Classe da entidade.
+     * @param id    ID da entidade.
+     * @param busca Busca no banco, executada se a ausência do ID não estiver em cache. Pode retornar a entidade ou
+     *              outro dado dela (por exemplo, a versão).
+     * @return O resultado da busca, ou vazio se a entidade não existir.
+     */
+    public <T> Optional<T> buscar(Class<?> tipo, Long id, Function<Long, Optional<T>> busca) {
+        if (ttlMillis <= 0) {
+            return busca.apply(id);
+        }
+
+        Ausencias ausencias = ausencias(tipo);
+        Long expiraEm = ausencias.ids.get(id);
+        if (expiraEm != null) {
+            if (clock.millis() < expiraEm) {
+                ausencias.acertos.increment();
+                return Optional.empty();
+            }
+            ausencias.ids.remove(id, expiraEm);
+        }
+
+        long criacoes = ausencias.criacoes.get();
+        Optional<T> entidade = busca.apply(id);
+        if (entidade.isEmpty() && !ReadReplicaRoutingDataSource.leituraEmReplica()) {
+            registrarAusencia(ausencias, id, criacoes);
+        }
+        return entidade;
+    }
+
+    /**
+     * Remove a ausência em cache do ID de uma entidade criada. Dentro de uma transação, a remoção acontece após o
+     * commit, quando a entidade passa a ser visível para as buscas.
+     *
+     * @param tipo Classe da entidade.
+     * @param id   ID da entidade criada.
+     */
+    public void registrarCriacao(Class<?> tipo, Long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidar(tipo, id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidar(tipo, id);
+            }
+        });
+    }
+
+    private void registrarAusencia(Ausencias ausencias, Long id, long criacoesAntesDaBusca) {
+        if (ausencias.ids.size() >= maxEntradas) {
+            long agora = clock.millis();
+            ausencias.ids.values().removeIf(expiraEm -> expiraEm <= agora);
+            if (ausencias.ids.size() >= maxEntradas) {
+                return;
+            }
+        }
+
+        Long expiraEm = clock.millis() + ttlMillis;
+        ausencias.ids.put(id, expiraEm);
+        // Registrada antes da verificação: uma criação concorrente ou remove a ausência, ou é percebida aqui
+        if (ausencias.criacoes.get() != criacoesAntesDaBusca) {
+            ausencias.ids.remove(id, expiraEm);
+            return;
+        }
+        ausencias.registros.increment();
+    }
+
+    private void invalidar(Class<?> tipo, Long id) {
+        Ausencias ausencias = ausencias(tipo);
+        ausencias.criacoes.incrementAndGet();
+        ausencias.ids.remove(id);
+    }
+
+    private Ausencias ausencias(Class<?> tipo) {
+        return ausenciasPorEntidade.computeIfAbsent(tipo, chave -> new Ausencias(meterRegistry, chave.getSimpleName()));
+    }
+
+    private static final class Ausencias {
+
+        /** Momento de expiração da ausência de cada ID. */
+        private final Map<Long, Long> ids = new ConcurrentHashMap<>();
+        private final AtomicLong criacoes = new AtomicLong();
+        private final Counter acertos;
+        private final Counter registros;
+
+        private Ausencias(MeterRegistry meterRegistry, String entidade) {
+            this.acertos = contador(meterRegistry, entidade, "acerto");
+            this.registros = contador(meterRegistry, entidade, "registro");
+        }
+
+        private static Counter contador(MeterRegistry meterRegistry, String entidade, String resultado) {
+            return Counter.builder("cache.negativo")
+                    .description("Buscas por ID sem resultado: evitadas pelo cache (acerto) e registradas")
+                    .tag("entidade", entidade)
+                    .tag("resultado", resultado)
+                    .register(meterRegistry);
+        }
+    }
+}
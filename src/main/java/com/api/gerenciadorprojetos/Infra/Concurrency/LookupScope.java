@@ -0,0 +1,189 @@
+package com.api.gerenciadorprojetos.Infra.Concurrency;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Escopo de consultas paralelas aberto por {@link ParallelLookups#abrir()}, com a mesma semântica do
+ * {@code StructuredTaskScope.ShutdownOnFailure} (API em preview no Java 21): cada {@link #fork(Callable)} executa a
+ * consulta em uma virtual thread, {@link #join()} aguarda todas e a primeira falha cancela as demais, e nenhuma
+ * consulta continua em execução depois do {@link #close()}.
+ * <p>
+ * Uso:
+ * <pre>{@code
+ * try (LookupScope consultas = parallelLookups.abrir()) {
+ *     Supplier<User> usuario = consultas.fork(() -> entityServiceUtils.getUserById(userId));
+ *     Project projeto = entityServiceUtils.getProjectById(projectId);
+ *     consultas.join();
+ *     ... usuario.get() ...
+ * }
+ * }</pre>
+ * O escopo pertence à thread que o abriu, a única que pode usá-lo. A exceção da primeira consulta que falhar é
+ * relançada por {@link #join()} sem alteração (exceções verificadas são encapsuladas em IllegalStateException), então
+ * uma EntityNotFoundException continua sendo respondida com 404.
+ *
+ * @author victor.marcelo
+ */
+public final class LookupScope implements AutoCloseable {
+
+    private final ParallelLookups parallelLookups;
+    private final Thread dono = Thread.currentThread();
+    private final List<Consulta<?>> consultas = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> primeiraFalha = new AtomicReference<>();
+    private boolean aguardadas;
+    private boolean fechado;
+
+    LookupScope(ParallelLookups parallelLookups) {
+        this.parallelLookups = parallelLookups;
+    }
+
+    /**
+     * Inicia uma consulta em uma virtual thread ou, se o limite de consultas paralelas foi atingido, na própria thread.
+     *
+     * @param consulta A consulta, que não deve depender das demais do escopo.
+     * @return O resultado da consulta, disponível depois de {@link #join()}.
+     */
+    public <T> Supplier<T> fork(Callable<T> consulta) {
+        verificarDono();
+        if (fechado) {
+            throw new IllegalStateException("Escopo de consultas paralelas já fechado");
+        }
+        aguardadas = false;
+
+        Consulta<T> tarefa;
+        if (parallelLookups.reservar()) {
+            tarefa = new Consulta<>(parallelLookups.comContexto(consulta), true);
+            consultas.add(tarefa);
+            tarefa.thread = Thread.ofVirtual().name("consulta-paralela").unstarted(tarefa);
+            tarefa.thread.start();
+        } else {
+            tarefa = new Consulta<>(consulta, false);
+            consultas.add(tarefa);
+            tarefa.run();
+        }
+        return () -> resultado(tarefa);
+    }
+
+    /**
+     * Aguarda todas as consultas iniciadas.
+     *
+     * @throws RuntimeException A exceção da primeira consulta que falhou.
+     */
+    public void join() {
+        verificarDono();
+        for (Consulta<?> tarefa : consultas) {
+            try {
+                tarefa.get();
+            } catch (ExecutionException | CancellationException ex) {
+                // Uma consulta falhou e as demais foram canceladas
+                break;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                cancelar(null);
+                throw new IllegalStateException("Interrompido enquanto aguardava as consultas paralelas", ex);
+            }
+        }
+
+        Throwable falha = primeiraFalha.get();
+        if (falha instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        if (falha instanceof Error error) {
+            throw error;
+        }
+        if (falha != null) {
+            throw new IllegalStateException(falha);
+        }
+        aguardadas = true;
+    }
+
+    /**
+     * Cancela as consultas ainda em andamento e aguarda o término das suas threads.
+     */
+    @Override
+    public void close() {
+        verificarDono();
+        if (fechado) {
+            return;
+        }
+        fechado = true;
+
+        cancelar(null);
+        boolean interrompido = false;
+        for (Consulta<?> tarefa : consultas) {
+            while (tarefa.thread != null) {
+                try {
+                    tarefa.thread.join();
+                    break;
+                } catch (InterruptedException ex) {
+                    interrompido = true;
+                }
+            }
+        }
+        if (interrompido) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> T resultado(Consulta<T> tarefa) {
+        if (!aguardadas) {
+            throw new IllegalStateException("Resultado de consulta paralela lido antes do join()");
+        }
+        return tarefa.resultNow();
+    }
+
+    private void falhou(Consulta<?> origem, Throwable falha) {
+        if (primeiraFalha.compareAndSet(null, falha)) {
+            cancelar(origem);
+        }
+    }
+
+    private void cancelar(Consulta<?> exceto) {
+        for (Consulta<?> tarefa : consultas) {
+            if (tarefa != exceto) {
+                tarefa.cancel(true);
+            }
+        }
+    }
+
+    private void verificarDono() {
+        if (Thread.currentThread() != dono) {
+            throw new IllegalStateException("Escopo de consultas paralelas usado fora da thread que o abriu");
+        }
+    }
+
+    private final class Consulta<T> extends FutureTask<T> {
+
+        private final boolean paralela;
+        private Thread thread;
+
+        Consulta(Callable<T> consulta, boolean paralela) {
+            super(consulta);
+            this.paralela = paralela;
+        }
+
+        @Override
+        public void run() {
+            try {
+                super.run();
+            } finally {
+                if (paralela) {
+                    parallelLookups.liberar();
+                }
+            }
+        }
+
+        @Override
+        protected void setException(Throwable falha) {
+            // Registrada antes de concluir a tarefa, para que o join() já a encontre ao acordar
+            falhou(this, falha);
+            super.setException(falha);
+        }
+    }
+}
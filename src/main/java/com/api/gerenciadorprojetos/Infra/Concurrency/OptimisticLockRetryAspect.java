@@ -0,0 +1,101 @@
+package com.api.gerenciadorprojetos.Infra.Concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Reexecuta métodos anotados com {@link RetryOnOptimisticLock} quando a transação falha por conflito de versão,
+ * aguardando um intervalo exponencial com variação aleatória entre as tentativas.
+ *
+ * <p>Executa antes do interceptor de transação, de modo que cada tentativa abre uma nova transação e relê as
+ * entidades. Esgotadas as tentativas, a exceção é propagada e respondida com 409 pelo
+ * {@code GlobalExceptionHandler}.</p>
+ *
+ * @author victor.marcelo
+ */
+@Aspect
+@Component
+@Order(1)
+public class OptimisticLockRetryAspect {
+
+    private static final Logger log = LoggerFactory.getLogger(OptimisticLockRetryAspect.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int maxTentativas;
+    private final long intervaloInicialMillis;
+    private final long intervaloMaximoMillis;
+
+    @Autowired
+    public OptimisticLockRetryAspect(MeterRegistry meterRegistry,
+                                     @Value("${app.optimistic-lock.max-attempts:4}") int maxTentativas,
+                                     @Value("${app.optimistic-lock.initial-backoff-ms:20}") long intervaloInicialMillis,
+                                     @Value("${app.optimistic-lock.max-backoff-ms:500}") long intervaloMaximoMillis) {
+        this.meterRegistry = meterRegistry;
+        this.maxTentativas = Math.max(1, maxTentativas);
+        this.intervaloInicialMillis = intervaloInicialMillis;
+        this.intervaloMaximoMillis = intervaloMaximoMillis;
+    }
+
+    @Around("@annotation(com.api.gerenciadorprojetos.Infra.Concurrency.RetryOnOptimisticLock)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        // Dentro de uma transação já aberta a reexecução leria as mesmas entidades desatualizadas
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String metodo = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException | OptimisticLockException ex) {
+                if (tentativa >= maxTentativas) {
+                    conflitos(metodo, "esgotado").increment();
+                    log.warn("Conflito de concorrência persistente em {} após {} tentativas", metodo, tentativa);
+                    throw ex;
+                }
+
+                conflitos(metodo, "retentado").increment();
+                log.info("Conflito de concorrência em {} (tentativa {} de {}). Reexecutando.", metodo, tentativa, maxTentativas);
+                aguardar(tentativa, ex);
+            }
+        }
+    }
+
+    private Counter conflitos(String metodo, String resultado) {
+        return Counter.builder("concorrencia.conflitos")
+                .description("Conflitos de lock otimista em métodos de serviço")
+                .tag("metodo", metodo)
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Aguarda o intervalo antes da próxima tentativa. Se a thread for interrompida, preserva a interrupção e desiste,
+     * propagando o conflito original.
+     */
+    private void aguardar(int tentativa, RuntimeException conflito) {
+        long intervalo = Math.min(intervaloMaximoMillis, intervaloInicialMillis << Math.min(tentativa - 1, 20));
+        try {
+            Thread.sleep(intervalo / 2 + ThreadLocalRandom.current().nextLong(intervalo / 2 + 1));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            conflito.addSuppressed(ex);
+            throw conflito;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.api.gerenciadorprojetos.Infra.Concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Executa em paralelo, em virtual threads, consultas independentes de um mesmo método de serviço (por exemplo, as
+ * buscas do projeto e dos usuários ao criar uma tarefa), por meio de um {@link LookupScope}.
+ * <p>
+ * Cada consulta paralela roda fora da transação de quem a iniciou, em uma transação própria com o mesmo modo
+ * (somente leitura ou não), para ser enviada ao mesmo banco (primário ou réplica), e ocupa uma conexão própria do
+ * pool. As entidades retornadas ficam desanexadas: servem para validações, referências de chave estrangeira e o
+ * audit. Entidades que serão alteradas, ou serializadas com associações lazy, devem ser buscadas na thread da
+ * transação.
+ * <p>
+ * Como cada consulta paralela ocupa mais uma conexão, elas só são iniciadas enquanto o pool tem conexões livres e
+ * ninguém aguardando por uma: com o pool saturado, paralelizar apenas aumentaria a fila. Além disso, o número de
+ * consultas paralelas em andamento é limitado ({@code app.parallel-lookups.max-in-flight}) a um valor menor que o
+ * pool: quem aguarda as consultas pode estar segurando uma conexão, e sem o limite os métodos aguardando ocupariam
+ * todo o pool enquanto as suas consultas esperam por uma conexão. Nos dois casos a consulta é executada na própria
+ * thread, na transação de quem a iniciou, em sequência, como antes. O limite padrão é 0: sem configuração, todas as
+ * consultas são executadas assim.
+ *
+ * @author victor.marcelo
+ */
+@Component
+public class ParallelLookups {
+
+    private final TransactionTemplate transacaoLeitura;
+    private final TransactionTemplate transacaoEscrita;
+    private final Tracer tracer;
+    private final HikariDataSource pool;
+    private final Semaphore permissoes;
+    private final Counter execucoesEmSequencia;
+
+    @Autowired
+    public ParallelLookups(PlatformTransactionManager transactionManager,
+                           ObjectProvider<Tracer> tracer,
+                           ObjectProvider<DataSource> dataSource,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.parallel-lookups.max-in-flight:0}") int maxEmAndamento) {
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
+        this.transacaoEscrita = new TransactionTemplate(transactionManager);
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+        this.pool = hikari(dataSource.getIfAvailable());
+        this.permissoes = new Semaphore(Math.max(0, maxEmAndamento));
+        this.execucoesEmSequencia = Counter.builder("consultas.paralelas.sequenciais")
+                .description("Consultas executadas na própria thread por falta de conexões livres ou por excederem o limite de consultas paralelas")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre um escopo de consultas paralelas, que deve ser fechado (try-with-resources) pela mesma thread.
+     *
+     * @return O escopo aberto.
+     */
+    public LookupScope abrir() {
+        return new LookupScope(this);
+    }
+
+    /**
+     * Reserva uma vaga para uma consulta paralela.
+     *
+     * @return false se o pool está sem conexões livres ou o limite foi atingido, e a consulta deve ser executada na
+     * própria thread.
+     */
+    boolean reservar() {
+        if (poolComFolga() && permissoes.tryAcquire()) {
+            return true;
+        }
+        execucoesEmSequencia.increment();
+        return false;
+    }
+
+    void liberar() {
+        permissoes.release();
+    }
+
+    /**
+     * Prepara a consulta para outra thread: leva o MDC, o usuário autenticado e o span atual, e a executa em uma
+     * transação com o mesmo modo da transação de quem a iniciou.
+     */
+    <T> Callable<T> comContexto(Callable<T> consulta) {
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        SecurityContext seguranca = SecurityContextHolder.getContext();
+        Span span = tracer.currentSpan();
+        TransactionTemplate transacao = !TransactionSynchronizationManager.isActualTransactionActive() ? null
+                : TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? transacaoLeitura : transacaoEscrita;
+
+        return () -> {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            SecurityContextHolder.setContext(seguranca);
+            try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+                return transacao == null ? consulta.call() : transacao.execute(status -> chamar(consulta));
+            } finally {
+                SecurityContextHolder.clearContext();
+                MDC.clear();
+            }
+        };
+    }
+
+    private boolean poolComFolga() {
+        HikariPoolMXBean estado = pool == null ? null : pool.getHikariPoolMXBean();
+        return estado == null || (estado.getThreadsAwaitingConnection() == 0 && estado.getIdleConnections() > 0);
+    }
+
+    /**
+     * Pool do banco primário, onde são executadas as escritas (o DataSource pode estar encapsulado pelo roteamento
+     * de réplicas e pelo LazyConnectionDataSourceProxy).
+     */
+    private static HikariDataSource hikari(DataSource dataSource) {
+        try {
+            return dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)
+                    ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException ex) {
+            return null;
+        }
+    }
+
+    private static <T> T chamar(Callable<T> consulta) {
+        try {
+            return consulta.call();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.api.gerenciadorprojetos.Infra.Concurrency;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca um método de serviço transacional que deve ser executado novamente, em uma nova transação, quando
+ * falhar por conflito de versão (lock otimista).
+ *
+ * @author victor.marcelo
+ *
+ * @see OptimisticLockRetryAspect
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnOptimisticLock {
+}
@@ -0,0 +1,158 @@
+package com.api.gerenciadorprojetos.Infra.Concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa cargas concorrentes de uma mesma chave em uma única execução (single-flight): enquanto uma carga está em
+ * andamento, as chamadas seguintes com a mesma chave aguardam o seu resultado em vez de repeti-la. O resultado pode
+ * ainda ser reutilizado por um curto intervalo depois de concluído.
+ * <p>
+ * A reutilização não é invalidada por alterações: a chave deve identificar a versão dos dados (por exemplo, o ID e a
+ * versão da entidade), ou o intervalo deve ser curto o bastante para a defasagem ser aceitável. Se a versão só é
+ * conhecida com certeza depois da carga, o resultado pode ser guardado sob a chave da versão efetivamente carregada
+ * (veja {@link #executar(Object, Supplier, Function)}). Falhas não são
+ * reutilizadas, mas são entregues a todas as chamadas que aguardavam a carga. O resultado é compartilhado entre as
+ * chamadas e não deve ser alterado.
+ * <p>
+ * Métricas em {@code coalescencia.chamadas}, por nome e resultado: executada (a chamada fez a carga), coalescida
+ * (aguardou a carga de outra chamada) e reutilizada (recebeu um resultado recente).
+ *
+ * @author victor.marcelo
+ */
+public class SingleFlight<K, V> {
+
+    /** Quantidade de resultados guardados acima da qual os expirados são removidos. */
+    private static final int LIMPEZA_ACIMA_DE = 1024;
+
+    private final long reutilizacaoMillis;
+    private final Clock clock;
+    private final Counter executadas;
+    private final Counter coalescidas;
+    private final Counter reutilizadas;
+
+    private final Map<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+    private final Map<K, Recente<V>> recentes = new ConcurrentHashMap<>();
+
+    public SingleFlight(String nome, Duration reutilizacao, MeterRegistry meterRegistry) {
+        this(nome, reutilizacao, meterRegistry, Clock.systemUTC());
+    }
+
+    SingleFlight(String nome, Duration reutilizacao, MeterRegistry meterRegistry, Clock clock) {
+        this.reutilizacaoMillis = Math.max(0, reutilizacao.toMillis());
+        this.clock = clock;
+        this.executadas = contador(meterRegistry, nome, "executada");
+        this.coalescidas = contador(meterRegistry, nome, "coalescida");
+        this.reutilizadas = contador(meterRegistry, nome, "reutilizada");
+    }
+
+    /**
+     * Retorna o resultado recente da chave, aguarda a carga em andamento ou, se não houver, executa a carga.
+     *
+     * @param chave A chave dos dados.
+     * @param carga Carga executada se não houver resultado recente nem carga em andamento.
+     * @return O resultado da carga.
+     */
+    public V executar(K chave, Supplier<V> carga) {
+        return executar(chave, carga, valor -> chave);
+    }
+
+    /**
+     * Como {@link #executar(Object, Supplier)}, mas o resultado é guardado para reutilização sob a chave calculada a
+     * partir dele, e não sob a chave da chamada. As chamadas que aguardavam a carga recebem o resultado mesmo que as
+     * chaves sejam diferentes.
+     *
+     * @param chave             A chave dos dados, usada para agrupar as chamadas e procurar um resultado recente.
+     * @param carga             Carga executada se não houver resultado recente nem carga em andamento.
+     * @param chaveDoResultado  Chave sob a qual o resultado é guardado, ou null para não guardá-lo.
+     * @return O resultado da carga.
+     */
+    public V executar(K chave, Supplier<V> carga, Function<V, K> chaveDoResultado) {
+        long inicio = clock.millis();
+        Recente<V> recente = recentes.get(chave);
+        if (recente != null) {
+            if (inicio - recente.carregadoEm < reutilizacaoMillis) {
+                reutilizadas.increment();
+                return recente.valor;
+            }
+            recentes.remove(chave, recente);
+        }
+
+        CompletableFuture<V> minha = new CompletableFuture<>();
+        CompletableFuture<V> emCurso = emAndamento.putIfAbsent(chave, minha);
+        if (emCurso != null) {
+            coalescidas.increment();
+            return aguardar(emCurso);
+        }
+
+        executadas.increment();
+        try {
+            V valor = carga.get();
+            K chaveGuardada = reutilizacaoMillis > 0 ? chaveDoResultado.apply(valor) : null;
+            if (chaveGuardada != null) {
+                // A idade do resultado conta a partir do início da carga
+                guardar(chaveGuardada, new Recente<>(valor, inicio));
+            }
+            minha.complete(valor);
+            return valor;
+        } catch (RuntimeException | Error ex) {
+            minha.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            emAndamento.remove(chave, minha);
+        }
+    }
+
+    private void guardar(K chave, Recente<V> recente) {
+        recentes.put(chave, recente);
+        if (recentes.size() > LIMPEZA_ACIMA_DE) {
+            long limite = clock.millis() - reutilizacaoMillis;
+            recentes.values().removeIf(antigo -> antigo.carregadoEm <= limite);
+        }
+    }
+
+    private static <V> V aguardar(CompletableFuture<V> carga) {
+        try {
+            return carga.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido enquanto aguardava a carga em andamento", ex);
+        }
+    }
+
+    private static Counter contador(MeterRegistry meterRegistry, String nome, String resultado) {
+        return Counter.builder("coalescencia.chamadas")
+                .description("Chamadas a cargas agrupadas (single-flight), por resultado")
+                .tag("nome", nome)
+                .tag("resultado", resultado)
+                .register(meterRegistry);
+    }
+
+    private static final class Recente<V> {
+
+        private final V valor;
+        private final long carregadoEm;
+
+        private Recente(V valor, long carregadoEm) {
+            this.valor = valor;
+            this.carregadoEm = carregadoEm;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.api.gerenciadorprojetos.Infra.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configura o roteamento entre o banco primário e as réplicas de leitura.
+ * Só é ativada com {@code app.datasource.read-replica.enabled=true}; caso contrário o DataSource padrão do
+ * Spring Boot é utilizado.
+ * <p>
+ * Como os pools não são beans, as configurações {@code spring.datasource.hikari.*} (tamanho do pool, timeouts etc.) e
+ * as métricas do Hikari (inclusive a espera por conexão) são aplicadas aqui a cada pool, com o nome de cada um.
+ *
+ * @author victor.marcelo
+ */
+@Configuration
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.read-replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReadReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow(), Clock.systemUTC());
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                                     ReadReplicaProperties properties,
+                                                                     ReadYourWritesTracker readYourWritesTracker,
+                                                                     Environment environment,
+                                                                     ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primario = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        configurarPool(primario, ReadReplicaRoutingDataSource.PRIMARIO, binder, meterRegistry);
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (ReadReplicaProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource pool = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(dataSourceProperties.getDriverClassName())
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            configurarPool(pool, "replica-" + replicas.size(), binder, meterRegistry);
+            replicas.add(pool);
+        }
+
+        return new ReadReplicaRoutingDataSource(primario, replicas, readYourWritesTracker);
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService readReplicaHealthChecker(ReadReplicaRoutingDataSource routingDataSource,
+                                                             ReadReplicaProperties properties) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual()
+                .name("verificacao-replicas")
+                .factory());
+        long intervalo = properties.getHealthCheckInterval().toMillis();
+        executor.scheduleWithFixedDelay(routingDataSource::verificarReplicas, intervalo, intervalo, TimeUnit.MILLISECONDS);
+        return executor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Aplica ao pool as configurações spring.datasource.hikari.*, como o Spring Boot faz com o pool padrão, o nome e
+     * as métricas.
+     */
+    private static void configurarPool(HikariDataSource pool, String nome, Binder binder,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(nome);
+        meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+    }
+}
@@ -0,0 +1,45 @@
+package com.api.gerenciadorprojetos.Infra.DataSource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propriedades de configuração das réplicas de leitura do banco de dados.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.read-replica")
+public class ReadReplicaProperties {
+
+    /**
+     * Habilita o roteamento de transações somente leitura para as réplicas.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Réplicas disponíveis para leitura.
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * Período após uma escrita do usuário em que suas leituras continuam sendo enviadas ao primário.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Intervalo entre as verificações de saúde das réplicas.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,216 @@
+package com.api.gerenciadorprojetos.Infra.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que envia as transações somente leitura ({@code @Transactional(readOnly = true)}) para as réplicas
+ * e todo o restante para o primário.
+ *
+ * <p>Réplicas marcadas como indisponíveis são ignoradas até a próxima verificação de saúde bem-sucedida; sem
+ * réplicas disponíveis, as leituras vão ao primário. Leituras de um usuário que escreveu há pouco tempo também
+ * vão ao primário (ver {@link ReadYourWritesTracker}).</p>
+ *
+ * <p>Deve ser envolvido por um {@code LazyConnectionDataSourceProxy}, para que a conexão só seja obtida depois
+ * que o gerenciador de transações marcar a transação como somente leitura.</p>
+ *
+ * @author victor.marcelo
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    public static final String PRIMARIO = "primario";
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaRoutingDataSource.class);
+
+    /** Recurso da transação presente enquanto ela lê de uma réplica. */
+    private static final Object LEITURA_EM_REPLICA = new Object();
+
+    private final DataSource primario;
+    private final List<String> chavesReplicas = new ArrayList<>();
+    private final Map<String, DataSource> replicas = new HashMap<>();
+    private final Map<String, AtomicBoolean> replicasDisponiveis = new HashMap<>();
+    private final AtomicInteger proximaReplica = new AtomicInteger();
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReadReplicaRoutingDataSource(DataSource primario, List<DataSource> replicas, ReadYourWritesTracker readYourWritesTracker) {
+        this.primario = primario;
+        this.readYourWritesTracker = readYourWritesTracker;
+
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(PRIMARIO, primario);
+        for (int i = 0; i < replicas.size(); i++) {
+            String chave = "replica-" + i;
+            chavesReplicas.add(chave);
+            this.replicas.put(chave, replicas.get(i));
+            replicasDisponiveis.put(chave, new AtomicBoolean(true));
+            destinos.put(chave, replicas.get(i));
+        }
+
+        // afterPropertiesSet() é chamado pelo Spring ao criar o bean
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String usuario = usuarioAtual();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registrarEscritaAposCommit(usuario);
+            return PRIMARIO;
+        }
+
+        if (readYourWritesTracker.escreveuRecentemente(usuario)) {
+            return PRIMARIO;
+        }
+
+        return escolherReplica();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return conectar(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return conectar(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    /**
+     * Informa se a transação atual obteve sua conexão de uma réplica. Uma ausência lida de uma réplica atrasada pode
+     * ser apenas um registro ainda não replicado.
+     *
+     * @return {@code true} se a transação atual lê de uma réplica.
+     */
+    public static boolean leituraEmReplica() {
+        return TransactionSynchronizationManager.hasResource(LEITURA_EM_REPLICA);
+    }
+
+    /**
+     * Verifica cada réplica e atualiza sua disponibilidade.
+     */
+    public void verificarReplicas() {
+        for (String chave : chavesReplicas) {
+            boolean disponivel;
+            try (Connection connection = replicas.get(chave).getConnection()) {
+                disponivel = connection.isValid(2);
+            } catch (SQLException ex) {
+                disponivel = false;
+            }
+            marcarDisponibilidade(chave, disponivel);
+        }
+        readYourWritesTracker.limparExpirados();
+    }
+
+    /**
+     * Altera a disponibilidade de uma réplica.
+     *
+     * @param chave      Chave da réplica ("replica-0", "replica-1", ...).
+     * @param disponivel Se a réplica pode receber leituras.
+     */
+    public void marcarDisponibilidade(String chave, boolean disponivel) {
+        AtomicBoolean estado = replicasDisponiveis.get(chave);
+        if (estado != null && estado.getAndSet(disponivel) != disponivel) {
+            log.info("Réplica {} marcada como {}", chave, disponivel ? "disponível" : "indisponível");
+        }
+    }
+
+    /**
+     * Fecha os pools do primário e das réplicas.
+     */
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primario instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Connection conectar(Conexao conexao) throws SQLException {
+        String chave = (String) determineCurrentLookupKey();
+        if (PRIMARIO.equals(chave)) {
+            return conexao.obter(primario);
+        }
+
+        try {
+            Connection connection = conexao.obter(replicas.get(chave));
+            marcarLeituraEmReplica();
+            return connection;
+        } catch (SQLException ex) {
+            log.warn("Falha ao obter conexão da réplica {}. Leitura enviada ao primário. Causa: {}", chave, ex.getMessage());
+            marcarDisponibilidade(chave, false);
+            return conexao.obter(primario);
+        }
+    }
+
+    private String escolherReplica() {
+        int quantidade = chavesReplicas.size();
+        int inicio = Math.floorMod(proximaReplica.getAndIncrement(), Math.max(quantidade, 1));
+        for (int i = 0; i < quantidade; i++) {
+            String chave = chavesReplicas.get((inicio + i) % quantidade);
+            if (replicasDisponiveis.get(chave).get()) {
+                return chave;
+            }
+        }
+        return PRIMARIO;
+    }
+
+    private void marcarLeituraEmReplica() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(LEITURA_EM_REPLICA)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(LEITURA_EM_REPLICA, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(LEITURA_EM_REPLICA);
+            }
+        });
+    }
+
+    private void registrarEscritaAposCommit(String usuario) {
+        if (usuario == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.registrarEscrita(usuario);
+            }
+        });
+    }
+
+    private String usuarioAtual() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    @FunctionalInterface
+    private interface Conexao {
+        Connection obter(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,57 @@
+package com.api.gerenciadorprojetos.Infra.DataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registra o horário da última escrita confirmada de cada usuário, para que as leituras feitas logo em seguida
+ * pelo mesmo usuário sejam enviadas ao primário e não a uma réplica possivelmente atrasada.
+ *
+ * @author victor.marcelo
+ */
+public class ReadYourWritesTracker {
+
+    private final Map<String, Long> ultimaEscritaPorUsuario = new ConcurrentHashMap<>();
+    private final long janelaMillis;
+    private final Clock clock;
+
+    public ReadYourWritesTracker(Duration janela, Clock clock) {
+        this.janelaMillis = janela.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Registra uma escrita confirmada do usuário.
+     *
+     * @param usuario Identificador do usuário autenticado.
+     */
+    public void registrarEscrita(String usuario) {
+        if (usuario != null && janelaMillis > 0) {
+            ultimaEscritaPorUsuario.put(usuario, clock.millis());
+        }
+    }
+
+    /**
+     * Verifica se o usuário escreveu dentro da janela configurada.
+     *
+     * @param usuario Identificador do usuário autenticado.
+     * @return true se as leituras do usuário devem ir ao primário.
+     */
+    public boolean escreveuRecentemente(String usuario) {
+        if (usuario == null) {
+            return false;
+        }
+        Long ultimaEscrita = ultimaEscritaPorUsuario.get(usuario);
+        return ultimaEscrita != null && clock.millis() - ultimaEscrita < janelaMillis;
+    }
+
+    /**
+     * Remove os registros cuja janela já expirou.
+     */
+    public void limparExpirados() {
+        long limite = clock.millis() - janelaMillis;
+        ultimaEscritaPorUsuario.values().removeIf(ultimaEscrita -> ultimaEscrita < limite);
+    }
+}
@@ -0,0 +1,37 @@
+package com.api.gerenciadorprojetos.Infra.Metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Registra no Hibernate um listener de carregamento que conta, nos contadores da requisição atual, cada entidade
+ * materializada a partir do banco.
+ *
+ * @author victor.marcelo
+ */
+public class EntityLoadMetricsIntegrator implements Integrator {
+
+    private static final PostLoadEventListener CONTADOR = event -> {
+        SqlRequestMetrics metrics = SqlRequestMetrics.atual();
+        if (metrics != null) {
+            metrics.registrarEntidadeCarregada();
+        }
+    };
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, CONTADOR);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
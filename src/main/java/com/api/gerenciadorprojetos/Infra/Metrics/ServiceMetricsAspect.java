@@ -0,0 +1,114 @@
+package com.api.gerenciadorprojetos.Infra.Metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede todos os métodos públicos das classes de serviço (pacotes {@code Services}): latência com histograma e percentis
+ * p50/p95/p99 por método e status (sucesso/erro, com o tipo da exceção) e, para métodos que retornam coleções,
+ * mapas ou páginas, a distribuição da quantidade de elementos retornados.
+ * <p>
+ * Executa antes dos demais aspectos (inclusive a reexecução por lock otimista), portanto o tempo medido inclui as
+ * tentativas. Para métodos que retornam {@link Mono}, o tempo vai até o término do Mono, e não apenas até o retorno do
+ * método. Com {@code app.metrics.services.enabled=false} o aspecto não é criado e os serviços não são
+ * interceptados.
+ *
+ * @author victor.marcelo
+ */
+@Aspect
+@Component
+@Order(0)
+@ConditionalOnProperty(prefix = "app.metrics.services", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ServiceMetricsAspect {
+
+    private static final double[] PERCENTIS = {0.5, 0.95, 0.99};
+
+    private final MeterRegistry meterRegistry;
+
+    /** Medidores por método e resultado, para não reconstruir o medidor (e suas tags) a cada chamada. */
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> tamanhos = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.api.gerenciadorprojetos..Services.*.*(..))")
+    public Object medir(ProceedingJoinPoint joinPoint) throws Throwable {
+        long inicio = System.nanoTime();
+        String classe = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String metodo = joinPoint.getSignature().getName();
+
+        Object resultado;
+        try {
+            resultado = joinPoint.proceed();
+        } catch (Throwable ex) {
+            timer(classe, metodo, "erro", ex.getClass().getSimpleName()).record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+
+        if (resultado instanceof Mono<?> mono) {
+            return mono
+                    .doOnSuccess(valor -> registrarSucesso(classe, metodo, inicio, valor))
+                    .doOnError(ex -> timer(classe, metodo, "erro", ex.getClass().getSimpleName())
+                            .record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS));
+        }
+        registrarSucesso(classe, metodo, inicio, resultado);
+        return resultado;
+    }
+
+    private void registrarSucesso(String classe, String metodo, long inicio, Object resultado) {
+        timer(classe, metodo, "sucesso", "nenhuma").record(System.nanoTime() - inicio, TimeUnit.NANOSECONDS);
+
+        int tamanho = tamanhoDoResultado(resultado);
+        if (tamanho >= 0) {
+            tamanhos.computeIfAbsent(classe + "." + metodo, chave -> DistributionSummary.builder("servico.resultado.tamanho")
+                    .description("Quantidade de elementos retornados por métodos de serviço")
+                    .tag("classe", classe)
+                    .tag("metodo", metodo)
+                    .publishPercentiles(PERCENTIS)
+                    .register(meterRegistry)).record(tamanho);
+        }
+    }
+
+    private Timer timer(String classe, String metodo, String status, String excecao) {
+        return timers.computeIfAbsent(classe + "." + metodo + "|" + status + "|" + excecao, chave -> Timer.builder("servico.execucao")
+                .description("Tempo de execução de métodos de serviço")
+                .tag("classe", classe)
+                .tag("metodo", metodo)
+                .tag("status", status)
+                .tag("excecao", excecao)
+                .publishPercentiles(PERCENTIS)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static int tamanhoDoResultado(Object resultado) {
+        if (resultado instanceof Collection<?> colecao) {
+            return colecao.size();
+        }
+        if (resultado instanceof Map<?, ?> mapa) {
+            return mapa.size();
+        }
+        if (resultado instanceof Slice<?> pagina) {
+            return pagina.getNumberOfElements();
+        }
+        return -1;
+    }
+}
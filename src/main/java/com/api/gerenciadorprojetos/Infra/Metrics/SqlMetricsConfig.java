@@ -0,0 +1,54 @@
+package com.api.gerenciadorprojetos.Infra.Metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configura as métricas de SQL por endpoint: registra os listeners no Hibernate e o interceptor nas requisições.
+ * <p>
+ * Com {@code app.sql.query-budget} maior que zero, requisições acima do orçamento geram um aviso no log; com
+ * {@code app.sql.query-budget-enforced=true} (perfil dev), a consulta que excede o orçamento falha a requisição.
+ *
+ * @author victor.marcelo
+ */
+@Configuration
+public class SqlMetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+    private final int orcamentoConsultas;
+    private final boolean orcamentoObrigatorio;
+
+    @Autowired
+    public SqlMetricsConfig(MeterRegistry meterRegistry,
+                            @Value("${app.sql.query-budget:0}") int orcamentoConsultas,
+                            @Value("${app.sql.query-budget-enforced:false}") boolean orcamentoObrigatorio) {
+        this.meterRegistry = meterRegistry;
+        this.orcamentoConsultas = orcamentoConsultas;
+        this.orcamentoObrigatorio = orcamentoObrigatorio;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlMetricsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlMetricsSessionListener.class.getName());
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new EntityLoadMetricsIntegrator()));
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlMetricsInterceptor(meterRegistry, orcamentoConsultas, orcamentoObrigatorio));
+    }
+}
@@ -0,0 +1,95 @@
+package com.api.gerenciadorprojetos.Infra.Metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interceptor que abre os contadores de SQL no início de cada endpoint e, ao final, publica no Micrometer a
+ * quantidade de consultas, o tempo JDBC, as entidades carregadas e a espera por conexão, com a tag do endpoint.
+ * <p>
+ * Em endpoints assíncronos (retorno Mono, SSE), os contadores são publicados quando a thread da requisição é
+ * liberada e não são reabertos no despacho assíncrono: as consultas feitas em outras threads não são contadas.
+ *
+ * @author victor.marcelo
+ */
+public class SqlMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlMetricsInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+    private final int orcamentoConsultas;
+    private final boolean orcamentoObrigatorio;
+
+    public SqlMetricsInterceptor(MeterRegistry meterRegistry, int orcamentoConsultas, boolean orcamentoObrigatorio) {
+        this.meterRegistry = meterRegistry;
+        this.orcamentoConsultas = orcamentoConsultas;
+        this.orcamentoObrigatorio = orcamentoObrigatorio;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod && request.getDispatcherType() != DispatcherType.ASYNC) {
+            String endpoint = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+            SqlRequestMetrics.iniciar(endpoint, orcamentoConsultas, orcamentoObrigatorio);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        publicar();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Sem afterCompletion nesta thread: os contadores são publicados e removidos antes de ela atender outra requisição
+        publicar();
+    }
+
+    private void publicar() {
+        SqlRequestMetrics metrics = SqlRequestMetrics.atual();
+        if (metrics == null) {
+            return;
+        }
+        SqlRequestMetrics.encerrar();
+
+        String endpoint = metrics.getEndpoint();
+
+        DistributionSummary.builder("sql.consultas")
+                .description("Consultas SQL executadas por requisição")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(metrics.getConsultas());
+        Timer.builder("sql.tempo.jdbc")
+                .description("Tempo de execução JDBC por requisição")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(metrics.getNanosJdbc(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("sql.entidades.carregadas")
+                .description("Entidades carregadas do banco por requisição")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(metrics.getEntidadesCarregadas());
+        Timer.builder("sql.conexao.espera")
+                .description("Tempo de espera por conexões do pool por requisição")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(metrics.getNanosEsperaConexao(), TimeUnit.NANOSECONDS);
+
+        if (metrics.excedeuOrcamento()) {
+            log.warn("Endpoint {} executou {} consultas SQL (orçamento: {}). Entidades carregadas: {}, tempo JDBC: {} ms",
+                    endpoint, metrics.getConsultas(), metrics.getOrcamentoConsultas(), metrics.getEntidadesCarregadas(),
+                    TimeUnit.NANOSECONDS.toMillis(metrics.getNanosJdbc()));
+        }
+    }
+}
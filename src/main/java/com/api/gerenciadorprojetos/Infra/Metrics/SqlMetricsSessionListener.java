@@ -0,0 +1,60 @@
+package com.api.gerenciadorprojetos.Infra.Metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Listener de sessão do Hibernate que soma, nos contadores da requisição atual, cada instrução JDBC executada, o
+ * tempo de execução e o tempo de obtenção de conexões. Uma instância é criada por sessão
+ * ({@code hibernate.session.events.auto}), por isso os instantes de início podem ser campos simples.
+ *
+ * @author victor.marcelo
+ */
+public class SqlMetricsSessionListener implements SessionEventListener {
+
+    private long inicioInstrucao;
+    private long inicioConexao;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        SqlRequestMetrics metrics = SqlRequestMetrics.atual();
+        if (metrics != null) {
+            metrics.registrarConsulta();
+        }
+        inicioInstrucao = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        registrarTempoJdbc();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        jdbcExecuteStatementStart();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        registrarTempoJdbc();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionStart() {
+        inicioConexao = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcConnectionAcquisitionEnd() {
+        SqlRequestMetrics metrics = SqlRequestMetrics.atual();
+        if (metrics != null) {
+            metrics.registrarEsperaConexao(System.nanoTime() - inicioConexao);
+        }
+    }
+
+    private void registrarTempoJdbc() {
+        SqlRequestMetrics metrics = SqlRequestMetrics.atual();
+        if (metrics != null) {
+            metrics.registrarTempoJdbc(System.nanoTime() - inicioInstrucao);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.api.gerenciadorprojetos.Infra.Metrics;
+
+import com.api.gerenciadorprojetos.Exceptions.QueryBudgetExceededException;
+
+/**
+ * Contadores de SQL da requisição em andamento, mantidos em ThreadLocal entre o início e o fim do processamento do
+ * endpoint. Fora de uma requisição (jobs, threads assíncronas) não há contadores e nada é registrado.
+ *
+ * @author victor.marcelo
+ */
+public final class SqlRequestMetrics {
+
+    private static final ThreadLocal<SqlRequestMetrics> ATUAL = new ThreadLocal<>();
+
+    private final String endpoint;
+    private final int orcamentoConsultas;
+    private final boolean orcamentoObrigatorio;
+
+    private int consultas;
+    private long nanosJdbc;
+    private long entidadesCarregadas;
+    private long nanosEsperaConexao;
+
+    private SqlRequestMetrics(String endpoint, int orcamentoConsultas, boolean orcamentoObrigatorio) {
+        this.endpoint = endpoint;
+        this.orcamentoConsultas = orcamentoConsultas;
+        this.orcamentoObrigatorio = orcamentoObrigatorio;
+    }
+
+    /**
+     * Inicia os contadores da requisição na thread atual.
+     *
+     * @param endpoint             Identificação do endpoint (Controller.metodo).
+     * @param orcamentoConsultas   Quantidade máxima de consultas esperada, ou 0 para não verificar.
+     * @param orcamentoObrigatorio Se verdadeiro, a consulta que exceder o orçamento falha.
+     */
+    static SqlRequestMetrics iniciar(String endpoint, int orcamentoConsultas, boolean orcamentoObrigatorio) {
+        SqlRequestMetrics metrics = new SqlRequestMetrics(endpoint, orcamentoConsultas, orcamentoObrigatorio);
+        ATUAL.set(metrics);
+        return metrics;
+    }
+
+    static SqlRequestMetrics atual() {
+        return ATUAL.get();
+    }
+
+    static void encerrar() {
+        ATUAL.remove();
+    }
+
+    void registrarConsulta() {
+        consultas++;
+        if (orcamentoObrigatorio && excedeuOrcamento()) {
+            throw new QueryBudgetExceededException("O endpoint " + endpoint + " excedeu o orçamento de "
+                    + orcamentoConsultas + " consultas SQL por requisição");
+        }
+    }
+
+    void registrarTempoJdbc(long nanos) {
+        nanosJdbc += nanos;
+    }
+
+    void registrarEntidadeCarregada() {
+        entidadesCarregadas++;
+    }
+
+    void registrarEsperaConexao(long nanos) {
+        nanosEsperaConexao += nanos;
+    }
+
+    boolean excedeuOrcamento() {
+        return orcamentoConsultas > 0 && consultas > orcamentoConsultas;
+    }
+
+    String getEndpoint() {
+        return endpoint;
+    }
+
+    int getOrcamentoConsultas() {
+        return orcamentoConsultas;
+    }
+
+    int getConsultas() {
+        return consultas;
+    }
+
+    long getNanosJdbc() {
+        return nanosJdbc;
+    }
+
+    long getEntidadesCarregadas() {
+        return entidadesCarregadas;
+    }
+
+    long getNanosEsperaConexao() {
+        return nanosEsperaConexao;
+    }
+}
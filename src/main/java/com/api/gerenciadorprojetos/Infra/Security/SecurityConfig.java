@@ -1,5 +1,6 @@
 package com.api.gerenciadorprojetos.Infra.Security;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -64,6 +65,10 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
+                        // Apenas a verificação de saúde é pública; as métricas (inclusive /actuator/prometheus) exigem token
+                        .requestMatchers("/actuator/health").permitAll()
+                        // Finalização das respostas assíncronas (fluxo SSE de /eventos), já autorizadas na requisição original
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
@@ -1,10 +1,14 @@
 package com.api.gerenciadorprojetos.Infra.Security;
 
 import io.jsonwebtoken.*;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -29,6 +33,13 @@ public class SecurityFilter extends OncePerRequestFilter {
     @Value("${jwt.secret}")
     private String jwtSecret; // Chave secreta para assinar e verificar o token JWT
 
+    private final Tracer tracer;
+
+    @Autowired
+    public SecurityFilter(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+    }
+
     /**
      * Método principal para processar a requisição e realizar a autenticação com token JWT.
      *
@@ -41,8 +52,11 @@ public class SecurityFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        try {
+        // Span próprio para a validação do token, separado do restante da cadeia de filtros
+        Span span = tracer.nextSpan().name("jwt.validacao").start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
             String token = extractJwtToken(request);
+            span.tag("jwt.presente", String.valueOf(token != null));
 
             if (token != null && Jwts.parser().setSigningKey(jwtSecret).isSigned(token)) {
                 Claims claims = Jwts.parser().setSigningKey(jwtSecret).parseClaimsJws(token).getBody();
@@ -67,6 +81,8 @@ public class SecurityFilter extends OncePerRequestFilter {
         } catch (IllegalArgumentException e) {
             response.sendError(HttpStatus.UNAUTHORIZED.value(), "Token vazio ou inválido");
             return;
+        } finally {
+            span.end();
         }
 
         filterChain.doFilter(request, response);
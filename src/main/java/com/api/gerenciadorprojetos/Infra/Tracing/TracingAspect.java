@@ -0,0 +1,76 @@
+package com.api.gerenciadorprojetos.Infra.Tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Cria um span filho do span da requisição para cada chamada a métodos de serviço e a repositórios do Spring Data
+ * (JPA e Elasticsearch), de forma que o trace mostre onde o tempo da requisição foi gasto.
+ * <p>
+ * Executa depois da reexecução por lock otimista, portanto cada tentativa aparece como um span próprio. Nos métodos
+ * que retornam {@link Mono} ou {@link Flux} (pesquisa no Elasticsearch, desempenho), o span termina com o término do
+ * resultado. Chamadas
+ * feitas fora de uma requisição (jobs) geram traces próprios.
+ *
+ * @author victor.marcelo
+ */
+@Aspect
+@Component
+@Order(2)
+@ConditionalOnProperty(prefix = "app.tracing.spans", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    @Autowired
+    public TracingAspect(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer.getIfAvailable(() -> Tracer.NOOP);
+    }
+
+    @Around("execution(public * com.api.gerenciadorprojetos..Services.*.*(..))")
+    public Object servico(ProceedingJoinPoint joinPoint) throws Throwable {
+        return executarComSpan(joinPoint, "servico", joinPoint.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object repositorio(ProceedingJoinPoint joinPoint) throws Throwable {
+        // O tipo declarante de findById, save etc. é a interface genérica do Spring Data; o nome útil é o do repositório
+        Class<?>[] interfaces = joinPoint.getThis().getClass().getInterfaces();
+        String repositorio = interfaces.length > 0 ? interfaces[0].getSimpleName() : joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return executarComSpan(joinPoint, "repositorio", repositorio);
+    }
+
+    private Object executarComSpan(ProceedingJoinPoint joinPoint, String camada, String classe) throws Throwable {
+        Span span = tracer.nextSpan()
+                .name(classe + "." + joinPoint.getSignature().getName())
+                .tag("camada", camada)
+                .start();
+        Object resultado;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            resultado = joinPoint.proceed();
+        } catch (Throwable ex) {
+            span.error(ex);
+            span.end();
+            throw ex;
+        }
+
+        if (resultado instanceof Mono<?> mono) {
+            return mono.doOnError(span::error).doFinally(sinal -> span.end());
+        }
+        if (resultado instanceof Flux<?> flux) {
+            return flux.doOnError(span::error).doFinally(sinal -> span.end());
+        }
+        span.end();
+        return resultado;
+    }
+}
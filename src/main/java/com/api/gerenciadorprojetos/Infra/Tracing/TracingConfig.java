@@ -0,0 +1,25 @@
+package com.api.gerenciadorprojetos.Infra.Tracing;
+
+import io.opentelemetry.exporter.logging.LoggingSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exportador local dos spans, para analisar traces sem um coletor externo. Cada span finalizado é escrito no log
+ * {@code io.opentelemetry.exporter.logging.LoggingSpanExporter} (nome, trace, span, duração e atributos), que pode
+ * ser direcionado a um arquivo pela configuração de log. Outros exportadores (ex.: OTLP) podem ser adicionados como
+ * beans {@link SpanExporter} adicionais.
+ *
+ * @author victor.marcelo
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.tracing.log-exporter", name = "enabled", havingValue = "true")
+    public SpanExporter loggingSpanExporter() {
+        return LoggingSpanExporter.create();
+    }
+}
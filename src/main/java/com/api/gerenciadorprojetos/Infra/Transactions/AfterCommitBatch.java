@@ -0,0 +1,73 @@
+package com.api.gerenciadorprojetos.Infra.Transactions;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Acumula itens durante a transação atual e os entrega de uma só vez ao consumidor após o commit.
+ * <p>
+ * Permite que ouvintes de eventos publicados várias vezes na mesma transação (por exemplo, um evento por tarefa
+ * deslocada na propagação do cronograma) façam uma única consulta para o lote inteiro. Fora de uma transação, cada
+ * item é entregue imediatamente; se a transação for desfeita, os itens são descartados. O lote fica associado à
+ * sincronização da transação, de modo que transações internas (REQUIRES_NEW) têm os próprios lotes.
+ *
+ * @param <T> Tipo dos itens acumulados.
+ * @author victor.marcelo
+ */
+public final class AfterCommitBatch<T> {
+
+    private final Consumer<List<T>> processar;
+
+    public AfterCommitBatch(Consumer<List<T>> processar) {
+        this.processar = processar;
+    }
+
+    /**
+     * Adiciona um item ao lote da transação atual ou o processa imediatamente se não houver transação.
+     *
+     * @param item Item a ser processado após o commit.
+     */
+    @SuppressWarnings("unchecked")
+    public void adicionar(T item) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            processar.accept(List.of(item));
+            return;
+        }
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Lote<?> lote && lote.dono == this) {
+                ((Lote<T>) lote).itens.add(item);
+                return;
+            }
+        }
+
+        Lote<T> lote = new Lote<>(this);
+        lote.itens.add(item);
+        TransactionSynchronizationManager.registerSynchronization(lote);
+    }
+
+    private static final class Lote<T> implements TransactionSynchronization {
+
+        private final AfterCommitBatch<T> dono;
+        private final List<T> itens = new ArrayList<>();
+
+        private Lote(AfterCommitBatch<T> dono) {
+            this.dono = dono;
+        }
+
+        /**
+         * Processa na conclusão, como os ouvintes {@code AFTER_COMMIT}: uma falha é registrada pelo Spring e não
+         * chega a quem confirmou a transação.
+         */
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+                dono.processar.accept(List.copyOf(itens));
+            }
+        }
+    }
+}
@@ -1,27 +1,40 @@
 package com.api.gerenciadorprojetos.Jobs;
 
 import com.api.gerenciadorprojetos.Projects.Services.ProjectService;
+import com.api.gerenciadorprojetos.Projects.Services.ProjectSnapshotService;
 import com.api.gerenciadorprojetos.Tasks.Services.TaskService;
+import com.api.gerenciadorprojetos.audit.Services.AuditPartitionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
 /**
  * Classe que define tarefas agendadas (jobs) para execução automática em intervalos específicos.
- * As tarefas incluem a atualização do status de projetos e tarefas vencidas.
+ * As tarefas incluem a atualização do status de projetos e tarefas vencidas e a conferência do progresso
+ * agregado dos projetos, a gravação dos snapshots diários usados no burndown e a manutenção das partições do audit.
  *
  * @author victor.marcelo
  *
  * @see ProjectService
  * @see TaskService
  */
+@Component
 public class Scheduleds {
 
     private final ProjectService projectService;
     private final TaskService taskService;
+    private final ProjectSnapshotService projectSnapshotService;
+    private final AuditPartitionService auditPartitionService;
 
     @Autowired
-    public Scheduleds(ProjectService projectService, TaskService taskService) {
+    public Scheduleds(ProjectService projectService, TaskService taskService, ProjectSnapshotService projectSnapshotService,
+                      AuditPartitionService auditPartitionService) {
         this.projectService = projectService;
         this.taskService = taskService;
+        this.projectSnapshotService = projectSnapshotService;
+        this.auditPartitionService = auditPartitionService;
     }
 
     /**
@@ -39,5 +52,29 @@ public class Scheduleds {
     public void updateLateTaskStatus() {
         taskService.updateLateTaskStatus();
     }
-}
 
+    /**
+     * Job executado todos os dias à 01:00 para conferir as somas de progresso mantidas em cada projeto
+     * contra as tarefas e corrigir eventuais divergências.
+     */
+    @Scheduled(cron = "0 0 1 * * ?")
+    public void verifyTaskProgressRollup() {
+        projectService.verifyTaskProgressRollup();
+    }
+
+    /**
+     * Job executado todos os dias às 23:50 para gravar o snapshot do dia de cada projeto.
+     */
+    @Scheduled(cron = "0 50 23 * * ?")
+    public void captureDailySnapshots() {
+        projectSnapshotService.captureDailySnapshots(LocalDate.now());
+    }
+
+    /**
+     * Job executado todos os dias às 02:00 para criar as partições futuras do audit e aplicar a retenção.
+     */
+    @Scheduled(cron = "0 0 2 * * ?")
+    public void maintainAuditPartitions() {
+        auditPartitionService.maintainPartitions();
+    }
+}
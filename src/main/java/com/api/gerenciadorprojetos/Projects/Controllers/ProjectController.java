@@ -1,20 +1,34 @@
 package com.api.gerenciadorprojetos.Projects.Controllers;
 
+import com.api.gerenciadorprojetos.Projects.DTO.ProjectDTO;
 import com.api.gerenciadorprojetos.Projects.Entities.Project;
+import com.api.gerenciadorprojetos.Projects.Enums.PeriodoSnapshot;
 import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
 import com.api.gerenciadorprojetos.Projects.Services.ProjectService;
+import com.api.gerenciadorprojetos.Projects.Services.ProjectSnapshotService;
+import com.api.gerenciadorprojetos.Tasks.Services.TaskService;
 import com.api.gerenciadorprojetos.Utils.Response;
+import com.api.gerenciadorprojetos.Utils.Versioned;
 import com.api.gerenciadorprojetos.config.CustomRequestInterceptor;
 import com.api.gerenciadorprojetos.config.RequestInfo;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Mono;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.time.LocalDate;
+import java.util.List;
 
 /**
  * Controller responsável por lidar com as operações relacionadas a Projetos na API.
@@ -31,10 +45,14 @@ import jakarta.persistence.EntityNotFoundException;
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final TaskService taskService;
+    private final ProjectSnapshotService projectSnapshotService;
 
     @Autowired
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, TaskService taskService, ProjectSnapshotService projectSnapshotService) {
         this.projectService = projectService;
+        this.taskService = taskService;
+        this.projectSnapshotService = projectSnapshotService;
     }
 
     @ApiOperation("Recupera todos os projetos")
@@ -53,12 +71,48 @@ public class ProjectController {
         return ResponseEntity.ok(new Response<>(projectService.findProjectsByStatus(statusProjeto)));
     }
 
-    @ApiOperation("Recupera um projeto pelo ID")
+    @ApiOperation("Recupera um projeto pelo ID. Responde 304 se o ETag informado em If-None-Match ainda for o atual")
     @GetMapping("/{id}")
     public ResponseEntity<?> findProjectById(
             @ApiParam(value = "ID do projeto", required = true) @PathVariable Long id,
+            @RequestHeader("Authorization") String token,
+            WebRequest request,
+            HttpServletResponse response) {
+        // A versão é consultada antes de carregar e mapear o projeto; se não mudou, responde 304 sem corpo
+        String versao = projectService.findProjectVersionTag(id);
+        if (versao != null && request.checkNotModified(versao)) {
+            return null;
+        }
+        // O ETag é a versão lida junto com o projeto, que pode ser mais nova que a consultada acima. Substitui o
+        // cabeçalho já definido por checkNotModified, em vez de acrescentar um segundo ETag
+        Versioned<ProjectDTO> projeto = projectService.findProjectById(id, versao);
+        response.setHeader(HttpHeaders.ETAG, "\"" + projeto.getVersao() + "\"");
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(new Response<>(projeto.getDados()));
+    }
+
+    @ApiOperation("Recupera a linha do tempo (Gantt) de um projeto: tarefas que se sobrepõem à janela informada")
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<?> findTimeline(
+            @ApiParam(value = "ID do projeto", required = true) @PathVariable Long id,
+            @ApiParam(value = "Início da janela (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @ApiParam(value = "Fim da janela (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @ApiParam(value = "Página (a partir de 0)") @RequestParam(defaultValue = "0") int page,
+            @ApiParam(value = "Tarefas por página (máximo 500)") @RequestParam(defaultValue = "100") int size,
+            @RequestHeader("Authorization") String token) {
+        return ResponseEntity.ok(new Response<>(taskService.findTimeline(id, from, to, page, size)));
+    }
+
+    @ApiOperation("Recupera o burndown e a velocidade de um projeto a partir dos snapshots diários")
+    @GetMapping("/{id}/burndown")
+    public ResponseEntity<?> findBurndown(
+            @ApiParam(value = "ID do projeto", required = true) @PathVariable Long id,
+            @ApiParam(value = "Início da janela (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @ApiParam(value = "Fim da janela (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @ApiParam(value = "Granularidade (DIA, SEMANA ou MES). Se omitida, é escolhida pelo tamanho da janela") @RequestParam(required = false) PeriodoSnapshot granularidade,
             @RequestHeader("Authorization") String token) {
-        return ResponseEntity.ok(new Response<>(projectService.findProjectById(id)));
+        return ResponseEntity.ok(new Response<>(projectSnapshotService.findBurndown(id, from, to, granularidade)));
     }
 
     @ApiOperation("Recupera projetos de um usuário")
@@ -78,6 +132,24 @@ public class ProjectController {
         return ResponseEntity.ok(new Response<>(projectService.findUserProjectsByStatus(statusProjeto)));
     }
 
+    @ApiOperation("Pesquisa projetos pelo nome ou descrição, em ordem de relevância")
+    @GetMapping("/pesquisa")
+    public Mono<ResponseEntity<Response<List<ProjectDTO>>>> searchProjects(
+            @ApiParam(value = "Termo pesquisado", required = true) @RequestParam String termo,
+            @RequestHeader("Authorization") String token) {
+        return projectService.findProjectsByTermoContaining(termo)
+                .map(projetos -> ResponseEntity.ok(new Response<>(projetos)));
+    }
+
+    @ApiOperation("Pesquisa, pelo nome ou descrição, os projetos de que o usuário autenticado é membro")
+    @GetMapping("/pesquisa/usuario")
+    public Mono<ResponseEntity<Response<List<ProjectDTO>>>> searchUserProjects(
+            @ApiParam(value = "Termo pesquisado", required = true) @RequestParam String termo,
+            @RequestHeader("Authorization") String token) {
+        return projectService.findByUserIdAndTermoContaining(termo)
+                .map(projetos -> ResponseEntity.ok(new Response<>(projetos)));
+    }
+
     @ApiOperation("Adiciona um novo projeto")
     @PostMapping
     public ResponseEntity<?> addNewProject(
@@ -121,6 +193,28 @@ public class ProjectController {
         return ResponseEntity.ok(new Response<>(projectService.removeUserFromProject(userIdRemove, projectId, requestInfo)));
     }
 
+    @ApiOperation("Adiciona vários usuários a um projeto")
+    @PostMapping("/adicionar-usuarios/{projectId}")
+    public ResponseEntity<?> addUsersToProject(
+            @ApiParam(value = "ID do projeto", required = true) @PathVariable Long projectId,
+            @ApiParam(value = "Lista de IDs de usuários", required = true) @RequestBody List<Long> userIds,
+            @RequestHeader("Authorization") String token)
+    {
+        RequestInfo requestInfo = getRequestInfo();
+        return ResponseEntity.ok(new Response<>(projectService.addUsersToProject(projectId, userIds, requestInfo)));
+    }
+
+    @ApiOperation("Remove vários usuários de um projeto")
+    @PostMapping("/remover-usuarios/{projectId}")
+    public ResponseEntity<?> removeUsersFromProject(
+            @ApiParam(value = "ID do projeto", required = true) @PathVariable Long projectId,
+            @ApiParam(value = "Lista de IDs de usuários", required = true) @RequestBody List<Long> userIds,
+            @RequestHeader("Authorization") String token)
+    {
+        RequestInfo requestInfo = getRequestInfo();
+        return ResponseEntity.ok(new Response<>(projectService.removeUsersFromProject(projectId, userIds, requestInfo)));
+    }
+
     @ApiOperation("Adiciona um gerente a um projeto")
     @PostMapping("/adicionar-gerente/{userId}/{projectId}")
     public ResponseEntity<?> addProjectManager(
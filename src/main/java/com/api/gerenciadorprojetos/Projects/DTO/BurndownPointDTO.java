@@ -0,0 +1,28 @@
+package com.api.gerenciadorprojetos.Projects.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO de um ponto dos gráficos de burndown e velocidade de um projeto.
+ * A velocidade é a quantidade de tarefas concluídas desde o ponto anterior (nula no primeiro ponto).
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BurndownPointDTO {
+    private LocalDate periodo;
+    private LocalDate dataSnapshot;
+    private Integer tarefasPendentes;
+    private Integer tarefasEmAndamento;
+    private Integer tarefasConcluidas;
+    private Integer tarefasAtrasadas;
+    private Integer tarefasRestantes;
+    private Integer porcentagemConcluida;
+    private Integer velocidade;
+}
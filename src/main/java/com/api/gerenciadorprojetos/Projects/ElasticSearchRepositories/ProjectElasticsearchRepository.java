@@ -1,36 +1,45 @@
 package com.api.gerenciadorprojetos.Projects.ElasticSearchRepositories;
 
 import com.api.gerenciadorprojetos.Projects.Entities.Project;
-import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.annotations.Query;
+import org.springframework.data.elasticsearch.repository.ReactiveElasticsearchRepository;
 import org.springframework.stereotype.Repository;
-
-import java.util.List;
+import reactor.core.publisher.Flux;
 
 /**
  * Repositório Elasticsearch para gerenciamento de entidades Projeto.
  * Realiza operações específicas do Elasticsearch para busca e recuperação de projetos.
+ * <p>
+ * Usa o cliente reativo: as consultas não ocupam uma thread enquanto aguardam o Elasticsearch.
  *
  * @author victor.marcelo
  */
 
 @Repository
-public interface ProjectElasticsearchRepository extends ElasticsearchRepository<Project, Long> {
+public interface ProjectElasticsearchRepository extends ReactiveElasticsearchRepository<Project, Long> {
 
     /**
-     * Busca projetos pelo termo que contenha o texto especificado.
+     * Busca projetos cujo nome ou descrição contenham o termo, ordenados por relevância.
      *
-     * @param termo O texto a ser buscado em diferentes campos dos projetos.
-     * @return Uma lista de projetos que correspondem aos critérios de busca.
+     * @param termo    O texto a ser buscado no nome e na descrição dos projetos.
+     * @param pageable Quantidade máxima de projetos retornados.
+     * @return Os projetos que correspondem ao termo.
      */
-    List<Project> findProjectsByTermoContaining(String termo);
+    @Query("{\"multi_match\": {\"query\": \"?0\", \"fields\": [\"nome_projeto^2\", \"descricao\"]}}")
+    Flux<Project> findProjectsByTermoContaining(String termo, Pageable pageable);
 
     /**
-     * Busca projetos onde o usuário é um membro e o termo contém o texto especificado.
+     * Busca projetos de que o usuário é membro e cujo nome ou descrição contenham o termo, ordenados por relevância.
      *
-     * @param userId O ID do usuário para o qual a busca é realizada.
-     * @param termo O texto a ser buscado em diferentes campos dos projetos.
-     * @return Uma lista de projetos que correspondem aos critérios de busca.
+     * @param userId   O ID do usuário para o qual a busca é realizada.
+     * @param termo    O texto a ser buscado no nome e na descrição dos projetos.
+     * @param pageable Quantidade máxima de projetos retornados.
+     * @return Os projetos que correspondem aos critérios de busca.
      */
-    List<Project> findByUserIdAndTermoContaining(Long userId, String termo);
+    @Query("{\"bool\": {" +
+            "\"must\": [{\"multi_match\": {\"query\": \"?1\", \"fields\": [\"nome_projeto^2\", \"descricao\"]}}], " +
+            "\"filter\": [{\"term\": {\"membros_projeto.id\": \"?0\"}}]}}")
+    Flux<Project> findByUserIdAndTermoContaining(Long userId, String termo, Pageable pageable);
 
 }
@@ -27,7 +27,11 @@ import java.util.List;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "projetos")
+@Table(name = "projetos", indexes = {
+        @Index(name = "idx_projetos_status", columnList = "status"),
+        @Index(name = "idx_projetos_gerente", columnList = "id_gerente_projeto"),
+        @Index(name = "idx_projetos_criador", columnList = "id_criador_projeto")
+})
 @Document(indexName = "projetos")
 public class Project{
 
@@ -90,7 +94,9 @@ public class Project{
     @JoinTable(
             name = "membros_projeto",
             joinColumns = @JoinColumn(name = "id_projeto"),
-            inverseJoinColumns = @JoinColumn(name = "id_usuario")
+            inverseJoinColumns = @JoinColumn(name = "id_usuario"),
+            uniqueConstraints = @UniqueConstraint(columnNames = {"id_projeto", "id_usuario"}),
+            indexes = @Index(name = "idx_membros_projeto_usuario", columnList = "id_usuario, id_projeto")
     )
     private List<User> membrosProjeto;
 
@@ -98,9 +104,33 @@ public class Project{
     @OneToMany(mappedBy = "projeto", cascade = CascadeType.ALL)
     private List<Task> tarefas;
 
+    /*
+     * Progresso do projeto: gravado apenas pelas atualizações em massa de ProjetoJpaRepository
+     * (applyTaskProgressDelta e recalculateTaskProgress), que não incrementam a versão. Por isso as colunas não são
+     * incluídas no INSERT (valores padrão do banco) nem no UPDATE da entidade: um projeto carregado antes da criação
+     * ou alteração de uma tarefa e salvo depois não sobrescreve o progresso.
+     */
+
     @Field(type = FieldType.Integer, name = "porcentagem_concluida")
     @Min(value = 0, message = "A Porcentagem Concluída não pode ser negativa")
     @Max(value = 100, message = "A Porcentagem Concluída não pode ser superior a 100")
+    @Column(name = "porcentagem_concluida", insertable = false, updatable = false)
     private Integer porcentagemConcluida;
 
+    /**
+     * Soma das porcentagens concluídas das tarefas do projeto, mantida incrementalmente pelo TaskService.
+     */
+    @Column(name = "soma_porcentagem_tarefas", nullable = false, insertable = false, updatable = false)
+    private Long somaPorcentagemTarefas = 0L;
+
+    /**
+     * Quantidade de tarefas do projeto, mantida incrementalmente pelo TaskService.
+     */
+    @Column(name = "quantidade_tarefas", nullable = false, insertable = false, updatable = false)
+    private Integer quantidadeTarefas = 0;
+
+    @Version
+    @Column(name = "versao")
+    private Long versao;
+
 }
@@ -0,0 +1,45 @@
+package com.api.gerenciadorprojetos.Projects.Entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidade que representa o snapshot diário de um projeto, usado nos gráficos de burndown e velocidade:
+ * quantidade de tarefas por status e soma das porcentagens concluídas no fim do dia.
+ * <p>
+ * A chave primária (id_projeto, data_snapshot) também atende às consultas por intervalo de datas de um projeto.
+ * Não há chave estrangeira para projetos, de forma que o histórico é preservado mesmo após a exclusão do projeto.
+ *
+ * @author victor.marcelo
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "snapshots_projeto",
+        indexes = @Index(name = "idx_snapshots_projeto_projeto_data", columnList = "id_projeto, data_snapshot"))
+public class ProjectSnapshot {
+    @EmbeddedId
+    private ProjectSnapshotId id;
+
+    @Column(name = "tarefas_pendentes", nullable = false)
+    private Integer tarefasPendentes;
+
+    @Column(name = "tarefas_em_andamento", nullable = false)
+    private Integer tarefasEmAndamento;
+
+    @Column(name = "tarefas_concluidas", nullable = false)
+    private Integer tarefasConcluidas;
+
+    @Column(name = "tarefas_atrasadas", nullable = false)
+    private Integer tarefasAtrasadas;
+
+    @Column(name = "soma_porcentagem", nullable = false)
+    private Long somaPorcentagem;
+}
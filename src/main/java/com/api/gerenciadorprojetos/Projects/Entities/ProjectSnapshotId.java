@@ -0,0 +1,27 @@
+package com.api.gerenciadorprojetos.Projects.Entities;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Chave do snapshot diário de projeto: um registro por projeto por dia.
+ *
+ * @author victor.marcelo
+ */
+@Embeddable
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ProjectSnapshotId implements Serializable {
+    @Column(name = "id_projeto", nullable = false)
+    private Long projetoId;
+
+    @Column(name = "data_snapshot", nullable = false)
+    private LocalDate dataSnapshot;
+}
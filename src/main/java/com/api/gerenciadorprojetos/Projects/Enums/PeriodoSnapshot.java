@@ -0,0 +1,22 @@
+package com.api.gerenciadorprojetos.Projects.Enums;
+
+/**
+ * Granularidade das consultas de burndown. Cada período corresponde a uma unidade do date_trunc do PostgreSQL.
+ *
+ * @author victor.marcelo
+ */
+public enum PeriodoSnapshot {
+    DIA("day"),
+    SEMANA("week"),
+    MES("month");
+
+    private final String unidadeDateTrunc;
+
+    PeriodoSnapshot(String unidadeDateTrunc) {
+        this.unidadeDateTrunc = unidadeDateTrunc;
+    }
+
+    public String getUnidadeDateTrunc() {
+        return unidadeDateTrunc;
+    }
+}
@@ -0,0 +1,28 @@
+package com.api.gerenciadorprojetos.Projects.Events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Set;
+
+/**
+ * Evento publicado pelo ProjectService quando os dados, os membros ou a existência de um projeto mudam.
+ * Ouvintes interessados apenas em dados confirmados devem usar {@code @TransactionalEventListener}.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+public class ProjectChangedEvent {
+    private Long projectId;
+
+    /**
+     * Usuários que deixaram de estar ligados ao projeto na operação (membros removidos, ou todos os envolvidos quando o
+     * projeto é excluído) e que não são mais encontrados pelo banco após o commit.
+     */
+    private Set<Long> usuariosDesvinculados;
+
+    public ProjectChangedEvent(Long projectId) {
+        this(projectId, Set.of());
+    }
+}
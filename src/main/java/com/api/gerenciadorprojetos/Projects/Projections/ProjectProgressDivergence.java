@@ -0,0 +1,14 @@
+package com.api.gerenciadorprojetos.Projects.Projections;
+
+/**
+ * Projeto cujas somas de progresso registradas divergem das calculadas a partir das tarefas.
+ *
+ * @author victor.marcelo
+ */
+public interface ProjectProgressDivergence {
+    Long getProjetoId();
+    Long getSomaRegistrada();
+    Integer getQuantidadeRegistrada();
+    Long getSomaCalculada();
+    Integer getQuantidadeCalculada();
+}
@@ -0,0 +1,18 @@
+package com.api.gerenciadorprojetos.Projects.Projections;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção de um ponto do burndown: o último snapshot de cada período.
+ *
+ * @author victor.marcelo
+ */
+public interface ProjectSnapshotPoint {
+    LocalDate getPeriodo();
+    LocalDate getDataSnapshot();
+    Integer getTarefasPendentes();
+    Integer getTarefasEmAndamento();
+    Integer getTarefasConcluidas();
+    Integer getTarefasAtrasadas();
+    Long getSomaPorcentagem();
+}
@@ -0,0 +1,13 @@
+package com.api.gerenciadorprojetos.Projects.Projections;
+
+import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+
+/**
+ * Projeção somente leitura com a quantidade de projetos em um status.
+ *
+ * @author victor.marcelo
+ */
+public interface ProjectStatusCount {
+    StatusProjeto getStatus();
+    Long getTotal();
+}
@@ -0,0 +1,24 @@
+package com.api.gerenciadorprojetos.Projects.Projections;
+
+import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção somente leitura com os campos de um projeto exibidos nas listagens.
+ * Seleciona apenas as colunas necessárias, sem carregar a descrição ou as associações da entidade.
+ *
+ * @author victor.marcelo
+ */
+public interface ProjectSummary {
+    Long getId();
+    String getNomeProjeto();
+    LocalDate getDataInicio();
+    LocalDate getDataTerminoPrevista();
+    StatusProjeto getStatus();
+    Double getOrcamento();
+    String getPrioridade();
+    Integer getPorcentagemConcluida();
+    Long getGerenteProjetoId();
+    String getGerenteProjetoNome();
+}
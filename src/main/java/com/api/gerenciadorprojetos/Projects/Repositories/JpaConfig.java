@@ -3,7 +3,18 @@ package com.api.gerenciadorprojetos.Projects.Repositories;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
+/**
+ * Configuração dos repositórios JPA. Os pacotes são listados explicitamente para que os repositórios do
+ * Elasticsearch (pacote ElasticSearchRepositories) não sejam tratados como repositórios JPA.
+ *
+ * @author victor.marcelo
+ */
 @Configuration
-@EnableJpaRepositories(basePackages = "com.api.gerenciadorprojetos.Projects.Repositories.jpa")
+@EnableJpaRepositories(basePackages = {
+        "com.api.gerenciadorprojetos.Projects.Repositories",
+        "com.api.gerenciadorprojetos.Tasks.Repositories",
+        "com.api.gerenciadorprojetos.Users.Repositories",
+        "com.api.gerenciadorprojetos.audit.Repositories"
+})
 public class JpaConfig {
 }
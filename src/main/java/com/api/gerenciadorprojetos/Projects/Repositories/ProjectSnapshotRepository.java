@@ -0,0 +1,71 @@
+package com.api.gerenciadorprojetos.Projects.Repositories;
+
+import com.api.gerenciadorprojetos.Projects.Entities.ProjectSnapshot;
+import com.api.gerenciadorprojetos.Projects.Entities.ProjectSnapshotId;
+import com.api.gerenciadorprojetos.Projects.Projections.ProjectSnapshotPoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface ProjectSnapshotRepository extends JpaRepository<ProjectSnapshot, ProjectSnapshotId> {
+
+    /**
+     * Lista o próximo lote de IDs de projetos, em ordem, a partir de um ID (exclusivo).
+     */
+    @Query(value = "SELECT id FROM projetos WHERE id > :aposId ORDER BY id LIMIT :limite", nativeQuery = true)
+    List<Long> findProjectIdsAfter(@Param("aposId") Long aposId, @Param("limite") int limite);
+
+    /**
+     * Grava em uma única instrução o snapshot do dia de todos os projetos com ID em (aposId, ateId], agregando as
+     * tarefas por status. Reexecuções no mesmo dia sobrescrevem o snapshot.
+     *
+     * @return Quantidade de snapshots gravados.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO snapshots_projeto (id_projeto, data_snapshot, tarefas_pendentes, tarefas_em_andamento, " +
+            "tarefas_concluidas, tarefas_atrasadas, soma_porcentagem) " +
+            "SELECT p.id, :dataSnapshot, " +
+            "COUNT(t.id) FILTER (WHERE t.status = 'PENDENTE'), " +
+            "COUNT(t.id) FILTER (WHERE t.status = 'EM_ANDAMENTO'), " +
+            "COUNT(t.id) FILTER (WHERE t.status = 'CONCLUIDA'), " +
+            "COUNT(t.id) FILTER (WHERE t.status = 'ATRASADA'), " +
+            "COALESCE(SUM(COALESCE(t.porcentagem_concluida, 0)), 0) " +
+            "FROM projetos p LEFT JOIN tarefas_projeto t ON t.id_projeto = p.id " +
+            "WHERE p.id > :aposId AND p.id <= :ateId " +
+            "GROUP BY p.id " +
+            "ON CONFLICT (id_projeto, data_snapshot) DO UPDATE SET " +
+            "tarefas_pendentes = EXCLUDED.tarefas_pendentes, " +
+            "tarefas_em_andamento = EXCLUDED.tarefas_em_andamento, " +
+            "tarefas_concluidas = EXCLUDED.tarefas_concluidas, " +
+            "tarefas_atrasadas = EXCLUDED.tarefas_atrasadas, " +
+            "soma_porcentagem = EXCLUDED.soma_porcentagem", nativeQuery = true)
+    int captureSnapshots(@Param("dataSnapshot") LocalDate dataSnapshot,
+                         @Param("aposId") Long aposId,
+                         @Param("ateId") Long ateId);
+
+    /**
+     * Lista o burndown de um projeto em [de, ate] reduzido a um ponto por período: o último snapshot de cada dia,
+     * semana ou mês (date_trunc). Lê apenas a faixa da chave primária do projeto.
+     *
+     * @param unidade Unidade do date_trunc: day, week ou month.
+     */
+    @Query(value = "SELECT DISTINCT ON (s.periodo) " +
+            "s.periodo AS periodo, s.data_snapshot AS dataSnapshot, " +
+            "s.tarefas_pendentes AS tarefasPendentes, s.tarefas_em_andamento AS tarefasEmAndamento, " +
+            "s.tarefas_concluidas AS tarefasConcluidas, s.tarefas_atrasadas AS tarefasAtrasadas, " +
+            "s.soma_porcentagem AS somaPorcentagem " +
+            "FROM (SELECT CAST(date_trunc(:unidade, data_snapshot) AS date) AS periodo, snapshots_projeto.* " +
+            "      FROM snapshots_projeto " +
+            "      WHERE id_projeto = :projectId AND data_snapshot BETWEEN :de AND :ate) s " +
+            "ORDER BY s.periodo, s.data_snapshot DESC", nativeQuery = true)
+    List<ProjectSnapshotPoint> findBurndown(@Param("projectId") Long projectId,
+                                            @Param("de") LocalDate de,
+                                            @Param("ate") LocalDate ate,
+                                            @Param("unidade") String unidade);
+}
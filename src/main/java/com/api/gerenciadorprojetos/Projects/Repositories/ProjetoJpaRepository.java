@@ -2,25 +2,181 @@ package com.api.gerenciadorprojetos.Projects.Repositories;
 
 import com.api.gerenciadorprojetos.Projects.Entities.Project;
 import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+import com.api.gerenciadorprojetos.Projects.Projections.ProjectProgressDivergence;
+import com.api.gerenciadorprojetos.Projects.Projections.ProjectStatusCount;
+import com.api.gerenciadorprojetos.Projects.Projections.ProjectSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjetoJpaRepository extends JpaRepository<Project, Long> {
-    Optional<Project> findProjectsByUser_Id (Long userId);
 
-    Optional<Project> findProjectsByStatus(StatusProjeto statusProjeto);
+    /**
+     * Colunas selecionadas pelas consultas de listagem, com aliases correspondentes a {@link ProjectSummary}.
+     */
+    String COLUNAS_RESUMO = "SELECT p.id AS id, p.nomeProjeto AS nomeProjeto, p.dataInicio AS dataInicio, " +
+            "p.dataTerminoPrevista AS dataTerminoPrevista, p.status AS status, p.orcamento AS orcamento, " +
+            "p.prioridade AS prioridade, p.porcentagemConcluida AS porcentagemConcluida, " +
+            "g.id AS gerenteProjetoId, g.nome AS gerenteProjetoNome ";
 
-    @Query("SELECT p FROM Project p " +
+    @Query(COLUNAS_RESUMO +
+            "FROM Project p " +
             "JOIN p.membrosProjeto u " +
+            "LEFT JOIN p.gerenteProjeto g " +
+            "WHERE u.id = :userId")
+    List<ProjectSummary> findProjectsByUser_Id(@Param("userId") Long userId);
+
+    @Query(COLUNAS_RESUMO +
+            "FROM Project p " +
+            "LEFT JOIN p.gerenteProjeto g " +
+            "WHERE p.status = :status")
+    List<ProjectSummary> findProjectsByStatus(@Param("status") StatusProjeto statusProjeto);
+
+    @Query(COLUNAS_RESUMO +
+            "FROM Project p " +
+            "JOIN p.membrosProjeto u " +
+            "LEFT JOIN p.gerenteProjeto g " +
             "WHERE u.id = :userId AND p.status = :status")
-    Optional<Project> findProjectsByUser_IdAndStatus(
+    List<ProjectSummary> findProjectsByUser_IdAndStatus(
             @Param("userId") Long userId,
             @Param("status") StatusProjeto status);
 
-    Long countByUser_IdAndStatus(Long userId, StatusProjeto status);
+    /**
+     * Calcula a versão da representação de um projeto (ProjectDTO) sem carregar a entidade: hash da versão do
+     * projeto, do gerente e dos IDs dos membros. A associação de membros é feita diretamente em membros_projeto e não
+     * incrementa a versão do projeto, por isso os IDs entram no hash. Alterações nos dados dos usuários (nome, e-mail)
+     * não mudam a versão.
+     *
+     * @return Hash da versão, ou vazio se o projeto não existir.
+     */
+    @Query(value = "SELECT md5(COALESCE(p.versao, 0) || ':' || COALESCE(p.id_gerente_projeto, 0) || ':' || " +
+            "COALESCE((SELECT string_agg(CAST(m.id_usuario AS VARCHAR), ',' ORDER BY m.id_usuario) " +
+            "          FROM membros_projeto m WHERE m.id_projeto = p.id), '')) " +
+            "FROM projetos p WHERE p.id = :projectId", nativeQuery = true)
+    Optional<String> findProjectVersionTag(@Param("projectId") Long projectId);
+
+    /**
+     * Conta os projetos em que o usuário é membro, em um status.
+     */
+    @Query("SELECT COUNT(p) FROM Project p JOIN p.membrosProjeto u WHERE u.id = :userId AND p.status = :status")
+    long countByMemberIdAndStatus(@Param("userId") Long userId, @Param("status") StatusProjeto status);
+
+    /**
+     * Conta os projetos em que o usuário é membro, agrupados por status. Status sem projetos não são retornados.
+     */
+    @Query("SELECT p.status AS status, COUNT(p) AS total FROM Project p JOIN p.membrosProjeto u WHERE u.id = :userId GROUP BY p.status")
+    List<ProjectStatusCount> countByMemberIdGroupByStatus(@Param("userId") Long userId);
+
+    /**
+     * Marca como atrasados os projetos criados ou em andamento cujo prazo terminou antes da data informada, em um
+     * único UPDATE e incrementando a versão. Projetos concluídos não são alterados. Os status ficam literais na
+     * consulta para que o índice parcial idx_projetos_termino_em_aberto seja usado.
+     *
+     * @return Quantidade de projetos atualizados.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE projetos SET status = 'ATRASADO', versao = versao + 1 " +
+            "WHERE status IN ('CRIADO', 'EM_ANDAMENTO') AND data_termino_prevista < :data", nativeQuery = true)
+    int markLateProjects(@Param("data") LocalDate data);
+
+    /**
+     * Associa usuários a um projeto inserindo diretamente em membros_projeto, sem carregar a coleção de membros.
+     * Usuários inexistentes ou já associados são ignorados.
+     *
+     * @return Quantidade de associações efetivamente criadas.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO membros_projeto (id_projeto, id_usuario) " +
+            "SELECT :projectId, u.id FROM usuarios u WHERE u.id IN (:userIds) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int addMembers(@Param("projectId") Long projectId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Remove associações de usuários a um projeto diretamente em membros_projeto.
+     *
+     * @return Quantidade de associações removidas.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM membros_projeto WHERE id_projeto = :projectId AND id_usuario IN (:userIds)", nativeQuery = true)
+    int removeMembers(@Param("projectId") Long projectId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Lista os IDs dos usuários envolvidos em um projeto: membros, gerente e criador. São os destinatários dos eventos
+     * de alteração do projeto e de suas tarefas.
+     */
+    @Query(value = "SELECT id_usuario FROM membros_projeto WHERE id_projeto = :projectId " +
+            "UNION SELECT id_gerente_projeto FROM projetos WHERE id = :projectId AND id_gerente_projeto IS NOT NULL " +
+            "UNION SELECT id_criador_projeto FROM projetos WHERE id = :projectId AND id_criador_projeto IS NOT NULL",
+            nativeQuery = true)
+    List<Long> findInvolvedUserIds(@Param("projectId") Long projectId);
+
+    /**
+     * Lista os IDs dos projetos em que o usuário está envolvido: como membro, gerente ou criador.
+     */
+    @Query(value = "SELECT id_projeto FROM membros_projeto WHERE id_usuario = :userId " +
+            "UNION SELECT id FROM projetos WHERE id_gerente_projeto = :userId " +
+            "UNION SELECT id FROM projetos WHERE id_criador_projeto = :userId",
+            nativeQuery = true)
+    List<Long> findInvolvedProjectIds(@Param("userId") Long userId);
+
+    /**
+     * Lista os IDs dos membros de um projeto, sem carregar os usuários.
+     */
+    @Query(value = "SELECT id_usuario FROM membros_projeto WHERE id_projeto = :projectId", nativeQuery = true)
+    List<Long> findMemberIds(@Param("projectId") Long projectId);
+
+    /**
+     * Aplica ao projeto a variação de progresso de suas tarefas e recalcula a porcentagem concluída a partir das
+     * somas, em um único UPDATE atômico (sem reler as tarefas).
+     *
+     * @param projectId       ID do projeto.
+     * @param deltaSoma       Variação na soma das porcentagens concluídas das tarefas.
+     * @param deltaQuantidade Variação na quantidade de tarefas (+1 criação, -1 exclusão, 0 atualização).
+     * @return Quantidade de projetos atualizados.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Project p SET " +
+            "p.somaPorcentagemTarefas = p.somaPorcentagemTarefas + :deltaSoma, " +
+            "p.quantidadeTarefas = p.quantidadeTarefas + :deltaQuantidade, " +
+            "p.porcentagemConcluida = CASE WHEN p.quantidadeTarefas + :deltaQuantidade > 0 " +
+            "THEN CAST((p.somaPorcentagemTarefas + :deltaSoma) / (p.quantidadeTarefas + :deltaQuantidade) AS Integer) " +
+            "ELSE 0 END " +
+            "WHERE p.id = :projectId")
+    int applyTaskProgressDelta(@Param("projectId") Long projectId,
+                               @Param("deltaSoma") long deltaSoma,
+                               @Param("deltaQuantidade") int deltaQuantidade);
+
+    /**
+     * Lista os projetos cujas somas de progresso registradas divergem das tarefas existentes.
+     */
+    @Query(value = "SELECT p.id AS projetoId, " +
+            "p.soma_porcentagem_tarefas AS somaRegistrada, p.quantidade_tarefas AS quantidadeRegistrada, " +
+            "COALESCE(t.soma, 0) AS somaCalculada, COALESCE(t.quantidade, 0) AS quantidadeCalculada " +
+            "FROM projetos p " +
+            "LEFT JOIN (SELECT id_projeto, SUM(COALESCE(porcentagem_concluida, 0)) AS soma, COUNT(*) AS quantidade " +
+            "           FROM tarefas_projeto GROUP BY id_projeto) t ON t.id_projeto = p.id " +
+            "WHERE p.soma_porcentagem_tarefas <> COALESCE(t.soma, 0) " +
+            "OR p.quantidade_tarefas <> COALESCE(t.quantidade, 0)", nativeQuery = true)
+    List<ProjectProgressDivergence> findTaskProgressDivergences();
+
+    /**
+     * Recalcula a partir das tarefas as somas de progresso dos projetos informados.
+     */
+    @Modifying
+    @Query(value = "UPDATE projetos p SET " +
+            "soma_porcentagem_tarefas = t.soma, quantidade_tarefas = t.quantidade, " +
+            "porcentagem_concluida = CASE WHEN t.quantidade > 0 THEN CAST(t.soma / t.quantidade AS INTEGER) ELSE 0 END " +
+            "FROM (SELECT pr.id AS id_projeto, COALESCE(SUM(COALESCE(tp.porcentagem_concluida, 0)), 0) AS soma, COUNT(tp.id) AS quantidade " +
+            "      FROM projetos pr LEFT JOIN tarefas_projeto tp ON tp.id_projeto = pr.id " +
+            "      WHERE pr.id IN (:projectIds) GROUP BY pr.id) t " +
+            "WHERE p.id = t.id_projeto", nativeQuery = true)
+    int recalculateTaskProgress(@Param("projectIds") Collection<Long> projectIds);
 }
@@ -2,20 +2,36 @@ package com.api.gerenciadorprojetos.Projects.Services;
 
 import com.api.gerenciadorprojetos.Exceptions.ProjectValidationException;
 import com.api.gerenciadorprojetos.Exceptions.UnauthorizedException;
+import com.api.gerenciadorprojetos.Infra.Cache.NegativeLookupCache;
+import com.api.gerenciadorprojetos.Infra.Concurrency.LookupScope;
+import com.api.gerenciadorprojetos.Infra.Concurrency.ParallelLookups;
+import com.api.gerenciadorprojetos.Infra.Concurrency.RetryOnOptimisticLock;
+import com.api.gerenciadorprojetos.Infra.Concurrency.SingleFlight;
 import com.api.gerenciadorprojetos.Exceptions.UserValidationException;
 import com.api.gerenciadorprojetos.Projects.DTO.ProjectDTO;
 import com.api.gerenciadorprojetos.Projects.Entities.Project;
 import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+import com.api.gerenciadorprojetos.Projects.Events.ProjectChangedEvent;
 import com.api.gerenciadorprojetos.Projects.ElasticSearchRepositories.ProjectElasticsearchRepository;
+import com.api.gerenciadorprojetos.Projects.Projections.ProjectProgressDivergence;
+import com.api.gerenciadorprojetos.Projects.Projections.ProjectSummary;
 import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import com.api.gerenciadorprojetos.Tasks.Events.TaskChangedEvent;
+import com.api.gerenciadorprojetos.Tasks.Repositories.TaskDependencyRepository;
+import com.api.gerenciadorprojetos.Tasks.Repositories.TaskRepository;
 import com.api.gerenciadorprojetos.Users.Entities.User;
 import com.api.gerenciadorprojetos.Users.Repositories.UserRepository;
 import com.api.gerenciadorprojetos.Utils.EntityServiceUtils;
 import com.api.gerenciadorprojetos.Utils.SecurityUtils;
+import com.api.gerenciadorprojetos.Utils.Versioned;
+import com.api.gerenciadorprojetos.audit.Diff.EntityDiffer;
+import com.api.gerenciadorprojetos.audit.Entities.AlteracaoCampo;
+import com.api.gerenciadorprojetos.audit.Enums.AcaoAuditoria;
+import com.api.gerenciadorprojetos.audit.Enums.EntidadeAuditada;
 import com.api.gerenciadorprojetos.audit.Services.AuditLogService;
 import com.api.gerenciadorprojetos.config.RequestInfo;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.apache.commons.lang3.EnumUtils;
@@ -23,14 +39,26 @@ import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -43,7 +71,22 @@ public class ProjectService {
 
     private static final Logger log = LoggerFactory.getLogger(ProjectService.class);
     private static final int CONCLUIDO_PERCENTAGE = 100;
+
+    /** Campos do projeto comparados no JSON de alterações do audit. */
+    private static final EntityDiffer<Project> CAMPOS_AUDITADOS = EntityDiffer.<Project>builder()
+            .campo("nomeProjeto", Project::getNomeProjeto)
+            .campo("descricao", Project::getDescricao)
+            .campo("dataInicio", Project::getDataInicio)
+            .campo("dataTerminoPrevista", Project::getDataTerminoPrevista)
+            .campo("gerenteProjeto", ProjectService::idDoGerente)
+            .campo("orcamento", Project::getOrcamento)
+            .campo("prioridade", Project::getPrioridade)
+            .campo("status", Project::getStatus)
+            .campo("porcentagemConcluida", Project::getPorcentagemConcluida)
+            .build();
     private final ProjetoJpaRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
     private final UserRepository userRepository;
     private final ProjectElasticsearchRepository projectElasticsearchRepository;
     private final AuditLogService auditLogService;
@@ -54,17 +97,41 @@ public class ProjectService {
 
     private final SecurityUtils securityUtils;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ParallelLookups parallelLookups;
+
+    private final NegativeLookupCache negativeLookupCache;
+
+    private final TransactionTemplate transacaoLeitura;
+    private final SingleFlight<String, Versioned<ProjectDTO>> leiturasProjeto;
+
+    private final int limitePesquisa;
+    private final Duration timeoutPesquisa;
+
     @Autowired
     public ProjectService(ProjetoJpaRepository projectRepository,
+                          TaskRepository taskRepository,
+                          TaskDependencyRepository taskDependencyRepository,
                           UserRepository userRepository,
                           ProjectElasticsearchRepository projectElasticsearchRepository,
                           AuditLogService auditLogService,
                           ModelMapper modelMapper,
                           Validator validator,
                           EntityServiceUtils entityServiceUtils,
-                          SecurityUtils securityUtils)
+                          SecurityUtils securityUtils,
+                          ApplicationEventPublisher eventPublisher,
+                          ParallelLookups parallelLookups,
+                          NegativeLookupCache negativeLookupCache,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${app.search.max-results:50}") int limitePesquisa,
+                          @Value("${app.search.timeout:3s}") Duration timeoutPesquisa,
+                          @Value("${app.project-read.reuse-window:2s}") Duration reutilizacaoLeitura)
     {
         this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
         this.userRepository = userRepository;
         this.projectElasticsearchRepository = projectElasticsearchRepository;
         this.auditLogService = auditLogService;
@@ -72,6 +139,14 @@ public class ProjectService {
         this.validator = validator;
         this.entityServiceUtils = entityServiceUtils;
         this.securityUtils = securityUtils;
+        this.eventPublisher = eventPublisher;
+        this.parallelLookups = parallelLookups;
+        this.negativeLookupCache = negativeLookupCache;
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
+        this.leiturasProjeto = new SingleFlight<>("projeto", reutilizacaoLeitura, meterRegistry);
+        this.limitePesquisa = limitePesquisa;
+        this.timeoutPesquisa = timeoutPesquisa;
     }
 
     /**
@@ -79,6 +154,7 @@ public class ProjectService {
      *
      * @return Lista de ProjectDTOs representando todos os projetos.
      */
+    @Transactional(readOnly = true)
     public List<ProjectDTO> findAllProjects() {
         log.info("Listando todos os projetos.");
         return projectRepository.findAll()
@@ -95,6 +171,7 @@ public class ProjectService {
      * @throws IllegalArgumentException     Se o ID fornecido for nulo.
      * @throws EntityNotFoundException      Se nenhum projeto for encontrado com o ID fornecido.
      */
+    @Transactional(readOnly = true)
     public ProjectDTO findProjectById(Long projectId) {
         if (projectId == null) {
             log.error("ID do projeto não fornecido.");
@@ -106,21 +183,76 @@ public class ProjectService {
         return modelMapper.map(entityServiceUtils.getProjectById(projectId), ProjectDTO.class);
     }
 
+    /**
+     * Recupera um Projeto pelo seu ID junto com a sua versão, usada como ETag.
+     * <p>
+     * A versão e o projeto são lidos na mesma transação, a versão antes, de forma que o ETag nunca é mais novo que o
+     * projeto retornado, mesmo com leituras em réplicas com atrasos diferentes.
+     * <p>
+     * Requisições simultâneas do mesmo projeto na mesma versão compartilham uma única carga e mapeamento, e o resultado
+     * ainda é reutilizado por um curto intervalo ({@code app.project-read.reuse-window}). O resultado é guardado sob a
+     * versão lida junto com o projeto, e não sob a versão informada, que pode ter vindo de uma réplica mais atrasada:
+     * uma alteração do projeto ou dos membros nunca é respondida com a representação anterior.
+     *
+     * @param projectId O ID do projeto a ser recuperado.
+     * @param versao    A versão atual do projeto, obtida de {@link #findProjectVersionTag(Long)}, ou null para carregar
+     *                  sem agrupar.
+     * @return ProjectDTO representando o projeto, compartilhado entre as requisições (não deve ser alterado), e a versão
+     *         lida junto com ele.
+     * @throws IllegalArgumentException     Se o ID fornecido for nulo.
+     * @throws EntityNotFoundException      Se nenhum projeto for encontrado com o ID fornecido.
+     */
+    public Versioned<ProjectDTO> findProjectById(Long projectId, String versao) {
+        if (projectId == null) {
+            log.error("ID do projeto não fornecido.");
+            throw new IllegalArgumentException("Id do projeto não fornecido");
+        }
+
+        // Somente quem executa a carga abre a transação; as demais requisições apenas aguardam o resultado
+        if (versao == null) {
+            return transacaoLeitura.execute(status -> carregarVersionado(projectId));
+        }
+        return leiturasProjeto.executar(projectId + "/" + versao,
+                () -> transacaoLeitura.execute(status -> carregarVersionado(projectId)),
+                carregado -> carregado.getVersao() == null ? null : projectId + "/" + carregado.getVersao());
+    }
+
+    private Versioned<ProjectDTO> carregarVersionado(Long projectId) {
+        String versaoCarregada = projectRepository.findProjectVersionTag(projectId).orElse(null);
+        return new Versioned<>(versaoCarregada, findProjectById(projectId));
+    }
+
+    /**
+     * Recupera a versão atual da representação de um projeto, usada para responder 304 sem carregar o projeto.
+     * Consulta apenas projetos e membros_projeto, sem carregar o projeto. A ausência de um projeto é lembrada pelo
+     * cache negativo, como em {@link EntityServiceUtils#getProjectById(Long)}.
+     *
+     * @param projectId O ID do projeto.
+     * @return A versão do projeto, ou null se o projeto não existir.
+     */
+    @Transactional(readOnly = true)
+    public String findProjectVersionTag(Long projectId) {
+        if (projectId == null) {
+            throw new IllegalArgumentException("Id do projeto não fornecido");
+        }
+
+        return negativeLookupCache.buscar(Project.class, projectId, projectRepository::findProjectVersionTag)
+                .orElse(null);
+    }
+
     /**
      * Recupera uma lista de projetos associados a um usuário.
      *
 
-     * @return Lista de ProjectDTOs representando os projetos associados ao usuário.
+     * @return Lista de ProjectSummary (somente leitura) representando os projetos associados ao usuário.
      */
-    public List<ProjectDTO> findProjectsByUser() {
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> findProjectsByUser() {
         User userAuthenticated = securityUtils.getUsuarioLogado();
-        log.info("Recuperando projetos associados ao usuário com ID: {}", userAuthenticated.getId());
 
         if(userAuthenticated != null) {
-            return projectRepository.findProjectsByUser_Id(userAuthenticated.getId())
-                    .stream()
-                    .map(project -> modelMapper.map(project, ProjectDTO.class))
-                    .collect(Collectors.toList());
+            log.info("Recuperando projetos associados ao usuário com ID: {}", userAuthenticated.getId());
+            return projectRepository.findProjectsByUser_Id(userAuthenticated.getId());
         }else{
             throw new UnauthorizedException("Usuário não autenticado");
         }
@@ -128,23 +260,21 @@ public class ProjectService {
 
     /**
      * Busca projetos no Elasticsearch por um termo, retornando uma lista de DTOs de projetos correspondentes.
+     * A busca é reativa: a thread da requisição é liberada enquanto o Elasticsearch responde.
      *
      * @param termo O termo a ser utilizado na busca no Elasticsearch.
-     * @return Uma lista de DTOs de projetos correspondentes ao termo.
+     * @return Os DTOs dos projetos mais relevantes para o termo, até o limite de app.search.max-results.
      * @throws IllegalArgumentException Se o termo fornecido for nulo ou vazio.
      * @throws UnauthorizedException    Se o usuário não estiver autenticado.
      */
-    public List<ProjectDTO> findProjectsByTermoContaining(String termo) {
+    public Mono<List<ProjectDTO>> findProjectsByTermoContaining(String termo) {
         if (termo == null || termo.isEmpty()) {
             log.error("Termo não fornecido ou inválido");
             throw new IllegalArgumentException("Termo não fornecido ou inválido");
         }
         User userAuthenticated = securityUtils.getUsuarioLogado();
         if (userAuthenticated != null) {
-            return projectElasticsearchRepository.findProjectsByTermoContaining(termo)
-                    .stream()
-                    .map(project -> modelMapper.map(project, ProjectDTO.class))
-                    .collect(Collectors.toList());
+            return pesquisar(projectElasticsearchRepository.findProjectsByTermoContaining(termo, PageRequest.of(0, limitePesquisa)), termo);
         } else {
             throw new UnauthorizedException("Usuário não autenticado");
         }
@@ -152,29 +282,38 @@ public class ProjectService {
 
     /**
      * Busca projetos no Elasticsearch por um termo e o ID do usuário autenticado, retornando uma lista de DTOs de projetos correspondentes.
+     * A busca é reativa: a thread da requisição é liberada enquanto o Elasticsearch responde.
      *
      * @param termo O termo a ser utilizado na busca no Elasticsearch.
-     * @return Uma lista de DTOs de projetos correspondentes ao termo e ID do usuário autenticado.
+     * @return Os DTOs dos projetos do usuário mais relevantes para o termo, até o limite de app.search.max-results.
      * @throws IllegalArgumentException Se o termo fornecido for nulo ou vazio.
      * @throws UnauthorizedException    Se o usuário não estiver autenticado.
      */
-    public List<ProjectDTO> findByUserIdAndTermoContaining(String termo) {
+    public Mono<List<ProjectDTO>> findByUserIdAndTermoContaining(String termo) {
         if (termo == null || termo.isEmpty()) {
             log.error("Termo não fornecido ou inválido");
             throw new IllegalArgumentException("Termo não fornecido ou inválido");
         }
         User userAuthenticated = securityUtils.getUsuarioLogado();
         if (userAuthenticated != null) {
-            return projectElasticsearchRepository.findByUserIdAndTermoContaining(userAuthenticated.getId(), termo)
-                    .stream()
-                    .map(project -> modelMapper.map(project, ProjectDTO.class))
-                    .collect(Collectors.toList());
+            return pesquisar(projectElasticsearchRepository.findByUserIdAndTermoContaining(
+                    userAuthenticated.getId(), termo, PageRequest.of(0, limitePesquisa)), termo);
         } else {
             throw new UnauthorizedException("Usuário não autenticado");
         }
     }
 
-
+    /**
+     * Converte os projetos encontrados em DTOs, limitando o tempo de espera pelo Elasticsearch a app.search.timeout.
+     */
+    private Mono<List<ProjectDTO>> pesquisar(Flux<Project> projetos, String termo) {
+        return projetos
+                .map(project -> modelMapper.map(project, ProjectDTO.class))
+                .collectList()
+                .timeout(timeoutPesquisa)
+                .doOnError(TimeoutException.class, ex -> log.warn("Pesquisa de projetos pelo termo '{}' excedeu {} ms",
+                        termo, timeoutPesquisa.toMillis()));
+    }
 
     /**
      * Adiciona um novo projeto.
@@ -199,14 +338,22 @@ public class ProjectService {
         User userExecuteAction = securityUtils.getUsuarioLogado();
 
         project.setStatus(StatusProjeto.CRIADO);
+        // Mesmos valores que o banco atribui ao progresso na inserção
         project.setPorcentagemConcluida(0);
+        project.setSomaPorcentagemTarefas(0L);
+        project.setQuantidadeTarefas(0);
         project.setCriadorProjeto(userExecuteAction);
 
 
         //Adiciona Log do audit
-        auditLogService.addAudit(userExecuteAction, "Criação de um novo projeto", null, "Projeto", requestInfo);
+        Project savedProject = projectRepository.save(project);
+        entityServiceUtils.registerCreation(Project.class, savedProject.getId());
+
+        auditLogService.addAudit(userExecuteAction, AcaoAuditoria.CRIAR_PROJETO, null, EntidadeAuditada.PROJETO, savedProject.getId(), null, requestInfo);
 
-        return projectRepository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(savedProject.getId()));
+
+        return savedProject;
     }
 
     /**
@@ -222,6 +369,7 @@ public class ProjectService {
      * @throws UserValidationException      Se a validação do usuário falhar.
      * @throws ProjectValidationException   Se a validação do projeto falhar.
      */
+    @RetryOnOptimisticLock
     @Transactional
     public Project updateProject(Long projectId, Project project, RequestInfo requestInfo) {
         if (projectId == null) {
@@ -237,6 +385,9 @@ public class ProjectService {
 
         validateProject(project);
 
+        EntityDiffer.Snapshot<Project> estadoAnterior = CAMPOS_AUDITADOS.snapshot(projectToUpdate);
+        Long gerenteAnteriorId = idDoGerente(projectToUpdate);
+
         projectToUpdate.setNomeProjeto(project.getNomeProjeto());
         projectToUpdate.setDescricao(project.getDescricao());
         projectToUpdate.setDataInicio(project.getDataInicio());
@@ -244,25 +395,32 @@ public class ProjectService {
         projectToUpdate.setGerenteProjeto(project.getGerenteProjeto());
         projectToUpdate.setOrcamento(project.getOrcamento());
         projectToUpdate.setPrioridade(project.getPrioridade());
-        projectToUpdate.setPorcentagemConcluida(project.getPorcentagemConcluida());
 
-        if (project.getPorcentagemConcluida() > 0) {
-            projectToUpdate.setStatus(StatusProjeto.EM_ANDAMENTO);
-        } else if (project.getPorcentagemConcluida() == CONCLUIDO_PERCENTAGE) {
+        // A porcentagem concluída é derivada das tarefas (ver TaskService), não informada pelo cliente
+        Integer porcentagemConcluida = projectToUpdate.getPorcentagemConcluida();
+        if (porcentagemConcluida != null && porcentagemConcluida == CONCLUIDO_PERCENTAGE) {
             projectToUpdate.setStatus(StatusProjeto.CONCLUIDO);
+        } else if (porcentagemConcluida != null && porcentagemConcluida > 0) {
+            projectToUpdate.setStatus(StatusProjeto.EM_ANDAMENTO);
         }
 
-        String detalhesAlteracao = buildDetalhesAlteracao(projectToUpdate, project);
+        Map<String, AlteracaoCampo> alteracoes = CAMPOS_AUDITADOS.diff(estadoAnterior, projectToUpdate);
 
         //Adiciona log do audit
         auditLogService.addAudit(userExecuteAction,
-                "Atualização de um projeto existente. Id do projeto: " + projectId,
-                "Campos Alterados: " + detalhesAlteracao,
-                "Projeto",
+                AcaoAuditoria.ATUALIZAR_PROJETO,
+                "Campos Alterados: " + String.join(", ", alteracoes.keySet()),
+                EntidadeAuditada.PROJETO,
+                projectId,
+                alteracoes,
                 requestInfo
         );
 
-        return projectRepository.save(projectToUpdate);
+        Project savedProject = projectRepository.save(projectToUpdate);
+
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId, gerenteSubstituido(gerenteAnteriorId, savedProject)));
+
+        return savedProject;
     }
 
     /**
@@ -284,33 +442,74 @@ public class ProjectService {
 
         log.info("Associando usuário com ID {} ao projeto com ID {}", userIdAdd, projectId);
 
-        //Usuário a ser adicionado
-        User userForAdd = entityServiceUtils.getUserById(userIdAdd);
-
         //Usuário que está executando a ação
         User userExecuteAction = securityUtils.getUsuarioLogado();
 
-        Project projectFilter = entityServiceUtils.getProjectById(projectId);
+        //Verifica se o usuário a ser adicionado e o projeto existem, em paralelo
+        try (LookupScope consultas = parallelLookups.abrir()) {
+            consultas.fork(() -> entityServiceUtils.getUserById(userIdAdd));
+            checkProjectExists(projectId);
+            consultas.join();
+        }
 
-        List<User> usuariosProjeto = projectFilter.getMembrosProjeto();
+        if (projectRepository.addMembers(projectId, List.of(userIdAdd)) == 0) {
+            log.info("Usuário não adicionado ao projeto. Motivo: Usuário já associado ao projeto.");
+            throw new Exception("Usuário já associado ao projeto");
+        }
 
-        if (!usuariosProjeto.contains(userForAdd)) {
-            usuariosProjeto.add(userForAdd);
-            projectFilter.setMembrosProjeto(usuariosProjeto);
+        auditLogService.addAudit(
+                userExecuteAction,
+                AcaoAuditoria.ADICIONAR_USUARIO_PROJETO,
+                "Id do usuário adicionado: " + userIdAdd + "," + " Id do projeto: " + projectId,
+                EntidadeAuditada.PROJETO,
+                projectId,
+                null,
+                requestInfo
+        );
 
-            auditLogService.addAudit(
-                    userExecuteAction,
-                    "Adicionando usuario a um projeto ",
-                    "Id do usuário adicionado: " + userIdAdd + "," + " Id do projeto: " + projectId,
-                    "Projeto",
-                    requestInfo
-            );
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
 
-            return projectRepository.save(projectFilter);
-        } else {
-            log.info("Usuário não adicionado ao projeto. Motivo: Usuário já associado ao projeto.");
-            throw new Exception("Usuário já associado ao projeto");
+        return entityServiceUtils.getProjectById(projectId);
+    }
+
+    /**
+     * Adiciona vários usuários a um projeto. Usuários inexistentes ou já associados são ignorados.
+     *
+     * @param projectId   ID do projeto ao qual os usuários serão associados.
+     * @param userIds     IDs dos usuários a serem associados ao projeto.
+     * @param requestInfo Informações do usuário que fez a solicitação.
+     * @return Projeto atualizado.
+     * @throws IllegalArgumentException Se o ID do projeto ou a lista de IDs de usuário não forem fornecidos.
+     * @throws EntityNotFoundException  Se o projeto não for encontrado.
+     */
+    @Transactional
+    public Project addUsersToProject(Long projectId, List<Long> userIds, RequestInfo requestInfo) {
+        if (projectId == null || userIds == null || userIds.isEmpty()) {
+            log.error("IDs não fornecidos: IDs solicitados: IDs de projeto e usuários");
+            throw new IllegalArgumentException("Ids não fornecidos: Ids solicitados: Ids de projeto e usuários");
         }
+
+        log.info("Associando usuários com IDs {} ao projeto com ID {}", userIds, projectId);
+
+        User userExecuteAction = securityUtils.getUsuarioLogado();
+
+        checkProjectExists(projectId);
+
+        int adicionados = projectRepository.addMembers(projectId, userIds);
+
+        auditLogService.addAudit(
+                userExecuteAction,
+                AcaoAuditoria.ADICIONAR_USUARIOS_PROJETO,
+                "Ids dos usuários informados: " + userIds + ", associações criadas: " + adicionados + "," + " Id do projeto: " + projectId,
+                EntidadeAuditada.PROJETO,
+                projectId,
+                null,
+                requestInfo
+        );
+
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId));
+
+        return entityServiceUtils.getProjectById(projectId);
     }
 
     /**
@@ -332,28 +531,70 @@ public class ProjectService {
 
         log.info("Removendo usuário com ID {} do projeto com ID {}", userIdRemove, projectId);
 
-        User userForRemove = entityServiceUtils.getUserById(userIdRemove);
-
         User userExecuteAction = securityUtils.getUsuarioLogado();
 
-        Project projectFilter = entityServiceUtils.getProjectById(projectId);
+        //Verifica se o usuário a ser removido e o projeto existem, em paralelo
+        try (LookupScope consultas = parallelLookups.abrir()) {
+            consultas.fork(() -> entityServiceUtils.getUserById(userIdRemove));
+            checkProjectExists(projectId);
+            consultas.join();
+        }
 
-        List<User> usuariosProjeto = projectFilter.getMembrosProjeto();
+        projectRepository.removeMembers(projectId, List.of(userIdRemove));
 
-        if (usuariosProjeto.contains(userForRemove)) {
-            usuariosProjeto.remove(userForRemove);
-            projectFilter.setMembrosProjeto(usuariosProjeto);
+        auditLogService.addAudit(
+                userExecuteAction,
+                AcaoAuditoria.REMOVER_USUARIO_PROJETO,
+                "Id do usuário adicionado: " + userIdRemove + "," + " Id do projeto: " + projectId,
+                EntidadeAuditada.PROJETO,
+                projectId,
+                null,
+                requestInfo
+        );
+
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId, Set.of(userIdRemove)));
+
+        return entityServiceUtils.getProjectById(projectId);
+    }
+
+    /**
+     * Remove vários usuários de um projeto. Usuários que não são membros são ignorados.
+     *
+     * @param projectId   ID do projeto do qual os usuários serão removidos.
+     * @param userIds     IDs dos usuários a serem removidos do projeto.
+     * @param requestInfo Informações do usuário que fez a solicitação.
+     * @return Projeto atualizado.
+     * @throws IllegalArgumentException Se o ID do projeto ou a lista de IDs de usuário não forem fornecidos.
+     * @throws EntityNotFoundException  Se o projeto não for encontrado.
+     */
+    @Transactional
+    public Project removeUsersFromProject(Long projectId, List<Long> userIds, RequestInfo requestInfo) {
+        if (projectId == null || userIds == null || userIds.isEmpty()) {
+            log.error("IDs não fornecidos: IDs solicitados: IDs de projeto e usuários");
+            throw new IllegalArgumentException("Ids não fornecidos: Ids solicitados: Ids de projeto e usuários");
         }
 
+        log.info("Removendo usuários com IDs {} do projeto com ID {}", userIds, projectId);
+
+        User userExecuteAction = securityUtils.getUsuarioLogado();
+
+        checkProjectExists(projectId);
+
+        int removidos = projectRepository.removeMembers(projectId, userIds);
+
         auditLogService.addAudit(
                 userExecuteAction,
-                "Removendo usuario de um projeto ",
-                "Id do usuário adicionado: " + userIdRemove + "," + " Id do projeto: " + projectId,
-                "Projeto",
+                AcaoAuditoria.REMOVER_USUARIOS_PROJETO,
+                "Ids dos usuários informados: " + userIds + ", associações removidas: " + removidos + "," + " Id do projeto: " + projectId,
+                EntidadeAuditada.PROJETO,
+                projectId,
+                null,
                 requestInfo
         );
 
-        return projectRepository.save(projectFilter);
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId, Set.copyOf(userIds)));
+
+        return entityServiceUtils.getProjectById(projectId);
     }
 
     /**
@@ -366,6 +607,7 @@ public class ProjectService {
      * @throws IllegalArgumentException Se os IDs de usuário e projeto não forem fornecidos.
      * @throws EntityNotFoundException  Se o usuário ou o projeto não forem encontrados.
      */
+    @RetryOnOptimisticLock
     @Transactional
     public Project addProjectManager(Long userIdProjectManager, Long projectId, RequestInfo requestInfo) {
         if (userIdProjectManager == null || projectId == null) {
@@ -375,23 +617,39 @@ public class ProjectService {
 
         log.info("Definindo usuário com ID {} como gerente do projeto com ID {}", userIdProjectManager, projectId);
 
-        User userForAdd = entityServiceUtils.getUserById(userIdProjectManager);
-
         User userExecuteAction = securityUtils.getUsuarioLogado();
 
-        Project projectFilter = entityServiceUtils.getProjectById(projectId);
+        User userForAdd;
+        Project projectFilter;
+
+        // O projeto é alterado, então é lido na transação; o novo gerente (apenas referenciado) em paralelo
+        try (LookupScope consultas = parallelLookups.abrir()) {
+            Supplier<User> gerente = consultas.fork(() -> entityServiceUtils.getUserById(userIdProjectManager));
+
+            projectFilter = entityServiceUtils.getProjectById(projectId);
+
+            consultas.join();
+            userForAdd = gerente.get();
+        }
+        Long gerenteAnteriorId = idDoGerente(projectFilter);
 
         projectFilter.setGerenteProjeto(userForAdd);
 
         auditLogService.addAudit(
                 userExecuteAction,
-                "Adicionando usuario como gerente de um projeto ",
+                AcaoAuditoria.DEFINIR_GERENTE_PROJETO,
                 "Id do usuário adicionado: " + userIdProjectManager + "," + " Id do projeto: " + projectId,
-                "Projeto",
+                EntidadeAuditada.PROJETO,
+                projectId,
+                null,
                 requestInfo
         );
 
-        return projectRepository.save(projectFilter);
+        Project savedProject = projectRepository.save(projectFilter);
+
+        eventPublisher.publishEvent(new ProjectChangedEvent(projectId, gerenteSubstituido(gerenteAnteriorId, savedProject)));
+
+        return savedProject;
     }
 
 
@@ -399,28 +657,27 @@ public class ProjectService {
      * Filtra todos os projetos por um status específico.
      *
      * @param status O status pelo qual filtrar os projetos.
-     * @return Lista de ProjectDTOs representando projetos filtrados pelo status.
+     * @return Lista de ProjectSummary (somente leitura) representando projetos filtrados pelo status.
      */
-    public List<ProjectDTO> findProjectsByStatus(StatusProjeto status) {
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> findProjectsByStatus(StatusProjeto status) {
         if(status == null || !EnumUtils.isValidEnum(StatusProjeto.class, status.name())){
             log.info("Status inválido: {}", status);
             throw new IllegalArgumentException("Statua inválido: " + status);
         }
-        return projectRepository.findProjectsByStatus(status)
-                .stream()
-                .map(project -> modelMapper.map(project, ProjectDTO.class))
-                .collect(Collectors.toList());
+        return projectRepository.findProjectsByStatus(status);
     }
 
     /**
      * Filtra projetos associados a um usuário específico por um status específico.
      *
      * @param status O status pelo qual filtrar os projetos do usuário.
-     * @return Lista de ProjectDTOs representando projetos filtrados pelo status associados ao usuário.
+     * @return Lista de ProjectSummary (somente leitura) representando projetos filtrados pelo status associados ao usuário.
      * @throws IllegalArgumentException     Se o ID do usuário fornecido for nulo.
      * @throws EntityNotFoundException      Se o usuário não for encontrado.
      */
-    public List<ProjectDTO> findUserProjectsByStatus(StatusProjeto status) {
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> findUserProjectsByStatus(StatusProjeto status) {
 
         User userAuthenticated = securityUtils.getUsuarioLogado();
 
@@ -429,13 +686,9 @@ public class ProjectService {
             throw new IllegalArgumentException("Status inválido: " + status);
         }
 
-        log.info("Recuperando projetos do usuário com ID {} com status {}", userAuthenticated.getId(), status);
-
         if(userAuthenticated != null) {
-            return projectRepository.findProjectsByUser_IdAndStatus(userAuthenticated.getId(), status)
-                    .stream()
-                    .map(project -> modelMapper.map(project, ProjectDTO.class))
-                    .collect(Collectors.toList());
+            log.info("Recuperando projetos do usuário com ID {} com status {}", userAuthenticated.getId(), status);
+            return projectRepository.findProjectsByUser_IdAndStatus(userAuthenticated.getId(), status);
         }else{
             log.error("Erro so listar os projetos solicitados. Usuário não autenticado");
             throw new UnauthorizedException("Usuário não autenticado");
@@ -452,6 +705,7 @@ public class ProjectService {
      * @throws EntityNotFoundException    Se o projeto não for encontrado para exclusão.
      * @throws RuntimeException           Se ocorrer um erro ao deletar o projeto.
      */
+    @Transactional
     public void deleteProjectById(Long projectId, RequestInfo requestInfo) {
         if (projectId == null) {
             log.error("Id do projeto não fornecido. Id fornecido: {} ", projectId);
@@ -463,13 +717,28 @@ public class ProjectService {
         try {
             Project projectToDelete = entityServiceUtils.getProjectById(projectId);
 
+            // Após a exclusão os envolvidos e as tarefas não são mais encontrados pelo banco
+            Set<Long> envolvidos = Set.copyOf(projectRepository.findInvolvedUserIds(projectId));
+            List<Long> tarefas = taskRepository.findIdsByProjectId(projectId);
+
+            // As tarefas são excluídas em cascata com o projeto, mas as dependências entre elas não
+            taskDependencyRepository.deleteByProjectId(projectId);
             projectRepository.delete(projectToDelete);
 
+            eventPublisher.publishEvent(new ProjectChangedEvent(projectId, envolvidos));
+            // As tarefas são excluídas em cascata, sem passar pelo TaskService; quem acompanha as tarefas (como a
+            // carga de trabalho dos responsáveis) é avisado aqui
+            for (Long taskId : tarefas) {
+                eventPublisher.publishEvent(new TaskChangedEvent(taskId, projectId));
+            }
+
             auditLogService.addAudit(
                     userExecuteAction,
-                    "Deletando projeto",
+                    AcaoAuditoria.DELETAR_PROJETO,
                     "Id do projeto deletado: " + projectId,
-                    "Projeto",
+                    EntidadeAuditada.PROJETO,
+                    projectId,
+                    null,
                     requestInfo
             );
         } catch (Exception ex) {
@@ -479,23 +748,58 @@ public class ProjectService {
 
 
     /**
-     * Atualiza automaticamente o status dos projetos atrasados.
+     * Atualiza automaticamente o status dos projetos atrasados. Apenas projetos criados ou em andamento com prazo
+     * vencido são marcados; projetos concluídos permanecem concluídos.
      * Este método é chamado por um JOB todos os dias à 00:00h.
      */
     @Transactional
     public void updateLateProjectsStatus() {
         log.info("Atualizando status dos projetos atrasados. JOB executado todos os dias a 00:00h");
 
-        LocalDate currentDate = LocalDate.now();
+        int atualizados = projectRepository.markLateProjects(LocalDate.now());
 
-        List<Project> lateProjects = projectRepository.findAll()
-                .stream()
-                .filter(p -> p.getDataTerminoPrevista() != null && p.getDataTerminoPrevista().isBefore(currentDate))
-                .toList();
+        log.info("{} projetos marcados como atrasados", atualizados);
+    }
+
+    /**
+     * Verifica se as somas de progresso mantidas incrementalmente nos projetos conferem com as tarefas existentes,
+     * corrigindo os projetos divergentes.
+     * Este método é chamado por um JOB todos os dias à 01:00h.
+     *
+     * @return Quantidade de projetos corrigidos.
+     */
+    @Transactional
+    public int verifyTaskProgressRollup() {
+        log.info("Verificando consistência do progresso dos projetos. JOB executado todos os dias a 01:00h");
+
+        List<ProjectProgressDivergence> divergencias = projectRepository.findTaskProgressDivergences();
+
+        if (divergencias.isEmpty()) {
+            return 0;
+        }
+
+        for (ProjectProgressDivergence divergencia : divergencias) {
+            log.warn("Progresso do projeto {} divergente. Registrado: soma {} / {} tarefas. Calculado: soma {} / {} tarefas",
+                    divergencia.getProjetoId(),
+                    divergencia.getSomaRegistrada(), divergencia.getQuantidadeRegistrada(),
+                    divergencia.getSomaCalculada(), divergencia.getQuantidadeCalculada());
+        }
+
+        return projectRepository.recalculateTaskProgress(divergencias.stream()
+                .map(ProjectProgressDivergence::getProjetoId)
+                .toList());
+    }
 
-        for (Project project : lateProjects) {
-            project.setStatus(StatusProjeto.ATRASADO);
-            projectRepository.save(project);
+    /**
+     * Verifica se o projeto existe, sem carregá-lo.
+     *
+     * @param projectId O ID do projeto.
+     * @throws EntityNotFoundException Se o projeto não for encontrado.
+     */
+    private void checkProjectExists(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            log.info("Projeto informado não encontrado. Id fornecido {}", projectId);
+            throw new EntityNotFoundException("Projeto não encontrado");
         }
     }
 
@@ -516,42 +820,18 @@ public class ProjectService {
         }
     }
 
+    private static Long idDoGerente(Project project) {
+        return project.getGerenteProjeto() == null ? null : project.getGerenteProjeto().getId();
+    }
+
     /**
-     * Constrói uma mensagem detalhada indicando quais campos foram alterados em um projeto (PARA ARMAZENAMENTO EM LOG DE AUDIT).
-     *
-     * @param projetoAntigo O projeto antes da atualização.
-     * @param projetoNovo   O projeto após a atualização.
-     * @return Uma mensagem detalhada das alterações nos campos.
+     * Gerente anterior do projeto, se foi substituído, para que também receba o evento de alteração.
      */
-    private String buildDetalhesAlteracao(Project projetoAntigo, Project projetoNovo) {
-        StringBuilder detalhesAlteracao = new StringBuilder("Campos Alterados: ");
-
-        if (!Objects.equals(projetoAntigo.getNomeProjeto(), projetoNovo.getNomeProjeto())) {
-            detalhesAlteracao.append("Nome: ").append(projetoNovo.getNomeProjeto()).append(", ");
-        }
-        if (!Objects.equals(projetoAntigo.getDescricao(), projetoNovo.getDescricao())) {
-            detalhesAlteracao.append("Descrição: ").append(projetoNovo.getDescricao()).append(", ");
-        }
-        if (!Objects.equals(projetoAntigo.getDataInicio(), projetoNovo.getDataInicio())) {
-            detalhesAlteracao.append("Data de Início: ").append(projetoNovo.getDataInicio()).append(", ");
-        }
-        if (!Objects.equals(projetoAntigo.getDataTerminoPrevista(), projetoNovo.getDataTerminoPrevista())) {
-            detalhesAlteracao.append("Data de Término Prevista: ").append(projetoNovo.getDataTerminoPrevista()).append(", ");
-        }
-        if (!Objects.equals(projetoAntigo.getGerenteProjeto(), projetoNovo.getGerenteProjeto())) {
-            detalhesAlteracao.append("Gerente do Projeto: ").append(projetoNovo.getGerenteProjeto()).append(", ");
+    private static Set<Long> gerenteSubstituido(Long gerenteAnteriorId, Project project) {
+        if (gerenteAnteriorId == null || Objects.equals(gerenteAnteriorId, idDoGerente(project))) {
+            return Set.of();
         }
-        if (!Objects.equals(projetoAntigo.getOrcamento(), projetoNovo.getOrcamento())) {
-            detalhesAlteracao.append("Orçamento: ").append(projetoNovo.getOrcamento()).append(", ");
-        }
-        if (!Objects.equals(projetoAntigo.getPrioridade(), projetoNovo.getPrioridade())) {
-            detalhesAlteracao.append("Prioridade: ").append(projetoNovo.getPrioridade()).append(", ");
-        }
-        if (!Objects.equals(projetoAntigo.getPorcentagemConcluida(), projetoNovo.getPorcentagemConcluida())) {
-            detalhesAlteracao.append("Porcentagem Concluída: ").append(projetoNovo.getPorcentagemConcluida()).append(", ");
-        }
-
-        return detalhesAlteracao.toString();
+        return Set.of(gerenteAnteriorId);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.api.gerenciadorprojetos.Projects.Services;
+
+import com.api.gerenciadorprojetos.Projects.DTO.BurndownPointDTO;
+import com.api.gerenciadorprojetos.Projects.Enums.PeriodoSnapshot;
+import com.api.gerenciadorprojetos.Projects.Projections.ProjectSnapshotPoint;
+import com.api.gerenciadorprojetos.Projects.Repositories.ProjectSnapshotRepository;
+import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Classe de serviço para os snapshots diários de projetos, base dos gráficos de burndown e velocidade.
+ *
+ * @author victor.marcelo
+ */
+@Service
+public class ProjectSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectSnapshotService.class);
+
+    private static final long MAX_DIAS_GRANULARIDADE_DIA = 120;
+    private static final long MAX_DIAS_GRANULARIDADE_SEMANA = 730;
+
+    private final ProjectSnapshotRepository snapshotRepository;
+    private final ProjetoJpaRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+
+    @Autowired
+    public ProjectSnapshotService(ProjectSnapshotRepository snapshotRepository,
+                                  ProjetoJpaRepository projectRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.snapshot.chunk-size:500}") int tamanhoLote)
+    {
+        this.snapshotRepository = snapshotRepository;
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    /**
+     * Grava o snapshot do dia de todos os projetos. Os projetos são percorridos em lotes de IDs consecutivos e cada
+     * lote é gravado por um único INSERT ... SELECT em sua própria transação, sem carregar tarefas na aplicação.
+     * Este método é chamado por um JOB todos os dias às 23:50h e pode ser reexecutado no mesmo dia.
+     *
+     * @param dataSnapshot Dia ao qual o snapshot se refere.
+     * @return Quantidade de snapshots gravados.
+     */
+    public int captureDailySnapshots(LocalDate dataSnapshot) {
+        log.info("Gravando snapshots diários dos projetos para {}. JOB executado todos os dias as 23:50h", dataSnapshot);
+
+        long aposId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<Long> lote = snapshotRepository.findProjectIdsAfter(aposId, tamanhoLote);
+            if (lote.isEmpty()) {
+                break;
+            }
+
+            long inicioLote = aposId;
+            long fimLote = lote.get(lote.size() - 1);
+            Integer gravados = transactionTemplate.execute(status ->
+                    snapshotRepository.captureSnapshots(dataSnapshot, inicioLote, fimLote));
+            total += gravados == null ? 0 : gravados;
+            aposId = fimLote;
+
+            if (lote.size() < tamanhoLote) {
+                break;
+            }
+        }
+
+        log.info("Snapshots diários gravados: {}", total);
+        return total;
+    }
+
+    /**
+     * Recupera o burndown de um projeto a partir dos snapshots gravados, com um ponto por período.
+     * Sem granularidade informada, usa dia para janelas de até 120 dias, semana até 2 anos e mês acima disso.
+     *
+     * @param projectId     O ID do projeto.
+     * @param de            Início da janela (inclusivo).
+     * @param ate           Fim da janela (inclusivo).
+     * @param granularidade Dia, semana ou mês (opcional).
+     * @return Pontos do burndown em ordem cronológica.
+     * @throws IllegalArgumentException Se algum parâmetro não for fornecido ou for inválido.
+     * @throws EntityNotFoundException  Se o projeto não for encontrado.
+     */
+    @Transactional(readOnly = true)
+    public List<BurndownPointDTO> findBurndown(Long projectId, LocalDate de, LocalDate ate, PeriodoSnapshot granularidade) {
+        if (projectId == null || de == null || ate == null) {
+            log.error("Parâmetros não fornecidos. Parâmetros solicitados: Id do projeto, início e fim da janela");
+            throw new IllegalArgumentException("Parâmetros não fornecidos. Parâmetros solicitados: Id do projeto, início e fim da janela");
+        }
+
+        if (ate.isBefore(de)) {
+            throw new IllegalArgumentException("O fim da janela não pode ser anterior ao início");
+        }
+
+        if (!projectRepository.existsById(projectId)) {
+            log.info("Projeto informado não encontrado. Id fornecido {}", projectId);
+            throw new EntityNotFoundException("Projeto não encontrado");
+        }
+
+        PeriodoSnapshot periodo = granularidade != null ? granularidade : granularidadePadrao(de, ate);
+
+        log.info("Recuperando burndown do projeto {} entre {} e {} por {}", projectId, de, ate, periodo);
+
+        List<ProjectSnapshotPoint> pontos = snapshotRepository.findBurndown(projectId, de, ate, periodo.getUnidadeDateTrunc());
+
+        List<BurndownPointDTO> burndown = new ArrayList<>(pontos.size());
+        Integer concluidasAnterior = null;
+        for (ProjectSnapshotPoint ponto : pontos) {
+            int total = ponto.getTarefasPendentes() + ponto.getTarefasEmAndamento()
+                    + ponto.getTarefasConcluidas() + ponto.getTarefasAtrasadas();
+            int porcentagem = total == 0 ? 0 : (int) (ponto.getSomaPorcentagem() / total);
+            Integer velocidade = concluidasAnterior == null ? null : ponto.getTarefasConcluidas() - concluidasAnterior;
+
+            burndown.add(new BurndownPointDTO(ponto.getPeriodo(), ponto.getDataSnapshot(),
+                    ponto.getTarefasPendentes(), ponto.getTarefasEmAndamento(),
+                    ponto.getTarefasConcluidas(), ponto.getTarefasAtrasadas(),
+                    total - ponto.getTarefasConcluidas(), porcentagem, velocidade));
+
+            concluidasAnterior = ponto.getTarefasConcluidas();
+        }
+        return burndown;
+    }
+
+    private static PeriodoSnapshot granularidadePadrao(LocalDate de, LocalDate ate) {
+        long dias = ChronoUnit.DAYS.between(de, ate) + 1;
+        if (dias <= MAX_DIAS_GRANULARIDADE_DIA) {
+            return PeriodoSnapshot.DIA;
+        }
+        return dias <= MAX_DIAS_GRANULARIDADE_SEMANA ? PeriodoSnapshot.SEMANA : PeriodoSnapshot.MES;
+    }
+}
@@ -2,20 +2,26 @@ package com.api.gerenciadorprojetos.Tasks.Controllers;
 
 import com.api.gerenciadorprojetos.Tasks.Entities.Task;
 import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskSummary;
 import com.api.gerenciadorprojetos.Tasks.Services.TaskService;
 import com.api.gerenciadorprojetos.Users.Entities.User;
 import com.api.gerenciadorprojetos.Users.Services.UserService;
 import com.api.gerenciadorprojetos.Utils.Response;
+import com.api.gerenciadorprojetos.Utils.Versioned;
 import com.api.gerenciadorprojetos.config.CustomRequestInterceptor;
 import com.api.gerenciadorprojetos.config.RequestInfo;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -113,25 +119,81 @@ public class TaskController {
     }
 
 
-    @ApiOperation("Recupera tarefas de projeto associadas a um usuário por status e projeto")
+    @ApiOperation("Recupera tarefas de projeto associadas a um usuário por status e projeto. Responde 304 se o ETag informado em If-None-Match ainda for o atual")
     @GetMapping("/usuario/{userId}/projeto/{projectId}/status/{status}")
     public ResponseEntity<?> findUserTasksByStatusAndProject(
             @ApiParam(value = "ID do usuário", required = true) @PathVariable Long userId,
             @ApiParam(value = "ID do projeto", required = true) @PathVariable Long projectId,
             @ApiParam(value = "Status da tarefa", required = true) @PathVariable StatusTarefa status,
-            @RequestHeader("Authorization") String token)
+            @RequestHeader("Authorization") String token,
+            WebRequest request,
+            HttpServletResponse response)
     {
-        return ResponseEntity.ok(new Response<>(taskService.findUserTasksByStatusAndProject(userId, projectId, status)));
+        String versao = taskService.findTasksVersionTag(userId, projectId, status);
+        if (request.checkNotModified(versao)) {
+            return null;
+        }
+        Versioned<List<TaskSummary>> tarefas = taskService.findUserTasksByStatusAndProject(userId, projectId, status);
+        // O ETag é a versão lida junto com as tarefas, que substitui a definida por checkNotModified
+        response.setHeader(HttpHeaders.ETAG, "\"" + tarefas.getVersao() + "\"");
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(new Response<>(tarefas.getDados()));
     }
 
-    @ApiOperation("Recupera tarefas de projeto associadas a um usuário e projeto")
+    @ApiOperation("Recupera tarefas de projeto associadas a um usuário e projeto. Responde 304 se o ETag informado em If-None-Match ainda for o atual")
     @GetMapping("/usuario/{userId}/projeto/{projectId}")
     public ResponseEntity<?> findTasksByUserAndProject(
             @ApiParam(value = "ID do usuário", required = true) @PathVariable Long userId,
+            @ApiParam(value = "ID do projeto", required = true) @PathVariable Long projectId,
+            @RequestHeader("Authorization") String token,
+            WebRequest request,
+            HttpServletResponse response)
+    {
+        String versao = taskService.findTasksVersionTag(userId, projectId, null);
+        if (request.checkNotModified(versao)) {
+            return null;
+        }
+        Versioned<List<TaskSummary>> tarefas = taskService.findTasksByUserAndProject(userId, projectId);
+        // O ETag é a versão lida junto com as tarefas, que substitui a definida por checkNotModified
+        response.setHeader(HttpHeaders.ETAG, "\"" + tarefas.getVersao() + "\"");
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(new Response<>(tarefas.getDados()));
+    }
+
+    @ApiOperation("Cria uma dependência término-início entre duas tarefas do mesmo projeto")
+    @PostMapping("/dependencias/{userId}/{predecessoraId}/{sucessoraId}")
+    public ResponseEntity<?> addTaskDependency(
+            @ApiParam(value = "ID do usuário que está executando a ação", required = true) @PathVariable Long userId,
+            @ApiParam(value = "ID da tarefa predecessora", required = true) @PathVariable Long predecessoraId,
+            @ApiParam(value = "ID da tarefa sucessora", required = true) @PathVariable Long sucessoraId,
+            @ApiParam(value = "Defasagem em dias após o término da predecessora") @RequestParam(defaultValue = "0") Integer lagDias,
+            @RequestHeader("Authorization") String token)
+    {
+        RequestInfo requestInfo = getRequestInfo();
+        return ResponseEntity.ok(new Response<>(taskService.addTaskDependency(userId, predecessoraId, sucessoraId, lagDias, requestInfo)));
+    }
+
+    @ApiOperation("Remove uma dependência entre tarefas")
+    @DeleteMapping("/dependencias/{userId}/{dependencyId}")
+    public ResponseEntity<?> removeTaskDependency(
+            @ApiParam(value = "ID do usuário que está executando a ação", required = true) @PathVariable Long userId,
+            @ApiParam(value = "ID da dependência", required = true) @PathVariable Long dependencyId,
+            @RequestHeader("Authorization") String token)
+    {
+        RequestInfo requestInfo = getRequestInfo();
+        taskService.removeTaskDependency(userId, dependencyId, requestInfo);
+        return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+    }
+
+    @ApiOperation("Calcula o caminho crítico e as folgas das tarefas de um projeto")
+    @GetMapping("/projeto/{projectId}/caminho-critico")
+    public ResponseEntity<?> getCriticalPath(
             @ApiParam(value = "ID do projeto", required = true) @PathVariable Long projectId,
             @RequestHeader("Authorization") String token)
     {
-        return ResponseEntity.ok(new Response<>(taskService.findTasksByUserAndProject(userId, projectId)));
+        return ResponseEntity.ok(new Response<>(taskService.getCriticalPath(projectId)));
     }
 
     @ApiOperation("Exclui uma tarefa pelo ID")
@@ -0,0 +1,23 @@
+package com.api.gerenciadorprojetos.Tasks.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO com o cronograma calculado de um projeto: término previsto, caminho crítico e datas de cada tarefa.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CriticalPathDTO {
+    private Long projectId;
+    private LocalDate terminoProjeto;
+    private List<Long> caminhoCritico;
+    private List<TaskScheduleDTO> tarefas;
+}
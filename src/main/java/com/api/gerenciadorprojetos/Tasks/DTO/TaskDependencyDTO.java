@@ -0,0 +1,24 @@
+package com.api.gerenciadorprojetos.Tasks.DTO;
+
+import com.api.gerenciadorprojetos.Tasks.Scheduling.DateShift;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para representar uma dependência entre tarefas e as tarefas deslocadas ao criá-la.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskDependencyDTO {
+    private Long id;
+    private Long predecessoraId;
+    private Long sucessoraId;
+    private Integer lagDias;
+    private List<DateShift> tarefasDeslocadas;
+}
@@ -0,0 +1,25 @@
+package com.api.gerenciadorprojetos.Tasks.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO com as datas calculadas pelo caminho crítico para uma tarefa.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskScheduleDTO {
+    private Long taskId;
+    private LocalDate inicioMaisCedo;
+    private LocalDate terminoMaisCedo;
+    private LocalDate inicioMaisTarde;
+    private LocalDate terminoMaisTarde;
+    private Long folgaDias;
+    private boolean critica;
+}
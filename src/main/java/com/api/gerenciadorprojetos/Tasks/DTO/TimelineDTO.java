@@ -0,0 +1,28 @@
+package com.api.gerenciadorprojetos.Tasks.DTO;
+
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskSummary;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO com uma página da linha do tempo (Gantt) de um projeto: as tarefas que se sobrepõem à janela consultada,
+ * ordenadas por data de início.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TimelineDTO {
+    private Long projectId;
+    private LocalDate de;
+    private LocalDate ate;
+    private int pagina;
+    private int tamanhoPagina;
+    private boolean possuiProximaPagina;
+    private List<TaskSummary> tarefas;
+}
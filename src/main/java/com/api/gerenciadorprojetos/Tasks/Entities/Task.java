@@ -24,7 +24,8 @@ import java.util.Set;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "tarefas_projeto")
+@Table(name = "tarefas_projeto",
+        indexes = @Index(name = "idx_tarefas_projeto_timeline", columnList = "id_projeto, data_inicio, data_termino_prevista"))
 public class Task {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -56,7 +57,8 @@ public class Task {
     @JoinTable(
             name = "responsaveis_tarefa",
             joinColumns = @JoinColumn(name = "id_tarefa"),
-            inverseJoinColumns = @JoinColumn(name = "id_usuario")
+            inverseJoinColumns = @JoinColumn(name = "id_usuario"),
+            indexes = @Index(name = "idx_responsaveis_tarefa_usuario_tarefa", columnList = "id_usuario, id_tarefa")
     )
     private Set<User> responsaveis;
 
@@ -72,4 +74,8 @@ public class Task {
     @Min(value = 0, message = "A Porcentagem Concluída não pode ser negativa")
     @Max(value = 100, message = "A Porcentagem Concluída não pode ser superior a 100")
     private Integer porcentagemConcluida;
+
+    @Version
+    @Column(name = "versao")
+    private Long versao;
 }
@@ -0,0 +1,41 @@
+package com.api.gerenciadorprojetos.Tasks.Entities;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidade que representa uma dependência término-início entre duas tarefas do mesmo projeto:
+ * a tarefa sucessora só pode começar {@code lagDias} dias após o término da predecessora.
+ *
+ * @author victor.marcelo
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "dependencias_tarefa",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"id_tarefa_predecessora", "id_tarefa_sucessora"}),
+        indexes = @Index(name = "idx_dependencias_tarefa_sucessora", columnList = "id_tarefa_sucessora"))
+public class TaskDependency {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_tarefa_predecessora", nullable = false)
+    @NotNull(message = "A Tarefa Predecessora é obrigatória")
+    private Task predecessora;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_tarefa_sucessora", nullable = false)
+    @NotNull(message = "A Tarefa Sucessora é obrigatória")
+    private Task sucessora;
+
+    @Column(name = "lag_dias", nullable = false)
+    @Min(value = 0, message = "A defasagem não pode ser negativa")
+    private Integer lagDias = 0;
+}
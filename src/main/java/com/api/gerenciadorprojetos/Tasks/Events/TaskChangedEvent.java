@@ -0,0 +1,26 @@
+package com.api.gerenciadorprojetos.Tasks.Events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Evento publicado pelo TaskService quando datas, status, responsáveis ou a existência de uma tarefa mudam.
+ * Ouvintes interessados apenas em dados confirmados devem usar {@code @TransactionalEventListener}.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+public class TaskChangedEvent {
+    private Long taskId;
+
+    /**
+     * Projeto da tarefa, quando já conhecido na operação. Obrigatório na exclusão, em que a tarefa não existe mais
+     * após o commit.
+     */
+    private Long projectId;
+
+    public TaskChangedEvent(Long taskId) {
+        this(taskId, null);
+    }
+}
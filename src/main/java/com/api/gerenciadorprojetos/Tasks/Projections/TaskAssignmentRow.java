@@ -0,0 +1,15 @@
+package com.api.gerenciadorprojetos.Tasks.Projections;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção de um vínculo entre usuário responsável e tarefa em aberto, com o período da tarefa.
+ *
+ * @author victor.marcelo
+ */
+public interface TaskAssignmentRow {
+    Long getUserId();
+    Long getTaskId();
+    LocalDate getDataInicio();
+    LocalDate getDataTerminoPrevista();
+}
@@ -0,0 +1,12 @@
+package com.api.gerenciadorprojetos.Tasks.Projections;
+
+/**
+ * Projeção de uma aresta do grafo de dependências entre tarefas.
+ *
+ * @author victor.marcelo
+ */
+public interface TaskDependencyEdge {
+    Long getPredecessoraId();
+    Long getSucessoraId();
+    Integer getLagDias();
+}
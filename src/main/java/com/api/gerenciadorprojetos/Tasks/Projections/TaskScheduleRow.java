@@ -0,0 +1,14 @@
+package com.api.gerenciadorprojetos.Tasks.Projections;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção com as datas de uma tarefa, usada para montar o cronograma de um projeto.
+ *
+ * @author victor.marcelo
+ */
+public interface TaskScheduleRow {
+    Long getId();
+    LocalDate getDataInicio();
+    LocalDate getDataTerminoPrevista();
+}
@@ -0,0 +1,13 @@
+package com.api.gerenciadorprojetos.Tasks.Projections;
+
+import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+
+/**
+ * Projeção somente leitura com a quantidade de tarefas em um status.
+ *
+ * @author victor.marcelo
+ */
+public interface TaskStatusCount {
+    StatusTarefa getStatus();
+    Long getTotal();
+}
@@ -0,0 +1,23 @@
+package com.api.gerenciadorprojetos.Tasks.Projections;
+
+import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Projeção somente leitura com os campos de uma tarefa de projeto exibidos nas listagens.
+ * Seleciona apenas as colunas necessárias, sem carregar a descrição, os responsáveis ou o projeto.
+ *
+ * @author victor.marcelo
+ */
+public interface TaskSummary {
+    Long getId();
+    String getNomeTarefa();
+    LocalDate getDataInicio();
+    LocalDate getDataTerminoPrevista();
+    StatusTarefa getStatus();
+    LocalDateTime getDataConclusao();
+    Integer getPorcentagemConcluida();
+    Long getProjetoId();
+}
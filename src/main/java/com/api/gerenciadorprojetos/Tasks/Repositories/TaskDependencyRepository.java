@@ -0,0 +1,59 @@
+package com.api.gerenciadorprojetos.Tasks.Repositories;
+
+import com.api.gerenciadorprojetos.Tasks.Entities.TaskDependency;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskDependencyEdge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    /**
+     * Lista as arestas do grafo de dependências das tarefas de um projeto.
+     */
+    @Query("SELECT d.predecessora.id AS predecessoraId, d.sucessora.id AS sucessoraId, d.lagDias AS lagDias " +
+            "FROM TaskDependency d " +
+            "WHERE d.sucessora.projeto.id = :projectId")
+    List<TaskDependencyEdge> findEdgesByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Lista as arestas que chegam à tarefa informada e às tarefas a jusante dela (alcançáveis pelas dependências,
+     * por consulta recursiva): é a parte do grafo afetada por uma mudança de datas da tarefa. Inclui as arestas
+     * vindas de predecessoras fora desse conjunto, cujas datas limitam os deslocamentos.
+     */
+    @Query(value = "WITH RECURSIVE jusante(id) AS (" +
+            "    SELECT CAST(:taskId AS BIGINT) " +
+            "    UNION " +
+            "    SELECT d.id_tarefa_sucessora FROM dependencias_tarefa d JOIN jusante j ON d.id_tarefa_predecessora = j.id) " +
+            "SELECT d.id_tarefa_predecessora AS predecessoraId, d.id_tarefa_sucessora AS sucessoraId, d.lag_dias AS lagDias " +
+            "FROM dependencias_tarefa d JOIN jusante j ON d.id_tarefa_sucessora = j.id", nativeQuery = true)
+    List<TaskDependencyEdge> findDownstreamEdges(@Param("taskId") Long taskId);
+
+    boolean existsByPredecessora_IdAndSucessora_Id(Long predecessoraId, Long sucessoraId);
+
+    /**
+     * Remove todas as dependências em que a tarefa aparece, como predecessora ou sucessora.
+     *
+     * @return Quantidade de dependências removidas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskDependency d WHERE d.predecessora.id = :taskId OR d.sucessora.id = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Remove todas as dependências em que alguma tarefa do projeto aparece, como predecessora ou sucessora. Deve
+     * preceder a exclusão do projeto, que exclui as tarefas em cascata.
+     *
+     * @return Quantidade de dependências removidas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskDependency d " +
+            "WHERE d.predecessora.id IN (SELECT t.id FROM Task t WHERE t.projeto.id = :projectId) " +
+            "OR d.sucessora.id IN (SELECT t.id FROM Task t WHERE t.projeto.id = :projectId)")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
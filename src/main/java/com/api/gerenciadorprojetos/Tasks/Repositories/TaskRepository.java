@@ -2,25 +2,180 @@ package com.api.gerenciadorprojetos.Tasks.Repositories;
 
 import com.api.gerenciadorprojetos.Tasks.Entities.Task;
 import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskAssignmentRow;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskScheduleRow;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskStatusCount;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
-    Optional<Task> findByUserIdAndProjectId(Long userId, Long projectId);
-    @Query("SELECT t FROM Task t " +
-            "WHERE t.projeto.id = :projectId " +
-            "AND t.responsaveis.id = :userId " +
+
+    /**
+     * Colunas selecionadas pelas consultas de listagem, com aliases correspondentes a {@link TaskSummary}.
+     */
+    String COLUNAS_RESUMO = "SELECT t.id AS id, t.nomeTarefa AS nomeTarefa, t.dataInicio AS dataInicio, " +
+            "t.dataTerminoPrevista AS dataTerminoPrevista, t.status AS status, t.dataConclusao AS dataConclusao, " +
+            "t.porcentagemConcluida AS porcentagemConcluida, t.projeto.id AS projetoId ";
+
+    @Query(COLUNAS_RESUMO +
+            "FROM Task t " +
+            "JOIN t.responsaveis r " +
+            "WHERE r.id = :userId " +
+            "AND t.projeto.id = :projectId")
+    List<TaskSummary> findByUserIdAndProjectId(
+            @Param("userId") Long userId,
+            @Param("projectId") Long projectId);
+
+    @Query(COLUNAS_RESUMO +
+            "FROM Task t " +
+            "JOIN t.responsaveis r " +
+            "WHERE r.id = :userId " +
+            "AND t.projeto.id = :projectId " +
             "AND t.status = :status")
-    Optional<Task> findUserTasksByStatusAndProject(
-            @Param("projectId") Long projectId,
+    List<TaskSummary> findUserTasksByStatusAndProject(
             @Param("userId") Long userId,
+            @Param("projectId") Long projectId,
             @Param("status") StatusTarefa statusTarefa);
 
-    Long countByResponsaveis_IdAndStatus(Long userId, StatusTarefa statusTarefa);
+    /**
+     * Calcula a versão de uma listagem de tarefas de um usuário em um projeto (findByUserIdAndProjectId e
+     * findUserTasksByStatusAndProject, com status nulo para todas), sem carregar as tarefas: hash dos IDs e versões das
+     * tarefas listadas. Muda quando uma tarefa é alterada, entra ou sai da listagem.
+     */
+    @Query(value = "SELECT md5(COALESCE(string_agg(t.id || '.' || COALESCE(t.versao, 0), ',' ORDER BY t.id), '')) " +
+            "FROM tarefas_projeto t JOIN responsaveis_tarefa r ON r.id_tarefa = t.id " +
+            "WHERE r.id_usuario = :userId AND t.id_projeto = :projectId " +
+            "AND (CAST(:status AS VARCHAR) IS NULL OR t.status = CAST(:status AS VARCHAR))", nativeQuery = true)
+    String findTasksVersionTag(@Param("userId") Long userId,
+                               @Param("projectId") Long projectId,
+                               @Param("status") String status);
+
+    /**
+     * Recupera o ID do projeto de uma tarefa, sem carregá-la.
+     */
+    @Query("SELECT t.projeto.id FROM Task t WHERE t.id = :taskId")
+    Optional<Long> findProjectIdByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Lista os IDs das tarefas de um projeto, sem carregá-las.
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.projeto.id = :projectId")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Conta as tarefas de que o usuário é responsável, em um status.
+     */
+    @Query("SELECT COUNT(t) FROM Task t JOIN t.responsaveis r WHERE r.id = :userId AND t.status = :status")
+    long countByResponsavelIdAndStatus(@Param("userId") Long userId, @Param("status") StatusTarefa statusTarefa);
+
+    /**
+     * Conta as tarefas de que o usuário é responsável, agrupadas por status. Status sem tarefas não são retornados.
+     */
+    @Query("SELECT t.status AS status, COUNT(t) AS total FROM Task t JOIN t.responsaveis r WHERE r.id = :userId GROUP BY t.status")
+    List<TaskStatusCount> countByResponsavelIdGroupByStatus(@Param("userId") Long userId);
+
+    /**
+     * Marca como atrasadas as tarefas pendentes ou em andamento cujo prazo terminou antes da data informada, em um
+     * único UPDATE e incrementando a versão. Tarefas concluídas não são alteradas. Os status ficam literais na
+     * consulta para que o índice parcial idx_tarefas_projeto_termino_em_aberto seja usado.
+     *
+     * @return Quantidade de tarefas atualizadas.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE tarefas_projeto SET status = 'ATRASADA', versao = versao + 1 " +
+            "WHERE status IN ('PENDENTE', 'EM_ANDAMENTO') AND data_termino_prevista < :data", nativeQuery = true)
+    int markLateTasks(@Param("data") LocalDate data);
+
+    /**
+     * Associa usuários responsáveis a uma tarefa inserindo diretamente em responsaveis_tarefa, sem carregar a
+     * coleção de responsáveis. Usuários inexistentes ou já associados são ignorados.
+     *
+     * @return Quantidade de associações efetivamente criadas.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "INSERT INTO responsaveis_tarefa (id_tarefa, id_usuario) " +
+            "SELECT :taskId, u.id FROM usuarios u WHERE u.id IN (:userIds) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int addResponsaveis(@Param("taskId") Long taskId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Remove usuários responsáveis de uma tarefa diretamente em responsaveis_tarefa.
+     *
+     * @return Quantidade de associações removidas.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "DELETE FROM responsaveis_tarefa WHERE id_tarefa = :taskId AND id_usuario IN (:userIds)", nativeQuery = true)
+    int removeResponsaveis(@Param("taskId") Long taskId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Lista as tarefas de um projeto cujo período [dataInicio, dataTerminoPrevista] se sobrepõe à janela [de, ate].
+     * Atendida pelo índice (id_projeto, data_inicio, data_termino_prevista): igualdade no projeto e faixa na data de
+     * início, com o término filtrado no próprio índice.
+     */
+    @Query(COLUNAS_RESUMO +
+            "FROM Task t " +
+            "WHERE t.projeto.id = :projectId " +
+            "AND t.dataInicio <= :ate " +
+            "AND t.dataTerminoPrevista >= :de")
+    Slice<TaskSummary> findTimeline(@Param("projectId") Long projectId,
+                                    @Param("de") LocalDate de,
+                                    @Param("ate") LocalDate ate,
+                                    Pageable pageable);
+
+    /**
+     * Lista os vínculos de responsáveis com tarefas em aberto (não concluídas) dos usuários informados, em todos os
+     * projetos.
+     */
+    @Query(value = "SELECT r.id_usuario AS userId, t.id AS taskId, " +
+            "t.data_inicio AS dataInicio, t.data_termino_prevista AS dataTerminoPrevista " +
+            "FROM responsaveis_tarefa r JOIN tarefas_projeto t ON t.id = r.id_tarefa " +
+            "WHERE r.id_usuario IN (:userIds) AND t.status <> 'CONCLUIDA'", nativeQuery = true)
+    List<TaskAssignmentRow> findOpenAssignmentsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Lista os responsáveis das tarefas informadas que estão em aberto (não concluídas).
+     */
+    @Query(value = "SELECT r.id_usuario AS userId, t.id AS taskId, " +
+            "t.data_inicio AS dataInicio, t.data_termino_prevista AS dataTerminoPrevista " +
+            "FROM responsaveis_tarefa r JOIN tarefas_projeto t ON t.id = r.id_tarefa " +
+            "WHERE t.id IN (:taskIds) AND t.status <> 'CONCLUIDA'", nativeQuery = true)
+    List<TaskAssignmentRow> findOpenAssignmentsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Lista apenas as datas das tarefas de um projeto, para montar o cronograma.
+     */
+    @Query("SELECT t.id AS id, t.dataInicio AS dataInicio, t.dataTerminoPrevista AS dataTerminoPrevista " +
+            "FROM Task t WHERE t.projeto.id = :projectId")
+    List<TaskScheduleRow> findScheduleByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Lista apenas as datas das tarefas informadas, para montar parte do cronograma.
+     */
+    @Query("SELECT t.id AS id, t.dataInicio AS dataInicio, t.dataTerminoPrevista AS dataTerminoPrevista " +
+            "FROM Task t WHERE t.id IN :taskIds")
+    List<TaskScheduleRow> findScheduleByIds(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Grava as datas de uma tarefa deslocada pela propagação do cronograma, incrementando a versão para que
+     * edições concorrentes da mesma tarefa sejam detectadas.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.dataInicio = :dataInicio, t.dataTerminoPrevista = :dataTerminoPrevista, " +
+            "t.versao = t.versao + 1 WHERE t.id = :taskId")
+    int updateSchedule(@Param("taskId") Long taskId,
+                       @Param("dataInicio") LocalDate dataInicio,
+                       @Param("dataTerminoPrevista") LocalDate dataTerminoPrevista);
 
 }
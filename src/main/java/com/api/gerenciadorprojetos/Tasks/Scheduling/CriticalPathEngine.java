@@ -0,0 +1,375 @@
+package com.api.gerenciadorprojetos.Tasks.Scheduling;
+
+import com.api.gerenciadorprojetos.Exceptions.DependencyCycleException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Motor de cronograma (método do caminho crítico) sobre o grafo de dependências das tarefas de um projeto.
+ * <p>
+ * As dependências são do tipo término-início com defasagem: a sucessora só pode começar {@code lag} dias após o
+ * término da predecessora. As datas são tratadas em dias (epoch day) e o término é inclusivo, ou seja, uma tarefa
+ * de 10/01 a 10/01 dura um dia e sua sucessora sem defasagem pode começar em 11/01. A data de início registrada
+ * de cada tarefa é tratada como "não começar antes de".
+ * <p>
+ * O grafo é mantido em listas de adjacência compactas (arrays de offsets), a ordenação topológica é feita uma
+ * única vez na construção e as passagens de ida e volta são lineares em tarefas + dependências. A propagação de
+ * uma mudança de datas percorre a mesma ordem topológica a partir da tarefa alterada, até a última tarefa afetada,
+ * e recalcula apenas as tarefas que se deslocam e seus sucessores diretos.
+ * <p>
+ * Não é thread-safe: cada instância representa o cronograma de um projeto durante uma operação.
+ *
+ * @author victor.marcelo
+ */
+public final class CriticalPathEngine {
+
+    private final int tamanho;
+    private final long[] taskIds;
+    private final Map<Long, Integer> indicePorId;
+
+    /** Início (epoch day) e duração em dias de cada tarefa; atualizados pela propagação. */
+    private final long[] inicio;
+    private final int[] duracao;
+
+    private final int[] sucessoresOffset;
+    private final int[] sucessores;
+    private final int[] sucessoresLag;
+
+    private final int[] predecessoresOffset;
+    private final int[] predecessores;
+    private final int[] predecessoresLag;
+
+    private final int[] ordemTopologica;
+    private final int[] posicaoTopologica;
+
+    /** Tarefas aguardando recálculo na propagação; todas voltam a false ao final de cada propagação. */
+    private final boolean[] pendente;
+
+    private CriticalPathEngine(Builder builder) {
+        this.tamanho = builder.quantidadeTarefas;
+        this.taskIds = Arrays.copyOf(builder.taskIds, tamanho);
+        this.inicio = Arrays.copyOf(builder.inicio, tamanho);
+        this.duracao = Arrays.copyOf(builder.duracao, tamanho);
+        this.indicePorId = builder.indicePorId;
+
+        int quantidadeArestas = builder.quantidadeDependencias;
+        int[] origem = new int[quantidadeArestas];
+        int[] destino = new int[quantidadeArestas];
+        for (int e = 0; e < quantidadeArestas; e++) {
+            origem[e] = indiceDe(builder.predecessoraIds[e]);
+            destino[e] = indiceDe(builder.sucessoraIds[e]);
+            if (origem[e] == destino[e]) {
+                throw new DependencyCycleException("Uma tarefa não pode depender de si mesma", List.of(taskIds[origem[e]]));
+            }
+        }
+
+        this.sucessoresOffset = new int[tamanho + 1];
+        this.predecessoresOffset = new int[tamanho + 1];
+        for (int e = 0; e < quantidadeArestas; e++) {
+            sucessoresOffset[origem[e] + 1]++;
+            predecessoresOffset[destino[e] + 1]++;
+        }
+        for (int i = 0; i < tamanho; i++) {
+            sucessoresOffset[i + 1] += sucessoresOffset[i];
+            predecessoresOffset[i + 1] += predecessoresOffset[i];
+        }
+
+        this.sucessores = new int[quantidadeArestas];
+        this.sucessoresLag = new int[quantidadeArestas];
+        this.predecessores = new int[quantidadeArestas];
+        this.predecessoresLag = new int[quantidadeArestas];
+        int[] proximoSucessor = Arrays.copyOf(sucessoresOffset, tamanho);
+        int[] proximoPredecessor = Arrays.copyOf(predecessoresOffset, tamanho);
+        for (int e = 0; e < quantidadeArestas; e++) {
+            int s = proximoSucessor[origem[e]]++;
+            sucessores[s] = destino[e];
+            sucessoresLag[s] = builder.lags[e];
+            int p = proximoPredecessor[destino[e]]++;
+            predecessores[p] = origem[e];
+            predecessoresLag[p] = builder.lags[e];
+        }
+
+        this.ordemTopologica = new int[tamanho];
+        this.posicaoTopologica = new int[tamanho];
+        ordenarTopologicamente();
+        this.pendente = new boolean[tamanho];
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Ordenação topológica pelo algoritmo de Kahn. Se sobrarem tarefas com predecessores não processados, o grafo
+     * contém um ciclo.
+     */
+    private void ordenarTopologicamente() {
+        int[] grauEntrada = new int[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            grauEntrada[i] = predecessoresOffset[i + 1] - predecessoresOffset[i];
+        }
+
+        int cabeca = 0;
+        int cauda = 0;
+        for (int i = 0; i < tamanho; i++) {
+            if (grauEntrada[i] == 0) {
+                ordemTopologica[cauda++] = i;
+            }
+        }
+        while (cabeca < cauda) {
+            int atual = ordemTopologica[cabeca++];
+            for (int e = sucessoresOffset[atual]; e < sucessoresOffset[atual + 1]; e++) {
+                if (--grauEntrada[sucessores[e]] == 0) {
+                    ordemTopologica[cauda++] = sucessores[e];
+                }
+            }
+        }
+
+        if (cauda < tamanho) {
+            List<Long> amostra = new ArrayList<>();
+            for (int i = 0; i < tamanho && amostra.size() < 10; i++) {
+                if (grauEntrada[i] > 0) {
+                    amostra.add(taskIds[i]);
+                }
+            }
+            throw new DependencyCycleException("As dependências informadas formam um ciclo entre as tarefas " + amostra, amostra);
+        }
+
+        for (int pos = 0; pos < tamanho; pos++) {
+            posicaoTopologica[ordemTopologica[pos]] = pos;
+        }
+    }
+
+    /**
+     * Calcula início/término mais cedo e mais tarde, folga e caminho crítico com uma passagem de ida e uma de volta
+     * na ordem topológica.
+     *
+     * @return Resultado do cálculo; não é afetado por propagações posteriores.
+     */
+    public ScheduleResult computeSchedule() {
+        long[] inicioCedo = new long[tamanho];
+        long[] terminoCedo = new long[tamanho];
+        long terminoProjeto = Long.MIN_VALUE;
+
+        for (int pos = 0; pos < tamanho; pos++) {
+            int i = ordemTopologica[pos];
+            inicioCedo[i] = inicioPermitido(i, inicio[i], terminoCedo, inicioCedo);
+            terminoCedo[i] = inicioCedo[i] + duracao[i];
+            terminoProjeto = Math.max(terminoProjeto, terminoCedo[i]);
+        }
+
+        long[] inicioTarde = new long[tamanho];
+        for (int pos = tamanho - 1; pos >= 0; pos--) {
+            int i = ordemTopologica[pos];
+            long terminoTarde = terminoProjeto;
+            for (int e = sucessoresOffset[i]; e < sucessoresOffset[i + 1]; e++) {
+                terminoTarde = Math.min(terminoTarde, inicioTarde[sucessores[e]] - sucessoresLag[e]);
+            }
+            inicioTarde[i] = terminoTarde - duracao[i];
+        }
+
+        return new ScheduleResult(this, inicioCedo, inicioTarde, duracao.clone(), tamanho == 0 ? null : terminoProjeto);
+    }
+
+    /**
+     * Altera as datas de uma tarefa e desloca as tarefas a jusante que deixariam de respeitar suas dependências.
+     * A própria tarefa também é ajustada caso a nova data de início viole alguma de suas predecessoras.
+     * Tarefas nunca são antecipadas pela propagação.
+     *
+     * @param taskId      ID da tarefa alterada.
+     * @param novoInicio  Nova data de início.
+     * @param novoTermino Nova data de término prevista (inclusiva).
+     * @return Tarefas cujas datas mudaram, em ordem topológica, incluindo a tarefa alterada.
+     */
+    public List<DateShift> reschedule(long taskId, LocalDate novoInicio, LocalDate novoTermino) {
+        int indice = indiceDe(taskId);
+        inicio[indice] = novoInicio.toEpochDay();
+        duracao[indice] = duracaoEmDias(taskId, novoInicio, novoTermino);
+
+        List<DateShift> deslocamentos = propagate(indice);
+        if (deslocamentos.isEmpty() || deslocamentos.get(0).getTaskId() != taskId) {
+            deslocamentos.add(0, deslocamentoDe(indice));
+        }
+        return deslocamentos;
+    }
+
+    /**
+     * Desloca a tarefa informada e suas tarefas a jusante que não respeitam as dependências atuais, por exemplo após
+     * a inclusão de uma nova dependência.
+     *
+     * @param taskId ID da tarefa a partir da qual propagar.
+     * @return Tarefas cujas datas mudaram, em ordem topológica.
+     */
+    public List<DateShift> propagateFrom(long taskId) {
+        return propagate(indiceDe(taskId));
+    }
+
+    /**
+     * Propaga a partir de uma tarefa percorrendo a ordem topológica desde a sua posição e recalculando apenas as
+     * tarefas marcadas como pendentes (a origem e os sucessores diretos de cada tarefa deslocada). Como toda
+     * predecessora tem posição topológica menor, cada tarefa é recalculada uma única vez, depois de todas as suas
+     * predecessoras afetadas. O percurso termina na última tarefa pendente: o custo é linear no trecho percorrido e
+     * nas dependências das tarefas deslocadas.
+     */
+    private List<DateShift> propagate(int origem) {
+        List<DateShift> deslocamentos = new ArrayList<>();
+
+        pendente[origem] = true;
+        int pendentes = 1;
+
+        for (int pos = posicaoTopologica[origem]; pendentes > 0; pos++) {
+            int i = ordemTopologica[pos];
+            if (!pendente[i]) {
+                continue;
+            }
+            pendente[i] = false;
+            pendentes--;
+
+            long novoInicio = inicioPermitido(i, inicio[i], null, inicio);
+
+            boolean deslocou = novoInicio != inicio[i];
+            if (deslocou) {
+                inicio[i] = novoInicio;
+                deslocamentos.add(deslocamentoDe(i));
+            }
+
+            if (deslocou || i == origem) {
+                for (int e = sucessoresOffset[i]; e < sucessoresOffset[i + 1]; e++) {
+                    int sucessor = sucessores[e];
+                    if (!pendente[sucessor]) {
+                        pendente[sucessor] = true;
+                        pendentes++;
+                    }
+                }
+            }
+        }
+        return deslocamentos;
+    }
+
+    /**
+     * Maior entre o início mínimo informado e o término de cada predecessora somado à defasagem. Quando
+     * {@code termino} é nulo o término é calculado a partir de {@code inicioPredecessoras} e da duração.
+     */
+    private long inicioPermitido(int i, long inicioMinimo, long[] termino, long[] inicioPredecessoras) {
+        long permitido = inicioMinimo;
+        for (int e = predecessoresOffset[i]; e < predecessoresOffset[i + 1]; e++) {
+            int p = predecessores[e];
+            long terminoPredecessora = termino != null ? termino[p] : inicioPredecessoras[p] + duracao[p];
+            permitido = Math.max(permitido, terminoPredecessora + predecessoresLag[e]);
+        }
+        return permitido;
+    }
+
+    private DateShift deslocamentoDe(int i) {
+        return new DateShift(taskIds[i], LocalDate.ofEpochDay(inicio[i]), LocalDate.ofEpochDay(inicio[i] + duracao[i] - 1));
+    }
+
+    private int indiceDe(long taskId) {
+        Integer indice = indicePorId.get(taskId);
+        if (indice == null) {
+            throw new IllegalArgumentException("Tarefa " + taskId + " não pertence ao cronograma");
+        }
+        return indice;
+    }
+
+    private static int duracaoEmDias(long taskId, LocalDate inicio, LocalDate termino) {
+        if (inicio == null || termino == null) {
+            throw new IllegalArgumentException("Datas de início e término da tarefa " + taskId + " são obrigatórias");
+        }
+        long dias = termino.toEpochDay() - inicio.toEpochDay() + 1;
+        if (dias < 1) {
+            throw new IllegalArgumentException("A data de término da tarefa " + taskId + " é anterior à data de início");
+        }
+        return Math.toIntExact(dias);
+    }
+
+    int size() {
+        return tamanho;
+    }
+
+    long taskIdAt(int indice) {
+        return taskIds[indice];
+    }
+
+    int topologicalAt(int posicao) {
+        return ordemTopologica[posicao];
+    }
+
+    Integer indexOf(long taskId) {
+        return indicePorId.get(taskId);
+    }
+
+    /**
+     * Monta o grafo acumulando tarefas e dependências em arrays primitivos.
+     */
+    public static final class Builder {
+        private final Map<Long, Integer> indicePorId = new HashMap<>();
+        private long[] taskIds = new long[16];
+        private long[] inicio = new long[16];
+        private int[] duracao = new int[16];
+        private int quantidadeTarefas;
+
+        private long[] predecessoraIds = new long[16];
+        private long[] sucessoraIds = new long[16];
+        private int[] lags = new int[16];
+        private int quantidadeDependencias;
+
+        private Builder() {
+        }
+
+        public Builder addTask(long taskId, LocalDate dataInicio, LocalDate dataTerminoPrevista) {
+            return addTask(taskId, dataInicio == null ? 0 : dataInicio.toEpochDay(),
+                    duracaoEmDias(taskId, dataInicio, dataTerminoPrevista));
+        }
+
+        public Builder addTask(long taskId, long inicioEpochDay, int duracaoDias) {
+            if (duracaoDias < 1) {
+                throw new IllegalArgumentException("A duração da tarefa " + taskId + " deve ser de pelo menos um dia");
+            }
+            if (indicePorId.putIfAbsent(taskId, quantidadeTarefas) != null) {
+                throw new IllegalArgumentException("Tarefa " + taskId + " informada mais de uma vez");
+            }
+            if (quantidadeTarefas == taskIds.length) {
+                int novoTamanho = taskIds.length * 2;
+                taskIds = Arrays.copyOf(taskIds, novoTamanho);
+                inicio = Arrays.copyOf(inicio, novoTamanho);
+                duracao = Arrays.copyOf(duracao, novoTamanho);
+            }
+            taskIds[quantidadeTarefas] = taskId;
+            inicio[quantidadeTarefas] = inicioEpochDay;
+            duracao[quantidadeTarefas] = duracaoDias;
+            quantidadeTarefas++;
+            return this;
+        }
+
+        public Builder addDependency(long predecessoraId, long sucessoraId, int lagDias) {
+            if (lagDias < 0) {
+                throw new IllegalArgumentException("A defasagem da dependência não pode ser negativa");
+            }
+            if (quantidadeDependencias == lags.length) {
+                int novoTamanho = lags.length * 2;
+                predecessoraIds = Arrays.copyOf(predecessoraIds, novoTamanho);
+                sucessoraIds = Arrays.copyOf(sucessoraIds, novoTamanho);
+                lags = Arrays.copyOf(lags, novoTamanho);
+            }
+            predecessoraIds[quantidadeDependencias] = predecessoraId;
+            sucessoraIds[quantidadeDependencias] = sucessoraId;
+            lags[quantidadeDependencias] = lagDias;
+            quantidadeDependencias++;
+            return this;
+        }
+
+        /**
+         * @throws DependencyCycleException Se as dependências formarem um ciclo.
+         * @throws IllegalArgumentException Se alguma dependência referenciar tarefa não informada.
+         */
+        public CriticalPathEngine build() {
+            return new CriticalPathEngine(this);
+        }
+    }
+}
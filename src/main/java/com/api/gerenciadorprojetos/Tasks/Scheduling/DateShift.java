@@ -0,0 +1,19 @@
+package com.api.gerenciadorprojetos.Tasks.Scheduling;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Novas datas de uma tarefa deslocada pela propagação do cronograma.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+public class DateShift {
+    private long taskId;
+    private LocalDate dataInicio;
+    private LocalDate dataTerminoPrevista;
+}
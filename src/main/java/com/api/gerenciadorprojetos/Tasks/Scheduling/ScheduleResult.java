@@ -0,0 +1,89 @@
+package com.api.gerenciadorprojetos.Tasks.Scheduling;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resultado do cálculo do caminho crítico. Mantém os valores em arrays indexados como no motor e só converte
+ * para datas quando consultado.
+ *
+ * @author victor.marcelo
+ *
+ * @see CriticalPathEngine
+ */
+public final class ScheduleResult {
+
+    private final CriticalPathEngine engine;
+    private final long[] inicioCedo;
+    private final long[] inicioTarde;
+    private final int[] duracao;
+    private final Long terminoProjeto;
+
+    ScheduleResult(CriticalPathEngine engine, long[] inicioCedo, long[] inicioTarde, int[] duracao, Long terminoProjeto) {
+        this.engine = engine;
+        this.inicioCedo = inicioCedo;
+        this.inicioTarde = inicioTarde;
+        this.duracao = duracao;
+        this.terminoProjeto = terminoProjeto;
+    }
+
+    /**
+     * @return Último dia (inclusivo) do projeto segundo o cronograma, ou nulo se o projeto não tiver tarefas.
+     */
+    public LocalDate getTerminoProjeto() {
+        return terminoProjeto == null ? null : LocalDate.ofEpochDay(terminoProjeto - 1);
+    }
+
+    /**
+     * @return IDs das tarefas sem folga, em ordem topológica.
+     */
+    public List<Long> getCaminhoCritico() {
+        List<Long> caminho = new ArrayList<>();
+        for (int pos = 0; pos < engine.size(); pos++) {
+            int i = engine.topologicalAt(pos);
+            if (inicioTarde[i] == inicioCedo[i]) {
+                caminho.add(engine.taskIdAt(i));
+            }
+        }
+        return caminho;
+    }
+
+    public LocalDate getInicioMaisCedo(long taskId) {
+        return LocalDate.ofEpochDay(inicioCedo[indice(taskId)]);
+    }
+
+    public LocalDate getTerminoMaisCedo(long taskId) {
+        int i = indice(taskId);
+        return LocalDate.ofEpochDay(inicioCedo[i] + duracao[i] - 1);
+    }
+
+    public LocalDate getInicioMaisTarde(long taskId) {
+        return LocalDate.ofEpochDay(inicioTarde[indice(taskId)]);
+    }
+
+    public LocalDate getTerminoMaisTarde(long taskId) {
+        int i = indice(taskId);
+        return LocalDate.ofEpochDay(inicioTarde[i] + duracao[i] - 1);
+    }
+
+    /**
+     * @return Quantidade de dias que a tarefa pode atrasar sem atrasar o término do projeto.
+     */
+    public long getFolgaDias(long taskId) {
+        int i = indice(taskId);
+        return inicioTarde[i] - inicioCedo[i];
+    }
+
+    public boolean isCritica(long taskId) {
+        return getFolgaDias(taskId) == 0;
+    }
+
+    private int indice(long taskId) {
+        Integer indice = engine.indexOf(taskId);
+        if (indice == null) {
+            throw new IllegalArgumentException("Tarefa " + taskId + " não pertence ao cronograma");
+        }
+        return indice;
+    }
+}
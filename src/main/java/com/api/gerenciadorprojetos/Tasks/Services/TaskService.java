@@ -1,20 +1,41 @@
 package com.api.gerenciadorprojetos.Tasks.Services;
 
+import com.api.gerenciadorprojetos.Exceptions.DependencyCycleException;
 import com.api.gerenciadorprojetos.Exceptions.TaskValidationException;
 import com.api.gerenciadorprojetos.Exceptions.UnauthorizedException;
+import com.api.gerenciadorprojetos.Infra.Concurrency.LookupScope;
+import com.api.gerenciadorprojetos.Infra.Concurrency.ParallelLookups;
+import com.api.gerenciadorprojetos.Infra.Concurrency.RetryOnOptimisticLock;
 import com.api.gerenciadorprojetos.Projects.Entities.Project;
 import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import com.api.gerenciadorprojetos.Tasks.DTO.CriticalPathDTO;
 import com.api.gerenciadorprojetos.Tasks.DTO.TaskDTO;
+import com.api.gerenciadorprojetos.Tasks.DTO.TaskDependencyDTO;
+import com.api.gerenciadorprojetos.Tasks.DTO.TaskScheduleDTO;
+import com.api.gerenciadorprojetos.Tasks.DTO.TimelineDTO;
 import com.api.gerenciadorprojetos.Tasks.Entities.Task;
+import com.api.gerenciadorprojetos.Tasks.Entities.TaskDependency;
 import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import com.api.gerenciadorprojetos.Tasks.Events.TaskChangedEvent;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskDependencyEdge;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskScheduleRow;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskSummary;
+import com.api.gerenciadorprojetos.Tasks.Repositories.TaskDependencyRepository;
 import com.api.gerenciadorprojetos.Tasks.Repositories.TaskRepository;
+import com.api.gerenciadorprojetos.Tasks.Scheduling.CriticalPathEngine;
+import com.api.gerenciadorprojetos.Tasks.Scheduling.DateShift;
+import com.api.gerenciadorprojetos.Tasks.Scheduling.ScheduleResult;
 import com.api.gerenciadorprojetos.Users.Entities.User;
 import com.api.gerenciadorprojetos.Users.Repositories.UserRepository;
 import com.api.gerenciadorprojetos.Utils.EntityServiceUtils;
+import com.api.gerenciadorprojetos.Utils.Versioned;
+import com.api.gerenciadorprojetos.audit.Diff.EntityDiffer;
+import com.api.gerenciadorprojetos.audit.Entities.AlteracaoCampo;
+import com.api.gerenciadorprojetos.audit.Enums.AcaoAuditoria;
+import com.api.gerenciadorprojetos.audit.Enums.EntidadeAuditada;
 import com.api.gerenciadorprojetos.audit.Services.AuditLogService;
 import com.api.gerenciadorprojetos.config.RequestInfo;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.apache.commons.lang3.EnumUtils;
@@ -22,13 +43,22 @@ import org.modelmapper.ModelMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -41,7 +71,22 @@ public class TaskService {
 
     private static final Logger log = LoggerFactory.getLogger(TaskService.class);
 
+    private static final int TIMELINE_MAX_PAGE_SIZE = 500;
+
+    /** Campos da tarefa comparados no JSON de alterações do audit. */
+    private static final EntityDiffer<Task> CAMPOS_AUDITADOS = EntityDiffer.<Task>builder()
+            .campo("nomeTarefa", Task::getNomeTarefa)
+            .campo("descricao", Task::getDescricao)
+            .campo("dataInicio", Task::getDataInicio)
+            .campo("dataTerminoPrevista", Task::getDataTerminoPrevista)
+            .campo("status", Task::getStatus)
+            .campo("projeto", TaskService::idDoProjeto)
+            .campo("dataConclusao", Task::getDataConclusao)
+            .campo("porcentagemConcluida", Task::getPorcentagemConcluida)
+            .build();
+
     private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
     private final ProjetoJpaRepository projectRepository;
     private final UserRepository userRepository;
 
@@ -49,23 +94,31 @@ public class TaskService {
     private final AuditLogService auditLogService;
     private final ModelMapper modelMapper;
     private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParallelLookups parallelLookups;
 
     @Autowired
     public TaskService(TaskRepository taskRepository,
+                       TaskDependencyRepository taskDependencyRepository,
                        ProjetoJpaRepository projectRepository,
                        UserRepository userRepository,
                        AuditLogService auditLogService,
                        ModelMapper modelMapper,
                        Validator validator,
-                       EntityServiceUtils entityServiceUtils)
+                       EntityServiceUtils entityServiceUtils,
+                       ApplicationEventPublisher eventPublisher,
+                       ParallelLookups parallelLookups)
     {
         this.taskRepository = taskRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.auditLogService = auditLogService;
         this.modelMapper = modelMapper;
         this.validator = validator;
         this.entityServiceUtils = entityServiceUtils;
+        this.eventPublisher = eventPublisher;
+        this.parallelLookups = parallelLookups;
     }
 
     /**
@@ -73,6 +126,7 @@ public class TaskService {
      *
      * @return Lista de TaskDTOs representando todas as tarefas.
      */
+    @Transactional(readOnly = true)
     public List<TaskDTO> findAllTasks() {
         log.info("Listando todas as tarefas.");
         return taskRepository.findAll()
@@ -89,6 +143,7 @@ public class TaskService {
      * @throws IllegalArgumentException Se o ID fornecido for nulo.
      * @throws EntityNotFoundException  Se nenhuma tarefa for encontrada com o ID fornecido.
      */
+    @Transactional(readOnly = true)
     public TaskDTO findTaskById(Long taskId) {
         if (taskId == null) {
             log.error("ID da tarefa não fornecido.");
@@ -114,36 +169,59 @@ public class TaskService {
     @Transactional
     public Task addNewTask(Task task, Long userId, Long responsibleId, RequestInfo requestInfo) {
 
-        Project projetoAssociado = entityServiceUtils.getProjectById(task.getProjeto().getId());
+        Project projetoAssociado;
+        User usuarioResponsavel;
+        User userExecuteAction;
 
-        if (!projetoAssociado.getGerenteProjeto().getId().equals(userId)) {
-            log.info("Usuário não autorizado para criar tarefas neste projeto.");
-            throw new UnauthorizedException("Usuário não autorizado para criar tarefas neste projeto");
-        }
+        // Os usuários são buscados em paralelo com o projeto; o projeto é lido aqui por fazer parte da tarefa salva
+        try (LookupScope consultas = parallelLookups.abrir()) {
+            Supplier<User> responsavel = consultas.fork(() -> entityServiceUtils.getUserById(responsibleId));
+            Supplier<User> executor = consultas.fork(() -> entityServiceUtils.getUserById(userId));
 
-        task.setStatus(StatusTarefa.PENDENTE);
-        task.setDataConclusao(null);
+            projetoAssociado = entityServiceUtils.getProjectById(task.getProjeto().getId());
 
-        log.info("Adicionando nova tarefa: {}", task);
+            if (!projetoAssociado.getGerenteProjeto().getId().equals(userId)) {
+                log.info("Usuário não autorizado para criar tarefas neste projeto.");
+                throw new UnauthorizedException("Usuário não autorizado para criar tarefas neste projeto");
+            }
 
-        validateTask(task);
+            task.setStatus(StatusTarefa.PENDENTE);
+            task.setDataConclusao(null);
+            if (task.getPorcentagemConcluida() == null) {
+                task.setPorcentagemConcluida(0);
+            }
 
-        User usuarioResponsavel = entityServiceUtils.getUserById(responsibleId);
+            log.info("Adicionando nova tarefa: {}", task);
 
-        User userExecuteAction = entityServiceUtils.getUserById(userId);
+            validateTask(task);
+
+            consultas.join();
+            usuarioResponsavel = responsavel.get();
+            userExecuteAction = executor.get();
+        }
 
         task.setResponsaveis(Set.of(usuarioResponsavel));
 
         // Define o projeto associado à tarefa
         task.setProjeto(projetoAssociado);
 
+        Task savedTask = taskRepository.save(task);
+        entityServiceUtils.registerCreation(Task.class, savedTask.getId());
+
         auditLogService.addAudit(userExecuteAction,
-                "Criação de uma nova tarefa no projeto",
-                "Id do projeto: " + projetoAssociado.getId(),
-                "Projeto", requestInfo
+                AcaoAuditoria.CRIAR_TAREFA,
+                "Id da tarefa criada: " + savedTask.getId() + ". Id do projeto: " + projetoAssociado.getId(),
+                EntidadeAuditada.TAREFA,
+                savedTask.getId(),
+                null,
+                requestInfo
         );
 
-        return taskRepository.save(task);
+        projectRepository.applyTaskProgressDelta(projetoAssociado.getId(), savedTask.getPorcentagemConcluida(), 1);
+
+        eventPublisher.publishEvent(new TaskChangedEvent(savedTask.getId(), projetoAssociado.getId()));
+
+        return savedTask;
     }
 
 
@@ -160,6 +238,7 @@ public class TaskService {
      * @throws EntityNotFoundException  Se a tarefa não for encontrada.
      * @throws TaskValidationException  Se a validação da tarefa falhar.
      */
+    @RetryOnOptimisticLock
     @Transactional
     public Task updateTask(Long taskId, Long userId, Task task, RequestInfo requestInfo) {
         if (taskId == null) {
@@ -169,14 +248,30 @@ public class TaskService {
 
         log.info("Atualizando tarefa com ID: {}", taskId);
 
-        Task taskToUpdate = entityServiceUtils.getTaskById(taskId);
+        Task taskToUpdate;
+        User userExecuteAction;
 
-        User userExecuteAction = entityServiceUtils.getUserById(userId);
+        // A tarefa é alterada, então é lida na transação; o usuário (usado apenas no audit) em paralelo
+        try (LookupScope consultas = parallelLookups.abrir()) {
+            Supplier<User> executor = consultas.fork(() -> entityServiceUtils.getUserById(userId));
+
+            taskToUpdate = entityServiceUtils.getTaskById(taskId);
+
+            consultas.join();
+            userExecuteAction = executor.get();
+        }
 
         Project project = entityServiceUtils.getProjectById(taskToUpdate.getProjeto().getId());
 
         validateTask(task);
 
+        int porcentagemAnterior = porcentagemOuZero(taskToUpdate);
+        Long projetoAnteriorId = project.getId();
+        LocalDate inicioAnterior = taskToUpdate.getDataInicio();
+        LocalDate terminoAnterior = taskToUpdate.getDataTerminoPrevista();
+
+        EntityDiffer.Snapshot<Task> estadoAnterior = CAMPOS_AUDITADOS.snapshot(taskToUpdate);
+
         taskToUpdate.setNomeTarefa(task.getNomeTarefa());
         taskToUpdate.setDescricao(task.getDescricao());
         taskToUpdate.setDataInicio(task.getDataInicio());
@@ -192,16 +287,48 @@ public class TaskService {
             taskToUpdate.setDataConclusao(null);
         }
 
-        String detalhesAlteracao = buildDetalhesAlteracao(taskToUpdate, task);
+        Map<String, AlteracaoCampo> alteracoes = CAMPOS_AUDITADOS.diff(estadoAnterior, taskToUpdate);
 
         auditLogService.addAudit(userExecuteAction,
-                "Atualização de uma tarefa de projeto existente. Id da tarefa: " + taskId + ", Id do projeto a qual a tarefa pertence: " + project.getId(),
-                "Campos Alterados: " + detalhesAlteracao,
-                "Tarefa",
+                AcaoAuditoria.ATUALIZAR_TAREFA,
+                "Id do projeto a qual a tarefa pertence: " + project.getId() + ". Campos Alterados: " + String.join(", ", alteracoes.keySet()),
+                EntidadeAuditada.TAREFA,
+                taskId,
+                alteracoes,
                 requestInfo
         );
 
-        return taskRepository.save(taskToUpdate);
+        Task savedTask = taskRepository.save(taskToUpdate);
+
+        int porcentagemAtual = porcentagemOuZero(savedTask);
+        Long projetoAtualId = savedTask.getProjeto().getId();
+
+        if (projetoAtualId.equals(projetoAnteriorId)) {
+            applyProgressDelta(projetoAtualId, porcentagemAtual - porcentagemAnterior, 0);
+        } else {
+            applyProgressDelta(projetoAnteriorId, -porcentagemAnterior, -1);
+            applyProgressDelta(projetoAtualId, porcentagemAtual, 1);
+        }
+
+        if (!projetoAtualId.equals(projetoAnteriorId)) {
+            // Dependências só existem entre tarefas do mesmo projeto
+            taskDependencyRepository.deleteByTaskId(taskId);
+        } else if (!Objects.equals(inicioAnterior, savedTask.getDataInicio())
+                || !Objects.equals(terminoAnterior, savedTask.getDataTerminoPrevista())) {
+            // Sem dependências a tarefa não desloca nem é deslocada; com elas, só a parte a jusante é carregada
+            List<TaskDependencyEdge> arestas = taskDependencyRepository.findDownstreamEdges(taskId);
+            if (!arestas.isEmpty()) {
+                applyDateShifts(downstreamSchedule(taskId, arestas).propagateFrom(taskId), savedTask);
+            }
+        }
+
+        eventPublisher.publishEvent(new TaskChangedEvent(savedTask.getId(), projetoAtualId));
+        if (!projetoAtualId.equals(projetoAnteriorId)) {
+            // Membros do projeto anterior também são avisados de que a tarefa saiu dele
+            eventPublisher.publishEvent(new TaskChangedEvent(savedTask.getId(), projetoAnteriorId));
+        }
+
+        return savedTask;
     }
 
     /**
@@ -224,28 +351,36 @@ public class TaskService {
 
         log.info("Associando usuários com IDs {} à tarefa com ID {}", userIds, taskId);
 
-        Task taskToAddUsers = entityServiceUtils.getTaskById(taskId);
+        User userExecuteAction;
 
-        User userExecuteAction = entityServiceUtils.getUserById(userId);
-
-        List<User> usuariosResponsaveis = userRepository.findAllById(userIds);
+        try (LookupScope consultas = parallelLookups.abrir()) {
+            Supplier<User> executor = consultas.fork(() -> entityServiceUtils.getUserById(userId));
+            checkTaskExists(taskId);
+            consultas.join();
+            userExecuteAction = executor.get();
+        }
 
-        if (usuariosResponsaveis.isEmpty()) {
+        if (userRepository.countByIdIn(userIds) == 0) {
             log.info("Nenhum usuário encontrado para associar à tarefa.");
             throw new EntityNotFoundException("Nenhum usuário encontrado para associar à tarefa");
         }
 
-        taskToAddUsers.getResponsaveis().addAll(usuariosResponsaveis);
+        taskRepository.addResponsaveis(taskId, userIds);
 
         auditLogService.addAudit(
                 userExecuteAction,
-                "Adicionando usuários a tarefa",
+                AcaoAuditoria.ADICIONAR_USUARIOS_TAREFA,
                 "Ids dos usuários Adicionados: " + Arrays.toString(userIds.toArray()) + ". Id da Tarefa a qual foram adicionados: " + taskId,
-                "Tarefa",
+                EntidadeAuditada.TAREFA,
+                taskId,
+                null,
                 requestInfo
         );
 
-        return taskRepository.save(taskToAddUsers);
+        Task updatedTask = entityServiceUtils.getTaskById(taskId);
+        eventPublisher.publishEvent(new TaskChangedEvent(taskId, idDoProjeto(updatedTask)));
+
+        return updatedTask;
     }
 
     /**
@@ -268,28 +403,36 @@ public class TaskService {
 
         log.info("Removendo usuários com IDs {} da tarefa com ID {}", userIds, taskId);
 
-        Task taskToRemoveUsers = entityServiceUtils.getTaskById(taskId);
-
-        User userExecuteAction = entityServiceUtils.getUserById(userId);
+        User userExecuteAction;
 
-        List<User> usuariosResponsaveis = userRepository.findAllById(userIds);
+        try (LookupScope consultas = parallelLookups.abrir()) {
+            Supplier<User> executor = consultas.fork(() -> entityServiceUtils.getUserById(userId));
+            checkTaskExists(taskId);
+            consultas.join();
+            userExecuteAction = executor.get();
+        }
 
-        if (usuariosResponsaveis.isEmpty()) {
+        if (userRepository.countByIdIn(userIds) == 0) {
             log.info("Nenhum usuário encontrado para remover da tarefa.");
             throw new EntityNotFoundException("Nenhum usuário encontrado para remover da tarefa");
         }
 
-        taskToRemoveUsers.getResponsaveis().removeAll(usuariosResponsaveis);
+        taskRepository.removeResponsaveis(taskId, userIds);
 
         auditLogService.addAudit(
                 userExecuteAction,
-                "Removendo usuários da tarefa",
+                AcaoAuditoria.REMOVER_USUARIOS_TAREFA,
                 "Ids dos usuários Removidos: " + Arrays.toString(userIds.toArray()) + ". Id da Tarefa a qual foram removidos: " + taskId,
-                "Tarefa",
+                EntidadeAuditada.TAREFA,
+                taskId,
+                null,
                 requestInfo
         );
 
-        return taskRepository.save(taskToRemoveUsers);
+        Task updatedTask = entityServiceUtils.getTaskById(taskId);
+        eventPublisher.publishEvent(new TaskChangedEvent(taskId, idDoProjeto(updatedTask)));
+
+        return updatedTask;
     }
 
 
@@ -302,6 +445,7 @@ public class TaskService {
      * @throws EntityNotFoundException     Se a tarefa não for encontrada.
      * @throws TaskValidationException      Se a validação da tarefa falhar.
      */
+    @RetryOnOptimisticLock
     @Transactional
     public Task completeTask(Long taskId) {
         if (taskId == null) {
@@ -315,10 +459,19 @@ public class TaskService {
 
         validateTask(taskToComplete);
 
+        int porcentagemAnterior = porcentagemOuZero(taskToComplete);
+
         taskToComplete.setStatus(StatusTarefa.CONCLUIDA);
         taskToComplete.setDataConclusao(LocalDateTime.now());
+        taskToComplete.setPorcentagemConcluida(100);
 
-        return taskRepository.save(taskToComplete);
+        Task savedTask = taskRepository.save(taskToComplete);
+
+        applyProgressDelta(savedTask.getProjeto().getId(), 100 - porcentagemAnterior, 0);
+
+        eventPublisher.publishEvent(new TaskChangedEvent(savedTask.getId(), savedTask.getProjeto().getId()));
+
+        return savedTask;
     }
 
 
@@ -329,11 +482,13 @@ public class TaskService {
      * @param userId O ID do usuário para o qual recuperar projetos.
      * @param projectId O ID do projeto a qual pertencem as tarefas.
      * @param status O status pelo qual filtrar as tarefas de projeto do usuário.
-     * @return Lista de ProjectDTOs representando projetos filtrados pelo status associados ao usuário.
+     * @return Lista de TaskSummary (somente leitura) representando as tarefas filtradas pelo status associadas ao usuário,
+     *         com a versão da listagem lida na mesma transação (antes das tarefas), usada como ETag.
      * @throws IllegalArgumentException     Se o ID do usuário fornecido for nulo.
      * @throws EntityNotFoundException      Se o usuário não for encontrado.
      */
-    public List<TaskDTO> findUserTasksByStatusAndProject(Long userId, Long projectId, StatusTarefa status) {
+    @Transactional(readOnly = true)
+    public Versioned<List<TaskSummary>> findUserTasksByStatusAndProject(Long userId, Long projectId, StatusTarefa status) {
         if (userId == null || projectId == null) {
             log.error("IDs não fornecidos: IDs solicitados: ID de projeto e usuário");
             throw new IllegalArgumentException("Ids não fornecidos: Ids solicitados: ID de projeto e usuário");
@@ -346,29 +501,49 @@ public class TaskService {
 
         log.info("Recuperando tarefas do projeto com ID {}, do usuário com ID {}, com status {}", projectId, userId, status);
 
-        //Verifica se usuário existe
-        entityServiceUtils.getProjectById(userId);
-
-        //Verifica se o projeto existe
-        entityServiceUtils.getProjectById(projectId);
+        //Verifica se o usuário e o projeto existem, em paralelo
+        try (LookupScope consultas = parallelLookups.abrir()) {
+            consultas.fork(() -> entityServiceUtils.getUserById(userId));
+            entityServiceUtils.getProjectById(projectId);
+            consultas.join();
+        }
 
-        return taskRepository.findUserTasksByStatusAndProject(userId, projectId, status)
-                .stream()
-                .map(task -> modelMapper.map(task, TaskDTO.class))
-                .collect(Collectors.toList());
+        String versao = taskRepository.findTasksVersionTag(userId, projectId, status.name());
+        return new Versioned<>(versao, taskRepository.findUserTasksByStatusAndProject(userId, projectId, status));
     }
 
 
+    /**
+     * Recupera a versão atual da listagem de tarefas de um usuário em um projeto, usada para responder 304 em
+     * {@link #findTasksByUserAndProject(Long, Long)} e {@link #findUserTasksByStatusAndProject(Long, Long, StatusTarefa)}
+     * sem carregar as tarefas. Consulta apenas os índices e as versões das tarefas.
+     *
+     * @param userId O ID do usuário.
+     * @param projectId O ID do projeto.
+     * @param status O status das tarefas listadas, ou null para todas.
+     * @return A versão da listagem.
+     */
+    @Transactional(readOnly = true)
+    public String findTasksVersionTag(Long userId, Long projectId, StatusTarefa status) {
+        if (userId == null || projectId == null) {
+            throw new IllegalArgumentException("Ids não fornecidos: Ids solicitados: ID de projeto e usuário");
+        }
+
+        return taskRepository.findTasksVersionTag(userId, projectId, status == null ? null : status.name());
+    }
+
     /**
      * Recupera uma lista de tarefas de projeto associadas a um usuário.
      *
      * @param userId O ID do usuário.
      * @param projectId O ID do projeto.
-     * @return Lista de TasksDTO representando as tarefas de projeto associados ao usuário e ao projeto.
+     * @return Lista de TaskSummary (somente leitura) representando as tarefas de projeto associadas ao usuário e ao projeto,
+     *         com a versão da listagem lida na mesma transação (antes das tarefas), usada como ETag.
      * @throws IllegalArgumentException     Se o ID do usuário fornecido for nulo.
      * @throws EntityNotFoundException      Se o usuário não for encontrado.
      */
-    public List<TaskDTO> findTasksByUserAndProject(Long userId, Long projectId) {
+    @Transactional(readOnly = true)
+    public Versioned<List<TaskSummary>> findTasksByUserAndProject(Long userId, Long projectId) {
         if (userId == null || projectId == null) {
             log.error("IDs não fornecidos: IDs solicitados: ID de projeto e usuário");
             throw new IllegalArgumentException("Ids não fornecidos: Ids solicitados: ID de projeto e usuário");
@@ -379,10 +554,8 @@ public class TaskService {
         //Verifica se o usuário existe
         entityServiceUtils.getUserById(userId);
 
-        return taskRepository.findByUserIdAndProjectId(userId, projectId)
-                .stream()
-                .map(task -> modelMapper.map(task, TaskDTO.class))
-                .collect(Collectors.toList());
+        String versao = taskRepository.findTasksVersionTag(userId, projectId, null);
+        return new Versioned<>(versao, taskRepository.findByUserIdAndProjectId(userId, projectId));
     }
 
     /**
@@ -396,6 +569,7 @@ public class TaskService {
      * @throws EntityNotFoundException Se a Tarefa não for encontrada para exclusão.
      * @throws RuntimeException Se ocorrer um erro ao deletar a tarefa.
      */
+    @Transactional
     public void deleteTaskById(Long userId, Long taskId, RequestInfo requestInfo) {
         if (taskId == null || userId == null) {
             log.error("Ids não fornecidos. Ids solicitados: Id da tarefa e Id do usuário");
@@ -407,12 +581,18 @@ public class TaskService {
         try {
             Task taskToDelete = entityServiceUtils.getTaskById(taskId);
 
+            taskDependencyRepository.deleteByTaskId(taskId);
             taskRepository.deleteById(taskId);
+            eventPublisher.publishEvent(new TaskChangedEvent(taskId, taskToDelete.getProjeto().getId()));
+            applyProgressDelta(taskToDelete.getProjeto().getId(), -porcentagemOuZero(taskToDelete), -1);
+
             auditLogService.addAudit(
                     userExecuteAction,
-                    "Deletando Tarefa de projeto",
+                    AcaoAuditoria.DELETAR_TAREFA,
                     "Id da tarefa projeto deletada: " + taskId + ". Id do projeto a qual a tarefa pertencia: " + taskToDelete.getProjeto().getId(),
-                    "Tarefa",
+                    EntidadeAuditada.TAREFA,
+                    taskId,
+                    null,
                     requestInfo
             );
         } catch (Exception ex) {
@@ -421,83 +601,329 @@ public class TaskService {
     }
 
     /**
-     * Valida uma tarefa.
+     * Cria uma dependência término-início entre duas tarefas do mesmo projeto e desloca a sucessora e as tarefas
+     * a jusante que deixarem de respeitar o cronograma.
      *
-     * @param task A tarefa a ser validada.
-     * @throws TaskValidationException Se a validação da tarefa falhar.
+     * @param userId         O ID do usuário que está executando a ação.
+     * @param predecessoraId O ID da tarefa predecessora.
+     * @param sucessoraId    O ID da tarefa sucessora.
+     * @param lagDias        Defasagem em dias entre o término da predecessora e o início da sucessora (padrão 0).
+     * @param requestInfo    Informações sobre a requisição (Para armazenamento no audit).
+     * @return A dependência criada e as tarefas deslocadas.
+     * @throws IllegalArgumentException Se os IDs não forem fornecidos, a defasagem for negativa, as tarefas forem de
+     *                                  projetos diferentes ou a dependência já existir.
+     * @throws DependencyCycleException Se a dependência formar um ciclo no cronograma.
+     * @throws EntityNotFoundException  Se alguma das tarefas ou o usuário não forem encontrados.
      */
-    private void validateTask(Task task) throws TaskValidationException {
-        log.info("Validando tarefa: {}", task);
+    @Transactional
+    public TaskDependencyDTO addTaskDependency(Long userId, Long predecessoraId, Long sucessoraId, Integer lagDias, RequestInfo requestInfo) {
+        if (userId == null || predecessoraId == null || sucessoraId == null) {
+            log.error("Ids não fornecidos. Ids solicitados: Id do usuário, da tarefa predecessora e da tarefa sucessora");
+            throw new IllegalArgumentException("Ids não fornecidos. Ids solicitados: Id do usuário, da tarefa predecessora e da tarefa sucessora");
+        }
 
-        Set<ConstraintViolation<Task>> violations = validator.validate(task);
+        int lag = lagDias == null ? 0 : lagDias;
+        if (lag < 0) {
+            throw new IllegalArgumentException("A defasagem da dependência não pode ser negativa");
+        }
 
-        if (!violations.isEmpty()) {
-            log.info("Tarefa inválida. Motivos: {}", violations);
-            throw new TaskValidationException("Erro de validação na tarefa. Motivos: {}", violations);
+        log.info("Criando dependência entre a tarefa {} (predecessora) e a tarefa {} (sucessora) com defasagem de {} dias",
+                predecessoraId, sucessoraId, lag);
+
+        User userExecuteAction;
+        Task predecessora;
+        Task sucessora;
+
+        // A sucessora tem as datas deslocadas, então é lida na transação; a predecessora só é referenciada pela dependência
+        try (LookupScope consultas = parallelLookups.abrir()) {
+            Supplier<User> executor = consultas.fork(() -> entityServiceUtils.getUserById(userId));
+            Supplier<Task> tarefaPredecessora = consultas.fork(() -> entityServiceUtils.getTaskById(predecessoraId));
+
+            sucessora = entityServiceUtils.getTaskById(sucessoraId);
+
+            consultas.join();
+            userExecuteAction = executor.get();
+            predecessora = tarefaPredecessora.get();
         }
+
+        Long projectId = sucessora.getProjeto().getId();
+        if (!Objects.equals(predecessora.getProjeto().getId(), projectId)) {
+            log.info("Tarefas {} e {} pertencem a projetos diferentes", predecessoraId, sucessoraId);
+            throw new IllegalArgumentException("Dependências só podem ser criadas entre tarefas do mesmo projeto");
+        }
+
+        if (taskDependencyRepository.existsByPredecessora_IdAndSucessora_Id(predecessoraId, sucessoraId)) {
+            throw new IllegalArgumentException("Dependência entre as tarefas já existe");
+        }
+
+        // Monta o grafo já com a nova aresta: a construção rejeita ciclos antes de qualquer escrita
+        CriticalPathEngine engine = scheduleBuilder(projectId)
+                .addDependency(predecessoraId, sucessoraId, lag)
+                .build();
+
+        TaskDependency dependency = taskDependencyRepository.save(new TaskDependency(null, predecessora, sucessora, lag));
+
+        List<DateShift> shifts = engine.propagateFrom(sucessoraId);
+        applyDateShifts(shifts, sucessora);
+
+        auditLogService.addAudit(
+                userExecuteAction,
+                AcaoAuditoria.CRIAR_DEPENDENCIA_TAREFA,
+                "Id da tarefa predecessora: " + predecessoraId + ". Id da tarefa sucessora: " + sucessoraId +
+                        ". Defasagem: " + lag + " dias. Tarefas deslocadas: " + shifts.size(),
+                EntidadeAuditada.TAREFA,
+                sucessoraId,
+                null,
+                requestInfo
+        );
+
+        return new TaskDependencyDTO(dependency.getId(), predecessoraId, sucessoraId, lag, shifts);
     }
 
     /**
-     * Atualiza automaticamente o status das tarefas de projeto atrasadas.
-     * Este método é chamado por um JOB todos os dias à 00:00h.
+     * Remove uma dependência entre tarefas. As datas das tarefas não são antecipadas.
+     *
+     * @param userId       O ID do usuário que está executando a ação.
+     * @param dependencyId O ID da dependência.
+     * @param requestInfo  Informações sobre a requisição (Para armazenamento no audit).
+     * @throws IllegalArgumentException Se os IDs não forem fornecidos.
+     * @throws EntityNotFoundException  Se a dependência ou o usuário não forem encontrados.
      */
     @Transactional
-    public void updateLateTaskStatus() {
-        log.info("Atualizando status das tarefas atrasadas. JOB executado todos os dias a 00:00h");
+    public void removeTaskDependency(Long userId, Long dependencyId, RequestInfo requestInfo) {
+        if (userId == null || dependencyId == null) {
+            log.error("Ids não fornecidos. Ids solicitados: Id do usuário e Id da dependência");
+            throw new IllegalArgumentException("Ids não fornecidos. Ids solicitados: Id do usuário e Id da dependência");
+        }
 
-        LocalDate currentDate = LocalDate.now();
+        User userExecuteAction = entityServiceUtils.getUserById(userId);
 
-        List <Task> lateTasks = taskRepository.findAll()
-                .stream()
-                .filter(p -> p.getDataTerminoPrevista() != null && p.getDataTerminoPrevista().isBefore(currentDate))
-                .collect(Collectors.toList());
+        TaskDependency dependency = taskDependencyRepository.findById(dependencyId)
+                .orElseThrow(() -> {
+                    log.info("Dependência informada não encontrada. Id fornecido {}", dependencyId);
+                    return new EntityNotFoundException("Dependência não encontrada");
+                });
 
-        for (Task task : lateTasks) {
-            task.setStatus(StatusTarefa.ATRASADA);
-            taskRepository.save(task);
-        }
+        taskDependencyRepository.delete(dependency);
+
+        auditLogService.addAudit(
+                userExecuteAction,
+                AcaoAuditoria.REMOVER_DEPENDENCIA_TAREFA,
+                "Id da dependência removida: " + dependencyId,
+                EntidadeAuditada.TAREFA,
+                dependency.getSucessora().getId(),
+                null,
+                requestInfo
+        );
     }
 
+    /**
+     * Calcula o caminho crítico do projeto: início e término mais cedo e mais tarde de cada tarefa, folga e término
+     * previsto do projeto.
+     *
+     * @param projectId O ID do projeto.
+     * @return Cronograma calculado do projeto.
+     * @throws IllegalArgumentException Se o ID do projeto não for fornecido.
+     * @throws EntityNotFoundException  Se o projeto não for encontrado.
+     */
+    @Transactional(readOnly = true)
+    public CriticalPathDTO getCriticalPath(Long projectId) {
+        if (projectId == null) {
+            log.error("Id do projeto não fornecido");
+            throw new IllegalArgumentException("Id do projeto não fornecido");
+        }
+
+        if (!projectRepository.existsById(projectId)) {
+            log.info("Projeto informado não encontrado. Id fornecido {}", projectId);
+            throw new EntityNotFoundException("Projeto não encontrado");
+        }
+
+        log.info("Calculando caminho crítico do projeto com ID: {}", projectId);
+
+        List<TaskScheduleRow> rows = taskRepository.findScheduleByProjectId(projectId);
+        ScheduleResult result = scheduleBuilder(projectId, rows).build().computeSchedule();
+
+        List<TaskScheduleDTO> tarefas = new ArrayList<>(rows.size());
+        for (TaskScheduleRow row : rows) {
+            long id = row.getId();
+            tarefas.add(new TaskScheduleDTO(id,
+                    result.getInicioMaisCedo(id), result.getTerminoMaisCedo(id),
+                    result.getInicioMaisTarde(id), result.getTerminoMaisTarde(id),
+                    result.getFolgaDias(id), result.isCritica(id)));
+        }
+
+        return new CriticalPathDTO(projectId, result.getTerminoProjeto(), result.getCaminhoCritico(), tarefas);
+    }
 
     /**
-     * Constrói uma mensagem detalhada indicando quais campos foram alterados em uma tarefa (PARA ARMAZENAMENTO EM LOG DE AUDIT).
+     * Recupera as tarefas de um projeto que se sobrepõem a uma janela de datas, para a visão de Gantt.
+     * O filtro é feito no banco pelo índice de linha do tempo do projeto e o resultado é paginado por data de início.
      *
-     * @param tarefaAntiga A tarefa antes da atualização.
-     * @param tarefaNova   A tarefa após a atualização.
-     * @return Uma mensagem detalhada das alterações nos campos.
+     * @param projectId O ID do projeto.
+     * @param de        Início da janela (inclusivo).
+     * @param ate       Fim da janela (inclusivo).
+     * @param pagina    Página da janela (a partir de 0).
+     * @param tamanho   Quantidade de tarefas por página (máximo 500).
+     * @return Página da linha do tempo do projeto.
+     * @throws IllegalArgumentException Se algum parâmetro não for fornecido ou for inválido.
+     * @throws EntityNotFoundException  Se o projeto não for encontrado.
      */
-    public String buildDetalhesAlteracao(Task tarefaAntiga, Task tarefaNova) {
-        StringBuilder detalhesAlteracao = new StringBuilder("Campos Alterados: ");
+    @Transactional(readOnly = true)
+    public TimelineDTO findTimeline(Long projectId, LocalDate de, LocalDate ate, int pagina, int tamanho) {
+        if (projectId == null || de == null || ate == null) {
+            log.error("Parâmetros não fornecidos. Parâmetros solicitados: Id do projeto, início e fim da janela");
+            throw new IllegalArgumentException("Parâmetros não fornecidos. Parâmetros solicitados: Id do projeto, início e fim da janela");
+        }
 
-        if (!Objects.equals(tarefaAntiga.getNomeTarefa(), tarefaNova.getNomeTarefa())) {
-            detalhesAlteracao.append("Nome da Tarefa: ").append(tarefaNova.getNomeTarefa()).append(", ");
+        if (ate.isBefore(de)) {
+            throw new IllegalArgumentException("O fim da janela não pode ser anterior ao início");
         }
-        if (!Objects.equals(tarefaAntiga.getDescricao(), tarefaNova.getDescricao())) {
-            detalhesAlteracao.append("Descrição: ").append(tarefaNova.getDescricao()).append(", ");
+
+        if (pagina < 0 || tamanho < 1 || tamanho > TIMELINE_MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Paginação inválida. O tamanho da página deve estar entre 1 e " + TIMELINE_MAX_PAGE_SIZE);
         }
-        if (!Objects.equals(tarefaAntiga.getDataInicio(), tarefaNova.getDataInicio())) {
-            detalhesAlteracao.append("Data de Início: ").append(tarefaNova.getDataInicio()).append(", ");
+
+        if (!projectRepository.existsById(projectId)) {
+            log.info("Projeto informado não encontrado. Id fornecido {}", projectId);
+            throw new EntityNotFoundException("Projeto não encontrado");
         }
-        if (!Objects.equals(tarefaAntiga.getDataTerminoPrevista(), tarefaNova.getDataTerminoPrevista())) {
-            detalhesAlteracao.append("Data de Término Prevista: ").append(tarefaNova.getDataTerminoPrevista()).append(", ");
+
+        log.info("Recuperando linha do tempo do projeto {} entre {} e {}. Página {}", projectId, de, ate, pagina);
+
+        Slice<TaskSummary> slice = taskRepository.findTimeline(projectId, de, ate,
+                PageRequest.of(pagina, tamanho, Sort.by("dataInicio", "id")));
+
+        return new TimelineDTO(projectId, de, ate, pagina, tamanho, slice.hasNext(), slice.getContent());
+    }
+
+    /**
+     * Monta o grafo de cronograma de um projeto a partir das datas das tarefas e das dependências gravadas.
+     */
+    private CriticalPathEngine.Builder scheduleBuilder(Long projectId) {
+        return scheduleBuilder(projectId, taskRepository.findScheduleByProjectId(projectId));
+    }
+
+    private CriticalPathEngine.Builder scheduleBuilder(Long projectId, List<TaskScheduleRow> rows) {
+        CriticalPathEngine.Builder builder = CriticalPathEngine.builder();
+        for (TaskScheduleRow row : rows) {
+            builder.addTask(row.getId(), row.getDataInicio(), row.getDataTerminoPrevista());
         }
-        if (!Objects.equals(tarefaAntiga.getStatus(), tarefaNova.getStatus())) {
-            detalhesAlteracao.append("Status: ").append(tarefaNova.getStatus()).append(", ");
+        for (TaskDependencyEdge edge : taskDependencyRepository.findEdgesByProjectId(projectId)) {
+            builder.addDependency(edge.getPredecessoraId(), edge.getSucessoraId(), edge.getLagDias());
         }
-        if (!Objects.equals(tarefaAntiga.getResponsaveis(), tarefaNova.getResponsaveis())) {
-            detalhesAlteracao.append("Responsáveis: ").append(tarefaNova.getResponsaveis()).append(", ");
+        return builder;
+    }
+
+    /**
+     * Monta o grafo de cronograma apenas com a tarefa, as tarefas a jusante dela e as predecessoras diretas destas,
+     * a partir das arestas de {@link TaskDependencyRepository#findDownstreamEdges(Long)}. É o suficiente para propagar
+     * uma mudança de datas da tarefa: as predecessoras fora da parte a jusante limitam os deslocamentos, mas não são
+     * deslocadas.
+     */
+    private CriticalPathEngine downstreamSchedule(Long taskId, List<TaskDependencyEdge> arestas) {
+        Set<Long> taskIds = new HashSet<>();
+        taskIds.add(taskId);
+        for (TaskDependencyEdge edge : arestas) {
+            taskIds.add(edge.getPredecessoraId());
+            taskIds.add(edge.getSucessoraId());
         }
-        if (!Objects.equals(tarefaAntiga.getProjeto(), tarefaNova.getProjeto())) {
-            detalhesAlteracao.append("Projeto: ").append(tarefaNova.getProjeto()).append(", ");
+
+        CriticalPathEngine.Builder builder = CriticalPathEngine.builder();
+        for (TaskScheduleRow row : taskRepository.findScheduleByIds(taskIds)) {
+            builder.addTask(row.getId(), row.getDataInicio(), row.getDataTerminoPrevista());
         }
-        if (!Objects.equals(tarefaAntiga.getDataConclusao(), tarefaNova.getDataConclusao())) {
-            detalhesAlteracao.append("Data de Conclusão: ").append(tarefaNova.getDataConclusao()).append(", ");
+        for (TaskDependencyEdge edge : arestas) {
+            builder.addDependency(edge.getPredecessoraId(), edge.getSucessoraId(), edge.getLagDias());
         }
-        if (!Objects.equals(tarefaAntiga.getPorcentagemConcluida(), tarefaNova.getPorcentagemConcluida())) {
-            detalhesAlteracao.append("Porcentagem Concluída: ").append(tarefaNova.getPorcentagemConcluida()).append(", ");
+        return builder.build();
+    }
+
+    /**
+     * Grava as datas das tarefas deslocadas pelo cronograma. A tarefa já carregada na operação é alterada na própria
+     * entidade; as demais são atualizadas diretamente, sem carregá-las.
+     */
+    private void applyDateShifts(List<DateShift> shifts, Task loadedTask) {
+        for (DateShift shift : shifts) {
+            if (loadedTask.getId() == shift.getTaskId()) {
+                loadedTask.setDataInicio(shift.getDataInicio());
+                loadedTask.setDataTerminoPrevista(shift.getDataTerminoPrevista());
+            } else {
+                taskRepository.updateSchedule(shift.getTaskId(), shift.getDataInicio(), shift.getDataTerminoPrevista());
+            }
+            eventPublisher.publishEvent(new TaskChangedEvent(shift.getTaskId(), idDoProjeto(loadedTask)));
         }
 
-        return detalhesAlteracao.toString();
+        if (!shifts.isEmpty()) {
+            log.info("Cronograma propagado. Tarefas deslocadas: {}", shifts.size());
+        }
+    }
+
+    /**
+     * Propaga ao projeto a variação de progresso de uma de suas tarefas, mantendo as somas do projeto sem
+     * recalcular sobre todas as tarefas.
+     *
+     * @param projectId       O ID do projeto.
+     * @param deltaSoma       Variação na soma das porcentagens concluídas.
+     * @param deltaQuantidade Variação na quantidade de tarefas.
+     */
+    private void applyProgressDelta(Long projectId, int deltaSoma, int deltaQuantidade) {
+        if (deltaSoma == 0 && deltaQuantidade == 0) {
+            return;
+        }
+        projectRepository.applyTaskProgressDelta(projectId, deltaSoma, deltaQuantidade);
+    }
+
+    private static int porcentagemOuZero(Task task) {
+        return task.getPorcentagemConcluida() == null ? 0 : task.getPorcentagemConcluida();
+    }
+
+    /**
+     * Verifica se a tarefa existe, sem carregá-la.
+     *
+     * @param taskId O ID da tarefa.
+     * @throws EntityNotFoundException Se a tarefa não for encontrada.
+     */
+    private void checkTaskExists(Long taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            log.info("Tarefa informada não encontrada. Id fornecido {}", taskId);
+            throw new EntityNotFoundException("Tarefa não encontrada");
+        }
+    }
+
+    /**
+     * Valida uma tarefa.
+     *
+     * @param task A tarefa a ser validada.
+     * @throws TaskValidationException Se a validação da tarefa falhar.
+     */
+    private void validateTask(Task task) throws TaskValidationException {
+        log.info("Validando tarefa: {}", task);
+
+        Set<ConstraintViolation<Task>> violations = validator.validate(task);
+
+        if (!violations.isEmpty()) {
+            log.info("Tarefa inválida. Motivos: {}", violations);
+            throw new TaskValidationException("Erro de validação na tarefa. Motivos: {}", violations);
+        }
+    }
+
+    /**
+     * Atualiza automaticamente o status das tarefas de projeto atrasadas. Apenas tarefas pendentes ou em andamento
+     * com prazo vencido são marcadas; tarefas concluídas permanecem concluídas.
+     * Este método é chamado por um JOB todos os dias à 00:00h.
+     */
+    @Transactional
+    public void updateLateTaskStatus() {
+        log.info("Atualizando status das tarefas atrasadas. JOB executado todos os dias a 00:00h");
+
+        int atualizadas = taskRepository.markLateTasks(LocalDate.now());
+
+        log.info("{} tarefas marcadas como atrasadas", atualizadas);
+    }
+
+
+    private static Long idDoProjeto(Task task) {
+        return task.getProjeto() == null ? null : task.getProjeto().getId();
     }
 
 }
\ No newline at end of file
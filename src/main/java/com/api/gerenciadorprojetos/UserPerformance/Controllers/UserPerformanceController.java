@@ -0,0 +1,47 @@
+package com.api.gerenciadorprojetos.UserPerformance.Controllers;
+
+import com.api.gerenciadorprojetos.UserPerformance.DTO.UserPerformanceDTO;
+import com.api.gerenciadorprojetos.UserPerformance.Services.UserPerformanceService;
+import com.api.gerenciadorprojetos.Utils.Response;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controller responsável pelas consultas de desempenho de usuários na API.
+ * <p>
+ * As respostas são assíncronas: a thread da requisição é liberada enquanto as contagens são feitas.
+ *
+ * @author victor.marcelo
+ *
+ * @see UserPerformanceService
+ * @see Response
+ */
+@RestController
+@RequestMapping("/desempenho")
+@Api(value = "User Performance Controller", tags = "Consultas de Desempenho de Usuários")
+public class UserPerformanceController {
+
+    private final UserPerformanceService userPerformanceService;
+
+    @Autowired
+    public UserPerformanceController(UserPerformanceService userPerformanceService) {
+        this.userPerformanceService = userPerformanceService;
+    }
+
+    @ApiOperation("Recupera a quantidade de projetos e tarefas de um usuário por status. Contagens que excederem o " +
+            "tempo limite são omitidas e o resultado é marcado como parcial. Cada usuário consulta apenas o próprio " +
+            "desempenho")
+    @GetMapping("/usuario/{userId}")
+    public Mono<ResponseEntity<Response<UserPerformanceDTO>>> getUserPerformance(
+            @ApiParam(value = "ID do usuário", required = true) @PathVariable Long userId,
+            @RequestHeader("Authorization") String token)
+    {
+        return userPerformanceService.getUserPerformance(userId)
+                .map(desempenho -> ResponseEntity.ok(new Response<>(desempenho)));
+    }
+}
@@ -0,0 +1,28 @@
+package com.api.gerenciadorprojetos.UserPerformance.DTO;
+
+import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO com o desempenho de um usuário: a quantidade de projetos de que é membro e de tarefas de que é responsável, por
+ * status. Uma contagem que não pôde ser obtida a tempo fica nula e é listada em {@code indisponiveis}
+ * ("projetos" ou "tarefas"), e o resultado é marcado como parcial.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPerformanceDTO {
+    private Long userId;
+    private Map<StatusProjeto, Long> projetosPorStatus;
+    private Map<StatusTarefa, Long> tarefasPorStatus;
+    private boolean parcial;
+    private List<String> indisponiveis;
+}
@@ -1,82 +1,130 @@
 package com.api.gerenciadorprojetos.UserPerformance.Services;
 
+import com.api.gerenciadorprojetos.Exceptions.UnauthorizedException;
 import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+import com.api.gerenciadorprojetos.Projects.Projections.ProjectStatusCount;
 import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
 import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskStatusCount;
 import com.api.gerenciadorprojetos.Tasks.Repositories.TaskRepository;
-import com.api.gerenciadorprojetos.Users.Repositories.UserRepository;
+import com.api.gerenciadorprojetos.UserPerformance.DTO.UserPerformanceDTO;
+import com.api.gerenciadorprojetos.Users.Entities.User;
+import com.api.gerenciadorprojetos.Utils.SecurityUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 @Service
 public class UserPerformanceService {
 
-    private final UserRepository userRepository;
+    private final SecurityUtils securityUtils;
     private final ProjetoJpaRepository projectRepository;
     private final TaskRepository taskRepository;
+    private final Duration timeoutContagem;
+    private final Counter resultadosParciais;
 
     private static final Logger log = LoggerFactory.getLogger(UserPerformanceService.class);
 
     @Autowired
-    public UserPerformanceService(UserRepository userRepository, ProjetoJpaRepository projectRepository, TaskRepository taskRepository) {
-        this.userRepository = userRepository;
+    public UserPerformanceService(SecurityUtils securityUtils, ProjetoJpaRepository projectRepository, TaskRepository taskRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.performance.query-timeout:2s}") Duration timeoutContagem) {
+        this.securityUtils = securityUtils;
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
+        this.timeoutContagem = timeoutContagem;
+        this.resultadosParciais = Counter.builder("desempenho.resultados.parciais")
+                .description("Contagens do desempenho de usuários omitidas por erro ou tempo limite")
+                .register(meterRegistry);
     }
 
-    private Long countProjectsByUserIdAndStatus(Long userId, StatusProjeto status) {
-        try {
-            return Optional.ofNullable(projectRepository.countByUser_IdAndStatus(userId, status))
-                    .orElse(0L);
-        } catch (Exception ex) {
-            log.error("Erro ao contar projetos por usuário e status.", ex);
-            throw new RuntimeException("Erro ao processar a requisição.", ex);
+    /**
+     * Recupera o desempenho do usuário: a quantidade de projetos de que é membro e de tarefas de que é responsável, por
+     * status, cada uma com uma única consulta agrupada.
+     * <p>
+     * As duas consultas são independentes e executadas ao mesmo tempo, fora da thread da requisição. Uma consulta que
+     * falhar ou exceder app.performance.query-timeout é omitida e o resultado é marcado como parcial; a consulta em
+     * andamento não é cancelada no banco, apenas deixa de ser aguardada.
+     * <p>
+     * Cada usuário consulta apenas o próprio desempenho.
+     *
+     * @param userId ID do usuário.
+     * @return O desempenho do usuário, completo ou parcial.
+     * @throws UnauthorizedException Se o usuário não estiver autenticado ou não for o usuário consultado.
+     */
+    public Mono<UserPerformanceDTO> getUserPerformance(Long userId) {
+        User userAuthenticated = securityUtils.getUsuarioLogado();
+        if (userAuthenticated == null) {
+            throw new UnauthorizedException("Usuário não autenticado");
         }
-    }
-
-    private Long countTasksByUserIdAndStatus(Long userId, StatusTarefa status) {
-        try {
-            return Optional.ofNullable(taskRepository.countByResponsaveis_IdAndStatus(userId, status))
-                    .orElse(0L);
-        } catch (Exception ex) {
-            log.error("Erro ao contar tarefas por usuário e status.", ex);
-            throw new RuntimeException("Erro ao processar a requisição.", ex);
+        if (!userAuthenticated.getId().equals(userId)) {
+            log.warn("Usuário {} tentou consultar o desempenho do usuário {}", userAuthenticated.getId(), userId);
+            throw new UnauthorizedException("Usuário só pode consultar o próprio desempenho");
         }
-    }
-
-    public Long getNumberOfLateProjectsByUser(Long userId) {
-        return countProjectsByUserIdAndStatus(userId, StatusProjeto.ATRASADO);
-    }
-
-    public Long getNumberOfCompletedProjectsByUser(Long userId) {
-        return countProjectsByUserIdAndStatus(userId, StatusProjeto.CONCLUIDO);
-    }
 
-    public Long getNumberOfOnGoingProjectsByUser(Long userId) {
-        return countProjectsByUserIdAndStatus(userId, StatusProjeto.EM_ANDAMENTO);
+        Mono<Optional<Map<StatusProjeto, Long>>> projetos = contar("projetos", userId, () -> {
+            Map<StatusProjeto, Long> porStatus = zerados(StatusProjeto.class);
+            for (ProjectStatusCount contagem : projectRepository.countByMemberIdGroupByStatus(userId)) {
+                porStatus.put(contagem.getStatus(), contagem.getTotal());
+            }
+            return porStatus;
+        });
+        Mono<Optional<Map<StatusTarefa, Long>>> tarefas = contar("tarefas", userId, () -> {
+            Map<StatusTarefa, Long> porStatus = zerados(StatusTarefa.class);
+            for (TaskStatusCount contagem : taskRepository.countByResponsavelIdGroupByStatus(userId)) {
+                porStatus.put(contagem.getStatus(), contagem.getTotal());
+            }
+            return porStatus;
+        });
+
+        return Mono.zip(projetos, tarefas).map(resultado -> {
+            List<String> indisponiveis = new ArrayList<>(2);
+            if (resultado.getT1().isEmpty()) {
+                indisponiveis.add("projetos");
+            }
+            if (resultado.getT2().isEmpty()) {
+                indisponiveis.add("tarefas");
+            }
+            return new UserPerformanceDTO(userId, resultado.getT1().orElse(null), resultado.getT2().orElse(null),
+                    !indisponiveis.isEmpty(), indisponiveis);
+        });
     }
 
-    public Long getNumberOfToDoProjectsByUser(Long userId) {
-        return countProjectsByUserIdAndStatus(userId, StatusProjeto.CRIADO);
+    /**
+     * Executa uma consulta bloqueante do JPA no scheduler de tarefas bloqueantes, com tempo limite. Em caso de erro
+     * ou tempo excedido, retorna vazio em vez de falhar, para que as demais contagens sejam aproveitadas.
+     */
+    private <T> Mono<Optional<T>> contar(String contagem, Long userId, Callable<T> consulta) {
+        return Mono.fromCallable(consulta)
+                .subscribeOn(Schedulers.boundedElastic())
+                .timeout(timeoutContagem)
+                .map(Optional::of)
+                .onErrorResume(ex -> {
+                    log.warn("Contagem de {} do usuário {} omitida do desempenho: {}", contagem, userId, ex.toString());
+                    resultadosParciais.increment();
+                    return Mono.just(Optional.empty());
+                });
     }
 
-    public Long getNumberOfTasksUserWorkedOn(Long userId) {
-        return countTasksByUserIdAndStatus(userId, StatusTarefa.EM_ANDAMENTO);
-    }
-
-    public Long getNumberOfCompletedTasksUserWorkedOn(Long userId) {
-        return countTasksByUserIdAndStatus(userId, StatusTarefa.CONCLUIDA);
-    }
-
-    public Long getNumberOfPendingTasksUserWorkedOn(Long userId) {
-        return countTasksByUserIdAndStatus(userId, StatusTarefa.PENDENTE);
-    }
-
-    public Long getNumberOfDelayedTasksUserWorkedOn(Long userId) {
-        return countTasksByUserIdAndStatus(userId, StatusTarefa.ATRASADA);
+    private static <E extends Enum<E>> Map<E, Long> zerados(Class<E> tipo) {
+        Map<E, Long> porStatus = new EnumMap<>(tipo);
+        for (E status : tipo.getEnumConstants()) {
+            porStatus.put(status, 0L);
+        }
+        return porStatus;
     }
 }
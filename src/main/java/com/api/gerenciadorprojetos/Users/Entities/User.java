@@ -18,7 +18,7 @@ import java.time.LocalDateTime;
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "usuarios")
+@Table(name = "usuarios", indexes = @Index(name = "idx_usuarios_login", columnList = "login_usuario"))
 public class User {
 
     @Id
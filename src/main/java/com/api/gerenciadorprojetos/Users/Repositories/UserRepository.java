@@ -2,13 +2,25 @@ package com.api.gerenciadorprojetos.Users.Repositories;
 
 import com.api.gerenciadorprojetos.Users.Entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findUserByEmail(String email);
 
-    Optional<User> findByProjects_Id (Long projectId);
+    Optional<User> findFirstByLoginUsuario(String loginUsuario);
+
+    /**
+     * Lista os membros de um projeto, pela tabela membros_projeto, sem carregar o projeto.
+     */
+    @Query("SELECT u FROM Project p JOIN p.membrosProjeto u WHERE p.id = :projectId ORDER BY u.id")
+    List<User> findMembersByProjectId(@Param("projectId") Long projectId);
+
+    long countByIdIn(Collection<Long> ids);
 }
@@ -17,6 +17,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import javax.naming.AuthenticationException;
 import java.util.List;
@@ -68,6 +69,7 @@ public class UserService {
      *
      * @return Lista de UserDTOs representando todos os usuários.
      */
+    @Transactional(readOnly = true)
     public List<UserDTO> findAllUsers() {
         log.info("Recuperando todos os usuários.");
         return userRepository.findAll()
@@ -84,6 +86,7 @@ public class UserService {
      * @throws IllegalArgumentException Se o ID fornecido for nulo.
      * @throws EntityNotFoundException Se nenhum usuário for encontrado com o ID fornecido.
      */
+    @Transactional(readOnly = true)
     public UserDTO findUserById(Long id) {
         if (id == null) {
             log.error("ID do usuário não fornecido.");
@@ -103,6 +106,7 @@ public class UserService {
      * @throws IllegalArgumentException Se o ID fornecido for nulo.
      * @throws EntityNotFoundException Se nenhum projeto for encontrado com o ID fornecido.
      */
+    @Transactional(readOnly = true)
     public List<UserDTO> findUsersByProject(Long projectId) {
         if (projectId == null) {
             log.error("ID do projeto não fornecido.");
@@ -113,7 +117,7 @@ public class UserService {
 
         entityServiceUtils.getProjectById(projectId);
 
-        return userRepository.findByProjects_Id(projectId)
+        return userRepository.findMembersByProjectId(projectId)
                 .stream()
                 .map(user -> modelMapper.map(user, UserDTO.class))
                 .collect(Collectors.toList());
@@ -143,7 +147,10 @@ public class UserService {
         String hashedPassword = passwordEncoder.encode(user.getSenha());
         user.setSenha(hashedPassword);
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        entityServiceUtils.registerCreation(User.class, savedUser.getId());
+
+        return savedUser;
     }
 
     /**
@@ -1,5 +1,7 @@
 package com.api.gerenciadorprojetos.Utils;
 
+import com.api.gerenciadorprojetos.Exceptions.MissingEntityException;
+import com.api.gerenciadorprojetos.Infra.Cache.NegativeLookupCache;
 import com.api.gerenciadorprojetos.Projects.Entities.Project;
 import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
 import com.api.gerenciadorprojetos.Tasks.Entities.Task;
@@ -26,12 +28,16 @@ public class EntityServiceUtils {
 
     private final TaskRepository taskRepository;
 
+    private final NegativeLookupCache negativeLookupCache;
+
     private final Logger log = LoggerFactory.getLogger(EntityServiceUtils.class);
     @Autowired
-    public EntityServiceUtils(UserRepository userRepository, ProjetoJpaRepository projectRepository, TaskRepository taskRepository){
+    public EntityServiceUtils(UserRepository userRepository, ProjetoJpaRepository projectRepository, TaskRepository taskRepository,
+                              NegativeLookupCache negativeLookupCache){
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
+        this.negativeLookupCache = negativeLookupCache;
     }
 
     /**
@@ -47,10 +53,10 @@ public class EntityServiceUtils {
             throw new IllegalArgumentException("Id de usuário não informado");
         }
 
-        return userRepository.findById(userId)
+        return negativeLookupCache.buscar(User.class, userId, userRepository::findById)
                 .orElseThrow(() -> {
                     log.info("Usuário informado não encontrado. Id fornecido {}", userId);
-                    return new EntityNotFoundException("Usuário não encontrado");
+                    return new MissingEntityException("Usuário não encontrado");
                 });
     }
 
@@ -67,10 +73,10 @@ public class EntityServiceUtils {
             throw new IllegalArgumentException("Id de projeto não informado");
         }
 
-        return projectRepository.findById(projectId)
+        return negativeLookupCache.buscar(Project.class, projectId, projectRepository::findById)
                 .orElseThrow(() -> {
                     log.info("Projeto informado não encontrado. Id fornecido {}", projectId);
-                    return new EntityNotFoundException("Projeto não encontrado");
+                    return new MissingEntityException("Projeto não encontrado");
                 });
     }
 
@@ -87,12 +93,21 @@ public class EntityServiceUtils {
             throw new IllegalArgumentException("Id de tarefa não informado");
         }
 
-        return taskRepository.findById(taskId)
+        return negativeLookupCache.buscar(Task.class, taskId, taskRepository::findById)
                 .orElseThrow(() -> {
                     log.info("Tarefa informada não encontrada. Id fornecido {}", taskId);
-                    return new EntityNotFoundException("Tarefa não encontrads");
+                    return new MissingEntityException("Tarefa não encontrada");
                 });
     }
 
-
+    /**
+     * Registra a criação de uma entidade, para que uma busca anterior do mesmo ID sem resultado deixe de ser
+     * respondida pelo cache negativo.
+     *
+     * @param type Classe da entidade criada (User, Project ou Task).
+     * @param id   O ID da entidade criada.
+     */
+    public void registerCreation(Class<?> type, Long id) {
+        negativeLookupCache.registrarCriacao(type, id);
+    }
 }
@@ -1,10 +1,17 @@
 package com.api.gerenciadorprojetos.Utils;
 
+import com.api.gerenciadorprojetos.Exceptions.DependencyCycleException;
 import com.api.gerenciadorprojetos.Exceptions.ProjectValidationException;
+import com.api.gerenciadorprojetos.Exceptions.QueryBudgetExceededException;
 import com.api.gerenciadorprojetos.Exceptions.TaskValidationException;
 import com.api.gerenciadorprojetos.Exceptions.UnauthorizedException;
 import com.api.gerenciadorprojetos.Exceptions.UserValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.OptimisticLockException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -16,6 +23,7 @@ import org.springframework.web.client.HttpClientErrorException;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Classe que trata exceções globais para a API.
@@ -25,10 +33,17 @@ import java.util.Map;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ResponseEntity<Object> handleGeneralException(Exception e) {
-        return buildResponseEntity(HttpStatus.INTERNAL_SERVER_ERROR, "Ocorreu um erro em nossos serviços. Causa: " + e.getMessage());
+        return buildResponseEntity(e, HttpStatus.INTERNAL_SERVER_ERROR, "Ocorreu um erro em nossos serviços. Causa: " + e.getMessage());
     }
 
     @ExceptionHandler(HttpClientErrorException.class)
@@ -38,31 +53,43 @@ public class GlobalExceptionHandler {
 
         String message = (e.getStatusCode() == HttpStatus.UNAUTHORIZED) ? "Falha ao autenticar." : "Ocorreu um erro em nossos serviços. Causa: ";
 
-        return buildResponseEntity(status, message + e.getMessage());
+        return buildResponseEntity(e, status, message + e.getMessage());
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<Object> handleIllegalArgumentException(IllegalArgumentException e) {
-        return buildResponseEntity(HttpStatus.BAD_REQUEST, "Requisição inválida. Causa: " + e.getMessage());
+        return buildResponseEntity(e, HttpStatus.BAD_REQUEST, "Requisição inválida. Causa: " + e.getMessage());
     }
 
     @ExceptionHandler(UserValidationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<Object> handleUserValidationException(UserValidationException e) {
-        return buildResponseEntity(HttpStatus.BAD_REQUEST, "Erro de validação do usuário. Causa: " + e.getMessage());
+        return buildResponseEntity(e, HttpStatus.BAD_REQUEST, "Erro de validação do usuário. Causa: " + e.getMessage());
     }
 
     @ExceptionHandler(ProjectValidationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<Object> handleProjectValidationException(ProjectValidationException e) {
-        return buildResponseEntity(HttpStatus.BAD_REQUEST, "Erro de validação do Projeto. Causa: " + e.getMessage());
+        return buildResponseEntity(e, HttpStatus.BAD_REQUEST, "Erro de validação do Projeto. Causa: " + e.getMessage());
     }
 
     @ExceptionHandler(TaskValidationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<Object> handleTaskValidationException(TaskValidationException e) {
-        return buildResponseEntity(HttpStatus.BAD_REQUEST, "Erro de validação da Tarefa de projeto. Causa: " + e.getMessage());
+        return buildResponseEntity(e, HttpStatus.BAD_REQUEST, "Erro de validação da Tarefa de projeto. Causa: " + e.getMessage());
+    }
+
+    @ExceptionHandler(DependencyCycleException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Object> handleDependencyCycleException(DependencyCycleException e) {
+        return buildResponseEntity(e, HttpStatus.BAD_REQUEST, "Dependência inválida. Causa: " + e.getMessage());
+    }
+
+    @ExceptionHandler(QueryBudgetExceededException.class)
+    @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+    public ResponseEntity<Object> handleQueryBudgetExceededException(QueryBudgetExceededException e) {
+        return buildResponseEntity(e, HttpStatus.INTERNAL_SERVER_ERROR, "Orçamento de consultas SQL excedido. Causa: " + e.getMessage());
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -76,25 +103,48 @@ public class GlobalExceptionHandler {
             errors.put(fieldName, errorMessage);
         });
 
-        return buildResponseEntity(HttpStatus.BAD_REQUEST, "Erro de validação. Causa: " + e.getMessage(), errors);
+        return buildResponseEntity(e, HttpStatus.BAD_REQUEST, "Erro de validação. Causa: " + e.getMessage(), errors);
     }
 
     @ExceptionHandler(EntityNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ResponseEntity<Object> handleEntityNotFoundException(EntityNotFoundException e) {
-        return buildResponseEntity(HttpStatus.NOT_FOUND, "Recurso não encontrado. Causa: " + e.getMessage());
+        return buildResponseEntity(e, HttpStatus.NOT_FOUND, "Recurso não encontrado. Causa: " + e.getMessage());
+    }
+    @ExceptionHandler({OptimisticLockingFailureException.class, OptimisticLockException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseEntity<Object> handleOptimisticLockingFailureException(RuntimeException e) {
+        return buildResponseEntity(e, HttpStatus.CONFLICT, "O recurso foi alterado por outra requisição ao mesmo tempo. Tente novamente.");
+    }
+
+    @ExceptionHandler(TimeoutException.class)
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public ResponseEntity<Object> handleTimeoutException(TimeoutException e) {
+        return buildResponseEntity(e, HttpStatus.GATEWAY_TIMEOUT, "O serviço não respondeu a tempo. Tente novamente.");
     }
+
     @ExceptionHandler(UnauthorizedException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ResponseEntity<Object> handleEntityNotFoundException(UnauthorizedException e) {
-        return buildResponseEntity(HttpStatus.UNAUTHORIZED, "Usuário sem permissão. Causa: " + e.getMessage());
+        return buildResponseEntity(e, HttpStatus.UNAUTHORIZED, "Usuário sem permissão. Causa: " + e.getMessage());
     }
 
-    private ResponseEntity<Object> buildResponseEntity(HttpStatus status, String message) {
+    private ResponseEntity<Object> buildResponseEntity(Exception e, HttpStatus status, String message) {
+        registrarErro(e, status);
         return ResponseEntity.status(status).body(new Response<>(status, message));
     }
 
-    private ResponseEntity<Object> buildResponseEntity(HttpStatus status, String message, Map<String, String> errors) {
+    private ResponseEntity<Object> buildResponseEntity(Exception e, HttpStatus status, String message, Map<String, String> errors) {
+        registrarErro(e, status);
         return ResponseEntity.status(status).body(new Response<>(status, message, errors));
     }
+
+    private void registrarErro(Exception e, HttpStatus status) {
+        Counter.builder("api.erros")
+                .description("Erros respondidos pela API, por tipo de exceção e status HTTP")
+                .tag("excecao", e.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(meterRegistry)
+                .increment();
+    }
 }
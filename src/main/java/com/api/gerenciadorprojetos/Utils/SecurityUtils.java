@@ -1,16 +1,28 @@
 package com.api.gerenciadorprojetos.Utils;
 
 import com.api.gerenciadorprojetos.Users.Entities.User;
+import com.api.gerenciadorprojetos.Users.Repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
 
 /**
  * @author victor.marcelo
  */
+@Component
 public class SecurityUtils {
 
+    private final UserRepository userRepository;
+
+    @Autowired
+    public SecurityUtils(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
     /**
-     * Obtém o usuário logado
+     * Obtém o usuário logado. O SecurityFilter autentica com o login do token JWT como principal, então o usuário é
+     * buscado pelo login.
      *
      * @return O usuário logado ou null se não houver usuário autenticado.
      */
@@ -21,6 +33,10 @@ public class SecurityUtils {
             return null;
         }
 
-        return (User) authentication.getPrincipal();
+        if (authentication.getPrincipal() instanceof User user) {
+            return user;
+        }
+
+        return userRepository.findFirstByLoginUsuario(authentication.getName()).orElse(null);
     }
 }
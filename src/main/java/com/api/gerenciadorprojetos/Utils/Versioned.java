@@ -0,0 +1,22 @@
+package com.api.gerenciadorprojetos.Utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Dados carregados junto com a versão lida na mesma transação, usada como ETag da resposta.
+ * <p>
+ * A versão é lida antes dos dados e na mesma conexão, então os dados nunca são mais antigos que a versão: um cliente
+ * pode, no máximo, recarregar uma vez a mais, mas nunca recebe 304 para dados que não correspondem ao ETag que guardou.
+ *
+ * @author victor.marcelo
+ *
+ * @param <T> Tipo dos dados carregados.
+ */
+@Data
+@AllArgsConstructor
+public class Versioned<T> {
+
+    private String versao;
+    private T dados;
+}
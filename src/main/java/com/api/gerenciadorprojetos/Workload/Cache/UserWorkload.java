@@ -0,0 +1,95 @@
+package com.api.gerenciadorprojetos.Workload.Cache;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Carga de trabalho de um usuário representada como linha de varredura (sweep-line): cada tarefa em aberto
+ * contribui com +1 no dia de início e -1 no dia seguinte ao término previsto. A quantidade de tarefas simultâneas
+ * em um dia é a soma acumulada dos deltas até aquele dia.
+ * <p>
+ * Atualizações de uma tarefa custam O(log n) e uma consulta de intervalo custa O(n) no pior caso, em que n é a
+ * quantidade de tarefas em aberto do usuário.
+ *
+ * @author victor.marcelo
+ */
+final class UserWorkload {
+
+    private final long carregadoEm;
+
+    /** Intervalo [início, fim exclusivo) em epoch day de cada tarefa do usuário. */
+    private final Map<Long, long[]> intervalosPorTarefa = new HashMap<>();
+    private final TreeMap<Long, Integer> deltas = new TreeMap<>();
+
+    UserWorkload(long carregadoEm) {
+        this.carregadoEm = carregadoEm;
+    }
+
+    long getCarregadoEm() {
+        return carregadoEm;
+    }
+
+    synchronized void upsert(long taskId, long inicio, long fimExclusivo) {
+        remove(taskId);
+        if (fimExclusivo <= inicio) {
+            return;
+        }
+        intervalosPorTarefa.put(taskId, new long[]{inicio, fimExclusivo});
+        adicionarDelta(inicio, 1);
+        adicionarDelta(fimExclusivo, -1);
+    }
+
+    synchronized void remove(long taskId) {
+        long[] intervalo = intervalosPorTarefa.remove(taskId);
+        if (intervalo != null) {
+            adicionarDelta(intervalo[0], -1);
+            adicionarDelta(intervalo[1], 1);
+        }
+    }
+
+    synchronized boolean contains(long taskId) {
+        return intervalosPorTarefa.containsKey(taskId);
+    }
+
+    /** IDs das tarefas em aberto do usuário. */
+    synchronized Set<Long> tarefas() {
+        return new HashSet<>(intervalosPorTarefa.keySet());
+    }
+
+    /**
+     * Calcula a quantidade de tarefas simultâneas em cada dia de [de, ate].
+     *
+     * @param de  Primeiro dia (epoch day).
+     * @param ate Último dia, inclusivo (epoch day).
+     * @return Array com uma posição por dia.
+     */
+    synchronized int[] porDia(long de, long ate) {
+        int[] carga = new int[Math.toIntExact(ate - de + 1)];
+
+        int atual = 0;
+        for (int delta : deltas.headMap(de, true).values()) {
+            atual += delta;
+        }
+
+        long dia = de;
+        NavigableMap<Long, Integer> janela = deltas.subMap(de, false, ate, true);
+        for (Map.Entry<Long, Integer> entry : janela.entrySet()) {
+            for (; dia < entry.getKey(); dia++) {
+                carga[(int) (dia - de)] = atual;
+            }
+            atual += entry.getValue();
+        }
+        for (; dia <= ate; dia++) {
+            carga[(int) (dia - de)] = atual;
+        }
+        return carga;
+    }
+
+    private void adicionarDelta(long dia, int valor) {
+        deltas.merge(dia, valor, (a, b) -> a + b == 0 ? null : a + b);
+    }
+}
@@ -0,0 +1,265 @@
+package com.api.gerenciadorprojetos.Workload.Cache;
+
+import com.api.gerenciadorprojetos.Infra.Transactions.AfterCommitBatch;
+import com.api.gerenciadorprojetos.Tasks.Events.TaskChangedEvent;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskAssignmentRow;
+import com.api.gerenciadorprojetos.Tasks.Repositories.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache em memória da carga de trabalho por usuário, mantida como linha de varredura de tarefas em aberto.
+ * <p>
+ * Usuários são carregados sob demanda, em lote, a partir de responsaveis_tarefa. Depois de carregados, são
+ * atualizados incrementalmente quando uma tarefa muda: os {@link TaskChangedEvent} de uma transação são reunidos e
+ * reaplicados após o commit com uma única consulta. As entradas expiram após um TTL, o que limita a defasagem quando
+ * outra instância da aplicação altera tarefas.
+ *
+ * @author victor.marcelo
+ */
+@Component
+public class WorkloadCache {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadCache.class);
+
+    private static final int TAMANHO_LOTE = 1000;
+
+    private final TaskRepository taskRepository;
+    private final Duration ttl;
+    private final Clock clock;
+
+    private final Map<Long, UserWorkload> cargaPorUsuario = new ConcurrentHashMap<>();
+
+    /** Usuários em cache que possuem cada tarefa, para atualizar sem varrer todos os usuários. */
+    private final Map<Long, Set<Long>> usuariosPorTarefa = new HashMap<>();
+
+    /**
+     * Protege as alterações do cache e de {@link #usuariosPorTarefa}. As consultas ao banco são feitas fora dela;
+     * apenas {@link #porDia} lê sem a trava.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * Incrementada a cada lote de tarefas alteradas. Uma carga lida do banco antes de uma alteração não é guardada,
+     * pois a alteração não foi aplicada a ela.
+     */
+    private long geracao;
+
+    private final AfterCommitBatch<Long> tarefasAlteradas = new AfterCommitBatch<>(this::reaplicar);
+
+    @Autowired
+    public WorkloadCache(TaskRepository taskRepository,
+                         @Value("${app.workload.cache-ttl:10m}") Duration ttl) {
+        this(taskRepository, ttl, Clock.systemUTC());
+    }
+
+    WorkloadCache(TaskRepository taskRepository, Duration ttl, Clock clock) {
+        this.taskRepository = taskRepository;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Calcula a carga diária dos usuários informados em [de, ate], carregando em lote os que não estão em cache.
+     *
+     * @param userIds IDs dos usuários.
+     * @param de      Primeiro dia (epoch day).
+     * @param ate     Último dia, inclusivo (epoch day).
+     * @return Quantidade de tarefas simultâneas por dia, por usuário.
+     */
+    public Map<Long, int[]> porDia(Collection<Long> userIds, long de, long ate) {
+        Map<Long, UserWorkload> cargas = obter(userIds);
+
+        Map<Long, int[]> resultado = new HashMap<>(cargas.size() * 2);
+        for (Map.Entry<Long, UserWorkload> entry : cargas.entrySet()) {
+            resultado.put(entry.getKey(), entry.getValue().porDia(de, ate));
+        }
+        return resultado;
+    }
+
+    /**
+     * Registra a tarefa alterada para ser reaplicada após o commit, junto com as demais tarefas da mesma transação.
+     */
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        tarefasAlteradas.adicionar(event.getTaskId());
+    }
+
+    /**
+     * Descarta todo o cache. Os usuários serão recarregados na próxima consulta.
+     */
+    public void invalidateAll() {
+        synchronized (lock) {
+            geracao++;
+            cargaPorUsuario.clear();
+            usuariosPorTarefa.clear();
+        }
+    }
+
+    /**
+     * Remove os usuários expirados, junto com seus vínculos em {@link #usuariosPorTarefa}.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void removeExpired() {
+        long agora = clock.millis();
+        int removidos = 0;
+
+        synchronized (lock) {
+            for (Map.Entry<Long, UserWorkload> entry : new ArrayList<>(cargaPorUsuario.entrySet())) {
+                if (expirada(entry.getValue(), agora)) {
+                    cargaPorUsuario.remove(entry.getKey());
+                    desindexar(entry.getKey(), entry.getValue());
+                    removidos++;
+                }
+            }
+        }
+
+        if (removidos > 0) {
+            log.debug("Carga de trabalho expirada removida para {} usuários", removidos);
+        }
+    }
+
+    /**
+     * Reaplica as tarefas alteradas nos usuários em cache: remove o período antigo e, se a tarefa continuar em
+     * aberto, adiciona o novo período aos responsáveis atuais. Sem usuários em cache, nada é consultado.
+     */
+    private void reaplicar(List<Long> alteradas) {
+        synchronized (lock) {
+            geracao++;
+            if (cargaPorUsuario.isEmpty()) {
+                return;
+            }
+        }
+
+        List<Long> taskIds = new ArrayList<>(new LinkedHashSet<>(alteradas));
+        for (int i = 0; i < taskIds.size(); i += TAMANHO_LOTE) {
+            List<Long> lote = taskIds.subList(i, Math.min(i + TAMANHO_LOTE, taskIds.size()));
+            List<TaskAssignmentRow> atuais = taskRepository.findOpenAssignmentsByTaskIds(lote);
+
+            synchronized (lock) {
+                for (Long taskId : lote) {
+                    Set<Long> anteriores = usuariosPorTarefa.remove(taskId);
+                    if (anteriores != null) {
+                        for (Long userId : anteriores) {
+                            UserWorkload carga = cargaPorUsuario.get(userId);
+                            if (carga != null) {
+                                carga.remove(taskId);
+                            }
+                        }
+                    }
+                }
+
+                for (TaskAssignmentRow row : atuais) {
+                    UserWorkload carga = cargaPorUsuario.get(row.getUserId());
+                    if (carga != null && aplicar(carga, row)) {
+                        indexar(row.getUserId(), row.getTaskId());
+                    }
+                }
+            }
+        }
+
+        log.debug("Carga de trabalho atualizada para {} tarefas", taskIds.size());
+    }
+
+    private Map<Long, UserWorkload> obter(Collection<Long> userIds) {
+        long agora = clock.millis();
+        Map<Long, UserWorkload> cargas = new HashMap<>(userIds.size() * 2);
+        List<Long> ausentes = new ArrayList<>();
+
+        for (Long userId : new HashSet<>(userIds)) {
+            UserWorkload carga = cargaPorUsuario.get(userId);
+            if (carga != null && !expirada(carga, agora)) {
+                cargas.put(userId, carga);
+            } else {
+                ausentes.add(userId);
+            }
+        }
+
+        for (int i = 0; i < ausentes.size(); i += TAMANHO_LOTE) {
+            List<Long> lote = ausentes.subList(i, Math.min(i + TAMANHO_LOTE, ausentes.size()));
+            cargas.putAll(carregar(lote, agora));
+        }
+        return cargas;
+    }
+
+    private Map<Long, UserWorkload> carregar(List<Long> userIds, long agora) {
+        long geracaoInicial;
+        synchronized (lock) {
+            geracaoInicial = geracao;
+        }
+
+        Map<Long, UserWorkload> carregadas = new HashMap<>(userIds.size() * 2);
+        for (Long userId : userIds) {
+            carregadas.put(userId, new UserWorkload(agora));
+        }
+
+        for (TaskAssignmentRow row : taskRepository.findOpenAssignmentsByUserIds(userIds)) {
+            aplicar(carregadas.get(row.getUserId()), row);
+        }
+
+        synchronized (lock) {
+            if (geracao != geracaoInicial) {
+                // Uma tarefa mudou durante a consulta: a carga atende esta chamada, mas não é guardada
+                log.debug("Carga de trabalho de {} usuários não guardada: tarefas alteradas durante a carga",
+                        userIds.size());
+                return carregadas;
+            }
+
+            for (Map.Entry<Long, UserWorkload> entry : carregadas.entrySet()) {
+                UserWorkload anterior = cargaPorUsuario.put(entry.getKey(), entry.getValue());
+                if (anterior != null) {
+                    desindexar(entry.getKey(), anterior);
+                }
+                for (Long taskId : entry.getValue().tarefas()) {
+                    indexar(entry.getKey(), taskId);
+                }
+            }
+        }
+
+        log.debug("Carga de trabalho carregada para {} usuários", userIds.size());
+        return carregadas;
+    }
+
+    private boolean expirada(UserWorkload carga, long agora) {
+        return agora - carga.getCarregadoEm() >= ttl.toMillis();
+    }
+
+    private void indexar(Long userId, Long taskId) {
+        usuariosPorTarefa.computeIfAbsent(taskId, id -> new HashSet<>()).add(userId);
+    }
+
+    private void desindexar(Long userId, UserWorkload carga) {
+        for (Long taskId : carga.tarefas()) {
+            Set<Long> usuarios = usuariosPorTarefa.get(taskId);
+            if (usuarios != null && usuarios.remove(userId) && usuarios.isEmpty()) {
+                usuariosPorTarefa.remove(taskId);
+            }
+        }
+    }
+
+    private static boolean aplicar(UserWorkload carga, TaskAssignmentRow row) {
+        if (row.getDataInicio() == null || row.getDataTerminoPrevista() == null) {
+            return false;
+        }
+        carga.upsert(row.getTaskId(), row.getDataInicio().toEpochDay(), row.getDataTerminoPrevista().toEpochDay() + 1);
+        return true;
+    }
+}
@@ -0,0 +1,72 @@
+package com.api.gerenciadorprojetos.Workload.Controllers;
+
+import com.api.gerenciadorprojetos.Utils.Response;
+import com.api.gerenciadorprojetos.Workload.Enums.Granularidade;
+import com.api.gerenciadorprojetos.Workload.Services.WorkloadService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controller responsável pelas consultas de carga de trabalho de usuários na API.
+ *
+ * @author victor.marcelo
+ *
+ * @see WorkloadService
+ * @see Response
+ */
+@RestController
+@RequestMapping("/carga-trabalho")
+@Api(value = "Workload Controller", tags = "Consultas de Carga de Trabalho")
+public class WorkloadController {
+
+    private final WorkloadService workloadService;
+
+    @Autowired
+    public WorkloadController(WorkloadService workloadService) {
+        this.workloadService = workloadService;
+    }
+
+    @ApiOperation("Recupera a carga de trabalho de um usuário em todos os projetos")
+    @GetMapping("/usuario/{userId}")
+    public ResponseEntity<?> getUserWorkload(
+            @ApiParam(value = "ID do usuário", required = true) @PathVariable Long userId,
+            @ApiParam(value = "Início da janela (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @ApiParam(value = "Fim da janela (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @ApiParam(value = "Granularidade (DIA ou SEMANA)") @RequestParam(defaultValue = "DIA") Granularidade granularidade,
+            @RequestHeader("Authorization") String token)
+    {
+        return ResponseEntity.ok(new Response<>(workloadService.getUserWorkload(userId, from, to, granularidade)));
+    }
+
+    @ApiOperation("Recupera o mapa de calor de carga de trabalho dos membros de um projeto")
+    @GetMapping("/projeto/{projectId}")
+    public ResponseEntity<?> getProjectTeamWorkload(
+            @ApiParam(value = "ID do projeto", required = true) @PathVariable Long projectId,
+            @ApiParam(value = "Início da janela (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @ApiParam(value = "Fim da janela (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @ApiParam(value = "Granularidade (DIA ou SEMANA)") @RequestParam(defaultValue = "DIA") Granularidade granularidade,
+            @RequestHeader("Authorization") String token)
+    {
+        return ResponseEntity.ok(new Response<>(workloadService.getProjectTeamWorkload(projectId, from, to, granularidade)));
+    }
+
+    @ApiOperation("Recupera o mapa de calor de carga de trabalho de uma equipe")
+    @PostMapping("/equipe")
+    public ResponseEntity<?> getTeamWorkload(
+            @ApiParam(value = "Lista de IDs de usuários", required = true) @RequestBody List<Long> userIds,
+            @ApiParam(value = "Início da janela (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @ApiParam(value = "Fim da janela (yyyy-MM-dd)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @ApiParam(value = "Granularidade (DIA ou SEMANA)") @RequestParam(defaultValue = "DIA") Granularidade granularidade,
+            @RequestHeader("Authorization") String token)
+    {
+        return ResponseEntity.ok(new Response<>(workloadService.getTeamWorkload(userIds, from, to, granularidade)));
+    }
+}
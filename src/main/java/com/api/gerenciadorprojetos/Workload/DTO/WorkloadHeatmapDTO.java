@@ -0,0 +1,28 @@
+package com.api.gerenciadorprojetos.Workload.DTO;
+
+import com.api.gerenciadorprojetos.Workload.Enums.Granularidade;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO com a carga de trabalho de um ou mais usuários. Para cada usuário, a posição i de {@code carga} corresponde
+ * ao período iniciado em {@code periodos[i]} e contém a quantidade de tarefas em aberto simultâneas (o pico do
+ * período, quando a granularidade é semanal).
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class WorkloadHeatmapDTO {
+    private LocalDate de;
+    private LocalDate ate;
+    private Granularidade granularidade;
+    private List<LocalDate> periodos;
+    private Map<Long, int[]> cargaPorUsuario;
+}
@@ -0,0 +1,21 @@
+package com.api.gerenciadorprojetos.Workload.Enums;
+
+/**
+ * Granularidade dos períodos de uma consulta de carga de trabalho.
+ *
+ * @author victor.marcelo
+ */
+public enum Granularidade {
+    DIA("Dia"),
+    SEMANA("Semana");
+
+    private final String descricao;
+
+    Granularidade(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+}
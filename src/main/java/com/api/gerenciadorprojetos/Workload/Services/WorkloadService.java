@@ -0,0 +1,159 @@
+package com.api.gerenciadorprojetos.Workload.Services;
+
+import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import com.api.gerenciadorprojetos.Workload.Cache.WorkloadCache;
+import com.api.gerenciadorprojetos.Workload.DTO.WorkloadHeatmapDTO;
+import com.api.gerenciadorprojetos.Workload.Enums.Granularidade;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classe de serviço para consultar a carga de trabalho (tarefas em aberto simultâneas) de usuários em todos os
+ * projetos.
+ *
+ * @author victor.marcelo
+ *
+ * @see WorkloadCache
+ */
+@Service
+public class WorkloadService {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadService.class);
+
+    private static final int MAX_DIAS_JANELA = 366;
+    private static final int MAX_USUARIOS = 10_000;
+
+    private final WorkloadCache workloadCache;
+    private final ProjetoJpaRepository projectRepository;
+
+    @Autowired
+    public WorkloadService(WorkloadCache workloadCache, ProjetoJpaRepository projectRepository) {
+        this.workloadCache = workloadCache;
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * Recupera a carga de trabalho de um usuário.
+     *
+     * @param userId        O ID do usuário.
+     * @param de            Início da janela (inclusivo).
+     * @param ate           Fim da janela (inclusivo).
+     * @param granularidade Dia ou semana.
+     * @return Carga do usuário por período.
+     * @throws IllegalArgumentException Se algum parâmetro não for fornecido ou for inválido.
+     */
+    public WorkloadHeatmapDTO getUserWorkload(Long userId, LocalDate de, LocalDate ate, Granularidade granularidade) {
+        if (userId == null) {
+            log.error("Id do usuário não fornecido");
+            throw new IllegalArgumentException("Id do usuário não fornecido");
+        }
+        return getTeamWorkload(List.of(userId), de, ate, granularidade);
+    }
+
+    /**
+     * Recupera o mapa de calor de carga de trabalho dos membros de um projeto, considerando as tarefas de todos os
+     * projetos de cada membro.
+     *
+     * @param projectId     O ID do projeto.
+     * @param de            Início da janela (inclusivo).
+     * @param ate           Fim da janela (inclusivo).
+     * @param granularidade Dia ou semana.
+     * @return Carga de cada membro por período.
+     * @throws IllegalArgumentException Se algum parâmetro não for fornecido ou for inválido.
+     * @throws EntityNotFoundException  Se o projeto não for encontrado.
+     */
+    public WorkloadHeatmapDTO getProjectTeamWorkload(Long projectId, LocalDate de, LocalDate ate, Granularidade granularidade) {
+        if (projectId == null) {
+            log.error("Id do projeto não fornecido");
+            throw new IllegalArgumentException("Id do projeto não fornecido");
+        }
+
+        if (!projectRepository.existsById(projectId)) {
+            log.info("Projeto informado não encontrado. Id fornecido {}", projectId);
+            throw new EntityNotFoundException("Projeto não encontrado");
+        }
+
+        return getTeamWorkload(projectRepository.findMemberIds(projectId), de, ate, granularidade);
+    }
+
+    /**
+     * Recupera o mapa de calor de carga de trabalho de uma equipe.
+     *
+     * @param userIds       IDs dos usuários da equipe.
+     * @param de            Início da janela (inclusivo).
+     * @param ate           Fim da janela (inclusivo).
+     * @param granularidade Dia ou semana.
+     * @return Carga de cada usuário por período.
+     * @throws IllegalArgumentException Se algum parâmetro não for fornecido ou for inválido.
+     */
+    public WorkloadHeatmapDTO getTeamWorkload(Collection<Long> userIds, LocalDate de, LocalDate ate, Granularidade granularidade) {
+        if (userIds == null || de == null || ate == null) {
+            log.error("Parâmetros não fornecidos. Parâmetros solicitados: usuários, início e fim da janela");
+            throw new IllegalArgumentException("Parâmetros não fornecidos. Parâmetros solicitados: usuários, início e fim da janela");
+        }
+
+        if (ate.isBefore(de) || ate.toEpochDay() - de.toEpochDay() + 1 > MAX_DIAS_JANELA) {
+            throw new IllegalArgumentException("Janela inválida. O fim não pode ser anterior ao início e a janela deve ter no máximo " + MAX_DIAS_JANELA + " dias");
+        }
+
+        if (userIds.size() > MAX_USUARIOS) {
+            throw new IllegalArgumentException("Quantidade de usuários excede o máximo de " + MAX_USUARIOS);
+        }
+
+        Granularidade granularidadeConsulta = granularidade == null ? Granularidade.DIA : granularidade;
+
+        log.info("Calculando carga de trabalho de {} usuários entre {} e {} por {}", userIds.size(), de, ate, granularidadeConsulta);
+
+        Map<Long, int[]> porDia = workloadCache.porDia(userIds, de.toEpochDay(), ate.toEpochDay());
+
+        if (granularidadeConsulta == Granularidade.DIA) {
+            List<LocalDate> dias = new ArrayList<>();
+            for (LocalDate dia = de; !dia.isAfter(ate); dia = dia.plusDays(1)) {
+                dias.add(dia);
+            }
+            return new WorkloadHeatmapDTO(de, ate, granularidadeConsulta, dias, porDia);
+        }
+
+        return agruparPorSemana(de, ate, porDia);
+    }
+
+    /**
+     * Agrupa a carga diária em semanas ISO (segunda a domingo), usando o pico de cada semana dentro da janela.
+     */
+    private WorkloadHeatmapDTO agruparPorSemana(LocalDate de, LocalDate ate, Map<Long, int[]> porDia) {
+        List<LocalDate> semanas = new ArrayList<>();
+        List<Integer> inicioSemana = new ArrayList<>();
+        for (LocalDate segunda = de.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+             !segunda.isAfter(ate); segunda = segunda.plusWeeks(1)) {
+            semanas.add(segunda);
+            inicioSemana.add((int) Math.max(0, segunda.toEpochDay() - de.toEpochDay()));
+        }
+
+        Map<Long, int[]> porSemana = new HashMap<>(porDia.size() * 2);
+        for (Map.Entry<Long, int[]> entry : porDia.entrySet()) {
+            int[] dias = entry.getValue();
+            int[] picos = new int[semanas.size()];
+            for (int s = 0; s < semanas.size(); s++) {
+                int fim = s + 1 < semanas.size() ? inicioSemana.get(s + 1) : dias.length;
+                for (int d = inicioSemana.get(s); d < fim; d++) {
+                    picos[s] = Math.max(picos[s], dias[d]);
+                }
+            }
+            porSemana.put(entry.getKey(), picos);
+        }
+
+        return new WorkloadHeatmapDTO(de, ate, Granularidade.SEMANA, semanas, porSemana);
+    }
+}
@@ -0,0 +1,63 @@
+package com.api.gerenciadorprojetos.audit.Controllers;
+
+import com.api.gerenciadorprojetos.Utils.Response;
+import com.api.gerenciadorprojetos.audit.Services.AuditLogService;
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Controller responsável pelas consultas do histórico de auditoria na API.
+ *
+ * @author victor.marcelo
+ *
+ * @see AuditLogService
+ * @see Response
+ */
+@RestController
+@RequestMapping("/auditoria")
+@Api(value = "Audit Controller", tags = "Consultas de Auditoria")
+public class AuditLogController {
+
+    private final AuditLogService auditLogService;
+
+    @Autowired
+    public AuditLogController(AuditLogService auditLogService) {
+        this.auditLogService = auditLogService;
+    }
+
+    @ApiOperation("Pesquisa o histórico de auditoria por entidade, usuário e intervalo, com paginação por cursor. Retorna " +
+            "apenas as ações do usuário autenticado e as realizadas nos projetos em que ele está envolvido")
+    @GetMapping
+    public ResponseEntity<?> searchAudit(
+            @ApiParam(value = "Tipo da entidade afetada (ex.: Projeto, Tarefa)") @RequestParam(required = false) String entidade,
+            @ApiParam(value = "ID da entidade afetada") @RequestParam(required = false) Long idEntidade,
+            @ApiParam(value = "ID do usuário que executou a ação") @RequestParam(required = false) Long idUsuario,
+            @ApiParam(value = "Início do intervalo (yyyy-MM-ddTHH:mm:ss)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @ApiParam(value = "Fim do intervalo, exclusivo (yyyy-MM-ddTHH:mm:ss)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @ApiParam(value = "Cursor da próxima página, devolvido pela consulta anterior") @RequestParam(required = false) String cursor,
+            @ApiParam(value = "Registros por página (máximo 500)") @RequestParam(defaultValue = "50") int size,
+            @RequestHeader("Authorization") String token)
+    {
+        return ResponseEntity.ok(new Response<>(auditLogService.searchAudit(entidade, idEntidade, idUsuario, from, to, cursor, size)));
+    }
+
+    @ApiOperation("Recupera o histórico de auditoria de uma entidade, se ela pertencer a um projeto em que o usuário " +
+            "autenticado está envolvido")
+    @GetMapping("/{entidade}/{idEntidade}")
+    public ResponseEntity<?> findEntityHistory(
+            @ApiParam(value = "Tipo da entidade afetada (ex.: Projeto, Tarefa)", required = true) @PathVariable String entidade,
+            @ApiParam(value = "ID da entidade afetada", required = true) @PathVariable Long idEntidade,
+            @ApiParam(value = "Cursor da próxima página, devolvido pela consulta anterior") @RequestParam(required = false) String cursor,
+            @ApiParam(value = "Registros por página (máximo 500)") @RequestParam(defaultValue = "50") int size,
+            @RequestHeader("Authorization") String token)
+    {
+        return ResponseEntity.ok(new Response<>(auditLogService.searchAudit(entidade, idEntidade, null, null, null, cursor, size)));
+    }
+}
@@ -0,0 +1,24 @@
+package com.api.gerenciadorprojetos.audit.Converters;
+
+import com.api.gerenciadorprojetos.audit.Enums.AcaoAuditoria;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Converte {@link AcaoAuditoria} no código gravado na coluna smallint do audit_log.
+ *
+ * @author victor.marcelo
+ */
+@Converter
+public class AcaoAuditoriaConverter implements AttributeConverter<AcaoAuditoria, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(AcaoAuditoria valor) {
+        return valor == null ? null : valor.getCodigo();
+    }
+
+    @Override
+    public AcaoAuditoria convertToEntityAttribute(Short codigo) {
+        return codigo == null ? null : AcaoAuditoria.fromCodigo(codigo);
+    }
+}
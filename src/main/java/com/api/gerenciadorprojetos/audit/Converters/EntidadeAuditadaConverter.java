@@ -0,0 +1,24 @@
+package com.api.gerenciadorprojetos.audit.Converters;
+
+import com.api.gerenciadorprojetos.audit.Enums.EntidadeAuditada;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Converte {@link EntidadeAuditada} no código gravado na coluna smallint do audit_log.
+ *
+ * @author victor.marcelo
+ */
+@Converter
+public class EntidadeAuditadaConverter implements AttributeConverter<EntidadeAuditada, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(EntidadeAuditada valor) {
+        return valor == null ? null : valor.getCodigo();
+    }
+
+    @Override
+    public EntidadeAuditada convertToEntityAttribute(Short codigo) {
+        return codigo == null ? null : EntidadeAuditada.fromCodigo(codigo);
+    }
+}
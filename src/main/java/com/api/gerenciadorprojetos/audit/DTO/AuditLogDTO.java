@@ -0,0 +1,30 @@
+package com.api.gerenciadorprojetos.audit.DTO;
+
+import com.api.gerenciadorprojetos.audit.Entities.AlteracaoCampo;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * DTO para representar um registro de auditoria nas consultas de histórico.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditLogDTO {
+    private Long id;
+    private LocalDateTime horarioRegistro;
+    private Long idUsuario;
+    private String acaoRealizada;
+    private String entidadeAfetada;
+    private Long idEntidade;
+    private String detalhes;
+    private Map<String, AlteracaoCampo> alteracoes;
+    private String origemAcao;
+    private String idCorrelacao;
+}
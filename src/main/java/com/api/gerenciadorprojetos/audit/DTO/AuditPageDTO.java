@@ -0,0 +1,21 @@
+package com.api.gerenciadorprojetos.audit.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO com uma página do histórico de auditoria. Para buscar a próxima página, repita a consulta informando
+ * {@code proximoCursor}; quando ele for nulo não há mais registros.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuditPageDTO {
+    private List<AuditLogDTO> registros;
+    private String proximoCursor;
+}
@@ -0,0 +1,38 @@
+package com.api.gerenciadorprojetos.audit.Dictionary;
+
+import com.api.gerenciadorprojetos.audit.Enums.TipoDicionario;
+
+import java.util.Map;
+
+/**
+ * Acesso ao dicionário do audit (audit_dicionario) usado pelo {@link AuditStringInterner}.
+ *
+ * @author victor.marcelo
+ */
+public interface AuditDictionaryStore {
+
+    /**
+     * Carrega textos já gravados de um tipo.
+     *
+     * @param limite Quantidade máxima de textos.
+     * @return ID de cada texto.
+     */
+    Map<String, Integer> carregar(TipoDicionario tipo, int limite);
+
+    /**
+     * Grava o texto, se ainda não existir, na transação atual.
+     *
+     * @return ID do texto, ou nulo se uma gravação concorrente ainda não estiver visível.
+     */
+    Integer gravar(TipoDicionario tipo, String valor);
+
+    /**
+     * @return ID do texto, ou nulo se não existir.
+     */
+    Integer buscarId(TipoDicionario tipo, String valor);
+
+    /**
+     * @return Texto do ID, ou nulo se não existir.
+     */
+    String buscarValor(Integer id);
+}
@@ -0,0 +1,154 @@
+package com.api.gerenciadorprojetos.audit.Dictionary;
+
+import com.api.gerenciadorprojetos.audit.Enums.TipoDicionario;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Cache de internação dos textos do dicionário do audit, nos dois sentidos: texto → ID na gravação e ID → texto na
+ * leitura. Depois que um texto é conhecido, registrar um audit não consulta mais o dicionário no banco.
+ * <p>
+ * Textos maiores que {@link #TAMANHO_MAXIMO} são truncados antes da internação, e as versões dos agentes de usuário
+ * são reduzidas à versão principal ("Chrome/120.0.6099.109" vira "Chrome/120"), para que cada atualização de navegador
+ * não gere um texto novo.
+ * <p>
+ * Cada tipo aceita no máximo {@code capacidade} textos no dicionário. Na primeira internação de um tipo, os textos já
+ * gravados são carregados no cache. Quando o cache de um tipo está cheio, textos novos não são mais gravados: um
+ * texto já existente no banco é apenas consultado, e um texto desconhecido recebe o ID de {@link #VALOR_EXCEDENTE}.
+ * Assim valores arbitrários (ex.: agentes de usuário forjados) não fazem o dicionário crescer sem limite.
+ * <p>
+ * A gravação usa a transação de quem registra o audit; o ID só entra no cache após o commit, para que uma transação
+ * desfeita não deixe em cache o ID de um texto que não foi gravado.
+ *
+ * @author victor.marcelo
+ */
+public class AuditStringInterner {
+
+    public static final int TAMANHO_MAXIMO = 512;
+
+    /** Texto gravado no lugar dos textos novos de um tipo cujo dicionário atingiu a capacidade. */
+    public static final String VALOR_EXCEDENTE = "(outros)";
+
+    private static final Pattern VERSAO = Pattern.compile("(\\d+)(?:[._]\\d+)+");
+
+    private final int capacidade;
+    private final AuditDictionaryStore dicionario;
+
+    private final Map<TipoDicionario, Map<String, Integer>> idsPorTipo = new ConcurrentHashMap<>();
+    private final Map<Integer, String> valoresPorId = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacidade Quantidade máxima de textos por tipo, no cache e no dicionário.
+     * @param dicionario Acesso ao dicionário no banco.
+     */
+    public AuditStringInterner(int capacidade, AuditDictionaryStore dicionario) {
+        this.capacidade = capacidade;
+        this.dicionario = dicionario;
+    }
+
+    /**
+     * Recupera o ID do texto, gravando-o no dicionário na primeira vez em que aparece.
+     *
+     * @return ID do texto, ou nulo se o texto for nulo ou vazio.
+     */
+    public Integer idDe(TipoDicionario tipo, String valor) {
+        if (valor == null || valor.isEmpty()) {
+            return null;
+        }
+        String normalizado = normalizar(tipo, valor);
+
+        Map<String, Integer> ids = ids(tipo);
+        Integer id = ids.get(normalizado);
+        if (id != null) {
+            return id;
+        }
+
+        if (ids.size() < capacidade) {
+            return gravar(tipo, normalizado, ids);
+        }
+
+        id = dicionario.buscarId(tipo, normalizado);
+        if (id != null) {
+            return id;
+        }
+        id = ids.get(VALOR_EXCEDENTE);
+        return id != null ? id : gravar(tipo, VALOR_EXCEDENTE, ids);
+    }
+
+    /**
+     * Recupera o texto de um ID do dicionário.
+     *
+     * @return Texto, ou nulo se o ID for nulo ou não existir.
+     */
+    public String valorDe(Integer id) {
+        if (id == null) {
+            return null;
+        }
+        String valor = valoresPorId.get(id);
+        if (valor != null) {
+            return valor;
+        }
+
+        valor = dicionario.buscarValor(id);
+        if (valor != null && valoresPorId.size() < capacidade * TipoDicionario.values().length) {
+            valoresPorId.putIfAbsent(id, valor);
+        }
+        return valor;
+    }
+
+    public int tamanho(TipoDicionario tipo) {
+        Map<String, Integer> ids = idsPorTipo.get(tipo);
+        return ids == null ? 0 : ids.size();
+    }
+
+    private Map<String, Integer> ids(TipoDicionario tipo) {
+        return idsPorTipo.computeIfAbsent(tipo, chave -> {
+            Map<String, Integer> ids = new ConcurrentHashMap<>(dicionario.carregar(chave, capacidade));
+            ids.forEach((valor, id) -> valoresPorId.putIfAbsent(id, valor));
+            return ids;
+        });
+    }
+
+    private Integer gravar(TipoDicionario tipo, String valor, Map<String, Integer> ids) {
+        Integer id = dicionario.gravar(tipo, valor);
+        if (id == null) {
+            // A gravação concorrente do mesmo texto foi confirmada depois do início do comando
+            id = dicionario.gravar(tipo, valor);
+            if (id == null) {
+                return null;
+            }
+        }
+
+        Integer gravado = id;
+        Runnable guardar = () -> {
+            // O texto excedente sempre entra no cache, mesmo com o tipo cheio
+            if (ids.size() < capacidade || VALOR_EXCEDENTE.equals(valor)) {
+                ids.putIfAbsent(valor, gravado);
+            }
+            if (valoresPorId.size() < capacidade * TipoDicionario.values().length) {
+                valoresPorId.putIfAbsent(gravado, valor);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guardar.run();
+                }
+            });
+        } else {
+            guardar.run();
+        }
+        return id;
+    }
+
+    private static String normalizar(TipoDicionario tipo, String valor) {
+        String normalizado = tipo == TipoDicionario.AGENTE_USUARIO ? VERSAO.matcher(valor).replaceAll("$1") : valor;
+        return normalizado.length() > TAMANHO_MAXIMO ? normalizado.substring(0, TAMANHO_MAXIMO) : normalizado;
+    }
+}
@@ -0,0 +1,141 @@
+package com.api.gerenciadorprojetos.audit.Diff;
+
+import com.api.gerenciadorprojetos.audit.Entities.AlteracaoCampo;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Compara o estado de uma entidade antes e depois de uma alteração, campo a campo, para o JSON de alterações do audit.
+ * <p>
+ * Os campos comparados são declarados uma única vez, com o nome gravado no audit e um acessor (ex.: referência de
+ * método). Nenhuma reflexão é feita por chamada. O uso esperado é capturar um {@link Snapshot} antes de aplicar os
+ * setters e, depois deles, chamar {@link #diff(Snapshot, Object)}.
+ * <p>
+ * Apenas valores escalares devem ser declarados. Para associações, declare o ID (ex.: {@code p -> p.getGerente().getId()}
+ * com verificação de nulo), o que não inicializa proxies LAZY nem coleções.
+ *
+ * @param <T> Tipo da entidade comparada.
+ * @author victor.marcelo
+ */
+public final class EntityDiffer<T> {
+
+    private final String[] campos;
+    private final Function<T, ?>[] acessores;
+
+    private EntityDiffer(String[] campos, Function<T, ?>[] acessores) {
+        this.campos = campos;
+        this.acessores = acessores;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Captura os valores atuais dos campos declarados.
+     *
+     * @param entidade Entidade antes da alteração.
+     * @return Valores dos campos, na ordem de declaração.
+     */
+    public Snapshot<T> snapshot(T entidade) {
+        Object[] valores = new Object[acessores.length];
+        for (int i = 0; i < acessores.length; i++) {
+            valores[i] = acessores[i].apply(entidade);
+        }
+        return new Snapshot<>(this, valores);
+    }
+
+    /**
+     * Compara o snapshot com o estado atual da entidade.
+     *
+     * @param antes    Snapshot capturado antes da alteração por este mesmo comparador.
+     * @param entidade Entidade após a alteração.
+     * @return Campos alterados (campo → valor anterior e novo), em ordem de declaração. Vazio se nada mudou.
+     * @throws IllegalArgumentException Se o snapshot tiver sido capturado por outro comparador.
+     */
+    public Map<String, AlteracaoCampo> diff(Snapshot<T> antes, T entidade) {
+        if (antes.origem != this) {
+            throw new IllegalArgumentException("Snapshot capturado por outro comparador de entidade");
+        }
+
+        Map<String, AlteracaoCampo> alteracoes = null;
+        for (int i = 0; i < acessores.length; i++) {
+            Object anterior = antes.valores[i];
+            Object atual = acessores[i].apply(entidade);
+            if (!iguais(anterior, atual)) {
+                if (alteracoes == null) {
+                    alteracoes = new LinkedHashMap<>();
+                }
+                alteracoes.put(campos[i], new AlteracaoCampo(texto(anterior), texto(atual)));
+            }
+        }
+        return alteracoes == null ? Collections.emptyMap() : alteracoes;
+    }
+
+    public List<String> getCampos() {
+        return List.of(campos);
+    }
+
+    private static boolean iguais(Object anterior, Object atual) {
+        // BigDecimal 10.0 e 10.00 representam o mesmo valor, mas não são equals
+        if (anterior instanceof BigDecimal a && atual instanceof BigDecimal b) {
+            return a.compareTo(b) == 0;
+        }
+        return Objects.equals(anterior, atual);
+    }
+
+    private static String texto(Object valor) {
+        return valor == null ? null : valor.toString();
+    }
+
+    /**
+     * Valores dos campos declarados de uma entidade em um momento, sem referência à entidade.
+     */
+    public static final class Snapshot<T> {
+
+        private final EntityDiffer<T> origem;
+        private final Object[] valores;
+
+        private Snapshot(EntityDiffer<T> origem, Object[] valores) {
+            this.origem = origem;
+            this.valores = valores;
+        }
+    }
+
+    public static final class Builder<T> {
+
+        private final List<String> campos = new ArrayList<>();
+        private final List<Function<T, ?>> acessores = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Declara um campo comparado.
+         *
+         * @param nome    Nome do campo gravado no audit.
+         * @param acessor Função que lê o valor escalar do campo.
+         * @throws IllegalArgumentException Se o nome for repetido.
+         */
+        public Builder<T> campo(String nome, Function<T, ?> acessor) {
+            if (campos.contains(nome)) {
+                throw new IllegalArgumentException("Campo declarado mais de uma vez: " + nome);
+            }
+            campos.add(nome);
+            acessores.add(Objects.requireNonNull(acessor));
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        public EntityDiffer<T> build() {
+            return new EntityDiffer<>(campos.toArray(new String[0]), acessores.toArray(new Function[0]));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.api.gerenciadorprojetos.audit.Entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Valor anterior e novo de um campo alterado, armazenado no JSON de alterações do {@link AuditLog}.
+ * Os valores são gravados como texto para que o JSON não dependa do tipo Java do campo.
+ *
+ * @author victor.marcelo
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AlteracaoCampo implements Serializable {
+    private String de;
+    private String para;
+}
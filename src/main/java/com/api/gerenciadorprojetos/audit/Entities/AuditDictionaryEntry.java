@@ -0,0 +1,32 @@
+package com.api.gerenciadorprojetos.audit.Entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entidade que representa um texto do dicionário do audit (agente do usuário, origem da ação).
+ * Cada texto distinto é gravado uma vez por tipo e os registros de audit guardam apenas o ID.
+ *
+ * @author victor.marcelo
+ */
+@Entity
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "audit_dicionario", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_audit_dicionario_tipo_valor", columnNames = {"tipo", "valor"})
+})
+public class AuditDictionaryEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "tipo", nullable = false)
+    private Short tipo;
+
+    @Column(name = "valor", nullable = false, length = 512)
+    private String valor;
+}
@@ -1,49 +1,82 @@
 package com.api.gerenciadorprojetos.audit.Entities;
 
-import com.api.gerenciadorprojetos.Users.Entities.User;
+import com.api.gerenciadorprojetos.audit.Converters.AcaoAuditoriaConverter;
+import com.api.gerenciadorprojetos.audit.Converters.EntidadeAuditadaConverter;
+import com.api.gerenciadorprojetos.audit.Enums.AcaoAuditoria;
+import com.api.gerenciadorprojetos.audit.Enums.EntidadeAuditada;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
+/**
+ * Entidade que representa um registro de auditoria de uma ação de usuário.
+ * <p>
+ * Além da descrição textual, cada registro identifica a entidade afetada (tipo e ID), o usuário que executou a
+ * ação e, em atualizações, o JSON com os campos alterados. Os índices compostos terminam em (timestamp, id) para
+ * atender à paginação por cursor das consultas de histórico.
+ * <p>
+ * Textos repetitivos são gravados de forma compacta: a ação e o tipo da entidade como códigos smallint e o agente do
+ * usuário e a origem como IDs do dicionário (audit_dicionario).
+ *
+ * @author victor.marcelo
+ */
 @Entity
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "audit_log")
+@Table(name = "audit_log", indexes = {
+        @Index(name = "idx_audit_log_entidade", columnList = "entidade_afetada, id_entidade, timestamp, id"),
+        @Index(name = "idx_audit_log_usuario", columnList = "id_usuario, timestamp, id"),
+        @Index(name = "idx_audit_log_timestamp", columnList = "timestamp, id")
+})
 public class AuditLog {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(name = "timestamp")
+    @Column(name = "timestamp", nullable = false)
     private LocalDateTime horarioRegistro;
 
     @Column(name = "id_usuario")
-    private User usuario;
+    private Long idUsuario;
 
-    @Column(name = "acao")
-    private String acaoRealizada;
+    @Convert(converter = AcaoAuditoriaConverter.class)
+    @Column(name = "acao", nullable = false)
+    private AcaoAuditoria acaoRealizada;
 
-    @Column(name = "detalhes")
+    @Column(name = "detalhes", columnDefinition = "TEXT")
     private String detalhes;
 
+    @Convert(converter = EntidadeAuditadaConverter.class)
     @Column(name = "entidade_afetada")
-    private String entidadeAfetada;
+    private EntidadeAuditada entidadeAfetada;
 
+    @Column(name = "id_entidade")
+    private Long idEntidade;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "alteracoes")
+    private Map<String, AlteracaoCampo> alteracoes;
 
     @Column(name = "endereco_ip")
     private String enderecoIP;
 
-    @Column(name = "agente_usuario")
-    private String agenteUsuario;
+    @Column(name = "id_agente_usuario")
+    private Integer idAgenteUsuario;
 
-    @Column(name = "origem")
-    private String origemAcao;
+    @Column(name = "id_origem")
+    private Integer idOrigem;
 
     @Column(name = "informacoes_sessao")
     private String informacoesSessao;
+
+    @Column(name = "id_correlacao", length = 64)
+    private String idCorrelacao;
 }
@@ -0,0 +1,56 @@
+package com.api.gerenciadorprojetos.audit.Enums;
+
+/**
+ * Ações registradas no audit. Cada registro grava apenas o código da ação (smallint); a descrição fica no código
+ * da aplicação. Os códigos são persistidos e não devem ser alterados nem reutilizados.
+ *
+ * @author victor.marcelo
+ */
+public enum AcaoAuditoria {
+    CRIAR_PROJETO(1, "Criação de um novo projeto"),
+    ATUALIZAR_PROJETO(2, "Atualização de um projeto existente"),
+    ADICIONAR_USUARIO_PROJETO(3, "Adicionando usuario a um projeto"),
+    ADICIONAR_USUARIOS_PROJETO(4, "Adicionando usuarios a um projeto"),
+    REMOVER_USUARIO_PROJETO(5, "Removendo usuario de um projeto"),
+    REMOVER_USUARIOS_PROJETO(6, "Removendo usuarios de um projeto"),
+    DEFINIR_GERENTE_PROJETO(7, "Adicionando usuario como gerente de um projeto"),
+    DELETAR_PROJETO(8, "Deletando projeto"),
+    CRIAR_TAREFA(9, "Criação de uma nova tarefa no projeto"),
+    ATUALIZAR_TAREFA(10, "Atualização de uma tarefa de projeto existente"),
+    ADICIONAR_USUARIOS_TAREFA(11, "Adicionando usuários a tarefa"),
+    REMOVER_USUARIOS_TAREFA(12, "Removendo usuários da tarefa"),
+    DELETAR_TAREFA(13, "Deletando Tarefa de projeto"),
+    CRIAR_DEPENDENCIA_TAREFA(14, "Criando dependência entre tarefas"),
+    REMOVER_DEPENDENCIA_TAREFA(15, "Removendo dependência entre tarefas");
+
+    private static final AcaoAuditoria[] POR_CODIGO = new AcaoAuditoria[values().length + 1];
+
+    static {
+        for (AcaoAuditoria acao : values()) {
+            POR_CODIGO[acao.codigo] = acao;
+        }
+    }
+
+    private final short codigo;
+    private final String descricao;
+
+    AcaoAuditoria(int codigo, String descricao) {
+        this.codigo = (short) codigo;
+        this.descricao = descricao;
+    }
+
+    public short getCodigo() {
+        return codigo;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public static AcaoAuditoria fromCodigo(short codigo) {
+        if (codigo <= 0 || codigo >= POR_CODIGO.length || POR_CODIGO[codigo] == null) {
+            throw new IllegalArgumentException("Código de ação de auditoria inválido: " + codigo);
+        }
+        return POR_CODIGO[codigo];
+    }
+}
@@ -0,0 +1,51 @@
+package com.api.gerenciadorprojetos.audit.Enums;
+
+/**
+ * Tipos de entidade afetados pelas ações registradas no audit, gravados como código (smallint).
+ * Os códigos são persistidos e não devem ser alterados nem reutilizados.
+ *
+ * @author victor.marcelo
+ */
+public enum EntidadeAuditada {
+    PROJETO(1, "Projeto"),
+    TAREFA(2, "Tarefa");
+
+    private final short codigo;
+    private final String descricao;
+
+    EntidadeAuditada(int codigo, String descricao) {
+        this.codigo = (short) codigo;
+        this.descricao = descricao;
+    }
+
+    public short getCodigo() {
+        return codigo;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public static EntidadeAuditada fromCodigo(short codigo) {
+        for (EntidadeAuditada entidade : values()) {
+            if (entidade.codigo == codigo) {
+                return entidade;
+            }
+        }
+        throw new IllegalArgumentException("Código de entidade de auditoria inválido: " + codigo);
+    }
+
+    /**
+     * Converte o nome informado nas consultas (ex.: Projeto, tarefa) no tipo de entidade.
+     *
+     * @throws IllegalArgumentException Se o nome não corresponder a nenhum tipo de entidade.
+     */
+    public static EntidadeAuditada fromDescricao(String descricao) {
+        for (EntidadeAuditada entidade : values()) {
+            if (entidade.descricao.equalsIgnoreCase(descricao) || entidade.name().equalsIgnoreCase(descricao)) {
+                return entidade;
+            }
+        }
+        throw new IllegalArgumentException("Tipo de entidade inválido: " + descricao);
+    }
+}
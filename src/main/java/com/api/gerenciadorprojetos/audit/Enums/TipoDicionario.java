@@ -0,0 +1,21 @@
+package com.api.gerenciadorprojetos.audit.Enums;
+
+/**
+ * Tipos de texto repetitivo do audit gravados uma única vez no dicionário (audit_dicionario) e referenciados por ID.
+ *
+ * @author victor.marcelo
+ */
+public enum TipoDicionario {
+    AGENTE_USUARIO(1),
+    ORIGEM(2);
+
+    private final short codigo;
+
+    TipoDicionario(int codigo) {
+        this.codigo = (short) codigo;
+    }
+
+    public short getCodigo() {
+        return codigo;
+    }
+}
@@ -0,0 +1,41 @@
+package com.api.gerenciadorprojetos.audit.Repositories;
+
+import com.api.gerenciadorprojetos.audit.Entities.AuditDictionaryEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface AuditDictionaryRepository extends JpaRepository<AuditDictionaryEntry, Integer> {
+
+    /**
+     * Grava o texto no dicionário, se ainda não existir, e devolve o seu ID em um único comando, na conexão da
+     * transação atual. Não descarrega (flush) as alterações pendentes da transação. Inserções concorrentes do mesmo
+     * texto não falham; se a linha concorrente ainda não estiver visível, devolve nulo.
+     */
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query(value = "WITH novo AS (" +
+            "INSERT INTO audit_dicionario (tipo, valor) VALUES (:tipo, :valor) " +
+            "ON CONFLICT (tipo, valor) DO NOTHING RETURNING id) " +
+            "SELECT id FROM novo " +
+            "UNION ALL SELECT id FROM audit_dicionario WHERE tipo = :tipo AND valor = :valor " +
+            "LIMIT 1", nativeQuery = true)
+    Integer insertIfAbsentReturningId(@Param("tipo") short tipo, @Param("valor") String valor);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT d.id FROM AuditDictionaryEntry d WHERE d.tipo = :tipo AND d.valor = :valor")
+    Integer findIdByTipoAndValor(@Param("tipo") short tipo, @Param("valor") String valor);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT d FROM AuditDictionaryEntry d WHERE d.tipo = :tipo ORDER BY d.id")
+    List<AuditDictionaryEntry> findByTipo(@Param("tipo") short tipo, Pageable pageable);
+}
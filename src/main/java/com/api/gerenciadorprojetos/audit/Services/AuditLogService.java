@@ -1,18 +1,54 @@
 package com.api.gerenciadorprojetos.audit.Services;
 
+import com.api.gerenciadorprojetos.Exceptions.UnauthorizedException;
+import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import com.api.gerenciadorprojetos.Tasks.Entities.Task;
 import com.api.gerenciadorprojetos.Users.Entities.User;
+import com.api.gerenciadorprojetos.Utils.SecurityUtils;
+import com.api.gerenciadorprojetos.audit.DTO.AuditLogDTO;
+import com.api.gerenciadorprojetos.audit.DTO.AuditPageDTO;
+import com.api.gerenciadorprojetos.audit.Dictionary.AuditDictionaryStore;
+import com.api.gerenciadorprojetos.audit.Dictionary.AuditStringInterner;
+import com.api.gerenciadorprojetos.audit.Entities.AlteracaoCampo;
+import com.api.gerenciadorprojetos.audit.Entities.AuditDictionaryEntry;
 import com.api.gerenciadorprojetos.audit.Entities.AuditLog;
+import com.api.gerenciadorprojetos.audit.Enums.AcaoAuditoria;
+import com.api.gerenciadorprojetos.audit.Enums.EntidadeAuditada;
+import com.api.gerenciadorprojetos.audit.Enums.TipoDicionario;
+import com.api.gerenciadorprojetos.audit.Repositories.AuditDictionaryRepository;
 import com.api.gerenciadorprojetos.audit.Repositories.AuditLogRepository;
 import com.api.gerenciadorprojetos.config.RequestInfo;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Classe de serviço para gerenciar operações relacionadas ao audit.
+ * <p>
+ * O agente do usuário e a origem de cada registro são internados no dicionário do audit e gravados como IDs. O cache
+ * de internação evita consultar o dicionário no banco para textos já conhecidos; um texto novo é gravado na mesma
+ * transação (e conexão) do registro.
+ * <p>
+ * As consultas do histórico retornam apenas as ações do próprio usuário e as realizadas nos projetos em que ele está
+ * envolvido (e nas tarefas desses projetos). A origem só é exibida nos registros do próprio usuário.
  *
  * @author victor.marcelo
  */
@@ -20,13 +56,53 @@ import java.time.LocalDateTime;
 @Service
 public class AuditLogService {
 
+    private static final int MAX_TAMANHO_PAGINA = 500;
+
+    private static final Sort ORDEM_HISTORICO = Sort.by(Sort.Direction.DESC, "horarioRegistro", "id");
+
     private final AuditLogRepository auditLogRepository;
+    private final AuditStringInterner dicionario;
+    private final ProjetoJpaRepository projectRepository;
+    private final SecurityUtils securityUtils;
     private static final Logger log = LoggerFactory.getLogger(AuditLogService.class);
 
     @Autowired
-    public AuditLogService(AuditLogRepository auditLogRepository){
+    public AuditLogService(AuditLogRepository auditLogRepository,
+                           AuditDictionaryRepository dictionaryRepository,
+                           ProjetoJpaRepository projectRepository,
+                           SecurityUtils securityUtils,
+                           @Value("${app.audit.dictionary.cache-size:10000}") int tamanhoCacheDicionario)
+    {
         this.auditLogRepository = auditLogRepository;
+        this.projectRepository = projectRepository;
+        this.securityUtils = securityUtils;
+        this.dicionario = new AuditStringInterner(tamanhoCacheDicionario, new AuditDictionaryStore() {
+            @Override
+            public Map<String, Integer> carregar(TipoDicionario tipo, int limite) {
+                Map<String, Integer> ids = new HashMap<>();
+                for (AuditDictionaryEntry entry : dictionaryRepository.findByTipo(tipo.getCodigo(), PageRequest.of(0, limite))) {
+                    ids.put(entry.getValor(), entry.getId());
+                }
+                return ids;
+            }
+
+            @Override
+            public Integer gravar(TipoDicionario tipo, String valor) {
+                return dictionaryRepository.insertIfAbsentReturningId(tipo.getCodigo(), valor);
+            }
+
+            @Override
+            public Integer buscarId(TipoDicionario tipo, String valor) {
+                return dictionaryRepository.findIdByTipoAndValor(tipo.getCodigo(), valor);
+            }
+
+            @Override
+            public String buscarValor(Integer id) {
+                return dictionaryRepository.findById(id).map(AuditDictionaryEntry::getValor).orElse(null);
+            }
+        });
     }
+
     /**
      * Adiciona um Registro de audit para ações de usuário.
      *
@@ -37,13 +113,33 @@ public class AuditLogService {
      * @param requestInfo  Informações sobre a requisição.
      * @throws RuntimeException Se ocorrer um erro ao salvar o registro de auditoria.
      */
-    public void addAudit(User usuario, String acao, String detalhes, String entidade, RequestInfo requestInfo) {
+    public void addAudit(User usuario, AcaoAuditoria acao, String detalhes, EntidadeAuditada entidade, RequestInfo requestInfo) {
+        addAudit(usuario, acao, detalhes, entidade, null, null, requestInfo);
+    }
+
+    /**
+     * Adiciona um Registro de audit estruturado para ações de usuário.
+     *
+     * @param usuario      O usuário que está realizando a ação, ou nulo se não houver usuário autenticado.
+     * @param acao         A ação realizada pelo usuário.
+     * @param detalhes     Detalhes sobre a ação.
+     * @param entidade     O tipo da entidade afetada pela ação.
+     * @param idEntidade   O ID da entidade afetada.
+     * @param alteracoes   Campos alterados (campo → valor anterior e novo), ou nulo se não houver.
+     * @param requestInfo  Informações sobre a requisição.
+     * @throws RuntimeException Se ocorrer um erro ao salvar o registro de auditoria.
+     */
+    public void addAudit(User usuario, AcaoAuditoria acao, String detalhes, EntidadeAuditada entidade, Long idEntidade,
+                         Map<String, AlteracaoCampo> alteracoes, RequestInfo requestInfo) {
+        Long idUsuario = usuario == null ? null : usuario.getId();
         try {
             AuditLog auditLog = criarRegistroAuditoria(usuario, acao, detalhes, entidade, requestInfo);
-            log.info("Registrando log de ações do usuário com id: {}", usuario.getId());
+            auditLog.setIdEntidade(idEntidade);
+            auditLog.setAlteracoes(alteracoes == null || alteracoes.isEmpty() ? null : alteracoes);
+            log.info("Registrando log de ações do usuário com id: {}", idUsuario);
             auditLogRepository.save(auditLog);
         } catch (Exception ex) {
-            log.error("Erro ao registrar log de ações do usuário de id {}", usuario.getId());
+            log.error("Erro ao registrar log de ações do usuário de id {}", idUsuario);
             throw new RuntimeException("Erro ao registrar log de ações do usuário. Causa: " + ex.getMessage(), ex);
         }
     }
@@ -51,24 +147,155 @@ public class AuditLogService {
     /**
      * Cria o objeto AuditLog com os parametros fornecidos.
      *
-     * @param usuario      O usuário que está realizando a ação.
+     * @param usuario      O usuário que está realizando a ação, ou nulo se não houver usuário autenticado.
      * @param acao         A ação realizada pelo usuário.
      * @param detalhes     Detalhes sobre a ação.
      * @param entidade     A entidade afetada pela ação.
      * @param requestInfo  Informações sobre o usuário que fez a requisição.
      * @return AuditLog
      */
-    public AuditLog criarRegistroAuditoria(User usuario, String acao, String detalhes, String entidade, RequestInfo requestInfo) {
+    public AuditLog criarRegistroAuditoria(User usuario, AcaoAuditoria acao, String detalhes, EntidadeAuditada entidade, RequestInfo requestInfo) {
         AuditLog auditLog = new AuditLog();
         auditLog.setHorarioRegistro(LocalDateTime.now());
-        auditLog.setUsuario(usuario);
+        auditLog.setIdUsuario(usuario == null ? null : usuario.getId());
         auditLog.setAcaoRealizada(acao);
         auditLog.setDetalhes(detalhes);
         auditLog.setEntidadeAfetada(entidade);
-        auditLog.setEnderecoIP(requestInfo.getIpAddress());
-        auditLog.setAgenteUsuario(requestInfo.getUserAgent());
-        auditLog.setOrigemAcao(requestInfo.getOrigin());
-        auditLog.setInformacoesSessao(requestInfo.getSessionId());
+        if (requestInfo != null) {
+            auditLog.setEnderecoIP(requestInfo.getIpAddress());
+            auditLog.setIdAgenteUsuario(dicionario.idDe(TipoDicionario.AGENTE_USUARIO, requestInfo.getUserAgent()));
+            auditLog.setIdOrigem(dicionario.idDe(TipoDicionario.ORIGEM, requestInfo.getOrigin()));
+            auditLog.setInformacoesSessao(requestInfo.getSessionId());
+            auditLog.setIdCorrelacao(requestInfo.getCorrelationId());
+        }
         return auditLog;
     }
+
+    /**
+     * Pesquisa o histórico de auditoria, do registro mais recente para o mais antigo, com paginação por cursor sobre
+     * (timestamp, id). Cada página continua exatamente onde a anterior terminou, sem OFFSET e sem contagem total,
+     * de forma que o custo de uma página não cresce com a profundidade da navegação.
+     * <p>
+     * A pesquisa é restrita às ações do usuário autenticado e às realizadas nos projetos em que ele está envolvido e
+     * nas tarefas desses projetos.
+     *
+     * @param entidade   Tipo da entidade afetada (opcional).
+     * @param idEntidade ID da entidade afetada (opcional, exige o tipo da entidade).
+     * @param idUsuario  ID do usuário que executou a ação (opcional).
+     * @param de         Início do intervalo (inclusivo, opcional).
+     * @param ate        Fim do intervalo (exclusivo, opcional).
+     * @param cursor     Cursor devolvido pela página anterior (opcional).
+     * @param tamanho    Quantidade de registros por página (máximo 500).
+     * @return Página do histórico e cursor da próxima página.
+     * @throws IllegalArgumentException Se a paginação, o tipo da entidade ou o cursor forem inválidos.
+     * @throws UnauthorizedException    Se o usuário não estiver autenticado.
+     */
+    @Transactional(readOnly = true)
+    public AuditPageDTO searchAudit(String entidade, Long idEntidade, Long idUsuario,
+                                    LocalDateTime de, LocalDateTime ate, String cursor, int tamanho) {
+        if (tamanho < 1 || tamanho > MAX_TAMANHO_PAGINA) {
+            throw new IllegalArgumentException("Paginação inválida. O tamanho da página deve estar entre 1 e " + MAX_TAMANHO_PAGINA);
+        }
+
+        if (idEntidade != null && entidade == null) {
+            throw new IllegalArgumentException("O tipo da entidade é obrigatório ao filtrar pelo ID da entidade");
+        }
+
+        EntidadeAuditada tipoEntidade = entidade == null ? null : EntidadeAuditada.fromDescricao(entidade);
+        Object[] posicao = cursor == null || cursor.isBlank() ? null : decodificarCursor(cursor);
+
+        User userAuthenticated = securityUtils.getUsuarioLogado();
+        if (userAuthenticated == null) {
+            throw new UnauthorizedException("Usuário não autenticado");
+        }
+        Long idSolicitante = userAuthenticated.getId();
+        List<Long> projetosVisiveis = projectRepository.findInvolvedProjectIds(idSolicitante);
+
+        log.info("Pesquisando audit. Entidade: {} {}, usuário: {}, intervalo: {} a {}", entidade, idEntidade, idUsuario, de, ate);
+
+        Specification<AuditLog> filtro = (root, query, cb) -> {
+            List<Predicate> predicados = new ArrayList<>();
+            predicados.add(visivelPara(root, query.subquery(Long.class), cb, idSolicitante, projetosVisiveis));
+            if (tipoEntidade != null) {
+                predicados.add(cb.equal(root.get("entidadeAfetada"), tipoEntidade));
+            }
+            if (idEntidade != null) {
+                predicados.add(cb.equal(root.get("idEntidade"), idEntidade));
+            }
+            if (idUsuario != null) {
+                predicados.add(cb.equal(root.get("idUsuario"), idUsuario));
+            }
+            if (de != null) {
+                predicados.add(cb.greaterThanOrEqualTo(root.get("horarioRegistro"), de));
+            }
+            if (ate != null) {
+                predicados.add(cb.lessThan(root.get("horarioRegistro"), ate));
+            }
+            if (posicao != null) {
+                LocalDateTime horario = (LocalDateTime) posicao[0];
+                Long id = (Long) posicao[1];
+                // (timestamp, id) < (horario, id) escrito de forma que o limite no timestamp delimite a faixa do índice
+                predicados.add(cb.lessThanOrEqualTo(root.get("horarioRegistro"), horario));
+                predicados.add(cb.or(
+                        cb.lessThan(root.get("horarioRegistro"), horario),
+                        cb.lessThan(root.get("id"), id)));
+            }
+            return cb.and(predicados.toArray(new Predicate[0]));
+        };
+
+        List<AuditLog> registros = auditLogRepository.findBy(filtro, q -> q.sortBy(ORDEM_HISTORICO).limit(tamanho + 1).all());
+
+        boolean possuiProxima = registros.size() > tamanho;
+        List<AuditLog> pagina = possuiProxima ? registros.subList(0, tamanho) : registros;
+
+        List<AuditLogDTO> dtos = new ArrayList<>(pagina.size());
+        for (AuditLog registro : pagina) {
+            dtos.add(new AuditLogDTO(registro.getId(), registro.getHorarioRegistro(), registro.getIdUsuario(),
+                    registro.getAcaoRealizada().getDescricao(),
+                    registro.getEntidadeAfetada() == null ? null : registro.getEntidadeAfetada().getDescricao(),
+                    registro.getIdEntidade(), registro.getDetalhes(), registro.getAlteracoes(),
+                    idSolicitante.equals(registro.getIdUsuario()) ? dicionario.valorDe(registro.getIdOrigem()) : null,
+                    registro.getIdCorrelacao()));
+        }
+
+        String proximoCursor = null;
+        if (possuiProxima) {
+            AuditLog ultimo = pagina.get(pagina.size() - 1);
+            proximoCursor = codificarCursor(ultimo.getHorarioRegistro(), ultimo.getId());
+        }
+        return new AuditPageDTO(dtos, proximoCursor);
+    }
+
+    /**
+     * Registros visíveis ao usuário: as próprias ações, as realizadas nos projetos informados e as realizadas nas
+     * tarefas desses projetos.
+     */
+    private static Predicate visivelPara(Root<AuditLog> root, Subquery<Long> tarefas,
+                                         CriteriaBuilder cb, Long idUsuario, List<Long> projetos) {
+        Predicate proprias = cb.equal(root.get("idUsuario"), idUsuario);
+        if (projetos.isEmpty()) {
+            return proprias;
+        }
+        Root<Task> tarefa = tarefas.from(Task.class);
+        tarefas.select(tarefa.get("id")).where(tarefa.get("projeto").get("id").in(projetos));
+        return cb.or(
+                proprias,
+                cb.and(cb.equal(root.get("entidadeAfetada"), EntidadeAuditada.PROJETO), root.get("idEntidade").in(projetos)),
+                cb.and(cb.equal(root.get("entidadeAfetada"), EntidadeAuditada.TAREFA), root.get("idEntidade").in(tarefas)));
+    }
+
+    private static String codificarCursor(LocalDateTime horario, Long id) {
+        String valor = horario + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Object[] decodificarCursor(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.indexOf('|');
+            return new Object[]{LocalDateTime.parse(valor.substring(0, separador)), Long.parseLong(valor.substring(separador + 1))};
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Cursor de paginação inválido");
+        }
+    }
 }
@@ -0,0 +1,254 @@
+package com.api.gerenciadorprojetos.audit.Services;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Classe de serviço que mantém a tabela audit_log particionada por mês (particionamento por faixa do PostgreSQL).
+ * <p>
+ * Cria as partições dos próximos meses com antecedência e, para partições além do período de retenção, opcionalmente
+ * as arquiva em arquivos NDJSON compactados com gzip antes de desanexá-las e excluí-las. A leitura para arquivamento
+ * usa cursor no servidor, então a partição nunca é carregada inteira em memória.
+ * <p>
+ * Cada etapa obtém um advisory lock de transação, de forma que apenas uma instância da aplicação faz a manutenção
+ * por vez.
+ *
+ * @author victor.marcelo
+ */
+@Service
+public class AuditPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditPartitionService.class);
+
+    private static final String TABELA = "audit_log";
+    private static final Pattern NOME_PARTICAO = Pattern.compile("audit_log_y(\\d{4})m(\\d{2})");
+    private static final long CHAVE_ADVISORY_LOCK = 0x617564697450L;
+    private static final int TAMANHO_LOTE_LEITURA = 5000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean habilitado;
+    private final int mesesAFrente;
+    private final int mesesRetencao;
+    private final boolean arquivamentoHabilitado;
+    private final Path diretorioArquivo;
+
+    @Autowired
+    public AuditPartitionService(DataSource dataSource,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.audit.partitioning.enabled:true}") boolean habilitado,
+                                 @Value("${app.audit.partitioning.months-ahead:3}") int mesesAFrente,
+                                 @Value("${app.audit.partitioning.retention-months:24}") int mesesRetencao,
+                                 @Value("${app.audit.archive.enabled:false}") boolean arquivamentoHabilitado,
+                                 @Value("${app.audit.archive.directory:./arquivo-audit}") String diretorioArquivo)
+    {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(TAMANHO_LOTE_LEITURA);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.habilitado = habilitado;
+        this.mesesAFrente = mesesAFrente;
+        this.mesesRetencao = mesesRetencao;
+        this.arquivamentoHabilitado = arquivamentoHabilitado;
+        this.diretorioArquivo = Path.of(diretorioArquivo);
+    }
+
+    /**
+     * Garante, na inicialização, que a tabela esteja particionada e que existam partições para os próximos meses,
+     * para que nenhuma inserção falhe por falta de partição.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!habilitado) {
+            return;
+        }
+        try {
+            ensurePartitionedTable();
+            createFuturePartitions(YearMonth.now());
+        } catch (RuntimeException ex) {
+            log.error("Não foi possível preparar o particionamento do audit. Causa: {}", ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Executa a manutenção completa das partições: criação antecipada e retenção.
+     * Este método é chamado por um JOB todos os dias à 02:00h.
+     */
+    public void maintainPartitions() {
+        if (!habilitado) {
+            return;
+        }
+        log.info("Mantendo partições do audit. JOB executado todos os dias a 02:00h");
+
+        ensurePartitionedTable();
+        YearMonth mesAtual = YearMonth.now();
+        createFuturePartitions(mesAtual);
+        applyRetention(mesAtual);
+    }
+
+    /**
+     * Converte audit_log em tabela particionada por mês, apenas se ela ainda não for particionada e estiver vazia.
+     * Tabelas com dados não são convertidas automaticamente, pois isso exigiria reescrever todos os registros.
+     * A migração V1 já cria a tabela particionada; a conversão atende bancos criados antes das migrações.
+     */
+    void ensurePartitionedTable() {
+        executarComLock(() -> {
+            String tipo = jdbcTemplate.query(
+                    "SELECT c.relkind FROM pg_class c WHERE c.oid = to_regclass(?)",
+                    rs -> rs.next() ? rs.getString(1) : null, TABELA);
+
+            if (tipo == null || "p".equals(tipo)) {
+                return;
+            }
+
+            Boolean possuiRegistros = jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + TABELA + ")", Boolean.class);
+            if (Boolean.TRUE.equals(possuiRegistros)) {
+                log.warn("Tabela {} possui registros e não é particionada. A conversão deve ser feita por migração", TABELA);
+                return;
+            }
+
+            log.info("Convertendo tabela {} vazia em tabela particionada por mês", TABELA);
+            jdbcTemplate.execute("ALTER TABLE " + TABELA + " RENAME TO " + TABELA + "_nao_particionada");
+            jdbcTemplate.execute("CREATE TABLE " + TABELA + " (LIKE " + TABELA + "_nao_particionada INCLUDING DEFAULTS INCLUDING IDENTITY) " +
+                    "PARTITION BY RANGE (timestamp)");
+            jdbcTemplate.execute("DROP TABLE " + TABELA + "_nao_particionada");
+            jdbcTemplate.execute("ALTER TABLE " + TABELA + " ADD PRIMARY KEY (id, timestamp)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_audit_log_entidade ON " + TABELA + " (entidade_afetada, id_entidade, timestamp, id)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_audit_log_usuario ON " + TABELA + " (id_usuario, timestamp, id)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_audit_log_timestamp ON " + TABELA + " (timestamp, id)");
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABELA + "_default PARTITION OF " + TABELA + " DEFAULT");
+        });
+    }
+
+    /**
+     * Cria, se ainda não existirem, as partições do mês atual e dos próximos meses configurados.
+     */
+    void createFuturePartitions(YearMonth mesAtual) {
+        executarComLock(() -> {
+            for (int i = 0; i <= mesesAFrente; i++) {
+                YearMonth mes = mesAtual.plusMonths(i);
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + nomeParticao(mes) + " PARTITION OF " + TABELA +
+                        " FOR VALUES FROM ('" + mes.atDay(1) + "') TO ('" + mes.plusMonths(1).atDay(1) + "')");
+            }
+        });
+    }
+
+    /**
+     * Arquiva (se habilitado), desanexa e exclui as partições cujo mês terminou antes do período de retenção.
+     * Se o arquivamento de uma partição falhar, ela é mantida e a manutenção segue para as demais.
+     */
+    void applyRetention(YearMonth mesAtual) {
+        YearMonth limite = mesAtual.minusMonths(mesesRetencao);
+
+        List<String> particoes = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "WHERE i.inhparent = to_regclass(?) ORDER BY c.relname", String.class, TABELA);
+
+        for (String particao : particoes) {
+            YearMonth mes = mesDaParticao(particao);
+            if (mes == null || !mes.isBefore(limite)) {
+                continue;
+            }
+
+            try {
+                boolean removida = executarComLock(() -> {
+                    if (arquivamentoHabilitado) {
+                        arquivar(particao);
+                    }
+                    jdbcTemplate.execute("ALTER TABLE " + TABELA + " DETACH PARTITION " + particao);
+                    jdbcTemplate.execute("DROP TABLE " + particao);
+                });
+                if (removida) {
+                    log.info("Partição {} removida por retenção ({} meses)", particao, mesesRetencao);
+                }
+            } catch (RuntimeException ex) {
+                log.error("Falha ao aplicar retenção na partição {}. A partição foi mantida. Causa: {}", particao, ex.getMessage(), ex);
+            }
+        }
+    }
+
+    /**
+     * Grava a partição em {@code <diretório>/<partição>.ndjson.gz}, um registro JSON por linha, lendo em lotes por
+     * cursor. O arquivo é escrito com nome temporário e renomeado apenas ao final, para que um arquivo incompleto
+     * nunca seja confundido com um arquivo válido.
+     */
+    private void arquivar(String particao) {
+        Path destino = diretorioArquivo.resolve(particao + ".ndjson.gz");
+        Path temporario = diretorioArquivo.resolve(particao + ".ndjson.gz.tmp");
+
+        try {
+            Files.createDirectories(diretorioArquivo);
+            long[] registros = {0};
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temporario), 64 * 1024), StandardCharsets.UTF_8))) {
+                jdbcTemplate.query("SELECT row_to_json(a)::text FROM " + particao + " a ORDER BY a.timestamp, a.id", rs -> {
+                    try {
+                        writer.write(rs.getString(1));
+                        writer.write('\n');
+                        registros[0]++;
+                    } catch (IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+            }
+            Files.move(temporario, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Partição {} arquivada em {} ({} registros)", particao, destino, registros[0]);
+        } catch (IOException | UncheckedIOException ex) {
+            throw new IllegalStateException("Erro ao arquivar partição " + particao + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Executa a ação em uma transação protegida por advisory lock. Se outra instância estiver com o lock, a ação é
+     * ignorada nesta execução.
+     *
+     * @return true se a ação foi executada, false se o lock estava com outra instância.
+     */
+    private boolean executarComLock(Runnable acao) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            Boolean obtido = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, CHAVE_ADVISORY_LOCK);
+            if (!Boolean.TRUE.equals(obtido)) {
+                log.info("Manutenção do audit em execução por outra instância");
+                return false;
+            }
+            acao.run();
+            return true;
+        }));
+    }
+
+    static String nomeParticao(YearMonth mes) {
+        return String.format("%s_y%04dm%02d", TABELA, mes.getYear(), mes.getMonthValue());
+    }
+
+    static YearMonth mesDaParticao(String particao) {
+        Matcher matcher = NOME_PARTICAO.matcher(particao);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+    }
+}
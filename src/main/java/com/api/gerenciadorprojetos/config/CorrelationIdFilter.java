@@ -0,0 +1,71 @@
+package com.api.gerenciadorprojetos.config;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Filtro que define o ID de correlação da requisição: usa o cabeçalho {@value #CABECALHO} enviado pelo cliente, se
+ * válido, ou gera um novo. O ID é devolvido no mesmo cabeçalho da resposta, colocado no MDC dos logs, marcado no span
+ * da requisição e disponibilizado ao {@link CustomRequestInterceptor} para o {@link RequestInfo} e o audit.
+ * <p>
+ * Executa logo após o filtro de observação HTTP do Spring, para que o span da requisição já exista.
+ *
+ * @author victor.marcelo
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String CABECALHO = "X-Correlation-Id";
+    public static final String ATRIBUTO = CorrelationIdFilter.class.getName() + ".correlationId";
+    public static final String CHAVE_MDC = "correlationId";
+
+    private static final Pattern FORMATO_VALIDO = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private final ObjectProvider<Tracer> tracer;
+
+    @Autowired
+    public CorrelationIdFilter(ObjectProvider<Tracer> tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String correlationId = request.getHeader(CABECALHO);
+        if (correlationId == null || !FORMATO_VALIDO.matcher(correlationId).matches()) {
+            correlationId = UUID.randomUUID().toString();
+        }
+
+        request.setAttribute(ATRIBUTO, correlationId);
+        response.setHeader(CABECALHO, correlationId);
+
+        Tracer tracerAtual = tracer.getIfAvailable();
+        Span span = tracerAtual == null ? null : tracerAtual.currentSpan();
+        if (span != null) {
+            span.tag("correlation.id", correlationId);
+        }
+
+        MDC.put(CHAVE_MDC, correlationId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(CHAVE_MDC);
+        }
+    }
+}
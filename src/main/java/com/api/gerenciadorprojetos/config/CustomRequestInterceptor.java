@@ -4,6 +4,7 @@ import org.springframework.web.servlet.HandlerInterceptor;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
 
 /**
  * Interceptor personalizado para capturar e armazenar informações específicas da requisição.
@@ -23,11 +24,14 @@ public class CustomRequestInterceptor implements HandlerInterceptor {
         // Obtem informações da requisição
         String ipAddress = request.getRemoteAddr();
         String userAgent = request.getHeader("User-Agent");
-        String sessionId = request.getSession().getId();
+        // A API é stateless: não cria sessão HTTP apenas para registrar o seu ID
+        HttpSession session = request.getSession(false);
+        String sessionId = session == null ? null : session.getId();
         String origin = request.getHeader("Origin");
+        String correlationId = (String) request.getAttribute(CorrelationIdFilter.ATRIBUTO);
 
         // Cria um objeto RequestInfo para armazená-lo no ThreadLocal
-        RequestInfo requestInfo = new RequestInfo(ipAddress, userAgent, sessionId, origin);
+        RequestInfo requestInfo = new RequestInfo(ipAddress, userAgent, sessionId, origin, correlationId);
         requestInfoThreadLocal.set(requestInfo);
 
         // Continua o processamento da requisição
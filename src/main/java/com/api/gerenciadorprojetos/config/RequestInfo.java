@@ -17,4 +17,5 @@ public class RequestInfo {
     private String userAgent;
     private String sessionId;
     private String origin;
+    private String correlationId;
 }
@@ -0,0 +1,19 @@
+package com.api.gerenciadorprojetos.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuração do Spring MVC: registra o interceptor que captura as informações da requisição usadas no audit.
+ *
+ * @author victor.marcelo
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new CustomRequestInterceptor());
+    }
+}
@@ -0,0 +1,143 @@
+-- Esquema inicial, equivalente ao gerado pelo Hibernate a partir das entidades, com audit_log já particionada por mês.
+-- Bancos criados anteriormente pelo ddl-auto são registrados nesta versão (baseline) e seguem a partir da V2.
+
+CREATE TABLE usuarios (
+    id                    BIGSERIAL    NOT NULL,
+    nome_usuario          VARCHAR      NOT NULL,
+    login_usuario         VARCHAR      NOT NULL,
+    email_usuario         VARCHAR      NOT NULL,
+    senha_usuario         VARCHAR      NOT NULL,
+    data_registro_usuario TIMESTAMP(3) NOT NULL,
+    CONSTRAINT pk_usuarios PRIMARY KEY (id),
+    CONSTRAINT uk_usuarios_email UNIQUE (email_usuario)
+);
+
+CREATE TABLE projetos (
+    id                       BIGSERIAL    NOT NULL,
+    nome_projeto             VARCHAR(255) NOT NULL,
+    descricao                TEXT         NOT NULL,
+    data_inicio              DATE         NOT NULL,
+    data_termino_prevista    DATE         NOT NULL,
+    data_criacao_projeto     TIMESTAMP(6),
+    status                   VARCHAR(255) NOT NULL,
+    id_gerente_projeto       BIGINT,
+    id_criador_projeto       BIGINT,
+    orcamento                FLOAT(53),
+    prioridade               VARCHAR(50),
+    porcentagem_concluida    INTEGER,
+    soma_porcentagem_tarefas BIGINT       NOT NULL DEFAULT 0,
+    quantidade_tarefas       INTEGER      NOT NULL DEFAULT 0,
+    versao                   BIGINT,
+    CONSTRAINT pk_projetos PRIMARY KEY (id),
+    CONSTRAINT ck_projetos_status CHECK (status IN ('CRIADO', 'EM_ANDAMENTO', 'CONCLUIDO', 'ATRASADO')),
+    CONSTRAINT ck_projetos_porcentagem CHECK (porcentagem_concluida BETWEEN 0 AND 100),
+    CONSTRAINT fk_projetos_gerente FOREIGN KEY (id_gerente_projeto) REFERENCES usuarios (id),
+    CONSTRAINT fk_projetos_criador FOREIGN KEY (id_criador_projeto) REFERENCES usuarios (id)
+);
+
+CREATE TABLE membros_projeto (
+    id_projeto BIGINT NOT NULL,
+    id_usuario BIGINT NOT NULL,
+    CONSTRAINT uk_membros_projeto UNIQUE (id_projeto, id_usuario),
+    CONSTRAINT fk_membros_projeto_projeto FOREIGN KEY (id_projeto) REFERENCES projetos (id),
+    CONSTRAINT fk_membros_projeto_usuario FOREIGN KEY (id_usuario) REFERENCES usuarios (id)
+);
+
+CREATE TABLE tarefas_projeto (
+    id                    BIGSERIAL    NOT NULL,
+    nome_tarefa           VARCHAR(255) NOT NULL,
+    descricao             TEXT         NOT NULL,
+    data_inicio           DATE         NOT NULL,
+    data_termino_prevista DATE         NOT NULL,
+    status                VARCHAR(255) NOT NULL,
+    id_projeto            BIGINT       NOT NULL,
+    data_conclusao        TIMESTAMP(6),
+    porcentagem_concluida INTEGER,
+    versao                BIGINT,
+    CONSTRAINT pk_tarefas_projeto PRIMARY KEY (id),
+    CONSTRAINT ck_tarefas_projeto_status CHECK (status IN ('PENDENTE', 'EM_ANDAMENTO', 'CONCLUIDA', 'ATRASADA')),
+    CONSTRAINT ck_tarefas_projeto_porcentagem CHECK (porcentagem_concluida BETWEEN 0 AND 100),
+    CONSTRAINT fk_tarefas_projeto_projeto FOREIGN KEY (id_projeto) REFERENCES projetos (id)
+);
+
+CREATE INDEX idx_tarefas_projeto_timeline ON tarefas_projeto (id_projeto, data_inicio, data_termino_prevista);
+
+CREATE TABLE responsaveis_tarefa (
+    id_tarefa  BIGINT NOT NULL,
+    id_usuario BIGINT NOT NULL,
+    CONSTRAINT pk_responsaveis_tarefa PRIMARY KEY (id_tarefa, id_usuario),
+    CONSTRAINT fk_responsaveis_tarefa_tarefa FOREIGN KEY (id_tarefa) REFERENCES tarefas_projeto (id),
+    CONSTRAINT fk_responsaveis_tarefa_usuario FOREIGN KEY (id_usuario) REFERENCES usuarios (id)
+);
+
+CREATE INDEX idx_responsaveis_tarefa_usuario ON responsaveis_tarefa (id_usuario);
+
+CREATE TABLE dependencias_tarefa (
+    id                     BIGSERIAL NOT NULL,
+    id_tarefa_predecessora BIGINT    NOT NULL,
+    id_tarefa_sucessora    BIGINT    NOT NULL,
+    lag_dias               INTEGER   NOT NULL DEFAULT 0,
+    CONSTRAINT pk_dependencias_tarefa PRIMARY KEY (id),
+    CONSTRAINT uk_dependencias_tarefa UNIQUE (id_tarefa_predecessora, id_tarefa_sucessora),
+    CONSTRAINT ck_dependencias_tarefa_lag CHECK (lag_dias >= 0),
+    CONSTRAINT fk_dependencias_tarefa_predecessora FOREIGN KEY (id_tarefa_predecessora) REFERENCES tarefas_projeto (id),
+    CONSTRAINT fk_dependencias_tarefa_sucessora FOREIGN KEY (id_tarefa_sucessora) REFERENCES tarefas_projeto (id)
+);
+
+CREATE INDEX idx_dependencias_tarefa_sucessora ON dependencias_tarefa (id_tarefa_sucessora);
+
+CREATE TABLE snapshots_projeto (
+    data_snapshot        DATE    NOT NULL,
+    id_projeto           BIGINT  NOT NULL,
+    tarefas_pendentes    INTEGER NOT NULL,
+    tarefas_em_andamento INTEGER NOT NULL,
+    tarefas_concluidas   INTEGER NOT NULL,
+    tarefas_atrasadas    INTEGER NOT NULL,
+    soma_porcentagem     BIGINT  NOT NULL,
+    CONSTRAINT pk_snapshots_projeto PRIMARY KEY (data_snapshot, id_projeto)
+);
+
+CREATE TABLE audit_dicionario (
+    id    SERIAL       NOT NULL,
+    tipo  SMALLINT     NOT NULL,
+    valor VARCHAR(512) NOT NULL,
+    CONSTRAINT pk_audit_dicionario PRIMARY KEY (id),
+    CONSTRAINT uk_audit_dicionario_tipo_valor UNIQUE (tipo, valor)
+);
+
+-- A chave primária de uma tabela particionada precisa incluir a coluna de particionamento
+CREATE TABLE audit_log (
+    id                 BIGSERIAL    NOT NULL,
+    timestamp          TIMESTAMP(6) NOT NULL,
+    id_usuario         BIGINT,
+    acao               SMALLINT     NOT NULL,
+    detalhes           TEXT,
+    entidade_afetada   SMALLINT,
+    id_entidade        BIGINT,
+    alteracoes         JSONB,
+    endereco_ip        VARCHAR(255),
+    id_agente_usuario  INTEGER,
+    id_origem          INTEGER,
+    informacoes_sessao VARCHAR(255),
+    id_correlacao      VARCHAR(64),
+    CONSTRAINT pk_audit_log PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+CREATE INDEX idx_audit_log_entidade ON audit_log (entidade_afetada, id_entidade, timestamp, id);
+CREATE INDEX idx_audit_log_usuario ON audit_log (id_usuario, timestamp, id);
+CREATE INDEX idx_audit_log_timestamp ON audit_log (timestamp, id);
+
+CREATE TABLE audit_log_default PARTITION OF audit_log DEFAULT;
+
+-- Partições do mês atual e dos próximos três meses. As seguintes são criadas pelo AuditPartitionService.
+DO $$
+DECLARE
+    mes DATE := date_trunc('month', current_date);
+BEGIN
+    FOR i IN 0..3 LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS audit_log_y%sm%s PARTITION OF audit_log FOR VALUES FROM (%L) TO (%L)',
+                       to_char(mes, 'YYYY'), to_char(mes, 'MM'), mes, (mes + INTERVAL '1 month')::date);
+        mes := (mes + INTERVAL '1 month')::date;
+    END LOOP;
+END
+$$;
@@ -0,0 +1,31 @@
+-- Índices das consultas dos repositórios. Criados com CONCURRENTLY para não bloquear escritas em bancos já populados,
+-- por isso esta migração é executada fora de transação (ver V2__indices_consultas.sql.conf).
+
+-- Listagem por status (ProjetoJpaRepository.findProjectsByStatus)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projetos_status ON projetos (status);
+
+-- Chaves estrangeiras para usuários: projetos gerenciados/criados e exclusão de usuários
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projetos_gerente ON projetos (id_gerente_projeto);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projetos_criador ON projetos (id_criador_projeto);
+
+-- Projetos que ainda podem ficar atrasados, por prazo (job diário de atrasados). Parcial: projetos concluídos e já
+-- atrasados, que são a maioria com o tempo, não entram no índice.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_projetos_termino_em_aberto ON projetos (data_termino_prevista)
+    WHERE status IN ('CRIADO', 'EM_ANDAMENTO');
+
+-- Projetos de um usuário (findProjectsByUser_Id, findProjectsByUser_IdAndStatus). A restrição única
+-- (id_projeto, id_usuario) atende apenas a busca por projeto. Com id_projeto no índice a junção não lê a tabela.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_membros_projeto_usuario ON membros_projeto (id_usuario, id_projeto);
+
+-- Tarefas que ainda podem ficar atrasadas, por prazo (job diário de atrasados)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_tarefas_projeto_termino_em_aberto ON tarefas_projeto (data_termino_prevista)
+    WHERE status IN ('PENDENTE', 'EM_ANDAMENTO');
+
+-- Tarefas de um usuário (findByUserIdAndProjectId, findOpenAssignmentsByUserIds, countByResponsaveis_IdAndStatus):
+-- com id_tarefa no índice a junção com tarefas_projeto parte direto do índice. Substitui o índice só por id_usuario.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_responsaveis_tarefa_usuario_tarefa ON responsaveis_tarefa (id_usuario, id_tarefa);
+DROP INDEX CONCURRENTLY IF EXISTS idx_responsaveis_tarefa_usuario;
+
+-- Burndown de um projeto em um intervalo (ProjectSnapshotRepository.findBurndown). A chave primária começa pela data
+-- e não atende a busca por projeto.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_snapshots_projeto_projeto_data ON snapshots_projeto (id_projeto, data_snapshot);
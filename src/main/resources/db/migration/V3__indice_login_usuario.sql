@@ -0,0 +1,3 @@
+-- Busca do usuário autenticado pelo login do token JWT (SecurityUtils.getUsuarioLogado). Executada fora de transação
+-- para usar CONCURRENTLY (ver V3__indice_login_usuario.sql.conf).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_usuarios_login ON usuarios (login_usuario);
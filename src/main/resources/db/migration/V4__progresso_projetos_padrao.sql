@@ -0,0 +1,5 @@
+-- O progresso dos projetos deixou de ser gravado pela entidade (somente pelas atualizações em massa das tarefas).
+-- Na inserção a coluna recebe o valor padrão do banco, como soma_porcentagem_tarefas e quantidade_tarefas
+ALTER TABLE projetos ALTER COLUMN porcentagem_concluida SET DEFAULT 0;
+
+UPDATE projetos SET porcentagem_concluida = 0 WHERE porcentagem_concluida IS NULL;
@@ -0,0 +1,99 @@
+package com.api.gerenciadorprojetos.ChangeFeed.Controllers;
+
+import com.api.gerenciadorprojetos.ChangeFeed.Enums.TipoAlteracao;
+import com.api.gerenciadorprojetos.ChangeFeed.Hub.ChangeFeedHub;
+import com.api.gerenciadorprojetos.Users.Entities.User;
+import com.api.gerenciadorprojetos.Utils.SecurityUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class ChangeFeedControllerTest {
+
+    private static final long USUARIO = 10L;
+
+    private final ChangeFeedHub hub = new ChangeFeedHub(new SimpleMeterRegistry(), 16, 100, 5, Duration.ofMinutes(1));
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void configurar() {
+        SecurityUtils securityUtils = mock(SecurityUtils.class);
+        User usuario = new User();
+        usuario.setId(USUARIO);
+        when(securityUtils.getUsuarioLogado()).thenReturn(usuario);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new ChangeFeedController(hub, securityUtils)).build();
+    }
+
+    @Test
+    void enviaApenasAsAlteracoesDosProjetosDoUsuario() throws Exception {
+        MockHttpServletResponse resposta = conectar(eventos());
+
+        hub.publish(TipoAlteracao.TAREFA, List.of(5L), 1L, Set.of(USUARIO, 20L));
+        hub.publish(TipoAlteracao.TAREFA, List.of(6L), 2L, Set.of(20L));
+        hub.publish(TipoAlteracao.PROJETO, List.of(3L), 3L, Set.of(USUARIO));
+
+        // O id e os dados do evento são escritos separadamente: aguarda os dados do último evento
+        String corpo = aguardar(resposta, "\"entidadeIds\":[3]");
+        assertTrue(corpo.contains("event:conectado"));
+        assertTrue(corpo.contains("\"entidadeIds\":[5]"));
+        assertTrue(corpo.contains("\"tipo\":\"PROJETO\""));
+        assertFalse(corpo.contains("\"entidadeIds\":[6]"));
+        assertEquals(1, hub.getTotalConexoes());
+    }
+
+    @Test
+    void retomaAPartirDoLastEventId() throws Exception {
+        hub.publish(TipoAlteracao.TAREFA, List.of(5L), 1L, Set.of(USUARIO));
+        hub.publish(TipoAlteracao.TAREFA, List.of(6L), 1L, Set.of(USUARIO));
+
+        String corpo = aguardar(conectar(eventos().header("Last-Event-ID", "1")), "event:conectado");
+
+        assertFalse(corpo.contains("\"entidadeIds\":[5]"));
+        assertTrue(corpo.indexOf("\"entidadeIds\":[6]") < corpo.indexOf("event:conectado"));
+    }
+
+    @Test
+    void pedeRecarregarQuandoOLastEventIdEDesconhecido() throws Exception {
+        String corpo = aguardar(conectar(eventos().header("Last-Event-ID", "42")), "event:conectado");
+
+        assertTrue(corpo.contains("event:recarregar"));
+    }
+
+    private MockHttpServletRequestBuilder eventos() {
+        return get("/eventos").header("Authorization", "Bearer token");
+    }
+
+    private MockHttpServletResponse conectar(MockHttpServletRequestBuilder requisicao) throws Exception {
+        MvcResult resultado = mockMvc.perform(requisicao).andExpect(request().asyncStarted()).andReturn();
+        return resultado.getResponse();
+    }
+
+    private static String aguardar(MockHttpServletResponse resposta, String trecho) throws Exception {
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        String corpo = resposta.getContentAsString();
+        while (!corpo.contains(trecho) && System.nanoTime() < limite) {
+            Thread.sleep(10);
+            corpo = resposta.getContentAsString();
+        }
+        assertTrue(corpo.contains(trecho), "Trecho " + trecho + " não recebido em:\n" + corpo);
+        return corpo;
+    }
+}
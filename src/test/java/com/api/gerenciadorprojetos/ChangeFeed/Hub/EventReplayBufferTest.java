@@ -0,0 +1,56 @@
+package com.api.gerenciadorprojetos.ChangeFeed.Hub;
+
+import com.api.gerenciadorprojetos.ChangeFeed.DTO.ChangeEventDTO;
+import com.api.gerenciadorprojetos.ChangeFeed.Enums.TipoAlteracao;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventReplayBufferTest {
+
+    private final EventReplayBuffer buffer = new EventReplayBuffer(3);
+
+    @Test
+    void reenviaApenasOsEventosPosterioresDoUsuario() {
+        adicionar(1, Set.of(10L));
+        adicionar(2, Set.of(20L));
+        adicionar(3, Set.of(10L, 20L));
+
+        assertEquals(List.of(1L, 3L), ids(buffer.desde(0, 10L, 3)));
+        assertEquals(List.of(3L), ids(buffer.desde(2, 20L, 3)));
+        assertTrue(buffer.desde(3, 10L, 3).isEmpty());
+    }
+
+    @Test
+    void pedeRecarregarQuandoOsEventosJaSairamDoHistorico() {
+        for (long id = 1; id <= 5; id++) {
+            adicionar(id, Set.of(10L));
+        }
+
+        // Histórico com os eventos 3 a 5: quem recebeu o 2 ainda pode retomar, quem recebeu o 1 perdeu o 2
+        assertEquals(List.of(3L, 4L, 5L), ids(buffer.desde(2, 10L, 5)));
+        assertNull(buffer.desde(1, 10L, 5));
+    }
+
+    @Test
+    void pedeRecarregarQuandoOIdNaoPertenceAInstancia() {
+        adicionar(1, Set.of(10L));
+
+        assertNull(buffer.desde(7, 10L, 1));
+        assertNull(new EventReplayBuffer(3).desde(0, 10L, 4));
+    }
+
+    private void adicionar(long id, Set<Long> usuarios) {
+        buffer.adicionar(new ChangeEventDTO(id, TipoAlteracao.TAREFA, List.of(id), 1L, LocalDateTime.now()), usuarios);
+    }
+
+    private static List<Long> ids(List<ChangeEventDTO> eventos) {
+        return eventos.stream().map(ChangeEventDTO::getId).toList();
+    }
+}
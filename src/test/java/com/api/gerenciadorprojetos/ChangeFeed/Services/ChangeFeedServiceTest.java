@@ -0,0 +1,82 @@
+package com.api.gerenciadorprojetos.ChangeFeed.Services;
+
+import com.api.gerenciadorprojetos.ChangeFeed.Enums.TipoAlteracao;
+import com.api.gerenciadorprojetos.ChangeFeed.Hub.ChangeFeedHub;
+import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import com.api.gerenciadorprojetos.Tasks.Events.TaskChangedEvent;
+import com.api.gerenciadorprojetos.Tasks.Repositories.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChangeFeedServiceTest {
+
+    private final ChangeFeedHub hub = mock(ChangeFeedHub.class);
+    private final ProjetoJpaRepository projectRepository = mock(ProjetoJpaRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final ChangeFeedService service = new ChangeFeedService(hub, projectRepository, taskRepository);
+
+    @Test
+    void tarefasDaMesmaTransacaoSaoPublicadasEmUmEventoPorProjeto() {
+        when(projectRepository.findInvolvedUserIds(1L)).thenReturn(List.of(100L));
+        when(projectRepository.findInvolvedUserIds(2L)).thenReturn(List.of(200L));
+        when(taskRepository.findProjectIdByTaskId(13L)).thenReturn(Optional.of(1L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            for (long taskId = 10; taskId < 13; taskId++) {
+                service.onTaskChanged(new TaskChangedEvent(taskId, 1L));
+            }
+            service.onTaskChanged(new TaskChangedEvent(13L));
+            service.onTaskChanged(new TaskChangedEvent(20L, 2L));
+            service.onTaskChanged(new TaskChangedEvent(10L, 1L));
+            verify(hub, never()).publish(any(), anyCollection(), anyLong(), anyCollection());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(hub).publish(TipoAlteracao.TAREFA, Set.of(10L, 11L, 12L, 13L), 1L, List.of(100L));
+        verify(hub).publish(TipoAlteracao.TAREFA, Set.of(20L), 2L, List.of(200L));
+        verify(projectRepository, times(1)).findInvolvedUserIds(1L);
+    }
+
+    @Test
+    void transacaoDesfeitaNaoPublica() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.onTaskChanged(new TaskChangedEvent(10L, 1L));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(hub, never()).publish(any(), anyCollection(), anyLong(), anyCollection());
+    }
+
+    @Test
+    void foraDeTransacaoPublicaImediatamente() {
+        when(projectRepository.findInvolvedUserIds(1L)).thenReturn(List.of(100L));
+
+        service.onTaskChanged(new TaskChangedEvent(10L, 1L));
+
+        verify(hub).publish(TipoAlteracao.TAREFA, Set.of(10L), 1L, List.of(100L));
+    }
+}
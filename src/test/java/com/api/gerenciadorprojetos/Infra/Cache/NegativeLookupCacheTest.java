@@ -0,0 +1,146 @@
+package com.api.gerenciadorprojetos.Infra.Cache;
+
+import com.api.gerenciadorprojetos.Exceptions.MissingEntityException;
+import com.api.gerenciadorprojetos.Infra.DataSource.ReadReplicaRoutingDataSource;
+import com.api.gerenciadorprojetos.Infra.DataSource.ReadYourWritesTracker;
+import com.api.gerenciadorprojetos.Projects.Entities.Project;
+import com.api.gerenciadorprojetos.Tasks.Entities.Task;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NegativeLookupCacheTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RelogioAjustavel relogio = new RelogioAjustavel();
+    private final NegativeLookupCache cache = new NegativeLookupCache(registry, Duration.ofSeconds(30), 100, relogio);
+
+    @Test
+    void ausenciaEvitaABuscaApenasDentroDoTtl() {
+        AtomicInteger buscas = new AtomicInteger();
+
+        buscar(Project.class, 7L, buscas, Optional.empty());
+        relogio.avancar(Duration.ofMillis(29_999));
+        buscar(Project.class, 7L, buscas, Optional.empty());
+        buscar(Task.class, 7L, buscas, Optional.empty());
+        relogio.avancar(Duration.ofMillis(1));
+        buscar(Project.class, 7L, buscas, Optional.empty());
+
+        assertEquals(3, buscas.get());
+        assertEquals(1.0, contagem("Project", "acerto"));
+        assertEquals(2.0, contagem("Project", "registro"));
+    }
+
+    @Test
+    void criacaoRemoveAAusencia() {
+        AtomicInteger buscas = new AtomicInteger();
+
+        buscar(Project.class, 7L, buscas, Optional.empty());
+        cache.registrarCriacao(Project.class, 7L);
+
+        assertEquals(Optional.of("v1"), buscar(Project.class, 7L, buscas, Optional.of("v1")));
+        assertEquals(2, buscas.get());
+    }
+
+    @Test
+    void buscaConcorrenteComACriacaoNaoRegistraAusencia() {
+        AtomicInteger buscas = new AtomicInteger();
+
+        // A busca não encontra a entidade, mas ela é criada antes de a ausência ser registrada
+        cache.buscar(Project.class, 7L, id -> {
+            cache.registrarCriacao(Project.class, id);
+            return Optional.empty();
+        });
+
+        assertEquals(Optional.of("v1"), buscar(Project.class, 7L, buscas, Optional.of("v1")));
+        assertEquals(0.0, contagem("Project", "registro"));
+    }
+
+    @Test
+    void ausenciaLidaDeUmaReplicaNaoERegistrada() throws Exception {
+        DataSource primario = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+        ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(primario, List.of(replica),
+                new ReadYourWritesTracker(Duration.ofSeconds(5), relogio));
+        routingDataSource.afterPropertiesSet();
+        AtomicInteger buscas = new AtomicInteger();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            cache.buscar(Project.class, 7L, id -> {
+                try (Connection connection = routingDataSource.getConnection()) {
+                    return Optional.empty();
+                } catch (SQLException ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clear();
+        }
+
+        buscar(Project.class, 7L, buscas, Optional.of("v1"));
+        assertEquals(1, buscas.get());
+        assertEquals(0.0, contagem("Project", "registro"));
+    }
+
+    @Test
+    void naoEncontradoNaoCapturaAPilha() {
+        assertEquals(0, new MissingEntityException("Projeto não encontrado").getStackTrace().length);
+    }
+
+    private Optional<String> buscar(Class<?> tipo, Long id, AtomicInteger buscas, Optional<String> resultado) {
+        return cache.buscar(tipo, id, chave -> {
+            buscas.incrementAndGet();
+            return resultado;
+        });
+    }
+
+    private double contagem(String entidade, String resultado) {
+        return registry.get("cache.negativo").tags("entidade", entidade, "resultado", resultado).counter().count();
+    }
+
+    private static final class RelogioAjustavel extends Clock {
+
+        private Instant agora = Instant.parse("2024-01-01T00:00:00Z");
+
+        void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.api.gerenciadorprojetos.Infra.Concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LookupScopeTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void limparMdc() {
+        MDC.clear();
+    }
+
+    @Test
+    void executaAsConsultasAoMesmoTempoComOContextoDeQuemAsIniciou() {
+        MDC.put("correlationId", "abc");
+        CountDownLatch ambasIniciadas = new CountDownLatch(2);
+
+        try (LookupScope consultas = parallelLookups(5).abrir()) {
+            Supplier<String> primeira = consultas.fork(() -> aguardarAmbas(ambasIniciadas));
+            Supplier<String> segunda = consultas.fork(() -> aguardarAmbas(ambasIniciadas));
+            consultas.join();
+
+            assertEquals("abc", primeira.get());
+            assertEquals("abc", segunda.get());
+        }
+    }
+
+    @Test
+    void aPrimeiraFalhaCancelaAsDemaisEERelancadaNoJoin() throws Exception {
+        CountDownLatch interrompida = new CountDownLatch(1);
+        EntityNotFoundException naoEncontrado = new EntityNotFoundException("Usuário não encontrado");
+
+        try (LookupScope consultas = parallelLookups(5).abrir()) {
+            consultas.fork(() -> {
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException ex) {
+                    interrompida.countDown();
+                }
+                return null;
+            });
+            consultas.fork(() -> {
+                throw naoEncontrado;
+            });
+
+            assertSame(naoEncontrado, assertThrows(EntityNotFoundException.class, consultas::join));
+        }
+        assertTrue(interrompida.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void acimaDoLimiteExecutaNaPropriaThread() {
+        Thread chamador = Thread.currentThread();
+
+        try (LookupScope consultas = parallelLookups(0).abrir()) {
+            Supplier<Thread> thread = consultas.fork(Thread::currentThread);
+            assertThrows(IllegalStateException.class, thread::get);
+            consultas.join();
+
+            assertSame(chamador, thread.get());
+            assertFalse(chamador.isVirtual());
+        }
+        assertEquals(1.0, registry.get("consultas.paralelas.sequenciais").counter().count());
+    }
+
+    private String aguardarAmbas(CountDownLatch ambasIniciadas) throws InterruptedException {
+        assertTrue(Thread.currentThread().isVirtual());
+        ambasIniciadas.countDown();
+        assertTrue(ambasIniciadas.await(5, TimeUnit.SECONDS), "As consultas não foram executadas em paralelo");
+        return MDC.get("correlationId");
+    }
+
+    @SuppressWarnings("unchecked")
+    private ParallelLookups parallelLookups(int maxEmAndamento) {
+        ObjectProvider<Tracer> tracer = mock(ObjectProvider.class);
+        when(tracer.getIfAvailable(any())).thenReturn(Tracer.NOOP);
+        return new ParallelLookups(mock(PlatformTransactionManager.class), tracer, mock(ObjectProvider.class), registry,
+                maxEmAndamento);
+    }
+}
@@ -0,0 +1,60 @@
+package com.api.gerenciadorprojetos.Infra.Concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OptimisticLockRetryAspectTest {
+
+    private final OptimisticLockRetryAspect aspect = new OptimisticLockRetryAspect(new SimpleMeterRegistry(), 4, 1, 1);
+    private final ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+
+    @AfterEach
+    void limparInterrupcao() {
+        Thread.interrupted();
+    }
+
+    @Test
+    void reexecutaAteTerSucesso() throws Throwable {
+        assinatura();
+        when(joinPoint.proceed())
+                .thenThrow(new OptimisticLockingFailureException("conflito"))
+                .thenReturn("ok");
+
+        assertEquals("ok", aspect.retry(joinPoint));
+        verify(joinPoint, times(2)).proceed();
+    }
+
+    @Test
+    void interrupcaoDuranteAEsperaPropagaOConflitoEPreservaAInterrupcao() throws Throwable {
+        assinatura();
+        OptimisticLockingFailureException conflito = new OptimisticLockingFailureException("conflito");
+        when(joinPoint.proceed()).thenThrow(conflito);
+
+        Thread.currentThread().interrupt();
+
+        assertSame(conflito, assertThrows(OptimisticLockingFailureException.class, () -> aspect.retry(joinPoint)));
+        assertTrue(Thread.currentThread().isInterrupted());
+        assertTrue(conflito.getSuppressed()[0] instanceof InterruptedException);
+        verify(joinPoint, times(1)).proceed();
+    }
+
+    private void assinatura() {
+        Signature signature = mock(Signature.class);
+        when(signature.getDeclaringType()).thenReturn(OptimisticLockRetryAspectTest.class);
+        when(signature.getName()).thenReturn("metodo");
+        when(joinPoint.getSignature()).thenReturn(signature);
+    }
+}
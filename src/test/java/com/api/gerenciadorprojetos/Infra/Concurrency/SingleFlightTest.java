@@ -0,0 +1,156 @@
+package com.api.gerenciadorprojetos.Infra.Concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final RelogioAjustavel relogio = new RelogioAjustavel();
+    private final SingleFlight<Long, Object> leituras = new SingleFlight<>("teste", Duration.ofSeconds(2), registry, relogio);
+
+    @Test
+    void chamadasSimultaneasDaMesmaChaveCompartilhamUmaCarga() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        AtomicInteger cargas = new AtomicInteger();
+        Object projeto = new Object();
+
+        List<Future<Object>> resultados = new ArrayList<>();
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 20; i++) {
+                resultados.add(threads.submit(() -> leituras.executar(7L, () -> {
+                    cargas.incrementAndGet();
+                    aguardar(liberar);
+                    return projeto;
+                })));
+            }
+            while (contagem("executada") + contagem("coalescida") < 20) {
+                Thread.sleep(5);
+            }
+            liberar.countDown();
+
+            for (Future<Object> resultado : resultados) {
+                assertSame(projeto, resultado.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, cargas.get());
+        assertEquals(1.0, contagem("executada"));
+        assertEquals(19.0, contagem("coalescida"));
+    }
+
+    @Test
+    void resultadoEReutilizadoApenasDentroDoIntervalo() {
+        AtomicInteger cargas = new AtomicInteger();
+
+        leituras.executar(7L, cargas::incrementAndGet);
+        relogio.avancar(Duration.ofMillis(1999));
+        assertEquals(1, leituras.executar(7L, cargas::incrementAndGet));
+        relogio.avancar(Duration.ofMillis(1));
+        assertEquals(2, leituras.executar(7L, cargas::incrementAndGet));
+        assertEquals(3, leituras.executar(8L, cargas::incrementAndGet));
+
+        assertEquals(1.0, contagem("reutilizada"));
+        assertEquals(3.0, contagem("executada"));
+    }
+
+    @Test
+    void resultadoEGuardadoSobAChaveDaVersaoCarregada() {
+        AtomicInteger cargas = new AtomicInteger();
+
+        // A carga pedida como 7 encontrou os dados da chave 8
+        assertEquals(1, leituras.executar(7L, cargas::incrementAndGet, carregado -> 8L));
+
+        assertEquals(1, leituras.executar(8L, cargas::incrementAndGet));
+        assertEquals(2, leituras.executar(7L, cargas::incrementAndGet, carregado -> null));
+        assertEquals(3, leituras.executar(7L, cargas::incrementAndGet));
+        assertEquals(1.0, contagem("reutilizada"));
+    }
+
+    @Test
+    void falhaEEntregueATodasAsChamadasENaoEReutilizada() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        EntityNotFoundException naoEncontrado = new EntityNotFoundException("Projeto não encontrado");
+
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Object> primeira = threads.submit(() -> leituras.executar(7L, () -> {
+                aguardar(liberar);
+                throw naoEncontrado;
+            }));
+            while (contagem("executada") < 1) {
+                Thread.sleep(5);
+            }
+            Future<Object> segunda = threads.submit(() -> leituras.executar(7L, Object::new));
+            while (contagem("coalescida") < 1) {
+                Thread.sleep(5);
+            }
+            liberar.countDown();
+
+            for (Future<Object> resultado : List.of(primeira, segunda)) {
+                ExecutionException falha = assertThrows(ExecutionException.class, () -> resultado.get(5, TimeUnit.SECONDS));
+                assertSame(naoEncontrado, falha.getCause());
+            }
+        }
+
+        assertInstanceOf(Object.class, leituras.executar(7L, Object::new));
+        assertEquals(2.0, contagem("executada"));
+    }
+
+    private double contagem(String resultado) {
+        return registry.get("coalescencia.chamadas").tags("nome", "teste", "resultado", resultado).counter().count();
+    }
+
+    private static void aguardar(CountDownLatch liberar) {
+        try {
+            assertTrue(liberar.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static final class RelogioAjustavel extends Clock {
+
+        private Instant agora = Instant.parse("2024-01-01T00:00:00Z");
+
+        void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.api.gerenciadorprojetos.Infra.DataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class DataSourceRoutingConfigTest {
+
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void configuracoesDoHikariSaoAplicadasAoPrimarioEAsReplicas() throws Exception {
+        DataSourceProperties dataSourceProperties = new DataSourceProperties();
+        dataSourceProperties.setUrl("jdbc:postgresql://localhost:5432/gerenciador-projetos");
+        dataSourceProperties.setDriverClassName("org.postgresql.Driver");
+        dataSourceProperties.afterPropertiesSet();
+
+        ReadReplicaProperties.Replica replica = new ReadReplicaProperties.Replica();
+        replica.setUrl("jdbc:postgresql://localhost:5433/gerenciador-projetos");
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setReplicas(List.of(replica));
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "25")
+                .withProperty("spring.datasource.hikari.connection-timeout", "1500");
+
+        DataSourceRoutingConfig config = new DataSourceRoutingConfig();
+        routingDataSource = config.readReplicaRoutingDataSource(dataSourceProperties, properties,
+                config.readYourWritesTracker(properties), environment, mock(ObjectProvider.class));
+        routingDataSource.afterPropertiesSet();
+
+        HikariDataSource primario = routingDataSource.unwrap(HikariDataSource.class);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        HikariDataSource pool = routingDataSource.unwrap(HikariDataSource.class);
+
+        assertEquals("primario", primario.getPoolName());
+        assertEquals("replica-0", pool.getPoolName());
+        for (HikariDataSource hikari : List.of(primario, pool)) {
+            assertEquals(25, hikari.getMaximumPoolSize());
+            assertEquals(1500, hikari.getConnectionTimeout());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.api.gerenciadorprojetos.Infra.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private DataSource primario;
+    private DataSource replica;
+    private Connection conexaoPrimario;
+    private Connection conexaoReplica;
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primario = mock(DataSource.class);
+        replica = mock(DataSource.class);
+        conexaoPrimario = mock(Connection.class);
+        conexaoReplica = mock(Connection.class);
+        when(primario.getConnection()).thenReturn(conexaoPrimario);
+        when(replica.getConnection()).thenReturn(conexaoReplica);
+
+        Clock clock = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofSeconds(5), clock);
+        routingDataSource = new ReadReplicaRoutingDataSource(primario, List.of(replica), tracker);
+        routingDataSource.afterPropertiesSet();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("usuario@teste.com", null, List.of()));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        List.copyOf(TransactionSynchronizationManager.getResourceMap().keySet())
+                .forEach(TransactionSynchronizationManager::unbindResourceIfPossible);
+        TransactionSynchronizationManager.clear();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void transacaoSomenteLeituraUsaReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(conexaoReplica, routingDataSource.getConnection());
+    }
+
+    @Test
+    void transacaoDeEscritaUsaPrimario() throws SQLException {
+        assertSame(conexaoPrimario, routingDataSource.getConnection());
+        assertFalse(ReadReplicaRoutingDataSource.leituraEmReplica());
+    }
+
+    @Test
+    void leituraEmReplicaValeAteOFimDaTransacao() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        routingDataSource.getConnection();
+        assertTrue(ReadReplicaRoutingDataSource.leituraEmReplica());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        assertFalse(ReadReplicaRoutingDataSource.leituraEmReplica());
+    }
+
+    @Test
+    void conexaoComCredenciaisTambemERoteada() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection("leitor", "senha")).thenReturn(conexaoReplica);
+
+        assertSame(conexaoReplica, routingDataSource.getConnection("leitor", "senha"));
+    }
+
+    @Test
+    void replicaIndisponivelUsaPrimario() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        routingDataSource.marcarDisponibilidade("replica-0", false);
+
+        assertSame(conexaoPrimario, routingDataSource.getConnection());
+    }
+
+    @Test
+    void falhaAoConectarNaReplicaUsaPrimario() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(replica.getConnection()).thenThrow(new SQLException("conexão recusada"));
+
+        assertSame(conexaoPrimario, routingDataSource.getConnection());
+    }
+
+    @Test
+    void leituraLogoAposEscritaDoUsuarioUsaPrimario() throws SQLException {
+        routingDataSource.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(conexaoPrimario, routingDataSource.getConnection());
+    }
+}
@@ -0,0 +1,44 @@
+package com.api.gerenciadorprojetos.Infra.Metrics;
+
+import com.api.gerenciadorprojetos.Infra.Metrics.Services.ExemploService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private ExemploService service;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new ExemploService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new ServiceMetricsAspect(registry));
+        service = factory.getProxy();
+    }
+
+    @Test
+    void registraLatenciaETamanhoDoResultado() {
+        service.listar(3);
+        service.listar(5);
+
+        assertEquals(2, registry.get("servico.execucao")
+                .tags("classe", "ExemploService", "metodo", "listar", "status", "sucesso").timer().count());
+        assertEquals(8.0, registry.get("servico.resultado.tamanho")
+                .tags("classe", "ExemploService", "metodo", "listar").summary().totalAmount());
+    }
+
+    @Test
+    void registraErroComOTipoDaExcecao() {
+        assertThrows(IllegalArgumentException.class, service::falhar);
+
+        assertEquals(1, registry.get("servico.execucao")
+                .tags("metodo", "falhar", "status", "erro", "excecao", "IllegalArgumentException").timer().count());
+    }
+}
@@ -0,0 +1,18 @@
+package com.api.gerenciadorprojetos.Infra.Metrics.Services;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Serviço de exemplo usado pelos testes do {@code ServiceMetricsAspect}, em um pacote {@code Services}.
+ */
+public class ExemploService {
+
+    public List<Integer> listar(int quantidade) {
+        return IntStream.range(0, quantidade).boxed().toList();
+    }
+
+    public void falhar() {
+        throw new IllegalArgumentException("falha");
+    }
+}
@@ -0,0 +1,76 @@
+package com.api.gerenciadorprojetos.Infra.Metrics;
+
+import com.api.gerenciadorprojetos.Exceptions.QueryBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SqlMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    static class ProjetoController {
+        public void listar() {
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlRequestMetrics.encerrar();
+    }
+
+    private static HandlerMethod handler() throws NoSuchMethodException {
+        return new HandlerMethod(new ProjetoController(), "listar");
+    }
+
+    @Test
+    void publicaAsMetricasDaRequisicaoComOEndpoint() throws Exception {
+        SqlMetricsInterceptor interceptor = new SqlMetricsInterceptor(registry, 0, false);
+        SqlMetricsSessionListener listener = new SqlMetricsSessionListener();
+
+        interceptor.preHandle(request, response, handler());
+        for (int i = 0; i < 3; i++) {
+            listener.jdbcExecuteStatementStart();
+            listener.jdbcExecuteStatementEnd();
+        }
+        SqlRequestMetrics.atual().registrarEntidadeCarregada();
+        interceptor.afterCompletion(request, response, handler(), null);
+
+        String endpoint = "ProjetoController.listar";
+        assertEquals(3.0, registry.get("sql.consultas").tag("endpoint", endpoint).summary().totalAmount());
+        assertEquals(1.0, registry.get("sql.entidades.carregadas").tag("endpoint", endpoint).summary().totalAmount());
+        assertEquals(1, registry.get("sql.tempo.jdbc").tag("endpoint", endpoint).timer().count());
+        assertNull(SqlRequestMetrics.atual());
+    }
+
+    @Test
+    void orcamentoObrigatorioFalhaAConsultaQueExcede() throws Exception {
+        SqlMetricsInterceptor interceptor = new SqlMetricsInterceptor(registry, 2, true);
+        SqlMetricsSessionListener listener = new SqlMetricsSessionListener();
+
+        interceptor.preHandle(request, response, handler());
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementStart();
+
+        assertThrows(QueryBudgetExceededException.class, listener::jdbcExecuteStatementStart);
+    }
+
+    @Test
+    void foraDeRequisicaoNadaERegistrado() {
+        SqlMetricsSessionListener listener = new SqlMetricsSessionListener();
+        listener.jdbcExecuteStatementStart();
+        listener.jdbcExecuteStatementEnd();
+
+        assertNull(SqlRequestMetrics.atual());
+        assertEquals(0, registry.getMeters().size());
+    }
+}
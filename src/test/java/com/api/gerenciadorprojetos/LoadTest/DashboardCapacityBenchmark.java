@@ -0,0 +1,227 @@
+package com.api.gerenciadorprojetos.LoadTest;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Compara a capacidade do desempenho de usuários (GET /desempenho/usuario/{id}) no caminho bloqueante anterior e no
+ * reativo, com usuários concorrentes em malha fechada contra um banco populado pelo {@link SyntheticDataGenerator}.
+ * Não é executado pelo surefire.
+ * <p>
+ * Uso: {@code java -cp target/classes:target/test-classes:<dependências> com.api.gerenciadorprojetos.LoadTest.DashboardCapacityBenchmark
+ * [--url=jdbc:postgresql://localhost:5432/gerenciador-projetos] [--usuario=admin] [--senha=admin]
+ * [--usuarios-concorrentes=25,200,800] [--duracao=20] [--aquecimento=5] [--threads-requisicao=200] [--conexoes=10]
+ * [--primeiro-usuario=1] [--usuarios=10000] [--semente=42]}
+ * <p>
+ * Cada requisição ocupa uma thread de um pool do tamanho do pool do Tomcat ({@code --threads-requisicao}), e as
+ * consultas usam um pool de conexões do tamanho do Hikari ({@code --conexoes}), com o SQL gerado pelas consultas dos
+ * repositórios:
+ * <ul>
+ *     <li>bloqueante: as oito contagens por status, em sequência, na thread da requisição (os antigos métodos
+ *     getNumberOf... do UserPerformanceService);</li>
+ *     <li>reativo: a thread da requisição apenas monta e assina o Mono, e as duas contagens agrupadas são executadas ao
+ *     mesmo tempo no scheduler boundedElastic, como em UserPerformanceService.getUserPerformance.</li>
+ * </ul>
+ * Para cada modo e quantidade de usuários concorrentes, apresenta a vazão, os percentis de latência (incluindo a espera
+ * por uma thread de requisição) e o pico de threads de requisição ocupadas.
+ */
+public class DashboardCapacityBenchmark {
+
+    private static final String[] STATUS_PROJETO = {"ATRASADO", "CONCLUIDO", "EM_ANDAMENTO", "CRIADO"};
+    private static final String[] STATUS_TAREFA = {"EM_ANDAMENTO", "CONCLUIDA", "PENDENTE", "ATRASADA"};
+
+    private static final String PROJETOS_POR_STATUS = "SELECT count(p.id) FROM projetos p " +
+            "JOIN membros_projeto m ON m.id_projeto = p.id WHERE m.id_usuario = ? AND p.status = ?";
+    private static final String TAREFAS_POR_STATUS = "SELECT count(t.id) FROM tarefas_projeto t " +
+            "JOIN responsaveis_tarefa r ON r.id_tarefa = t.id WHERE r.id_usuario = ? AND t.status = ?";
+    private static final String PROJETOS_AGRUPADOS = "SELECT p.status, count(p.id) FROM projetos p " +
+            "JOIN membros_projeto m ON m.id_projeto = p.id WHERE m.id_usuario = ? GROUP BY p.status";
+    private static final String TAREFAS_AGRUPADAS = "SELECT t.status, count(t.id) FROM tarefas_projeto t " +
+            "JOIN responsaveis_tarefa r ON r.id_tarefa = t.id WHERE r.id_usuario = ? GROUP BY t.status";
+
+    private final HikariDataSource dataSource;
+    private final int[] usuariosConcorrentes;
+    private final Duration duracao;
+    private final Duration aquecimento;
+    private final int threadsRequisicao;
+    private final long primeiroUsuario;
+    private final int usuarios;
+    private final long semente;
+
+    DashboardCapacityBenchmark(Map<String, String> opcoes) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(opcoes.getOrDefault("url", "jdbc:postgresql://localhost:5432/gerenciador-projetos"));
+        config.setUsername(opcoes.getOrDefault("usuario", "admin"));
+        config.setPassword(opcoes.getOrDefault("senha", "admin"));
+        config.setMaximumPoolSize(Integer.parseInt(opcoes.getOrDefault("conexoes", "10")));
+        config.setConnectionTimeout(Duration.ofMinutes(1).toMillis());
+        config.setReadOnly(true);
+        this.dataSource = new HikariDataSource(config);
+
+        this.usuariosConcorrentes = Arrays.stream(opcoes.getOrDefault("usuarios-concorrentes", "25,200,800").split(","))
+                .mapToInt(valor -> Integer.parseInt(valor.trim()))
+                .toArray();
+        this.duracao = Duration.ofSeconds(Long.parseLong(opcoes.getOrDefault("duracao", "20")));
+        this.aquecimento = Duration.ofSeconds(Long.parseLong(opcoes.getOrDefault("aquecimento", "5")));
+        this.threadsRequisicao = Integer.parseInt(opcoes.getOrDefault("threads-requisicao", "200"));
+        this.primeiroUsuario = Long.parseLong(opcoes.getOrDefault("primeiro-usuario", "1"));
+        this.usuarios = Integer.parseInt(opcoes.getOrDefault("usuarios", "10000"));
+        this.semente = Long.parseLong(opcoes.getOrDefault("semente", "42"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        DashboardCapacityBenchmark benchmark = new DashboardCapacityBenchmark(SyntheticDataGenerator.lerOpcoes(args));
+        try {
+            benchmark.executar();
+        } finally {
+            benchmark.dataSource.close();
+            Schedulers.shutdownNow();
+        }
+    }
+
+    void executar() throws Exception {
+        System.out.printf("Desempenho de usuários: %d threads de requisição, %d conexões, %d s (+%d s de aquecimento) por medição%n",
+                threadsRequisicao, dataSource.getMaximumPoolSize(), duracao.toSeconds(), aquecimento.toSeconds());
+        System.out.printf("%n%-12s %10s %11s %10s %9s %9s %9s %14s%n",
+                "modo", "usuários", "requisições", "req/s", "p50 ms", "p95 ms", "p99 ms", "threads (pico)");
+
+        for (int concorrentes : usuariosConcorrentes) {
+            medir("bloqueante", concorrentes, this::bloqueante);
+            medir("reativo", concorrentes, this::reativo);
+        }
+    }
+
+    /**
+     * Caminho bloqueante: a thread da requisição executa as oito contagens e só é liberada ao final.
+     */
+    private CompletableFuture<?> bloqueante(ExecutorService threads, AtomicInteger ocupadas, AtomicInteger pico, long userId) {
+        return CompletableFuture.supplyAsync(() -> ocupando(ocupadas, pico, () -> {
+            long total = 0;
+            for (String status : STATUS_PROJETO) {
+                total += contar(PROJETOS_POR_STATUS, userId, status);
+            }
+            for (String status : STATUS_TAREFA) {
+                total += contar(TAREFAS_POR_STATUS, userId, status);
+            }
+            return total;
+        }), threads);
+    }
+
+    /**
+     * Caminho reativo: a thread da requisição apenas assina o Mono; as contagens agrupadas executam em paralelo no
+     * boundedElastic e o resultado é entregue sem ocupá-la.
+     */
+    private CompletableFuture<?> reativo(ExecutorService threads, AtomicInteger ocupadas, AtomicInteger pico, long userId) {
+        return CompletableFuture.supplyAsync(() -> ocupando(ocupadas, pico, () -> Mono.zip(
+                        Mono.fromCallable(() -> agrupar(PROJETOS_AGRUPADOS, userId)).subscribeOn(Schedulers.boundedElastic()),
+                        Mono.fromCallable(() -> agrupar(TAREFAS_AGRUPADAS, userId)).subscribeOn(Schedulers.boundedElastic()))
+                .toFuture()), threads)
+                .thenCompose(Function.identity());
+    }
+
+    private void medir(String modo, int concorrentes, Requisicao requisicao) throws Exception {
+        AtomicInteger ocupadas = new AtomicInteger();
+        AtomicInteger pico = new AtomicInteger();
+        long inicio = System.nanoTime();
+        long inicioMedicao = inicio + aquecimento.toNanos();
+        long fim = inicioMedicao + duracao.toNanos();
+
+        List<Future<List<Long>>> resultados = new ArrayList<>();
+        try (ExecutorService threads = Executors.newFixedThreadPool(threadsRequisicao);
+             ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concorrentes; i++) {
+                SplittableRandom random = new SplittableRandom(semente + i);
+                resultados.add(clientes.submit(() -> {
+                    List<Long> latencias = new ArrayList<>();
+                    while (System.nanoTime() < fim) {
+                        long envio = System.nanoTime();
+                        requisicao.executar(threads, ocupadas, pico, usuario(random)).join();
+                        if (envio >= inicioMedicao) {
+                            latencias.add(System.nanoTime() - envio);
+                        }
+                    }
+                    return latencias;
+                }));
+            }
+
+            long[] ordenadas = new long[0];
+            for (Future<List<Long>> resultado : resultados) {
+                long[] latencias = resultado.get().stream().mapToLong(Long::longValue).toArray();
+                int anterior = ordenadas.length;
+                ordenadas = Arrays.copyOf(ordenadas, anterior + latencias.length);
+                System.arraycopy(latencias, 0, ordenadas, anterior, latencias.length);
+            }
+            Arrays.sort(ordenadas);
+
+            System.out.printf("%-12s %10d %11d %10.1f %9.1f %9.1f %9.1f %14d%n", modo, concorrentes, ordenadas.length,
+                    ordenadas.length / (duracao.toNanos() / 1e9), HttpLoadTest.percentil(ordenadas, 0.50),
+                    HttpLoadTest.percentil(ordenadas, 0.95), HttpLoadTest.percentil(ordenadas, 0.99), pico.get());
+        }
+    }
+
+    private static <T> T ocupando(AtomicInteger ocupadas, AtomicInteger pico, Supplier<T> trabalho) {
+        pico.accumulateAndGet(ocupadas.incrementAndGet(), Math::max);
+        try {
+            return trabalho.get();
+        } finally {
+            ocupadas.decrementAndGet();
+        }
+    }
+
+    private long contar(String sql, long userId, String status) {
+        try (Connection conexao = dataSource.getConnection(); PreparedStatement statement = conexao.prepareStatement(sql)) {
+            statement.setLong(1, userId);
+            statement.setString(2, status);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getLong(1) : 0;
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private long agrupar(String sql, long userId) throws SQLException {
+        try (Connection conexao = dataSource.getConnection(); PreparedStatement statement = conexao.prepareStatement(sql)) {
+            statement.setLong(1, userId);
+            long total = 0;
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    total += rs.getLong(2);
+                }
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Mesma distribuição de usuários do {@link HttpLoadTest}: concentrada nos primeiros IDs.
+     */
+    private long usuario(SplittableRandom random) {
+        return primeiroUsuario + (long) (Math.abs(random.nextGaussian()) * usuarios / 3) % usuarios;
+    }
+
+    @FunctionalInterface
+    private interface Requisicao {
+        CompletableFuture<?> executar(ExecutorService threads, AtomicInteger ocupadas, AtomicInteger pico, long userId);
+    }
+}
@@ -0,0 +1,305 @@
+package com.api.gerenciadorprojetos.LoadTest;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Teste de carga HTTP sobre os endpoints de leitura dos controladores. Não é executado pelo surefire.
+ * <p>
+ * Uso: {@code java -cp target/classes:target/test-classes:<dependências> com.api.gerenciadorprojetos.LoadTest.HttpLoadTest --token=<JWT>
+ * [--url=http://localhost:8080] [--usuarios-virtuais=50] [--duracao=60] [--aquecimento=10] [--taxa=0]
+ * [--primeiro-projeto=1] [--projetos=100000] [--primeiro-usuario=1] [--usuarios=10000] [--max-erros=0.01] [--semente=42]}
+ * <p>
+ * O token também pode ser informado pela variável de ambiente {@code LOADTEST_TOKEN} ou, como a API não possui endpoint
+ * de login, ser assinado localmente com {@code --jwt-secret=<valor de jwt.secret> --login=carga1}. Os intervalos de IDs
+ * devem corresponder aos dados gerados por {@link SyntheticDataGenerator}.
+ * <p>
+ * Cada usuário virtual é uma virtual thread que escolhe um cenário pelo peso e um projeto ou usuário aleatório. Com
+ * {@code --taxa=0} a carga é em malha fechada (cada usuário virtual envia a próxima requisição assim que recebe a
+ * resposta). Com {@code --taxa} maior que zero, as requisições são agendadas a uma taxa fixa (requisições por segundo,
+ * somadas entre todos os usuários virtuais) e a latência é medida a partir do horário agendado, de forma que atrasos
+ * do servidor não reduzem a carga nem escondem a fila formada (omissão coordenada).
+ * <p>
+ * Ao final, apresenta por cenário a quantidade de requisições, erros, vazão e os percentis p50/p95/p99 e o máximo
+ * da latência, descartando o período de aquecimento. Sai com código 1 se a taxa de erros superar {@code --max-erros}.
+ */
+public class HttpLoadTest {
+
+    private final HttpClient httpClient;
+    private final String url;
+    private final String token;
+    private final int usuariosVirtuais;
+    private final Duration duracao;
+    private final Duration aquecimento;
+    private final double taxa;
+    private final long primeiroProjeto;
+    private final int projetos;
+    private final long primeiroUsuario;
+    private final int usuarios;
+    private final long semente;
+    private final List<Cenario> cenarios = new ArrayList<>();
+    private final int pesoTotal;
+
+    HttpLoadTest(Map<String, String> opcoes) {
+        this.url = opcoes.getOrDefault("url", "http://localhost:8080");
+        this.token = opcoes.containsKey("jwt-secret")
+                ? assinarToken(opcoes.get("jwt-secret"), opcoes.getOrDefault("login", "carga1"))
+                : opcoes.getOrDefault("token", System.getenv("LOADTEST_TOKEN"));
+        this.usuariosVirtuais = Integer.parseInt(opcoes.getOrDefault("usuarios-virtuais", "50"));
+        this.duracao = Duration.ofSeconds(Long.parseLong(opcoes.getOrDefault("duracao", "60")));
+        this.aquecimento = Duration.ofSeconds(Long.parseLong(opcoes.getOrDefault("aquecimento", "10")));
+        this.taxa = Double.parseDouble(opcoes.getOrDefault("taxa", "0"));
+        this.primeiroProjeto = Long.parseLong(opcoes.getOrDefault("primeiro-projeto", "1"));
+        this.projetos = Integer.parseInt(opcoes.getOrDefault("projetos", "100000"));
+        this.primeiroUsuario = Long.parseLong(opcoes.getOrDefault("primeiro-usuario", "1"));
+        this.usuarios = Integer.parseInt(opcoes.getOrDefault("usuarios", "10000"));
+        this.semente = Long.parseLong(opcoes.getOrDefault("semente", "42"));
+
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Informe o token JWT com --token, LOADTEST_TOKEN ou --jwt-secret");
+        }
+
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        LocalDate hoje = LocalDate.now();
+        String janelaMes = "from=" + hoje.minusDays(15) + "&to=" + hoje.plusDays(15);
+        String janelaTrimestre = "from=" + hoje.minusDays(90) + "&to=" + hoje;
+
+        cenarios.add(new Cenario("projeto", 25, r -> "/projetos/" + projeto(r)));
+        cenarios.add(new Cenario("timeline", 10, r -> "/projetos/" + projeto(r) + "/timeline?" + janelaMes));
+        cenarios.add(new Cenario("burndown", 10, r -> "/projetos/" + projeto(r) + "/burndown?" + janelaTrimestre));
+        cenarios.add(new Cenario("caminho-critico", 10, r -> "/tarefas/projeto/" + projeto(r) + "/caminho-critico"));
+        cenarios.add(new Cenario("projetos-usuario", 10, r -> "/projetos/usuario/" + usuario(r)));
+        cenarios.add(new Cenario("carga-usuario", 15, r -> "/carga-trabalho/usuario/" + usuario(r) + "?" + janelaMes));
+        cenarios.add(new Cenario("carga-projeto", 10, r -> "/carga-trabalho/projeto/" + projeto(r) + "?" + janelaMes));
+        cenarios.add(new Cenario("auditoria", 10, r -> "/auditoria/Projeto/" + projeto(r)));
+        this.pesoTotal = cenarios.stream().mapToInt(c -> c.peso).sum();
+    }
+
+    public static void main(String[] args) throws Exception {
+        HttpLoadTest teste = new HttpLoadTest(SyntheticDataGenerator.lerOpcoes(args));
+        double taxaErros = teste.executar();
+        double maxErros = Double.parseDouble(SyntheticDataGenerator.lerOpcoes(args).getOrDefault("max-erros", "0.01"));
+        if (taxaErros > maxErros) {
+            System.out.printf("Taxa de erros %.2f%% acima do limite de %.2f%%%n", taxaErros * 100, maxErros * 100);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Executa a carga e apresenta o relatório.
+     *
+     * @return Proporção de requisições com erro após o aquecimento.
+     */
+    double executar() throws Exception {
+        System.out.printf("Carga em %s: %d usuários virtuais, %d s (+%d s de aquecimento), %s%n", url, usuariosVirtuais,
+                duracao.toSeconds(), aquecimento.toSeconds(),
+                taxa > 0 ? String.format("taxa fixa de %.0f req/s", taxa) : "malha fechada");
+
+        long inicio = System.nanoTime();
+        long inicioMedicao = inicio + aquecimento.toNanos();
+        long fim = inicioMedicao + duracao.toNanos();
+
+        List<Future<Map<String, Amostras>>> resultados = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < usuariosVirtuais; i++) {
+                int indice = i;
+                resultados.add(executor.submit(() -> usuarioVirtual(indice, inicio, inicioMedicao, fim)));
+            }
+        }
+
+        Map<String, Amostras> total = new LinkedHashMap<>();
+        for (Cenario cenario : cenarios) {
+            total.put(cenario.nome, new Amostras());
+        }
+        for (Future<Map<String, Amostras>> resultado : resultados) {
+            resultado.get().forEach((nome, amostras) -> total.get(nome).juntar(amostras));
+        }
+        return relatorio(total, duracao.toNanos() / 1e9);
+    }
+
+    private Map<String, Amostras> usuarioVirtual(int indice, long inicio, long inicioMedicao, long fim) {
+        SplittableRandom random = new SplittableRandom(semente + indice);
+        Map<String, Amostras> amostras = new LinkedHashMap<>();
+        for (Cenario cenario : cenarios) {
+            amostras.put(cenario.nome, new Amostras());
+        }
+
+        // Na taxa fixa, os usuários virtuais começam defasados para que as requisições não saiam em rajadas
+        long intervalo = taxa > 0 ? (long) (1e9 * usuariosVirtuais / taxa) : 0;
+        long agendado = inicio + (intervalo > 0 ? intervalo * indice / usuariosVirtuais : 0);
+
+        while (true) {
+            if (intervalo > 0) {
+                long espera = agendado - System.nanoTime();
+                if (espera > 0) {
+                    LockSupport.parkNanos(espera);
+                }
+            } else {
+                agendado = System.nanoTime();
+            }
+            if (agendado >= fim) {
+                break;
+            }
+
+            Cenario cenario = escolher(random);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url + cenario.caminho.apply(random)))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Accept", "application/json")
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            boolean sucesso;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                sucesso = response.statusCode() < 400;
+            } catch (IOException ex) {
+                sucesso = false;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            long latencia = System.nanoTime() - agendado;
+            if (agendado >= inicioMedicao) {
+                amostras.get(cenario.nome).registrar(latencia, sucesso);
+            }
+            agendado += intervalo;
+        }
+        return amostras;
+    }
+
+    /**
+     * Assina um token como o {@code JwtTokenProvider} da aplicação, válido por uma hora.
+     */
+    private static String assinarToken(String segredo, String login) {
+        Date agora = new Date();
+        return Jwts.builder()
+                .setSubject(login)
+                .setIssuedAt(agora)
+                .setExpiration(new Date(agora.getTime() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(segredo.getBytes()), SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    private double relatorio(Map<String, Amostras> resultados, double segundos) {
+        System.out.printf("%n%-18s %10s %8s %10s %9s %9s %9s %9s%n",
+                "cenário", "requisições", "erros", "req/s", "p50 ms", "p95 ms", "p99 ms", "máx ms");
+
+        Amostras total = new Amostras();
+        resultados.forEach((nome, amostras) -> {
+            imprimir(nome, amostras, segundos);
+            total.juntar(amostras);
+        });
+        imprimir("TOTAL", total, segundos);
+        return total.quantidade == 0 ? 0 : (double) total.erros / total.quantidade;
+    }
+
+    private static void imprimir(String nome, Amostras amostras, double segundos) {
+        long[] ordenadas = Arrays.copyOf(amostras.latencias, amostras.quantidade);
+        Arrays.sort(ordenadas);
+        System.out.printf("%-18s %10d %8d %10.1f %9.1f %9.1f %9.1f %9.1f%n", nome, amostras.quantidade, amostras.erros,
+                amostras.quantidade / segundos, percentil(ordenadas, 0.50), percentil(ordenadas, 0.95),
+                percentil(ordenadas, 0.99), percentil(ordenadas, 1.0));
+    }
+
+    /**
+     * Percentil pelo método do posto mais próximo, em milissegundos.
+     */
+    static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int posicao = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, Math.min(ordenadas.length - 1, posicao))] / 1e6;
+    }
+
+    private Cenario escolher(SplittableRandom random) {
+        int sorteio = random.nextInt(pesoTotal);
+        for (Cenario cenario : cenarios) {
+            sorteio -= cenario.peso;
+            if (sorteio < 0) {
+                return cenario;
+            }
+        }
+        return cenarios.get(cenarios.size() - 1);
+    }
+
+    /**
+     * Sorteia com concentração nos primeiros IDs, como nos dados gerados, em que alguns projetos e usuários concentram
+     * a maior parte do uso. A cauda é distribuída pelo resto (e não acumulada no último ID).
+     */
+    private long projeto(SplittableRandom random) {
+        return primeiroProjeto + (long) (Math.abs(random.nextGaussian()) * projetos / 3) % projetos;
+    }
+
+    private long usuario(SplittableRandom random) {
+        return primeiroUsuario + (long) (Math.abs(random.nextGaussian()) * usuarios / 3) % usuarios;
+    }
+
+    private static final class Cenario {
+        private final String nome;
+        private final int peso;
+        private final Function<SplittableRandom, String> caminho;
+
+        private Cenario(String nome, int peso, Function<SplittableRandom, String> caminho) {
+            this.nome = nome;
+            this.peso = peso;
+            this.caminho = caminho;
+        }
+    }
+
+    /**
+     * Latências de um usuário virtual, sem sincronização: cada usuário virtual tem as suas e elas são juntadas ao final.
+     */
+    private static final class Amostras {
+        private long[] latencias = new long[1024];
+        private int quantidade;
+        private long erros;
+
+        void registrar(long latenciaNanos, boolean sucesso) {
+            if (quantidade == latencias.length) {
+                latencias = Arrays.copyOf(latencias, quantidade * 2);
+            }
+            latencias[quantidade++] = latenciaNanos;
+            if (!sucesso) {
+                erros++;
+            }
+        }
+
+        void juntar(Amostras outras) {
+            if (quantidade + outras.quantidade > latencias.length) {
+                latencias = Arrays.copyOf(latencias, Math.max(latencias.length * 2, quantidade + outras.quantidade));
+            }
+            System.arraycopy(outras.latencias, 0, latencias, quantidade, outras.quantidade);
+            quantidade += outras.quantidade;
+            erros += outras.erros;
+        }
+    }
+}
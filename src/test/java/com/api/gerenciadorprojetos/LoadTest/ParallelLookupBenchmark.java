@@ -0,0 +1,271 @@
+package com.api.gerenciadorprojetos.LoadTest;
+
+import com.api.gerenciadorprojetos.Infra.Concurrency.LookupScope;
+import com.api.gerenciadorprojetos.Infra.Concurrency.ParallelLookups;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Mede a latência das buscas independentes de TaskService.addNewTask (o projeto e os usuários responsável e executor)
+ * feitas em sequência, como antes, e em paralelo pelo {@link ParallelLookups}, contra um banco populado pelo
+ * {@link SyntheticDataGenerator}. Não é executado pelo surefire.
+ * <p>
+ * Uso: {@code java -cp target/classes:target/test-classes:<dependências> com.api.gerenciadorprojetos.LoadTest.ParallelLookupBenchmark
+ * [--url=jdbc:postgresql://localhost:5432/gerenciador-projetos] [--usuario=admin] [--senha=admin]
+ * [--usuarios-concorrentes=1,8,32] [--duracao=15] [--aquecimento=3] [--conexoes=10] [--max-paralelas=5]
+ * [--atraso-rede-ms=0] [--usuarios=10000] [--projetos=100000] [--semente=42]}
+ * <p>
+ * Cada requisição abre uma transação na sua conexão, como o @Transactional do serviço. Em sequência, as três buscas
+ * usam essa conexão; em paralelo, o projeto é buscado nela e cada usuário em uma transação própria, em outra conexão
+ * do pool. Com {@code --atraso-rede-ms} as conexões passam por um proxy local que atrasa cada resposta do banco,
+ * simulando a latência de rede entre a aplicação e o PostgreSQL.
+ */
+public class ParallelLookupBenchmark {
+
+    private static final String PROJETO = "SELECT p.*, g.login_usuario, c.login_usuario FROM projetos p " +
+            "LEFT JOIN usuarios g ON g.id = p.id_gerente_projeto LEFT JOIN usuarios c ON c.id = p.id_criador_projeto " +
+            "WHERE p.id = ?";
+    private static final String USUARIO = "SELECT * FROM usuarios WHERE id = ?";
+
+    private final HikariDataSource dataSource;
+    private final ParallelLookups parallelLookups;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AtrasoRede atrasoRede;
+    private final int[] usuariosConcorrentes;
+    private final Duration duracao;
+    private final Duration aquecimento;
+    private final int usuarios;
+    private final int projetos;
+    private final long semente;
+
+    ParallelLookupBenchmark(Map<String, String> opcoes) throws IOException {
+        String url = opcoes.getOrDefault("url", "jdbc:postgresql://localhost:5432/gerenciador-projetos");
+        long atrasoMillis = Long.parseLong(opcoes.getOrDefault("atraso-rede-ms", "0"));
+        if (atrasoMillis > 0) {
+            URI banco = URI.create(url.substring("jdbc:".length()));
+            atrasoRede = new AtrasoRede(banco.getHost(), banco.getPort() < 0 ? 5432 : banco.getPort(), atrasoMillis);
+            url = "jdbc:postgresql://localhost:" + atrasoRede.porta() + banco.getPath();
+        } else {
+            atrasoRede = null;
+        }
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(url);
+        config.setUsername(opcoes.getOrDefault("usuario", "admin"));
+        config.setPassword(opcoes.getOrDefault("senha", "admin"));
+        config.setMaximumPoolSize(Integer.parseInt(opcoes.getOrDefault("conexoes", "10")));
+        config.setConnectionTimeout(Duration.ofMinutes(1).toMillis());
+        this.dataSource = new HikariDataSource(config);
+
+        // Sem transação do Spring na thread de quem inicia as consultas, o ParallelLookups não usa o gerenciador
+        DefaultListableBeanFactory beans = new DefaultListableBeanFactory();
+        beans.registerSingleton("dataSource", dataSource);
+        this.parallelLookups = new ParallelLookups(null, beans.getBeanProvider(Tracer.class),
+                beans.getBeanProvider(DataSource.class), registry,
+                Integer.parseInt(opcoes.getOrDefault("max-paralelas", "5")));
+
+        this.usuariosConcorrentes = Arrays.stream(opcoes.getOrDefault("usuarios-concorrentes", "1,8,32").split(","))
+                .mapToInt(valor -> Integer.parseInt(valor.trim()))
+                .toArray();
+        this.duracao = Duration.ofSeconds(Long.parseLong(opcoes.getOrDefault("duracao", "15")));
+        this.aquecimento = Duration.ofSeconds(Long.parseLong(opcoes.getOrDefault("aquecimento", "3")));
+        this.usuarios = Integer.parseInt(opcoes.getOrDefault("usuarios", "10000"));
+        this.projetos = Integer.parseInt(opcoes.getOrDefault("projetos", "100000"));
+        this.semente = Long.parseLong(opcoes.getOrDefault("semente", "42"));
+    }
+
+    public static void main(String[] args) throws Exception {
+        ParallelLookupBenchmark benchmark = new ParallelLookupBenchmark(SyntheticDataGenerator.lerOpcoes(args));
+        try {
+            benchmark.executar();
+        } finally {
+            benchmark.dataSource.close();
+            if (benchmark.atrasoRede != null) {
+                benchmark.atrasoRede.close();
+            }
+        }
+    }
+
+    void executar() throws Exception {
+        System.out.printf("Buscas de addNewTask: %d conexões, atraso de rede %d ms, %d s (+%d s de aquecimento) por medição%n",
+                dataSource.getMaximumPoolSize(), atrasoRede == null ? 0 : atrasoRede.atrasoMillis,
+                duracao.toSeconds(), aquecimento.toSeconds());
+        System.out.printf("%n%-12s %10s %11s %10s %9s %9s %9s %12s%n",
+                "modo", "usuários", "requisições", "req/s", "p50 ms", "p95 ms", "p99 ms", "sequenciais");
+
+        for (int concorrentes : usuariosConcorrentes) {
+            medir("sequencial", concorrentes, this::sequencial);
+            medir("paralelo", concorrentes, this::paralelo);
+        }
+    }
+
+    private void sequencial(Connection transacao, long projetoId, long responsavelId, long executorId) throws SQLException {
+        buscar(transacao, PROJETO, projetoId);
+        buscar(transacao, USUARIO, responsavelId);
+        buscar(transacao, USUARIO, executorId);
+    }
+
+    private void paralelo(Connection transacao, long projetoId, long responsavelId, long executorId) throws SQLException {
+        try (LookupScope consultas = parallelLookups.abrir()) {
+            consultas.fork(() -> buscarEmParalelo(transacao, USUARIO, responsavelId));
+            consultas.fork(() -> buscarEmParalelo(transacao, USUARIO, executorId));
+            buscar(transacao, PROJETO, projetoId);
+            consultas.join();
+        }
+    }
+
+    private void medir(String modo, int concorrentes, Requisicao requisicao) throws Exception {
+        double sequenciaisAntes = registry.get("consultas.paralelas.sequenciais").counter().count();
+        long inicio = System.nanoTime();
+        long inicioMedicao = inicio + aquecimento.toNanos();
+        long fim = inicioMedicao + duracao.toNanos();
+
+        List<Future<List<Long>>> resultados = new ArrayList<>();
+        try (ExecutorService clientes = Executors.newFixedThreadPool(concorrentes)) {
+            for (int i = 0; i < concorrentes; i++) {
+                SplittableRandom random = new SplittableRandom(semente + i);
+                resultados.add(clientes.submit(() -> {
+                    List<Long> latencias = new ArrayList<>();
+                    while (System.nanoTime() < fim) {
+                        long envio = System.nanoTime();
+                        try (Connection transacao = dataSource.getConnection()) {
+                            transacao.setAutoCommit(false);
+                            requisicao.executar(transacao, 1 + random.nextInt(projetos),
+                                    1 + random.nextInt(usuarios), 1 + random.nextInt(usuarios));
+                            transacao.commit();
+                        }
+                        if (envio >= inicioMedicao) {
+                            latencias.add(System.nanoTime() - envio);
+                        }
+                    }
+                    return latencias;
+                }));
+            }
+
+            long[] ordenadas = new long[0];
+            for (Future<List<Long>> resultado : resultados) {
+                long[] latencias = resultado.get().stream().mapToLong(Long::longValue).toArray();
+                int anterior = ordenadas.length;
+                ordenadas = Arrays.copyOf(ordenadas, anterior + latencias.length);
+                System.arraycopy(latencias, 0, ordenadas, anterior, latencias.length);
+            }
+            Arrays.sort(ordenadas);
+
+            System.out.printf("%-12s %10d %11d %10.1f %9.2f %9.2f %9.2f %12.0f%n", modo, concorrentes, ordenadas.length,
+                    ordenadas.length / (duracao.toNanos() / 1e9), HttpLoadTest.percentil(ordenadas, 0.50),
+                    HttpLoadTest.percentil(ordenadas, 0.95), HttpLoadTest.percentil(ordenadas, 0.99),
+                    registry.get("consultas.paralelas.sequenciais").counter().count() - sequenciaisAntes);
+        }
+    }
+
+    /**
+     * Busca em uma transação própria, como a consulta paralela faz com o TransactionTemplate do ParallelLookups. Acima
+     * do limite de consultas paralelas a busca é executada na thread da requisição e usa a transação dela.
+     */
+    private boolean buscarEmParalelo(Connection transacao, String sql, long id) throws SQLException {
+        if (!Thread.currentThread().isVirtual()) {
+            return buscar(transacao, sql, id);
+        }
+        try (Connection conexao = dataSource.getConnection()) {
+            conexao.setAutoCommit(false);
+            boolean encontrado = buscar(conexao, sql, id);
+            conexao.commit();
+            return encontrado;
+        }
+    }
+
+    private static boolean buscar(Connection conexao, String sql, long id) throws SQLException {
+        try (PreparedStatement statement = conexao.prepareStatement(sql)) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Requisicao {
+        void executar(Connection transacao, long projetoId, long responsavelId, long executorId) throws SQLException;
+    }
+
+    /**
+     * Proxy TCP local que atrasa cada bloco de dados enviado pelo banco à aplicação.
+     */
+    private static final class AtrasoRede implements AutoCloseable {
+
+        private final ServerSocket servidor;
+        private final long atrasoMillis;
+
+        AtrasoRede(String host, int porta, long atrasoMillis) throws IOException {
+            this.servidor = new ServerSocket(0);
+            this.atrasoMillis = atrasoMillis;
+            Thread.ofVirtual().start(() -> {
+                while (!servidor.isClosed()) {
+                    try {
+                        Socket cliente = servidor.accept();
+                        Socket banco = new Socket();
+                        banco.connect(new InetSocketAddress(host, porta));
+                        cliente.setTcpNoDelay(true);
+                        banco.setTcpNoDelay(true);
+                        Thread.ofVirtual().start(() -> copiar(cliente, banco, 0));
+                        Thread.ofVirtual().start(() -> copiar(banco, cliente, atrasoMillis));
+                    } catch (IOException ex) {
+                        // Servidor fechado ao final do benchmark
+                    }
+                }
+            });
+        }
+
+        int porta() {
+            return servidor.getLocalPort();
+        }
+
+        private static void copiar(Socket origem, Socket destino, long atrasoMillis) {
+            byte[] buffer = new byte[16 * 1024];
+            try (origem; destino) {
+                InputStream entrada = origem.getInputStream();
+                OutputStream saida = destino.getOutputStream();
+                int lidos;
+                while ((lidos = entrada.read(buffer)) >= 0) {
+                    if (atrasoMillis > 0) {
+                        Thread.sleep(atrasoMillis);
+                    }
+                    saida.write(buffer, 0, lidos);
+                    saida.flush();
+                }
+            } catch (IOException | InterruptedException ex) {
+                // Conexão encerrada
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            servidor.close();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.api.gerenciadorprojetos.LoadTest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Confere com EXPLAIN que as consultas dos repositórios usam os índices das migrações em um banco com volume real.
+ * <p>
+ * Executado apenas com {@code -Dexplain.url=jdbc:postgresql://...} (e opcionalmente {@code explain.user} e
+ * {@code explain.password}), contra um banco populado pelo {@link SyntheticDataGenerator}. As migrações são aplicadas
+ * antes dos testes. Com poucas linhas o planejador prefere leituras sequenciais, então os testes são ignorados se o
+ * banco tiver menos de 10 mil projetos.
+ * <p>
+ * As consultas reproduzem o SQL gerado para as consultas JPQL e nativas de ProjetoJpaRepository, TaskRepository,
+ * TaskDependencyRepository, ProjectSnapshotRepository e da pesquisa do audit, com valores reais do banco.
+ */
+@EnabledIfSystemProperty(named = "explain.url", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTest {
+
+    private static final long MINIMO_PROJETOS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private Connection conexao;
+
+    private long usuarioTipico;
+    private long projetoComTarefas;
+
+    @BeforeAll
+    void conectar() throws SQLException {
+        String url = System.getProperty("explain.url");
+        String usuario = System.getProperty("explain.user", "admin");
+        String senha = System.getProperty("explain.password", "admin");
+
+        Flyway.configure()
+                .dataSource(url, usuario, senha)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .load()
+                .migrate();
+
+        conexao = DriverManager.getConnection(url, usuario, senha);
+        assumeTrue(valor("SELECT count(*) FROM projetos") >= MINIMO_PROJETOS,
+                "Banco com menos de " + MINIMO_PROJETOS + " projetos. Execute o SyntheticDataGenerator antes");
+
+        try (Statement statement = conexao.createStatement()) {
+            statement.execute("ANALYZE");
+        }
+        // Usuário com a quantidade mediana de projetos. Para os usuários com mais projetos, ler projetos inteira em uma
+        // junção hash pode ser de fato o melhor plano
+        usuarioTipico = valor("SELECT id_usuario FROM membros_projeto GROUP BY id_usuario ORDER BY count(*), id_usuario " +
+                "OFFSET (SELECT count(DISTINCT id_usuario) / 2 FROM membros_projeto) LIMIT 1");
+        projetoComTarefas = valor("SELECT id_projeto FROM tarefas_projeto GROUP BY id_projeto ORDER BY count(*) DESC LIMIT 1");
+    }
+
+    @AfterAll
+    void desconectar() throws SQLException {
+        if (conexao != null) {
+            conexao.close();
+        }
+    }
+
+    @Test
+    void projetosDoUsuarioUsamIndiceDeMembrosPorUsuario() throws Exception {
+        Plano plano = explicar("SELECT p.id, p.nome_projeto, p.status, g.id, g.nome_usuario FROM projetos p " +
+                "JOIN membros_projeto m ON m.id_projeto = p.id LEFT JOIN usuarios g ON g.id = p.id_gerente_projeto " +
+                "WHERE m.id_usuario = " + usuarioTipico);
+
+        plano.semLeituraSequencial("membros_projeto", "projetos");
+        plano.usaIndice("idx_membros_projeto_usuario");
+    }
+
+    @Test
+    void projetosPorStatusRaroUsamIndiceDeStatus() throws Exception {
+        Plano plano = explicar("SELECT p.id, p.nome_projeto FROM projetos p WHERE p.status = 'CRIADO'");
+
+        plano.semLeituraSequencial("projetos");
+        plano.usaIndice("idx_projetos_status");
+    }
+
+    @Test
+    void projetosVencidosEmAbertoUsamIndiceParcial() throws Exception {
+        Plano plano = explicar("SELECT p.id FROM projetos p " +
+                "WHERE p.status IN ('CRIADO', 'EM_ANDAMENTO') AND p.data_termino_prevista < current_date");
+
+        plano.semLeituraSequencial("projetos");
+        plano.usaIndice("idx_projetos_termino_em_aberto");
+    }
+
+    @Test
+    void tarefasVencidasEmAbertoUsamIndiceParcial() throws Exception {
+        Plano plano = explicar("SELECT t.id FROM tarefas_projeto t " +
+                "WHERE t.status IN ('PENDENTE', 'EM_ANDAMENTO') AND t.data_termino_prevista < current_date");
+
+        plano.semLeituraSequencial("tarefas_projeto");
+        plano.usaIndice("idx_tarefas_projeto_termino_em_aberto");
+    }
+
+    @Test
+    void timelineUsaIndiceDeProjetoEDatas() throws Exception {
+        Plano plano = explicar("SELECT t.id, t.nome_tarefa, t.data_inicio, t.data_termino_prevista FROM tarefas_projeto t " +
+                "WHERE t.id_projeto = " + projetoComTarefas + " AND t.data_inicio <= current_date + 15 " +
+                "AND t.data_termino_prevista >= current_date - 15 OFFSET 0 LIMIT 101");
+
+        plano.semLeituraSequencial("tarefas_projeto");
+        plano.usaIndice("idx_tarefas_projeto_timeline");
+    }
+
+    @Test
+    void tarefasEmAbertoDosUsuariosUsamIndiceDeResponsaveisPorUsuario() throws Exception {
+        Plano plano = explicar("SELECT r.id_usuario, t.id, t.data_inicio, t.data_termino_prevista " +
+                "FROM responsaveis_tarefa r JOIN tarefas_projeto t ON t.id = r.id_tarefa " +
+                "WHERE r.id_usuario IN (" + usuarioTipico + ", " + (usuarioTipico + 1) + ") AND t.status <> 'CONCLUIDA'");
+
+        plano.semLeituraSequencial("responsaveis_tarefa", "tarefas_projeto");
+        plano.usaIndice("idx_responsaveis_tarefa_usuario_tarefa");
+    }
+
+    @Test
+    void tarefasDoUsuarioNoProjetoNaoLeemTabelasInteiras() throws Exception {
+        Plano plano = explicar("SELECT t.id, t.nome_tarefa FROM tarefas_projeto t " +
+                "JOIN responsaveis_tarefa r ON r.id_tarefa = t.id " +
+                "WHERE r.id_usuario = " + usuarioTipico + " AND t.id_projeto = " + projetoComTarefas + " AND t.status = 'PENDENTE'");
+
+        plano.semLeituraSequencial("responsaveis_tarefa", "tarefas_projeto");
+    }
+
+    @Test
+    void dependenciasDoProjetoUsamIndicesDeProjetoESucessora() throws Exception {
+        Plano plano = explicar("SELECT d.id_tarefa_predecessora, d.id_tarefa_sucessora, d.lag_dias FROM dependencias_tarefa d " +
+                "JOIN tarefas_projeto t ON t.id = d.id_tarefa_sucessora WHERE t.id_projeto = " + projetoComTarefas);
+
+        plano.semLeituraSequencial("dependencias_tarefa", "tarefas_projeto");
+        plano.usaIndice("idx_dependencias_tarefa_sucessora");
+    }
+
+    @Test
+    void historicoDaEntidadeNoAuditUsaIndiceDeEntidade() throws Exception {
+        assumeTrue(valor("SELECT count(*) FROM audit_log") >= MINIMO_PROJETOS, "audit_log sem volume suficiente");
+
+        Plano plano = explicar("SELECT a.id FROM audit_log a WHERE a.entidade_afetada = 1 AND a.id_entidade = " + projetoComTarefas +
+                " ORDER BY a.timestamp DESC, a.id DESC LIMIT 51");
+
+        plano.semLeituraSequencial("audit_log");
+        // Nas partições os índices recebem nomes derivados das colunas
+        plano.usaIndice("entidade");
+    }
+
+    @Test
+    void burndownUsaIndiceDeProjetoEData() throws Exception {
+        assumeTrue(valor("SELECT count(*) FROM snapshots_projeto") >= MINIMO_PROJETOS, "snapshots_projeto sem volume suficiente");
+
+        Plano plano = explicar("SELECT * FROM snapshots_projeto WHERE id_projeto = " + projetoComTarefas +
+                " AND data_snapshot BETWEEN current_date - 90 AND current_date");
+
+        plano.semLeituraSequencial("snapshots_projeto");
+        plano.usaIndice("idx_snapshots_projeto_projeto_data");
+    }
+
+    private Plano explicar(String sql) throws Exception {
+        try (Statement statement = conexao.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN (FORMAT JSON) " + sql)) {
+            rs.next();
+            String json = rs.getString(1);
+            Plano plano = new Plano(json);
+            coletar(objectMapper.readTree(json).get(0).get("Plan"), plano.nos);
+            return plano;
+        }
+    }
+
+    private static void coletar(JsonNode no, List<JsonNode> nos) {
+        nos.add(no);
+        if (no.has("Plans")) {
+            for (JsonNode filho : no.get("Plans")) {
+                coletar(filho, nos);
+            }
+        }
+    }
+
+    private long valor(String sql) throws SQLException {
+        try (Statement statement = conexao.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            return rs.next() ? rs.getLong(1) : 0;
+        }
+    }
+
+    private static final class Plano {
+
+        private final String json;
+        private final List<JsonNode> nos = new ArrayList<>();
+
+        private Plano(String json) {
+            this.json = json;
+        }
+
+        /**
+         * Falha se houver leitura sequencial de alguma das tabelas (ou de suas partições). Leituras de relações vazias
+         * (custo zero), como partições de meses futuros, são ignoradas.
+         */
+        void semLeituraSequencial(String... tabelas) {
+            for (JsonNode no : nos) {
+                if (!"Seq Scan".equals(no.path("Node Type").asText()) || no.path("Total Cost").asDouble() == 0) {
+                    continue;
+                }
+                String relacao = no.path("Relation Name").asText();
+                for (String tabela : tabelas) {
+                    assertFalse(relacao.equals(tabela) || relacao.startsWith(tabela + "_"),
+                            "Leitura sequencial de " + relacao + " no plano:\n" + json);
+                }
+            }
+        }
+
+        /**
+         * Falha se nenhum nó do plano usar um índice cujo nome contenha o trecho informado.
+         */
+        void usaIndice(String trecho) {
+            boolean usado = nos.stream().anyMatch(no -> no.path("Index Name").asText().contains(trecho));
+            assertTrue(usado, "Índice " + trecho + " não usado no plano:\n" + json);
+        }
+    }
+}
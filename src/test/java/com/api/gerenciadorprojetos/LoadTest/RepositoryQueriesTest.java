@@ -0,0 +1,189 @@
+package com.api.gerenciadorprojetos.LoadTest;
+
+import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+import com.api.gerenciadorprojetos.Projects.Projections.ProjectStatusCount;
+import com.api.gerenciadorprojetos.Projects.Repositories.JpaConfig;
+import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskStatusCount;
+import com.api.gerenciadorprojetos.Tasks.Repositories.TaskRepository;
+import com.api.gerenciadorprojetos.Users.Entities.User;
+import com.api.gerenciadorprojetos.Users.Repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Confere as consultas de ProjetoJpaRepository, TaskRepository e UserRepository com SQL direto em um banco com volume
+ * real, incluindo as versões usadas como ETag.
+ * <p>
+ * Executado apenas com {@code -Dexplain.url=jdbc:postgresql://...}, como o {@link QueryPlanTest}, contra um banco
+ * populado pelo {@link SyntheticDataGenerator}. Cada teste é desfeito ao final (rollback), então as atualizações em
+ * massa não alteram o banco.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@EnabledIfSystemProperty(named = "explain.url", matches = ".+")
+class RepositoryQueriesTest {
+
+    private static final long MINIMO_PROJETOS = 10_000;
+
+    @Autowired
+    private ProjetoJpaRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private long usuarioTipico;
+    private long projetoComMembros;
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("explain.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("explain.user", "admin"));
+        registry.add("spring.datasource.password", () -> System.getProperty("explain.password", "admin"));
+    }
+
+    @BeforeEach
+    void escolherDados() {
+        assumeTrue(valor("SELECT count(*) FROM projetos") >= MINIMO_PROJETOS,
+                "Banco com menos de " + MINIMO_PROJETOS + " projetos. Execute o SyntheticDataGenerator antes");
+
+        usuarioTipico = valor("SELECT id_usuario FROM membros_projeto GROUP BY id_usuario ORDER BY count(*), id_usuario " +
+                "OFFSET (SELECT count(DISTINCT id_usuario) / 2 FROM membros_projeto) LIMIT 1");
+        projetoComMembros = valor("SELECT id_projeto FROM membros_projeto GROUP BY id_projeto ORDER BY count(*) DESC LIMIT 1");
+    }
+
+    @Test
+    void contagemDeProjetosDoMembroPorStatus() {
+        for (StatusProjeto status : StatusProjeto.values()) {
+            long esperado = valor("SELECT count(*) FROM projetos p JOIN membros_projeto m ON m.id_projeto = p.id " +
+                    "WHERE m.id_usuario = ? AND p.status = ?", usuarioTipico, status.name());
+
+            assertEquals(esperado, projectRepository.countByMemberIdAndStatus(usuarioTipico, status), status.name());
+        }
+    }
+
+    @Test
+    void contagemDeTarefasDoResponsavelPorStatus() {
+        for (StatusTarefa status : StatusTarefa.values()) {
+            long esperado = valor("SELECT count(*) FROM tarefas_projeto t JOIN responsaveis_tarefa r ON r.id_tarefa = t.id " +
+                    "WHERE r.id_usuario = ? AND t.status = ?", usuarioTipico, status.name());
+
+            assertEquals(esperado, taskRepository.countByResponsavelIdAndStatus(usuarioTipico, status), status.name());
+        }
+    }
+
+    @Test
+    void contagensAgrupadasPorStatusConferemComAsContagensPorStatus() {
+        for (ProjectStatusCount contagem : projectRepository.countByMemberIdGroupByStatus(usuarioTipico)) {
+            assertEquals(projectRepository.countByMemberIdAndStatus(usuarioTipico, contagem.getStatus()), contagem.getTotal());
+        }
+        long tarefas = 0;
+        for (TaskStatusCount contagem : taskRepository.countByResponsavelIdGroupByStatus(usuarioTipico)) {
+            assertEquals(taskRepository.countByResponsavelIdAndStatus(usuarioTipico, contagem.getStatus()), contagem.getTotal());
+            tarefas += contagem.getTotal();
+        }
+        assertEquals(valor("SELECT count(*) FROM responsaveis_tarefa WHERE id_usuario = ?", usuarioTipico), tarefas);
+    }
+
+    @Test
+    void membrosDoProjetoSaoTodosRetornados() {
+        List<Long> esperados = jdbcTemplate.queryForList(
+                "SELECT id_usuario FROM membros_projeto WHERE id_projeto = ? ORDER BY id_usuario", Long.class, projetoComMembros);
+
+        List<Long> membros = userRepository.findMembersByProjectId(projetoComMembros)
+                .stream()
+                .map(User::getId)
+                .toList();
+
+        assertFalse(esperados.isEmpty());
+        assertEquals(esperados, membros);
+    }
+
+    @Test
+    void versaoDoProjetoMudaComOsMembros() {
+        String antes = projectRepository.findProjectVersionTag(projetoComMembros).orElseThrow();
+        Long membro = jdbcTemplate.queryForObject(
+                "SELECT id_usuario FROM membros_projeto WHERE id_projeto = ? LIMIT 1", Long.class, projetoComMembros);
+
+        assertEquals(antes, projectRepository.findProjectVersionTag(projetoComMembros).orElseThrow());
+        projectRepository.removeMembers(projetoComMembros, List.of(membro));
+
+        assertNotEquals(antes, projectRepository.findProjectVersionTag(projetoComMembros).orElseThrow());
+        assertTrue(projectRepository.findProjectVersionTag(-1L).isEmpty());
+    }
+
+    @Test
+    void versaoDasTarefasDoUsuarioMudaQuandoUmaTarefaEAlterada() {
+        long projeto = valor("SELECT t.id_projeto FROM tarefas_projeto t JOIN responsaveis_tarefa r ON r.id_tarefa = t.id " +
+                "WHERE r.id_usuario = ? AND t.status = 'PENDENTE' LIMIT 1", usuarioTipico);
+        String todas = taskRepository.findTasksVersionTag(usuarioTipico, projeto, null);
+        String pendentes = taskRepository.findTasksVersionTag(usuarioTipico, projeto, StatusTarefa.PENDENTE.name());
+
+        assertNotEquals(todas, pendentes);
+        jdbcTemplate.update("UPDATE tarefas_projeto t SET versao = versao + 1 FROM responsaveis_tarefa r " +
+                "WHERE r.id_tarefa = t.id AND r.id_usuario = ? AND t.id_projeto = ? AND t.status = 'PENDENTE'", usuarioTipico, projeto);
+
+        assertNotEquals(todas, taskRepository.findTasksVersionTag(usuarioTipico, projeto, null));
+        assertNotEquals(pendentes, taskRepository.findTasksVersionTag(usuarioTipico, projeto, StatusTarefa.PENDENTE.name()));
+    }
+
+    @Test
+    void projetosAtrasadosSaoMarcadosSemAlterarConcluidos() {
+        LocalDate hoje = LocalDate.now();
+        long emAbertoVencidos = valor("SELECT count(*) FROM projetos WHERE status IN ('CRIADO', 'EM_ANDAMENTO') " +
+                "AND data_termino_prevista < ?", hoje);
+        long concluidos = valor("SELECT count(*) FROM projetos WHERE status = 'CONCLUIDO'");
+
+        int atualizados = projectRepository.markLateProjects(hoje);
+
+        assertEquals(emAbertoVencidos, atualizados);
+        assertEquals(0, valor("SELECT count(*) FROM projetos WHERE status IN ('CRIADO', 'EM_ANDAMENTO') " +
+                "AND data_termino_prevista < ?", hoje));
+        assertEquals(concluidos, valor("SELECT count(*) FROM projetos WHERE status = 'CONCLUIDO'"));
+    }
+
+    @Test
+    void tarefasAtrasadasSaoMarcadasSemAlterarConcluidas() {
+        LocalDate hoje = LocalDate.now();
+        long emAbertoVencidas = valor("SELECT count(*) FROM tarefas_projeto WHERE status IN ('PENDENTE', 'EM_ANDAMENTO') " +
+                "AND data_termino_prevista < ?", hoje);
+        long concluidas = valor("SELECT count(*) FROM tarefas_projeto WHERE status = 'CONCLUIDA'");
+
+        int atualizadas = taskRepository.markLateTasks(hoje);
+
+        assertEquals(emAbertoVencidas, atualizadas);
+        assertEquals(0, valor("SELECT count(*) FROM tarefas_projeto WHERE status IN ('PENDENTE', 'EM_ANDAMENTO') " +
+                "AND data_termino_prevista < ?", hoje));
+        assertEquals(concluidas, valor("SELECT count(*) FROM tarefas_projeto WHERE status = 'CONCLUIDA'"));
+    }
+
+    private long valor(String sql, Object... parametros) {
+        Long valor = jdbcTemplate.queryForObject(sql, Long.class, parametros);
+        return valor == null ? 0 : valor;
+    }
+}
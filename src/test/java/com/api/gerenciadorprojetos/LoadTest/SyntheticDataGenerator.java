@@ -0,0 +1,493 @@
+package com.api.gerenciadorprojetos.LoadTest;
+
+import com.api.gerenciadorprojetos.audit.Enums.AcaoAuditoria;
+import com.api.gerenciadorprojetos.audit.Enums.EntidadeAuditada;
+import com.api.gerenciadorprojetos.audit.Enums.TipoDicionario;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Gerador de dados sintéticos para testes de carga. Não é executado pelo surefire.
+ * <p>
+ * Uso: {@code java -cp target/classes:target/test-classes:<dependências> com.api.gerenciadorprojetos.LoadTest.SyntheticDataGenerator
+ * [--url=jdbc:postgresql://localhost:5432/gerenciador-projetos] [--usuario=admin] [--senha=admin] [--usuarios=10000]
+ * [--projetos=100000] [--tarefas-por-projeto=20] [--membros-por-projeto=8] [--atualizacoes-por-tarefa=2] [--semente=42]}
+ * <p>
+ * Os valores padrão geram 100 mil projetos e cerca de 2 milhões de tarefas. O esquema deve existir (suba a aplicação
+ * uma vez antes) e os dados são acrescentados aos já existentes, com IDs a partir do maior ID de cada tabela. Todos os
+ * usuários gerados têm a senha {@code senha123} e login {@code carga<ID>}.
+ * <p>
+ * Os dados são gravados com {@code COPY ... FROM STDIN}, uma tabela por vez, e cada projeto é gerado de forma
+ * determinística a partir da semente e do seu índice. Assim cada tabela é escrita em uma passada sobre os projetos,
+ * sem manter os dados em memória. As distribuições procuram se aproximar do uso real: quantidade de tarefas por projeto
+ * exponencial (poucos projetos muito grandes), participação concentrada em alguns usuários, datas ao longo dos últimos
+ * dois anos com status coerentes com a data atual, acumulados de progresso do projeto consistentes com as tarefas e
+ * dependências apenas entre tarefas do mesmo projeto, sem ciclos.
+ */
+public class SyntheticDataGenerator {
+
+    private static final int TAMANHO_BUFFER_COPY = 1 << 20;
+    private static final int DIAS_HISTORICO = 720;
+    private static final String SENHA_PADRAO = "senha123";
+
+    private static final String[] AGENTES = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 14_1) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.1 Safari/605.1.15",
+            "Mozilla/5.0 (X11; Linux x86_64; rv:121.0) Gecko/20100101 Firefox/121.0",
+            "okhttp/4.12.0"
+    };
+    private static final String[] ORIGENS = {
+            "https://app.gerenciador-projetos.com.br", "http://localhost:3000", "android-app://br.com.gerenciador"
+    };
+    private static final String[] PRIORIDADES = {"BAIXA", "MEDIA", "ALTA", "CRITICA"};
+
+    private final long semente;
+    private final int usuarios;
+    private final int projetos;
+    private final int tarefasPorProjeto;
+    private final int membrosPorProjeto;
+    private final int atualizacoesPorTarefa;
+    private final LocalDate hoje = LocalDate.now();
+
+    private long baseUsuario;
+    private long baseProjeto;
+    private long baseTarefa;
+
+    SyntheticDataGenerator(Map<String, String> opcoes) {
+        this.semente = Long.parseLong(opcoes.getOrDefault("semente", "42"));
+        this.usuarios = Integer.parseInt(opcoes.getOrDefault("usuarios", "10000"));
+        this.projetos = Integer.parseInt(opcoes.getOrDefault("projetos", "100000"));
+        this.tarefasPorProjeto = Integer.parseInt(opcoes.getOrDefault("tarefas-por-projeto", "20"));
+        this.membrosPorProjeto = Integer.parseInt(opcoes.getOrDefault("membros-por-projeto", "8"));
+        this.atualizacoesPorTarefa = Integer.parseInt(opcoes.getOrDefault("atualizacoes-por-tarefa", "2"));
+
+        if (usuarios < 2 || projetos < 1 || tarefasPorProjeto < 1 || membrosPorProjeto < 2) {
+            throw new IllegalArgumentException("São necessários ao menos 2 usuários, 1 projeto, 1 tarefa e 2 membros por projeto");
+        }
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> opcoes = lerOpcoes(args);
+        String url = opcoes.getOrDefault("url", "jdbc:postgresql://localhost:5432/gerenciador-projetos");
+
+        try (Connection conexao = DriverManager.getConnection(url,
+                opcoes.getOrDefault("usuario", "admin"), opcoes.getOrDefault("senha", "admin"))) {
+            new SyntheticDataGenerator(opcoes).gerar(conexao);
+        }
+    }
+
+    void gerar(Connection conexao) throws SQLException {
+        conexao.setAutoCommit(false);
+        try (Statement statement = conexao.createStatement()) {
+            // Perder as últimas transações em uma queda não é um problema para dados descartáveis
+            statement.execute("SET synchronous_commit = off");
+        }
+
+        baseUsuario = maiorId(conexao, "usuarios");
+        baseProjeto = maiorId(conexao, "projetos");
+        baseTarefa = maiorId(conexao, "tarefas_projeto");
+        int[] idsAgentes = gravarDicionario(conexao, TipoDicionario.AGENTE_USUARIO, AGENTES);
+        int[] idsOrigens = gravarDicionario(conexao, TipoDicionario.ORIGEM, ORIGENS);
+        criarParticoesAudit(conexao);
+
+        CopyManager copyManager = conexao.unwrap(PGConnection.class).getCopyAPI();
+        long inicio = System.nanoTime();
+
+        copiar(conexao, copyManager, "usuarios (id, nome_usuario, login_usuario, email_usuario, senha_usuario, data_registro_usuario)",
+                this::escreverUsuarios);
+        copiar(conexao, copyManager, "projetos (id, nome_projeto, descricao, data_inicio, data_termino_prevista, data_criacao_projeto, " +
+                        "status, id_gerente_projeto, id_criador_projeto, orcamento, prioridade, porcentagem_concluida, " +
+                        "soma_porcentagem_tarefas, quantidade_tarefas, versao)",
+                copia -> paraCadaProjeto(projeto -> escreverProjeto(copia, projeto)));
+        copiar(conexao, copyManager, "membros_projeto (id_projeto, id_usuario)",
+                copia -> paraCadaProjeto(projeto -> {
+                    for (long membro : projeto.membros) {
+                        copia.linha(projeto.id, membro);
+                    }
+                }));
+        copiar(conexao, copyManager, "tarefas_projeto (id, nome_tarefa, descricao, data_inicio, data_termino_prevista, status, " +
+                        "id_projeto, data_conclusao, porcentagem_concluida, versao)",
+                copia -> paraCadaProjeto(projeto -> {
+                    for (TarefaSintetica tarefa : projeto.tarefas) {
+                        copia.linha(tarefa.id, tarefa.nome, "Tarefa gerada para teste de carga", tarefa.dataInicio,
+                                tarefa.dataTermino, tarefa.status, projeto.id, tarefa.dataConclusao, tarefa.porcentagem, 0);
+                    }
+                }));
+        copiar(conexao, copyManager, "responsaveis_tarefa (id_tarefa, id_usuario)",
+                copia -> paraCadaProjeto(projeto -> {
+                    for (TarefaSintetica tarefa : projeto.tarefas) {
+                        for (long responsavel : tarefa.responsaveis) {
+                            copia.linha(tarefa.id, responsavel);
+                        }
+                    }
+                }));
+        copiar(conexao, copyManager, "dependencias_tarefa (id_tarefa_predecessora, id_tarefa_sucessora, lag_dias)",
+                copia -> paraCadaProjeto(projeto -> {
+                    for (TarefaSintetica tarefa : projeto.tarefas) {
+                        if (tarefa.predecessora > 0) {
+                            copia.linha(tarefa.predecessora, tarefa.id, tarefa.lagDias);
+                        }
+                    }
+                }));
+        copiar(conexao, copyManager, "audit_log (timestamp, id_usuario, acao, detalhes, entidade_afetada, id_entidade, alteracoes, " +
+                        "endereco_ip, id_agente_usuario, id_origem, informacoes_sessao, id_correlacao)",
+                copia -> paraCadaProjeto(projeto -> escreverAudit(copia, projeto, idsAgentes, idsOrigens)));
+
+        try (Statement statement = conexao.createStatement()) {
+            for (String tabela : List.of("usuarios", "projetos", "tarefas_projeto")) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + tabela + "', 'id'), (SELECT max(id) FROM " + tabela + "))");
+            }
+            conexao.commit();
+
+            conexao.setAutoCommit(true);
+            statement.execute("ANALYZE usuarios, projetos, membros_projeto, tarefas_projeto, responsaveis_tarefa, dependencias_tarefa, audit_log");
+        }
+        System.out.printf("Geração concluída em %.1f s%n", (System.nanoTime() - inicio) / 1e9);
+    }
+
+    private void escreverUsuarios(Copia copia) {
+        String senha = new BCryptPasswordEncoder().encode(SENHA_PADRAO);
+        SplittableRandom random = new SplittableRandom(semente);
+        for (int i = 1; i <= usuarios; i++) {
+            long id = baseUsuario + i;
+            LocalDateTime registro = hoje.minusDays(DIAS_HISTORICO + random.nextInt(365)).atTime(random.nextInt(24), random.nextInt(60));
+            copia.linha(id, "Usuário " + id, "carga" + id, "carga" + id + "@carga.local", senha, registro);
+        }
+    }
+
+    private void escreverProjeto(Copia copia, ProjetoSintetico projeto) {
+        long soma = 0;
+        for (TarefaSintetica tarefa : projeto.tarefas) {
+            soma += tarefa.porcentagem;
+        }
+        int quantidade = projeto.tarefas.size();
+        copia.linha(projeto.id, "Projeto " + projeto.id, "Projeto gerado para teste de carga", projeto.dataInicio,
+                projeto.dataTermino, criacao(projeto), projeto.status, projeto.membros[0],
+                projeto.membros[1], projeto.orcamento, projeto.prioridade, (int) (soma / quantidade), soma, quantidade, 0);
+    }
+
+    private void escreverAudit(Copia copia, ProjetoSintetico projeto, int[] idsAgentes, int[] idsOrigens) {
+        SplittableRandom random = new SplittableRandom(semente ^ (projeto.id * 0x9E3779B97F4A7C15L));
+        copia.linha(criacao(projeto), projeto.membros[1], AcaoAuditoria.CRIAR_PROJETO.getCodigo(),
+                "Projeto criado", EntidadeAuditada.PROJETO.getCodigo(), projeto.id, null, ip(random),
+                idsAgentes[random.nextInt(idsAgentes.length)], idsOrigens[random.nextInt(idsOrigens.length)], null, null);
+
+        for (TarefaSintetica tarefa : projeto.tarefas) {
+            LocalDateTime momento = noPassado(tarefa.dataInicio.minusDays(1).atTime(10, random.nextInt(60)));
+            long autor = projeto.membros[random.nextInt(projeto.membros.length)];
+            copia.linha(momento, autor, AcaoAuditoria.CRIAR_TAREFA.getCodigo(), "Tarefa criada",
+                    EntidadeAuditada.TAREFA.getCodigo(), tarefa.id, null, ip(random),
+                    idsAgentes[random.nextInt(idsAgentes.length)], idsOrigens[random.nextInt(idsOrigens.length)], null, null);
+
+            int atualizacoes = random.nextInt(2 * atualizacoesPorTarefa + 1);
+            for (int i = 0; i < atualizacoes; i++) {
+                momento = momento.plusHours(1 + random.nextInt(72));
+                if (!momento.toLocalDate().isBefore(hoje)) {
+                    break;
+                }
+                int de = Math.min(100, i * 25);
+                int para = Math.min(100, de + 25);
+                copia.linha(momento, autor, AcaoAuditoria.ATUALIZAR_TAREFA.getCodigo(), "Tarefa atualizada",
+                        EntidadeAuditada.TAREFA.getCodigo(), tarefa.id,
+                        "{\"porcentagemConcluida\":{\"de\":\"" + de + "\",\"para\":\"" + para + "\"}}", ip(random),
+                        idsAgentes[random.nextInt(idsAgentes.length)], idsOrigens[random.nextInt(idsOrigens.length)], null, null);
+            }
+        }
+    }
+
+    /**
+     * Gera o projeto de um índice. O resultado depende apenas da semente e do índice (e, para os IDs das tarefas, dos
+     * projetos anteriores), então cada passada sobre os projetos reproduz exatamente os mesmos dados.
+     */
+    ProjetoSintetico projeto(int indice, long primeiroIdTarefa) {
+        SplittableRandom random = new SplittableRandom(semente * 31 + indice);
+        ProjetoSintetico projeto = new ProjetoSintetico();
+        projeto.id = baseProjeto + indice + 1;
+        projeto.dataInicio = hoje.minusDays(random.nextInt(DIAS_HISTORICO)).plusDays(30);
+        projeto.dataTermino = projeto.dataInicio.plusDays(30 + random.nextInt(335));
+        projeto.orcamento = Math.round(random.nextDouble(10_000, 2_000_000) * 100) / 100.0;
+        projeto.prioridade = PRIORIDADES[random.nextInt(PRIORIDADES.length)];
+
+        // Participação concentrada: os primeiros usuários aparecem em muito mais projetos que os demais
+        int quantidadeMembros = Math.max(2, Math.min(usuarios, 1 + random.nextInt(2 * membrosPorProjeto - 1)));
+        Set<Long> membros = new LinkedHashSet<>();
+        while (membros.size() < quantidadeMembros) {
+            // A cauda da distribuição volta ao início, em vez de se acumular no último usuário
+            int posicao = (int) (Math.abs(random.nextGaussian()) * usuarios / 3) % usuarios;
+            membros.add(baseUsuario + 1 + posicao);
+        }
+        projeto.membros = membros.stream().mapToLong(Long::longValue).toArray();
+
+        // Quantidade de tarefas exponencial com a média configurada, limitada a 10 vezes a média
+        int quantidadeTarefas = (int) Math.min(10L * tarefasPorProjeto,
+                1 + Math.round(-Math.log(1 - random.nextDouble()) * (tarefasPorProjeto - 1)));
+        long duracaoProjeto = projeto.dataTermino.toEpochDay() - projeto.dataInicio.toEpochDay();
+
+        projeto.tarefas = new ArrayList<>(quantidadeTarefas);
+        boolean todasConcluidas = true;
+        boolean algumaAtrasada = false;
+        for (int i = 0; i < quantidadeTarefas; i++) {
+            TarefaSintetica tarefa = new TarefaSintetica();
+            tarefa.id = primeiroIdTarefa + i;
+            tarefa.nome = "Tarefa " + (i + 1) + " do projeto " + projeto.id;
+            tarefa.dataInicio = projeto.dataInicio.plusDays(random.nextLong(duracaoProjeto));
+            tarefa.dataTermino = tarefa.dataInicio.plusDays(1 + random.nextInt(30));
+            definirStatus(tarefa, random);
+            todasConcluidas &= "CONCLUIDA".equals(tarefa.status);
+            algumaAtrasada |= "ATRASADA".equals(tarefa.status);
+
+            tarefa.responsaveis = new long[]{projeto.membros[random.nextInt(projeto.membros.length)]};
+            if (random.nextInt(4) == 0) {
+                long segundo = projeto.membros[random.nextInt(projeto.membros.length)];
+                if (segundo != tarefa.responsaveis[0]) {
+                    tarefa.responsaveis = new long[]{tarefa.responsaveis[0], segundo};
+                }
+            }
+
+            // Apenas tarefas anteriores podem ser predecessoras, o que garante um grafo sem ciclos
+            if (i > 0 && random.nextInt(3) > 0) {
+                tarefa.predecessora = primeiroIdTarefa + random.nextInt(i);
+                tarefa.lagDias = random.nextInt(4) == 0 ? random.nextInt(5) : 0;
+            }
+            projeto.tarefas.add(tarefa);
+        }
+
+        if (projeto.dataInicio.isAfter(hoje)) {
+            projeto.status = "CRIADO";
+        } else if (todasConcluidas) {
+            projeto.status = "CONCLUIDO";
+        } else if (algumaAtrasada || projeto.dataTermino.isBefore(hoje)) {
+            projeto.status = "ATRASADO";
+        } else {
+            projeto.status = "EM_ANDAMENTO";
+        }
+        return projeto;
+    }
+
+    private void definirStatus(TarefaSintetica tarefa, SplittableRandom random) {
+        if (tarefa.dataInicio.isAfter(hoje)) {
+            tarefa.status = "PENDENTE";
+            tarefa.porcentagem = 0;
+        } else if (tarefa.dataTermino.isBefore(hoje)) {
+            // Poucas tarefas atrasadas por tarefa já bastam para boa parte dos projetos ficar atrasada
+            if (random.nextInt(100) < 98) {
+                tarefa.status = "CONCLUIDA";
+                tarefa.porcentagem = 100;
+                tarefa.dataConclusao = tarefa.dataTermino.minusDays(random.nextInt(3)).atTime(17, random.nextInt(60));
+            } else {
+                tarefa.status = "ATRASADA";
+                tarefa.porcentagem = 10 * (1 + random.nextInt(9));
+            }
+        } else {
+            long duracao = tarefa.dataTermino.toEpochDay() - tarefa.dataInicio.toEpochDay();
+            long decorrido = hoje.toEpochDay() - tarefa.dataInicio.toEpochDay();
+            tarefa.porcentagem = (int) Math.min(90, 100 * decorrido / Math.max(1, duracao));
+            tarefa.status = tarefa.porcentagem == 0 ? "PENDENTE" : "EM_ANDAMENTO";
+        }
+    }
+
+    private void paraCadaProjeto(AcaoProjeto acao) {
+        long proximoIdTarefa = baseTarefa + 1;
+        for (int i = 0; i < projetos; i++) {
+            ProjetoSintetico projeto = projeto(i, proximoIdTarefa);
+            proximoIdTarefa += projeto.tarefas.size();
+            acao.executar(projeto);
+        }
+    }
+
+    private void copiar(Connection conexao, CopyManager copyManager, String destino, AcaoCopia acao) throws SQLException {
+        long inicio = System.nanoTime();
+        CopyIn copyIn = copyManager.copyIn("COPY " + destino + " FROM STDIN WITH (FORMAT csv)");
+        Copia copia = new Copia(copyIn);
+        try {
+            acao.executar(copia);
+            copia.descarregar();
+            copyIn.endCopy();
+        } catch (SQLException | RuntimeException ex) {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+            conexao.rollback();
+            throw ex;
+        }
+        conexao.commit();
+        System.out.printf("%-22s %,12d linhas em %6.1f s%n", destino.substring(0, destino.indexOf(' ')), copia.linhas,
+                (System.nanoTime() - inicio) / 1e9);
+    }
+
+    private static long maiorId(Connection conexao, String tabela) throws SQLException {
+        try (Statement statement = conexao.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT coalesce(max(id), 0) FROM " + tabela)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static int[] gravarDicionario(Connection conexao, TipoDicionario tipo, String[] valores) throws SQLException {
+        int[] ids = new int[valores.length];
+        try (PreparedStatement insert = conexao.prepareStatement(
+                "INSERT INTO audit_dicionario (tipo, valor) VALUES (?, ?) ON CONFLICT (tipo, valor) DO NOTHING");
+             PreparedStatement select = conexao.prepareStatement("SELECT id FROM audit_dicionario WHERE tipo = ? AND valor = ?")) {
+            for (int i = 0; i < valores.length; i++) {
+                insert.setShort(1, tipo.getCodigo());
+                insert.setString(2, valores[i]);
+                insert.executeUpdate();
+                select.setShort(1, tipo.getCodigo());
+                select.setString(2, valores[i]);
+                try (ResultSet rs = select.executeQuery()) {
+                    rs.next();
+                    ids[i] = rs.getInt(1);
+                }
+            }
+        }
+        conexao.commit();
+        return ids;
+    }
+
+    /**
+     * Se audit_log for particionada, cria as partições mensais do período gerado. Sem elas os registros antigos iriam
+     * para a partição padrão, o que impediria a criação posterior dessas partições.
+     */
+    private static void criarParticoesAudit(Connection conexao) throws SQLException {
+        try (Statement statement = conexao.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SELECT relkind FROM pg_class WHERE oid = to_regclass('audit_log')")) {
+                if (!rs.next() || !"p".equals(rs.getString(1))) {
+                    return;
+                }
+            }
+            YearMonth mes = YearMonth.now().minusMonths(DIAS_HISTORICO / 30 + 2);
+            for (; !mes.isAfter(YearMonth.now()); mes = mes.plusMonths(1)) {
+                statement.execute(String.format("CREATE TABLE IF NOT EXISTS audit_log_y%04dm%02d PARTITION OF audit_log " +
+                        "FOR VALUES FROM ('%s') TO ('%s')", mes.getYear(), mes.getMonthValue(), mes.atDay(1), mes.plusMonths(1).atDay(1)));
+            }
+        }
+        conexao.commit();
+    }
+
+    private LocalDateTime criacao(ProjetoSintetico projeto) {
+        return noPassado(projeto.dataInicio.minusDays(3).atTime(9, 0));
+    }
+
+    /**
+     * Projetos e tarefas podem começar no futuro, mas foram criados (e auditados) até o dia anterior.
+     */
+    private LocalDateTime noPassado(LocalDateTime momento) {
+        LocalDateTime limite = hoje.minusDays(1).atTime(18, 0);
+        return momento.isAfter(limite) ? limite : momento;
+    }
+
+    private static String ip(SplittableRandom random) {
+        return "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + (1 + random.nextInt(254));
+    }
+
+    static Map<String, String> lerOpcoes(String[] args) {
+        Map<String, String> opcoes = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Opção inválida: " + arg + ". Use --nome=valor");
+            }
+            opcoes.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        return opcoes;
+    }
+
+    /**
+     * Acumula linhas CSV e as envia ao COPY em blocos, para não fazer uma chamada ao driver por linha.
+     */
+    static final class Copia {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(TAMANHO_BUFFER_COPY + 4096);
+        private long linhas;
+
+        Copia(CopyIn copyIn) {
+            this.copyIn = copyIn;
+        }
+
+        void linha(Object... valores) {
+            for (int i = 0; i < valores.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                Object valor = valores[i];
+                if (valor instanceof String texto) {
+                    buffer.append('"').append(texto.replace("\"", "\"\"")).append('"');
+                } else if (valor != null) {
+                    buffer.append(valor);
+                }
+            }
+            buffer.append('\n');
+            linhas++;
+            if (buffer.length() >= TAMANHO_BUFFER_COPY) {
+                descarregar();
+            }
+        }
+
+        void descarregar() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            try {
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            } catch (SQLException ex) {
+                throw new IllegalStateException("Erro ao enviar dados ao COPY: " + ex.getMessage(), ex);
+            }
+            buffer.setLength(0);
+        }
+    }
+
+    static final class ProjetoSintetico {
+        long id;
+        LocalDate dataInicio;
+        LocalDate dataTermino;
+        String status;
+        double orcamento;
+        String prioridade;
+        long[] membros;
+        List<TarefaSintetica> tarefas;
+    }
+
+    static final class TarefaSintetica {
+        long id;
+        String nome;
+        LocalDate dataInicio;
+        LocalDate dataTermino;
+        String status;
+        int porcentagem;
+        LocalDateTime dataConclusao;
+        long[] responsaveis;
+        long predecessora;
+        int lagDias;
+    }
+
+    @FunctionalInterface
+    private interface AcaoProjeto {
+        void executar(ProjetoSintetico projeto);
+    }
+
+    @FunctionalInterface
+    private interface AcaoCopia {
+        void executar(Copia copia) throws SQLException;
+    }
+}
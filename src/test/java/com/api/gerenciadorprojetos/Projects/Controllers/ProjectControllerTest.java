@@ -0,0 +1,82 @@
+package com.api.gerenciadorprojetos.Projects.Controllers;
+
+import com.api.gerenciadorprojetos.Projects.DTO.ProjectDTO;
+import com.api.gerenciadorprojetos.Projects.Services.ProjectService;
+import com.api.gerenciadorprojetos.Projects.Services.ProjectSnapshotService;
+import com.api.gerenciadorprojetos.Tasks.Services.TaskService;
+import com.api.gerenciadorprojetos.Utils.Versioned;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProjectControllerTest {
+
+    private final ProjectService projectService = mock(ProjectService.class);
+    private final ProjectDTO projeto = new ProjectDTO();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void configurar() {
+        ProjectController controller = new ProjectController(projectService, mock(TaskService.class), mock(ProjectSnapshotService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        projeto.setId(7L);
+        projeto.setNomeProjeto("Projeto");
+        when(projectService.findProjectVersionTag(7L)).thenReturn("v1");
+        when(projectService.findProjectById(eq(7L), anyString())).thenReturn(new Versioned<>("v1", projeto));
+    }
+
+    @Test
+    void respondeComETagDaVersaoDoProjeto() throws Exception {
+        mockMvc.perform(get("/projetos/7").header("Authorization", "Bearer token"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v1\""))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(jsonPath("$.data.nomeProjeto").value("Projeto"));
+    }
+
+    @Test
+    void respondeNaoModificadoSemCarregarOProjetoQuandoAVersaoNaoMudou() throws Exception {
+        mockMvc.perform(get("/projetos/7").header("Authorization", "Bearer token").header("If-None-Match", "\"v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(projectService, never()).findProjectById(eq(7L), anyString());
+    }
+
+    @Test
+    void respondeComONovoProjetoQuandoAVersaoMudou() throws Exception {
+        when(projectService.findProjectVersionTag(7L)).thenReturn("v2");
+        when(projectService.findProjectById(7L, "v2")).thenReturn(new Versioned<>("v2", projeto));
+
+        mockMvc.perform(get("/projetos/7").header("Authorization", "Bearer token").header("If-None-Match", "\"v1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"v2\""));
+
+        verify(projectService).findProjectById(7L, "v2");
+    }
+
+    @Test
+    void etagEAVersaoLidaJuntoComOProjeto() throws Exception {
+        // A versão consultada para o 304 ficou para trás da lida junto com o projeto
+        when(projectService.findProjectVersionTag(7L)).thenReturn("v2");
+        when(projectService.findProjectById(7L, "v2")).thenReturn(new Versioned<>("v3", projeto));
+
+        mockMvc.perform(get("/projetos/7").header("Authorization", "Bearer token").header("If-None-Match", "\"v1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().stringValues("ETag", "\"v3\""));
+    }
+}
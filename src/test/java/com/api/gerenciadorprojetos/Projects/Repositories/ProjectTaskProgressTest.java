@@ -0,0 +1,125 @@
+package com.api.gerenciadorprojetos.Projects.Repositories;
+
+import com.api.gerenciadorprojetos.Projects.Entities.Project;
+import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+import com.api.gerenciadorprojetos.Tasks.Entities.Task;
+import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import com.api.gerenciadorprojetos.Tasks.Repositories.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Confere que o progresso do projeto, mantido pelas atualizações em massa das tarefas, não é sobrescrito quando um
+ * projeto carregado antes da criação de uma tarefa é salvo depois dela.
+ * <p>
+ * Executado apenas com {@code -Ddb.url=jdbc:postgresql://...} (e opcionalmente {@code db.user} e {@code db.password}).
+ * Os dados são gravados em transações reais e removidos ao final.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "db.url", matches = ".+")
+class ProjectTaskProgressTest {
+
+    @Autowired
+    private ProjetoJpaRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long projetoId;
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("db.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("db.user", "admin"));
+        registry.add("spring.datasource.password", () -> System.getProperty("db.password", "admin"));
+    }
+
+    @AfterEach
+    void removerDados() {
+        if (projetoId != null) {
+            jdbcTemplate.update("DELETE FROM tarefas_projeto WHERE id_projeto = ?", projetoId);
+            jdbcTemplate.update("DELETE FROM projetos WHERE id = ?", projetoId);
+        }
+    }
+
+    @Test
+    void edicaoDoProjetoConcorrenteComACriacaoDeTarefaMantemOProgresso() {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        TransactionTemplate outraTransacao = new TransactionTemplate(transactionManager);
+        outraTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        projetoId = transacao.execute(status -> projectRepository.save(novoProjeto()).getId());
+
+        transacao.executeWithoutResult(status -> {
+            Project carregado = projectRepository.findById(projetoId).orElseThrow();
+
+            // Outra requisição cria uma tarefa e confirma a transação enquanto a edição do projeto está em andamento
+            outraTransacao.executeWithoutResult(s -> {
+                taskRepository.save(novaTarefa(projectRepository.getReferenceById(projetoId)));
+                projectRepository.applyTaskProgressDelta(projetoId, 40, 1);
+            });
+
+            carregado.setNomeProjeto("Projeto editado");
+            projectRepository.saveAndFlush(carregado);
+        });
+
+        Map<String, Object> projeto = jdbcTemplate.queryForMap("SELECT nome_projeto, soma_porcentagem_tarefas, " +
+                "quantidade_tarefas, porcentagem_concluida FROM projetos WHERE id = ?", projetoId);
+        assertEquals("Projeto editado", projeto.get("nome_projeto"));
+        assertEquals(40L, ((Number) projeto.get("soma_porcentagem_tarefas")).longValue());
+        assertEquals(1, ((Number) projeto.get("quantidade_tarefas")).intValue());
+        assertEquals(40, ((Number) projeto.get("porcentagem_concluida")).intValue());
+    }
+
+    private static Project novoProjeto() {
+        Project project = new Project();
+        project.setNomeProjeto("Projeto");
+        project.setDescricao("Projeto de teste do progresso");
+        project.setDataInicio(LocalDate.now());
+        project.setDataTerminoPrevista(LocalDate.now().plusDays(30));
+        project.setDataCriacaoProjeto(LocalDateTime.now());
+        project.setStatus(StatusProjeto.CRIADO);
+        project.setPorcentagemConcluida(0);
+        return project;
+    }
+
+    private static Task novaTarefa(Project project) {
+        Task task = new Task();
+        task.setNomeTarefa("Tarefa");
+        task.setDescricao("Tarefa de teste do progresso");
+        task.setDataInicio(LocalDate.now());
+        task.setDataTerminoPrevista(LocalDate.now().plusDays(5));
+        task.setStatus(StatusTarefa.PENDENTE);
+        task.setPorcentagemConcluida(40);
+        task.setProjeto(project);
+        return task;
+    }
+}
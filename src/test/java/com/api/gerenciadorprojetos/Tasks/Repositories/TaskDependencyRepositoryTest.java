@@ -0,0 +1,148 @@
+package com.api.gerenciadorprojetos.Tasks.Repositories;
+
+import com.api.gerenciadorprojetos.Projects.Entities.Project;
+import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+import com.api.gerenciadorprojetos.Projects.Repositories.JpaConfig;
+import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import com.api.gerenciadorprojetos.Tasks.Entities.Task;
+import com.api.gerenciadorprojetos.Tasks.Entities.TaskDependency;
+import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskDependencyEdge;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Confere a consulta recursiva da parte do cronograma a jusante de uma tarefa e a remoção das dependências na exclusão
+ * do projeto.
+ * <p>
+ * Executado apenas com {@code -Ddb.url=jdbc:postgresql://...}. Cada teste é desfeito ao final (rollback).
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@EnabledIfSystemProperty(named = "db.url", matches = ".+")
+class TaskDependencyRepositoryTest {
+
+    @Autowired
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjetoJpaRepository projectRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("db.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("db.user", "admin"));
+        registry.add("spring.datasource.password", () -> System.getProperty("db.password", "admin"));
+    }
+
+    @Test
+    void arestasAJusanteIncluemAsPredecessorasExternasESomenteElas() {
+        Project project = projectRepository.save(novoProjeto());
+        Task anterior = tarefa(project);
+        Task origem = tarefa(project);
+        Task seguinte = tarefa(project);
+        Task ultima = tarefa(project);
+        Task externa = tarefa(project);
+        Task outra = tarefa(project);
+
+        dependencia(anterior, origem, 0);
+        dependencia(origem, seguinte, 1);
+        dependencia(seguinte, ultima, 0);
+        dependencia(origem, ultima, 2);
+        dependencia(externa, seguinte, 3);
+        dependencia(anterior, outra, 0);
+
+        assertEquals(Set.of(
+                aresta(anterior, origem, 0),
+                aresta(origem, seguinte, 1),
+                aresta(seguinte, ultima, 0),
+                aresta(origem, ultima, 2),
+                aresta(externa, seguinte, 3)), arestasAJusante(origem));
+        assertEquals(Set.of(aresta(anterior, outra, 0)), arestasAJusante(outra));
+        assertEquals(Set.of(
+                aresta(origem, seguinte, 1),
+                aresta(externa, seguinte, 3),
+                aresta(seguinte, ultima, 0),
+                aresta(origem, ultima, 2)), arestasAJusante(externa));
+    }
+
+    @Test
+    void exclusaoDoProjetoComDependenciasRemoveTarefasEDependencias() {
+        Project project = projectRepository.save(novoProjeto());
+        Task origem = tarefa(project);
+        Task seguinte = tarefa(project);
+        dependencia(origem, seguinte, 1);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(1, taskDependencyRepository.deleteByProjectId(project.getId()));
+        projectRepository.delete(projectRepository.findById(project.getId()).orElseThrow());
+        entityManager.flush();
+
+        assertFalse(taskRepository.existsById(origem.getId()));
+        assertFalse(taskRepository.existsById(seguinte.getId()));
+        assertEquals(Set.of(), arestasAJusante(origem));
+    }
+
+    private Set<String> arestasAJusante(Task task) {
+        return taskDependencyRepository.findDownstreamEdges(task.getId()).stream()
+                .map(TaskDependencyRepositoryTest::descrever)
+                .collect(Collectors.toSet());
+    }
+
+    private Task tarefa(Project project) {
+        Task task = new Task();
+        task.setNomeTarefa("Tarefa");
+        task.setDescricao("Tarefa de teste do cronograma");
+        task.setDataInicio(LocalDate.now());
+        task.setDataTerminoPrevista(LocalDate.now().plusDays(2));
+        task.setStatus(StatusTarefa.PENDENTE);
+        task.setProjeto(project);
+        return taskRepository.save(task);
+    }
+
+    private void dependencia(Task predecessora, Task sucessora, int lag) {
+        taskDependencyRepository.save(new TaskDependency(null, predecessora, sucessora, lag));
+    }
+
+    private static String aresta(Task predecessora, Task sucessora, int lag) {
+        return predecessora.getId() + "->" + sucessora.getId() + "+" + lag;
+    }
+
+    private static String descrever(TaskDependencyEdge edge) {
+        return edge.getPredecessoraId() + "->" + edge.getSucessoraId() + "+" + edge.getLagDias();
+    }
+
+    private static Project novoProjeto() {
+        Project project = new Project();
+        project.setNomeProjeto("Projeto");
+        project.setDescricao("Projeto de teste do cronograma");
+        project.setDataInicio(LocalDate.now());
+        project.setDataTerminoPrevista(LocalDate.now().plusDays(30));
+        project.setDataCriacaoProjeto(LocalDateTime.now());
+        project.setStatus(StatusProjeto.CRIADO);
+        return project;
+    }
+}
@@ -0,0 +1,76 @@
+package com.api.gerenciadorprojetos.Tasks.Scheduling;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark manual do motor de caminho crítico sobre grafos sintéticos. Não é executado pelo surefire.
+ * <p>
+ * Uso: {@code java -cp target/classes:target/test-classes com.api.gerenciadorprojetos.Tasks.Scheduling.CriticalPathEngineBenchmark [tarefas] [dependenciasPorTarefa]}
+ * <p>
+ * Cada tarefa depende de até {@code dependenciasPorTarefa} tarefas anteriores (ids menores), próximas a ela, o que
+ * gera um DAG com cadeias longas, semelhante a um projeto dividido em fases.
+ */
+public class CriticalPathEngineBenchmark {
+
+    private static final int AQUECIMENTO = 5;
+    private static final int MEDICOES = 10;
+
+    public static void main(String[] args) {
+        int tarefas = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int dependenciasPorTarefa = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        System.out.printf("Grafo sintético: %,d tarefas, até %d dependências por tarefa%n", tarefas, dependenciasPorTarefa);
+
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            executar(tarefas, dependenciasPorTarefa, false);
+        }
+        for (int i = 0; i < MEDICOES; i++) {
+            executar(tarefas, dependenciasPorTarefa, true);
+        }
+    }
+
+    private static void executar(int tarefas, int dependenciasPorTarefa, boolean imprimir) {
+        SplittableRandom random = new SplittableRandom(42);
+        long inicioBase = LocalDate.of(2024, 1, 1).toEpochDay();
+
+        long t0 = System.nanoTime();
+        CriticalPathEngine.Builder builder = CriticalPathEngine.builder();
+        for (int id = 1; id <= tarefas; id++) {
+            builder.addTask(id, inicioBase + random.nextInt(30), 1 + random.nextInt(10));
+        }
+        int arestas = 0;
+        for (int id = 2; id <= tarefas; id++) {
+            int quantidade = 1 + random.nextInt(dependenciasPorTarefa);
+            for (int d = 0; d < quantidade; d++) {
+                int predecessora = Math.max(1, id - 1 - random.nextInt(50));
+                if (predecessora != id) {
+                    builder.addDependency(predecessora, id, random.nextInt(3));
+                    arestas++;
+                }
+            }
+        }
+        CriticalPathEngine engine = builder.build();
+        long t1 = System.nanoTime();
+
+        ScheduleResult result = engine.computeSchedule();
+        int criticas = result.getCaminhoCritico().size();
+        long t2 = System.nanoTime();
+
+        List<DateShift> primeira = engine.reschedule(1, LocalDate.ofEpochDay(inicioBase + 60),
+                LocalDate.ofEpochDay(inicioBase + 65));
+        long t3 = System.nanoTime();
+
+        long taskMeio = tarefas / 2;
+        List<DateShift> meio = engine.propagateFrom(taskMeio);
+        long t4 = System.nanoTime();
+
+        if (imprimir) {
+            System.out.printf("arestas=%,d | construção+topologia %.1f ms | caminho crítico %.1f ms (%,d críticas, término %s) "
+                            + "| propagação a partir da 1ª tarefa %.1f ms (%,d deslocadas) | propagação sem deslocamento %.3f ms (%d)%n",
+                    arestas, (t1 - t0) / 1e6, (t2 - t1) / 1e6, criticas, result.getTerminoProjeto(),
+                    (t3 - t2) / 1e6, primeira.size(), (t4 - t3) / 1e6, meio.size());
+        }
+    }
+}
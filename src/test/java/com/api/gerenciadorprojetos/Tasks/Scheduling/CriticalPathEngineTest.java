@@ -0,0 +1,107 @@
+package com.api.gerenciadorprojetos.Tasks.Scheduling;
+
+import com.api.gerenciadorprojetos.Exceptions.DependencyCycleException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CriticalPathEngineTest {
+
+    private static final LocalDate D1 = LocalDate.of(2024, 1, 1);
+
+    /**
+     * 1 (3 dias) -> 2 (2 dias) -> 4 (1 dia)
+     * 1 (3 dias) -> 3 (1 dia, defasagem 1) -> 4
+     */
+    private CriticalPathEngine diamante() {
+        return CriticalPathEngine.builder()
+                .addTask(1, D1, D1.plusDays(2))
+                .addTask(2, D1.plusDays(3), D1.plusDays(4))
+                .addTask(3, D1.plusDays(4), D1.plusDays(4))
+                .addTask(4, D1.plusDays(5), D1.plusDays(5))
+                .addDependency(1, 2, 0)
+                .addDependency(1, 3, 1)
+                .addDependency(2, 4, 0)
+                .addDependency(3, 4, 0)
+                .build();
+    }
+
+    @Test
+    void calculaCaminhoCriticoEFolgas() {
+        ScheduleResult result = diamante().computeSchedule();
+
+        assertEquals(D1.plusDays(5), result.getTerminoProjeto());
+        assertEquals(List.of(1L, 2L, 3L, 4L), result.getCaminhoCritico());
+        assertEquals(0, result.getFolgaDias(3));
+        assertEquals(D1.plusDays(4), result.getInicioMaisTarde(3));
+    }
+
+    @Test
+    void tarefaForaDoCaminhoCriticoTemFolga() {
+        ScheduleResult result = CriticalPathEngine.builder()
+                .addTask(1, D1, D1.plusDays(9))
+                .addTask(2, D1, D1.plusDays(1))
+                .addTask(3, D1.plusDays(10), D1.plusDays(10))
+                .addDependency(1, 3, 0)
+                .addDependency(2, 3, 0)
+                .build()
+                .computeSchedule();
+
+        assertEquals(8, result.getFolgaDias(2));
+        assertEquals(List.of(1L, 3L), result.getCaminhoCritico());
+    }
+
+    @Test
+    void rejeitaCiclo() {
+        CriticalPathEngine.Builder builder = CriticalPathEngine.builder()
+                .addTask(1, D1, D1)
+                .addTask(2, D1, D1)
+                .addTask(3, D1, D1)
+                .addDependency(1, 2, 0)
+                .addDependency(2, 3, 0)
+                .addDependency(3, 1, 0);
+
+        DependencyCycleException e = assertThrows(DependencyCycleException.class, builder::build);
+        assertTrue(e.getTarefasNoCiclo().containsAll(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void propagaAtrasoApenasParaTarefasAJusante() {
+        CriticalPathEngine engine = diamante();
+
+        List<DateShift> deslocamentos = engine.reschedule(2, D1.plusDays(5), D1.plusDays(6));
+
+        assertEquals(List.of(
+                new DateShift(2, D1.plusDays(5), D1.plusDays(6)),
+                new DateShift(4, D1.plusDays(7), D1.plusDays(7))), deslocamentos);
+    }
+
+    @Test
+    void folgaAbsorveAtrasoSemDeslocarSucessoras() {
+        CriticalPathEngine engine = CriticalPathEngine.builder()
+                .addTask(1, D1, D1)
+                .addTask(2, D1.plusDays(5), D1.plusDays(5))
+                .addDependency(1, 2, 0)
+                .build();
+
+        List<DateShift> deslocamentos = engine.reschedule(1, D1, D1.plusDays(2));
+
+        assertEquals(List.of(new DateShift(1, D1, D1.plusDays(2))), deslocamentos);
+    }
+
+    @Test
+    void novaDependenciaDeslocaSucessora() {
+        CriticalPathEngine engine = CriticalPathEngine.builder()
+                .addTask(1, D1, D1.plusDays(3))
+                .addTask(2, D1, D1.plusDays(1))
+                .addDependency(1, 2, 2)
+                .build();
+
+        assertEquals(List.of(new DateShift(2, D1.plusDays(6), D1.plusDays(7))), engine.propagateFrom(2));
+    }
+}
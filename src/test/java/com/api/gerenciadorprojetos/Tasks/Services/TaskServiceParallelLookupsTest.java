@@ -0,0 +1,212 @@
+package com.api.gerenciadorprojetos.Tasks.Services;
+
+import com.api.gerenciadorprojetos.Infra.Cache.NegativeLookupCache;
+import com.api.gerenciadorprojetos.Infra.Concurrency.ParallelLookups;
+import com.api.gerenciadorprojetos.Projects.Entities.Project;
+import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+import com.api.gerenciadorprojetos.Projects.Repositories.JpaConfig;
+import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import com.api.gerenciadorprojetos.Tasks.Entities.Task;
+import com.api.gerenciadorprojetos.Users.Entities.User;
+import com.api.gerenciadorprojetos.Users.Repositories.UserRepository;
+import com.api.gerenciadorprojetos.Utils.EntityServiceUtils;
+import com.api.gerenciadorprojetos.audit.Enums.AcaoAuditoria;
+import com.api.gerenciadorprojetos.audit.Enums.EntidadeAuditada;
+import com.api.gerenciadorprojetos.audit.Services.AuditLogService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Executa a criação de tarefas e dependências com as consultas paralelas ativas, contra o banco: os usuários e
+ * tarefas lidos em outras threads chegam desanexados à transação do serviço, e a ausência de uma entidade lida em
+ * paralelo continua sendo respondida com 404 (EntityNotFoundException).
+ * <p>
+ * Executado apenas com {@code -Ddb.url=jdbc:postgresql://...} (e opcionalmente {@code db.user} e {@code db.password}).
+ * As consultas paralelas usam conexões próprias, então os dados são gravados em transações reais e removidos ao final.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, TaskService.class, EntityServiceUtils.class, ParallelLookups.class, NegativeLookupCache.class,
+        TaskServiceParallelLookupsTest.Metricas.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "db.url", matches = ".+")
+class TaskServiceParallelLookupsTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjetoJpaRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private AuditLogService auditLogService;
+
+    @MockBean
+    private ModelMapper modelMapper;
+
+    @MockBean
+    private Validator validator;
+
+    private User gerente;
+    private User responsavel;
+    private Project projeto;
+
+    @TestConfiguration
+    static class Metricas {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("db.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("db.user", "admin"));
+        registry.add("spring.datasource.password", () -> System.getProperty("db.password", "admin"));
+        registry.add("app.parallel-lookups.max-in-flight", () -> "4");
+    }
+
+    @BeforeEach
+    void criarDados() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            gerente = userRepository.save(novoUsuario("gerente"));
+            responsavel = userRepository.save(novoUsuario("responsavel"));
+            projeto = projectRepository.save(novoProjeto(gerente));
+        });
+    }
+
+    @AfterEach
+    void removerDados() {
+        jdbcTemplate.update("DELETE FROM dependencias_tarefa WHERE id_tarefa_sucessora IN " +
+                "(SELECT id FROM tarefas_projeto WHERE id_projeto = ?)", projeto.getId());
+        jdbcTemplate.update("DELETE FROM responsaveis_tarefa WHERE id_tarefa IN " +
+                "(SELECT id FROM tarefas_projeto WHERE id_projeto = ?)", projeto.getId());
+        jdbcTemplate.update("DELETE FROM tarefas_projeto WHERE id_projeto = ?", projeto.getId());
+        jdbcTemplate.update("DELETE FROM projetos WHERE id = ?", projeto.getId());
+        jdbcTemplate.update("DELETE FROM usuarios WHERE id IN (?, ?)", gerente.getId(), responsavel.getId());
+    }
+
+    @Test
+    void criacaoDeTarefaComUsuariosLidosEmParaleloGravaOResponsavel() {
+        Task task = taskService.addNewTask(novaTarefa(), gerente.getId(), responsavel.getId(), null);
+
+        assertEquals(List.of(responsavel.getId()), jdbcTemplate.queryForList(
+                "SELECT id_usuario FROM responsaveis_tarefa WHERE id_tarefa = ?", Long.class, task.getId()));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT quantidade_tarefas FROM projetos WHERE id = ?", Integer.class, projeto.getId()));
+        assertEquals(0.0, consultasEmSequencia());
+        verify(auditLogService).addAudit(any(), eq(AcaoAuditoria.CRIAR_TAREFA), anyString(), eq(EntidadeAuditada.TAREFA),
+                eq(task.getId()), isNull(), isNull());
+    }
+
+    @Test
+    void responsavelInexistenteLidoEmParaleloRespondeNaoEncontrado() {
+        assertThrows(EntityNotFoundException.class,
+                () -> taskService.addNewTask(novaTarefa(), gerente.getId(), -1L, null));
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM tarefas_projeto WHERE id_projeto = ?", Integer.class, projeto.getId()));
+        assertEquals(0.0, consultasEmSequencia());
+    }
+
+    @Test
+    void dependenciaComPredecessoraLidaEmParalelo() {
+        Task predecessora = taskService.addNewTask(novaTarefa(), gerente.getId(), responsavel.getId(), null);
+        Task sucessora = taskService.addNewTask(novaTarefa(), gerente.getId(), responsavel.getId(), null);
+
+        assertThrows(EntityNotFoundException.class,
+                () -> taskService.addTaskDependency(gerente.getId(), -1L, sucessora.getId(), 0, null));
+
+        taskService.addTaskDependency(gerente.getId(), predecessora.getId(), sucessora.getId(), 1, null);
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT count(*) FROM dependencias_tarefa " +
+                "WHERE id_tarefa_predecessora = ? AND id_tarefa_sucessora = ?", Integer.class,
+                predecessora.getId(), sucessora.getId()));
+        assertEquals(0.0, consultasEmSequencia());
+    }
+
+    private double consultasEmSequencia() {
+        return meterRegistry.get("consultas.paralelas.sequenciais").counter().count();
+    }
+
+    private Task novaTarefa() {
+        Task task = new Task();
+        task.setNomeTarefa("Tarefa");
+        task.setDescricao("Tarefa de teste das consultas paralelas");
+        task.setDataInicio(LocalDate.now());
+        task.setDataTerminoPrevista(LocalDate.now().plusDays(2));
+        task.setProjeto(projeto);
+        return task;
+    }
+
+    private static User novoUsuario(String nome) {
+        User user = new User();
+        user.setNome(nome);
+        user.setLoginUsuario(nome + "-" + UUID.randomUUID());
+        user.setEmail(UUID.randomUUID() + "@teste.com");
+        user.setSenha("senha");
+        user.setDataRegistro(LocalDateTime.now());
+        return user;
+    }
+
+    private static Project novoProjeto(User gerente) {
+        Project project = new Project();
+        project.setNomeProjeto("Projeto");
+        project.setDescricao("Projeto de teste das consultas paralelas");
+        project.setDataInicio(LocalDate.now());
+        project.setDataTerminoPrevista(LocalDate.now().plusDays(30));
+        project.setDataCriacaoProjeto(LocalDateTime.now());
+        project.setStatus(StatusProjeto.CRIADO);
+        project.setGerenteProjeto(gerente);
+        project.setCriadorProjeto(gerente);
+        project.setPorcentagemConcluida(0);
+        return project;
+    }
+}
@@ -0,0 +1,121 @@
+package com.api.gerenciadorprojetos.UserPerformance.Services;
+
+import com.api.gerenciadorprojetos.Exceptions.UnauthorizedException;
+import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+import com.api.gerenciadorprojetos.Projects.Projections.ProjectStatusCount;
+import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskStatusCount;
+import com.api.gerenciadorprojetos.Tasks.Repositories.TaskRepository;
+import com.api.gerenciadorprojetos.UserPerformance.DTO.UserPerformanceDTO;
+import com.api.gerenciadorprojetos.Users.Entities.User;
+import com.api.gerenciadorprojetos.Utils.SecurityUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserPerformanceServiceTest {
+
+    private static final long USUARIO = 3L;
+
+    private final ProjetoJpaRepository projectRepository = mock(ProjetoJpaRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final SecurityUtils securityUtils = mock(SecurityUtils.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UserPerformanceService service = new UserPerformanceService(securityUtils, projectRepository,
+            taskRepository, meterRegistry, Duration.ofMillis(500));
+
+    @BeforeEach
+    void autenticar() {
+        User usuario = new User();
+        usuario.setId(USUARIO);
+        when(securityUtils.getUsuarioLogado()).thenReturn(usuario);
+    }
+
+    @Test
+    void recusaODesempenhoDeOutroUsuario() {
+        assertThrows(UnauthorizedException.class, () -> service.getUserPerformance(USUARIO + 1));
+
+        when(securityUtils.getUsuarioLogado()).thenReturn(null);
+        assertThrows(UnauthorizedException.class, () -> service.getUserPerformance(USUARIO));
+
+        verify(projectRepository, never()).countByMemberIdGroupByStatus(any());
+        verify(taskRepository, never()).countByResponsavelIdGroupByStatus(any());
+    }
+
+    @Test
+    void contaProjetosETarefasPorStatusComZeroNosStatusSemRegistros() {
+        List<ProjectStatusCount> projetos = List.of(projetos(StatusProjeto.ATRASADO, 2L));
+        List<TaskStatusCount> tarefas = List.of(tarefas(StatusTarefa.CONCLUIDA, 7L));
+        when(projectRepository.countByMemberIdGroupByStatus(USUARIO)).thenReturn(projetos);
+        when(taskRepository.countByResponsavelIdGroupByStatus(USUARIO)).thenReturn(tarefas);
+
+        UserPerformanceDTO desempenho = service.getUserPerformance(USUARIO).block();
+
+        assertFalse(desempenho.isParcial());
+        assertEquals(2L, desempenho.getProjetosPorStatus().get(StatusProjeto.ATRASADO));
+        assertEquals(0L, desempenho.getProjetosPorStatus().get(StatusProjeto.CONCLUIDO));
+        assertEquals(StatusTarefa.values().length, desempenho.getTarefasPorStatus().size());
+        assertEquals(7L, desempenho.getTarefasPorStatus().get(StatusTarefa.CONCLUIDA));
+    }
+
+    @Test
+    void omiteAContagemQueFalhaEMantemAsDemais() {
+        List<ProjectStatusCount> projetos = List.of(projetos(StatusProjeto.CRIADO, 1L));
+        when(projectRepository.countByMemberIdGroupByStatus(USUARIO)).thenReturn(projetos);
+        when(taskRepository.countByResponsavelIdGroupByStatus(USUARIO)).thenThrow(new QueryTimeoutException("cancelada"));
+
+        UserPerformanceDTO desempenho = service.getUserPerformance(USUARIO).block();
+
+        assertTrue(desempenho.isParcial());
+        assertEquals(List.of("tarefas"), desempenho.getIndisponiveis());
+        assertNull(desempenho.getTarefasPorStatus());
+        assertEquals(1L, desempenho.getProjetosPorStatus().get(StatusProjeto.CRIADO));
+        assertEquals(1.0, meterRegistry.get("desempenho.resultados.parciais").counter().count());
+    }
+
+    @Test
+    void naoAguardaAContagemQueExcedeOTempoLimite() {
+        when(projectRepository.countByMemberIdGroupByStatus(USUARIO)).thenAnswer(invocacao -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+        when(taskRepository.countByResponsavelIdGroupByStatus(USUARIO)).thenReturn(List.of());
+
+        long inicio = System.nanoTime();
+        UserPerformanceDTO desempenho = service.getUserPerformance(USUARIO).block();
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - inicio).toMillis() < 4_000);
+        assertEquals(List.of("projetos"), desempenho.getIndisponiveis());
+        assertEquals(0L, desempenho.getTarefasPorStatus().get(StatusTarefa.PENDENTE));
+    }
+
+    private static ProjectStatusCount projetos(StatusProjeto status, long total) {
+        ProjectStatusCount contagem = mock(ProjectStatusCount.class);
+        when(contagem.getStatus()).thenReturn(status);
+        when(contagem.getTotal()).thenReturn(total);
+        return contagem;
+    }
+
+    private static TaskStatusCount tarefas(StatusTarefa status, long total) {
+        TaskStatusCount contagem = mock(TaskStatusCount.class);
+        when(contagem.getStatus()).thenReturn(status);
+        when(contagem.getTotal()).thenReturn(total);
+        return contagem;
+    }
+}
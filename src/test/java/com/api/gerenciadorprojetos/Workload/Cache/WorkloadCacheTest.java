@@ -0,0 +1,202 @@
+package com.api.gerenciadorprojetos.Workload.Cache;
+
+import com.api.gerenciadorprojetos.Tasks.Events.TaskChangedEvent;
+import com.api.gerenciadorprojetos.Tasks.Projections.TaskAssignmentRow;
+import com.api.gerenciadorprojetos.Tasks.Repositories.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WorkloadCacheTest {
+
+    private static final LocalDate D1 = LocalDate.of(2024, 1, 1);
+    private static final long DE = D1.toEpochDay();
+
+    private TaskRepository taskRepository;
+    private WorkloadCache cache;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository = mock(TaskRepository.class);
+        cache = new WorkloadCache(taskRepository, Duration.ofMinutes(10), Clock.systemUTC());
+    }
+
+    @Test
+    void contaTarefasSimultaneasPorDia() {
+        when(taskRepository.findOpenAssignmentsByUserIds(anyCollection())).thenReturn(List.of(
+                row(1, 10, D1, D1.plusDays(2)),
+                row(1, 11, D1.plusDays(1), D1.plusDays(1)),
+                row(1, 12, D1.plusDays(4), D1.plusDays(9))));
+
+        Map<Long, int[]> carga = cache.porDia(List.of(1L, 2L), DE, DE + 5);
+
+        assertArrayEquals(new int[]{1, 2, 1, 0, 1, 1}, carga.get(1L));
+        assertArrayEquals(new int[]{0, 0, 0, 0, 0, 0}, carga.get(2L));
+    }
+
+    @Test
+    void atualizaIncrementalmenteSemRecarregarUsuario() {
+        when(taskRepository.findOpenAssignmentsByUserIds(anyCollection())).thenReturn(List.of(
+                row(1, 10, D1, D1.plusDays(2))));
+        cache.porDia(List.of(1L), DE, DE + 3);
+
+        // Tarefa 10 movida e tarefa 11 atribuída ao usuário 1
+        when(taskRepository.findOpenAssignmentsByTaskIds(List.of(10L))).thenReturn(List.of(row(1, 10, D1.plusDays(2), D1.plusDays(3))));
+        when(taskRepository.findOpenAssignmentsByTaskIds(List.of(11L))).thenReturn(List.of(row(1, 11, D1, D1)));
+        cache.onTaskChanged(new TaskChangedEvent(10L));
+        cache.onTaskChanged(new TaskChangedEvent(11L));
+        assertArrayEquals(new int[]{1, 0, 1, 1}, cache.porDia(List.of(1L), DE, DE + 3).get(1L));
+
+        // Tarefa 10 concluída: deixa de estar em aberto
+        when(taskRepository.findOpenAssignmentsByTaskIds(List.of(10L))).thenReturn(List.of());
+        cache.onTaskChanged(new TaskChangedEvent(10L));
+        assertArrayEquals(new int[]{1, 0, 0, 0}, cache.porDia(List.of(1L), DE, DE + 3).get(1L));
+
+        verify(taskRepository, times(1)).findOpenAssignmentsByUserIds(anyCollection());
+    }
+
+    @Test
+    void tarefasDaMesmaTransacaoSaoReaplicadasComUmaConsultaAposOCommit() {
+        when(taskRepository.findOpenAssignmentsByUserIds(anyCollection())).thenReturn(List.of(
+                row(1, 10, D1, D1),
+                row(1, 11, D1, D1)));
+        cache.porDia(List.of(1L), DE, DE + 3);
+        when(taskRepository.findOpenAssignmentsByTaskIds(anyCollection())).thenReturn(List.of(
+                row(1, 10, D1.plusDays(1), D1.plusDays(1)),
+                row(1, 11, D1.plusDays(2), D1.plusDays(2))));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.onTaskChanged(new TaskChangedEvent(10L));
+            cache.onTaskChanged(new TaskChangedEvent(11L));
+            cache.onTaskChanged(new TaskChangedEvent(10L));
+            verify(taskRepository, never()).findOpenAssignmentsByTaskIds(anyCollection());
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(taskRepository, times(1)).findOpenAssignmentsByTaskIds(List.of(10L, 11L));
+        assertArrayEquals(new int[]{0, 1, 1, 0}, cache.porDia(List.of(1L), DE, DE + 3).get(1L));
+    }
+
+    @Test
+    void semUsuariosEmCacheNaoConsultaAsTarefasAlteradas() {
+        cache.onTaskChanged(new TaskChangedEvent(10L));
+
+        verify(taskRepository, never()).findOpenAssignmentsByTaskIds(anyCollection());
+    }
+
+    @Test
+    void usuariosExpiradosSaoRemovidosComSeusVinculos() {
+        MutableClock relogio = new MutableClock();
+        cache = new WorkloadCache(taskRepository, Duration.ofMinutes(10), relogio);
+        when(taskRepository.findOpenAssignmentsByUserIds(anyCollection())).thenReturn(List.of(row(1, 10, D1, D1)));
+        cache.porDia(List.of(1L), DE, DE);
+
+        relogio.avancar(Duration.ofMinutes(10));
+        cache.removeExpired();
+        cache.onTaskChanged(new TaskChangedEvent(10L));
+
+        verify(taskRepository, never()).findOpenAssignmentsByTaskIds(anyCollection());
+    }
+
+    @Test
+    void cargaConcorrenteComAlteracaoDeTarefaNaoEGuardada() {
+        when(taskRepository.findOpenAssignmentsByUserIds(List.of(1L))).thenReturn(List.of(row(1, 10, D1, D1)));
+        when(taskRepository.findOpenAssignmentsByUserIds(List.of(2L))).thenAnswer(invocation -> {
+            // A tarefa 20 do usuário 2 é movida depois da leitura e antes de a carga ser guardada
+            cache.onTaskChanged(new TaskChangedEvent(20L));
+            return List.of(row(2, 20, D1, D1));
+        });
+        cache.porDia(List.of(1L), DE, DE);
+
+        assertArrayEquals(new int[]{1}, cache.porDia(List.of(2L), DE, DE).get(2L));
+        cache.porDia(List.of(2L), DE, DE);
+
+        verify(taskRepository, times(2)).findOpenAssignmentsByUserIds(List.of(2L));
+    }
+
+    @Test
+    void mapaDeCalorDeCincoMilUsuarios() {
+        List<TaskAssignmentRow> rows = new ArrayList<>();
+        List<Long> usuarios = new ArrayList<>();
+        for (long userId = 1; userId <= 5000; userId++) {
+            usuarios.add(userId);
+            for (int t = 0; t < 20; t++) {
+                LocalDate inicio = D1.plusDays((userId * 7 + t * 13) % 90);
+                rows.add(row(userId, userId * 100 + t, inicio, inicio.plusDays(t % 15)));
+            }
+        }
+        when(taskRepository.findOpenAssignmentsByUserIds(anyCollection())).thenAnswer(invocation -> {
+            Set<?> lote = new HashSet<>(invocation.<Collection<?>>getArgument(0));
+            return rows.stream().filter(r -> lote.contains(r.getUserId())).toList();
+        });
+        cache.porDia(usuarios, DE, DE + 29);
+
+        long inicio = System.nanoTime();
+        Map<Long, int[]> carga = cache.porDia(usuarios, DE, DE + 29);
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+        assertEquals(5000, carga.size());
+        System.out.printf("Mapa de calor em cache: 5000 usuários x 30 dias em %d ms%n", duracaoMs);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant agora = Instant.parse("2024-01-01T00:00:00Z");
+
+        void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+
+    private static TaskAssignmentRow row(long userId, long taskId, LocalDate inicio, LocalDate termino) {
+        return new TaskAssignmentRow() {
+            public Long getUserId() { return userId; }
+            public Long getTaskId() { return taskId; }
+            public LocalDate getDataInicio() { return inicio; }
+            public LocalDate getDataTerminoPrevista() { return termino; }
+        };
+    }
+}
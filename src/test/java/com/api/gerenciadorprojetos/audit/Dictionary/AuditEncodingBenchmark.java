@@ -0,0 +1,111 @@
+package com.api.gerenciadorprojetos.audit.Dictionary;
+
+import com.api.gerenciadorprojetos.audit.Enums.AcaoAuditoria;
+import com.api.gerenciadorprojetos.audit.Enums.EntidadeAuditada;
+import com.api.gerenciadorprojetos.audit.Enums.TipoDicionario;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Benchmark manual da codificação compacta do audit sobre uma carga sintética. Não é executado pelo surefire.
+ * <p>
+ * Uso: {@code java -cp target/classes:target/test-classes com.api.gerenciadorprojetos.audit.Dictionary.AuditEncodingBenchmark [registros]}
+ * <p>
+ * Compara o tamanho das colunas de ação, entidade, agente do usuário e origem no formato textual anterior e no
+ * formato compacto (smallint e IDs do dicionário), segundo o armazenamento do PostgreSQL: texto com cabeçalho de 1
+ * byte até 126 bytes e de 4 bytes acima disso, sem alinhamento e sem compressão. Mede também a vazão da internação
+ * com o dicionário em memória. A vazão de inserção no banco não é medida aqui; ela depende de um PostgreSQL real.
+ */
+public class AuditEncodingBenchmark {
+
+    private static final int AGENTES_DISTINTOS = 300;
+    private static final String[] ORIGENS = {
+            "https://app.gerenciador-projetos.com.br", "http://localhost:3000",
+            "https://admin.gerenciador-projetos.com.br", "android-app://br.com.gerenciador"
+    };
+
+    public static void main(String[] args) {
+        int registros = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        SplittableRandom random = new SplittableRandom(42);
+
+        List<String> agentes = new ArrayList<>(AGENTES_DISTINTOS);
+        for (int i = 0; i < AGENTES_DISTINTOS; i++) {
+            agentes.add("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/"
+                    + (100 + i % 25) + ".0." + (4000 + i) + "." + random.nextInt(200) + " Safari/537.36");
+        }
+        AcaoAuditoria[] acoes = AcaoAuditoria.values();
+
+        long bytesTexto = 0;
+        long bytesCompacto = 0;
+
+        Map<String, Integer> dicionario = new ConcurrentHashMap<>();
+        AuditStringInterner interner = new AuditStringInterner(10_000, new AuditDictionaryStore() {
+            @Override
+            public Map<String, Integer> carregar(TipoDicionario tipo, int limite) {
+                return Map.of();
+            }
+
+            @Override
+            public Integer gravar(TipoDicionario tipo, String valor) {
+                return dicionario.computeIfAbsent(tipo.getCodigo() + ":" + valor, k -> dicionario.size() + 1);
+            }
+
+            @Override
+            public Integer buscarId(TipoDicionario tipo, String valor) {
+                return dicionario.get(tipo.getCodigo() + ":" + valor);
+            }
+
+            @Override
+            public String buscarValor(Integer id) {
+                return null;
+            }
+        });
+
+        long nanosInternacao = 0;
+        for (int i = 0; i < registros; i++) {
+            // Distribuição concentrada: poucos agentes respondem pela maior parte das requisições
+            String agente = agentes.get((int) Math.min(AGENTES_DISTINTOS - 1, Math.abs(random.nextGaussian()) * 30));
+            String origem = ORIGENS[random.nextInt(ORIGENS.length)];
+            AcaoAuditoria acao = acoes[random.nextInt(acoes.length)];
+            EntidadeAuditada entidade = acao.name().endsWith("PROJETO") ? EntidadeAuditada.PROJETO : EntidadeAuditada.TAREFA;
+
+            // Formato anterior: textos completos, com a ação incluindo o ID em algumas mensagens
+            String acaoTexto = acao == AcaoAuditoria.ATUALIZAR_PROJETO || acao == AcaoAuditoria.ATUALIZAR_TAREFA
+                    ? acao.getDescricao() + ". Id: " + random.nextInt(1_000_000) : acao.getDescricao() + " ";
+            bytesTexto += tamanhoTexto(acaoTexto) + tamanhoTexto(entidade.getDescricao())
+                    + tamanhoTexto(agente) + tamanhoTexto(origem);
+
+            long t0 = System.nanoTime();
+            interner.idDe(TipoDicionario.AGENTE_USUARIO, agente);
+            interner.idDe(TipoDicionario.ORIGEM, origem);
+            nanosInternacao += System.nanoTime() - t0;
+
+            // Formato compacto: acao smallint, entidade smallint, id_agente_usuario int, id_origem int
+            bytesCompacto += 2 + 2 + 4 + 4;
+        }
+
+        long bytesDicionario = 0;
+        for (String chave : dicionario.keySet()) {
+            bytesDicionario += 4 + 2 + tamanhoTexto(chave.substring(chave.indexOf(':') + 1));
+        }
+
+        System.out.printf("Registros sintéticos: %,d (%d agentes, %d origens)%n", registros, AGENTES_DISTINTOS, ORIGENS.length);
+        System.out.printf("Formato textual:  %,d bytes (%.1f bytes/registro)%n", bytesTexto, bytesTexto / (double) registros);
+        System.out.printf("Formato compacto: %,d bytes (%.1f bytes/registro) + dicionário %,d bytes (%d textos)%n",
+                bytesCompacto, bytesCompacto / (double) registros, bytesDicionario, dicionario.size());
+        System.out.printf("Redução nas colunas codificadas: %.1f%%%n",
+                100.0 * (1 - (bytesCompacto + bytesDicionario) / (double) bytesTexto));
+        System.out.printf("Internação: %.1f ns/registro (%,.0f registros/s)%n",
+                nanosInternacao / (double) registros, registros / (nanosInternacao / 1e9));
+    }
+
+    private static long tamanhoTexto(String valor) {
+        int bytes = valor.getBytes(StandardCharsets.UTF_8).length;
+        return bytes <= 126 ? 1 + bytes : 4 + bytes;
+    }
+}
@@ -0,0 +1,149 @@
+package com.api.gerenciadorprojetos.audit.Dictionary;
+
+import com.api.gerenciadorprojetos.audit.Enums.TipoDicionario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AuditStringInternerTest {
+
+    private final Map<String, Integer> dicionario = new HashMap<>();
+    private final Map<Integer, String> valores = new HashMap<>();
+    private final AtomicInteger gravacoes = new AtomicInteger();
+    private final AtomicInteger leituras = new AtomicInteger();
+
+    private AuditStringInterner interner;
+
+    @BeforeEach
+    void setUp() {
+        interner = novoInterner(100);
+    }
+
+    private AuditStringInterner novoInterner(int capacidade) {
+        return new AuditStringInterner(capacidade, new AuditDictionaryStore() {
+            @Override
+            public Map<String, Integer> carregar(TipoDicionario tipo, int limite) {
+                Map<String, Integer> ids = new HashMap<>();
+                dicionario.forEach((chave, id) -> {
+                    if (chave.startsWith(tipo.getCodigo() + ":") && ids.size() < limite) {
+                        ids.put(valores.get(id), id);
+                    }
+                });
+                return ids;
+            }
+
+            @Override
+            public Integer gravar(TipoDicionario tipo, String valor) {
+                gravacoes.incrementAndGet();
+                return AuditStringInternerTest.this.gravar(tipo, valor);
+            }
+
+            @Override
+            public Integer buscarId(TipoDicionario tipo, String valor) {
+                return dicionario.get(tipo.getCodigo() + ":" + valor);
+            }
+
+            @Override
+            public String buscarValor(Integer id) {
+                leituras.incrementAndGet();
+                return valores.get(id);
+            }
+        });
+    }
+
+    private Integer gravar(TipoDicionario tipo, String valor) {
+        return dicionario.computeIfAbsent(tipo.getCodigo() + ":" + valor, k -> {
+            int id = dicionario.size() + 1;
+            valores.put(id, valor);
+            return id;
+        });
+    }
+
+    @Test
+    void textoConhecidoNaoConsultaODicionarioNovamente() {
+        Integer id = interner.idDe(TipoDicionario.AGENTE_USUARIO, "curl");
+
+        assertEquals(id, interner.idDe(TipoDicionario.AGENTE_USUARIO, "curl"));
+        assertEquals(1, gravacoes.get());
+        assertEquals("curl", interner.valorDe(id));
+        assertEquals(0, leituras.get());
+    }
+
+    @Test
+    void mesmoTextoEmTiposDiferentesRecebeIdsDiferentes() {
+        Integer agente = interner.idDe(TipoDicionario.AGENTE_USUARIO, "http://localhost");
+        Integer origem = interner.idDe(TipoDicionario.ORIGEM, "http://localhost");
+
+        assertNotEquals(agente, origem);
+        assertNull(interner.idDe(TipoDicionario.ORIGEM, null));
+        assertNull(interner.idDe(TipoDicionario.ORIGEM, ""));
+        assertNull(interner.valorDe(null));
+    }
+
+    @Test
+    void agenteDoUsuarioGuardaApenasAVersaoPrincipal() {
+        Integer id = interner.idDe(TipoDicionario.AGENTE_USUARIO,
+                "Mozilla/5.0 (Windows NT 10.0) Chrome/120.0.6099.109 Safari/537.36");
+
+        assertEquals(id, interner.idDe(TipoDicionario.AGENTE_USUARIO,
+                "Mozilla/5.0 (Windows NT 10.0) Chrome/120.0.6099.110 Safari/537.36"));
+        assertEquals("Mozilla/5 (Windows NT 10) Chrome/120 Safari/537", valores.get(id));
+        assertEquals("http://localhost:8080", valores.get(interner.idDe(TipoDicionario.ORIGEM, "http://localhost:8080")));
+    }
+
+    @Test
+    void textoLongoETruncadoETextosAlemDaCapacidadeUsamOExcedente() {
+        AuditStringInterner pequeno = novoInterner(2);
+        String longo = "x".repeat(AuditStringInterner.TAMANHO_MAXIMO + 100);
+
+        Integer id = pequeno.idDe(TipoDicionario.AGENTE_USUARIO, longo);
+        assertEquals(AuditStringInterner.TAMANHO_MAXIMO, valores.get(id).length());
+
+        pequeno.idDe(TipoDicionario.AGENTE_USUARIO, "agente-a");
+        // Gravado por outra instância: fora do cache, o ID continua vindo do dicionário
+        Integer existente = gravar(TipoDicionario.AGENTE_USUARIO, "agente-b");
+        assertEquals(existente, pequeno.idDe(TipoDicionario.AGENTE_USUARIO, "agente-b"));
+
+        Integer excedente = pequeno.idDe(TipoDicionario.AGENTE_USUARIO, "agente-c");
+        assertEquals(excedente, pequeno.idDe(TipoDicionario.AGENTE_USUARIO, "agente-d"));
+        assertEquals(AuditStringInterner.VALOR_EXCEDENTE, valores.get(excedente));
+        assertNull(dicionario.get(TipoDicionario.AGENTE_USUARIO.getCodigo() + ":agente-d"));
+        assertEquals(3, gravacoes.get());
+    }
+
+    @Test
+    void textosJaGravadosSaoCarregadosNaPrimeiraInternacao() {
+        Integer id = gravar(TipoDicionario.ORIGEM, "http://localhost");
+
+        AuditStringInterner novo = novoInterner(100);
+
+        assertEquals(id, novo.idDe(TipoDicionario.ORIGEM, "http://localhost"));
+        assertEquals("http://localhost", novo.valorDe(id));
+        assertEquals(0, gravacoes.get());
+    }
+
+    @Test
+    void idGravadoEmTransacaoDesfeitaNaoEntraNoCache() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            interner.idDe(TipoDicionario.ORIGEM, "http://localhost");
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        interner.idDe(TipoDicionario.ORIGEM, "http://localhost");
+        interner.idDe(TipoDicionario.ORIGEM, "http://localhost");
+        assertEquals(2, gravacoes.get());
+    }
+}
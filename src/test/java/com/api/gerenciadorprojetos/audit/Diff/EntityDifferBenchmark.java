@@ -0,0 +1,128 @@
+package com.api.gerenciadorprojetos.audit.Diff;
+
+import com.api.gerenciadorprojetos.Projects.Entities.Project;
+import com.api.gerenciadorprojetos.Tasks.Entities.Task;
+import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import com.api.gerenciadorprojetos.audit.Entities.AlteracaoCampo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.BeanUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do {@link EntityDiffer} contra a abordagem anterior (cópia com BeanUtils e comparação manual).
+ * Não é executado pelo surefire.
+ * <p>
+ * Uso: {@code mvn -q test-compile} e depois
+ * {@code java -cp target/classes:target/test-classes:<classpath de teste> com.api.gerenciadorprojetos.audit.Diff.EntityDifferBenchmark}
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityDifferBenchmark {
+
+    private static final EntityDiffer<Task> DIFFER = EntityDiffer.<Task>builder()
+            .campo("nomeTarefa", Task::getNomeTarefa)
+            .campo("descricao", Task::getDescricao)
+            .campo("dataInicio", Task::getDataInicio)
+            .campo("dataTerminoPrevista", Task::getDataTerminoPrevista)
+            .campo("status", Task::getStatus)
+            .campo("projeto", t -> t.getProjeto() == null ? null : t.getProjeto().getId())
+            .campo("dataConclusao", Task::getDataConclusao)
+            .campo("porcentagemConcluida", Task::getPorcentagemConcluida)
+            .build();
+
+    private Task task;
+
+    @Setup
+    public void setUp() {
+        Project project = new Project();
+        project.setId(7L);
+
+        task = new Task();
+        task.setId(1L);
+        task.setNomeTarefa("Modelagem do banco de dados");
+        task.setDescricao("Definir entidades, índices e restrições");
+        task.setDataInicio(LocalDate.of(2024, 1, 1));
+        task.setDataTerminoPrevista(LocalDate.of(2024, 1, 15));
+        task.setStatus(StatusTarefa.EM_ANDAMENTO);
+        task.setProjeto(project);
+        task.setPorcentagemConcluida(40);
+    }
+
+    @Benchmark
+    public Map<String, AlteracaoCampo> differ() {
+        EntityDiffer.Snapshot<Task> antes = DIFFER.snapshot(task);
+        alterar(task);
+        Map<String, AlteracaoCampo> alteracoes = DIFFER.diff(antes, task);
+        restaurar(task);
+        return alteracoes;
+    }
+
+    @Benchmark
+    public Map<String, AlteracaoCampo> differSemAlteracao() {
+        return DIFFER.diff(DIFFER.snapshot(task), task);
+    }
+
+    @Benchmark
+    public Map<String, AlteracaoCampo> beanUtilsEComparacaoManual() {
+        Task antes = new Task();
+        BeanUtils.copyProperties(task, antes);
+        alterar(task);
+
+        Map<String, AlteracaoCampo> alteracoes = new LinkedHashMap<>();
+        registrar(alteracoes, "nomeTarefa", antes.getNomeTarefa(), task.getNomeTarefa());
+        registrar(alteracoes, "descricao", antes.getDescricao(), task.getDescricao());
+        registrar(alteracoes, "dataInicio", antes.getDataInicio(), task.getDataInicio());
+        registrar(alteracoes, "dataTerminoPrevista", antes.getDataTerminoPrevista(), task.getDataTerminoPrevista());
+        registrar(alteracoes, "status", antes.getStatus(), task.getStatus());
+        registrar(alteracoes, "projeto", antes.getProjeto().getId(), task.getProjeto().getId());
+        registrar(alteracoes, "dataConclusao", antes.getDataConclusao(), task.getDataConclusao());
+        registrar(alteracoes, "porcentagemConcluida", antes.getPorcentagemConcluida(), task.getPorcentagemConcluida());
+
+        restaurar(task);
+        return alteracoes;
+    }
+
+    private static void alterar(Task task) {
+        task.setPorcentagemConcluida(100);
+        task.setStatus(StatusTarefa.CONCLUIDA);
+        task.setDataConclusao(LocalDateTime.of(2024, 1, 10, 12, 0));
+    }
+
+    private static void restaurar(Task task) {
+        task.setPorcentagemConcluida(40);
+        task.setStatus(StatusTarefa.EM_ANDAMENTO);
+        task.setDataConclusao(null);
+    }
+
+    private static void registrar(Map<String, AlteracaoCampo> alteracoes, String campo, Object antigo, Object novo) {
+        if (!Objects.equals(antigo, novo)) {
+            alteracoes.put(campo, new AlteracaoCampo(Objects.toString(antigo, null), Objects.toString(novo, null)));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(EntityDifferBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,76 @@
+package com.api.gerenciadorprojetos.audit.Diff;
+
+import com.api.gerenciadorprojetos.Tasks.Entities.Task;
+import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import com.api.gerenciadorprojetos.audit.Entities.AlteracaoCampo;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityDifferTest {
+
+    private static final EntityDiffer<Task> DIFFER = EntityDiffer.<Task>builder()
+            .campo("nomeTarefa", Task::getNomeTarefa)
+            .campo("dataInicio", Task::getDataInicio)
+            .campo("status", Task::getStatus)
+            .campo("porcentagemConcluida", Task::getPorcentagemConcluida)
+            .build();
+
+    @Test
+    void comparaOSnapshotAnteriorComOEstadoAtual() {
+        Task task = new Task();
+        task.setNomeTarefa("Modelagem");
+        task.setDataInicio(LocalDate.of(2024, 1, 1));
+        task.setStatus(StatusTarefa.PENDENTE);
+
+        EntityDiffer.Snapshot<Task> antes = DIFFER.snapshot(task);
+        task.setNomeTarefa("Modelagem do banco");
+        task.setStatus(StatusTarefa.EM_ANDAMENTO);
+        task.setPorcentagemConcluida(10);
+
+        Map<String, AlteracaoCampo> alteracoes = DIFFER.diff(antes, task);
+
+        assertEquals(List.of("nomeTarefa", "status", "porcentagemConcluida"), List.copyOf(alteracoes.keySet()));
+        assertEquals(new AlteracaoCampo("Modelagem", "Modelagem do banco"), alteracoes.get("nomeTarefa"));
+        assertEquals(new AlteracaoCampo(null, "10"), alteracoes.get("porcentagemConcluida"));
+    }
+
+    @Test
+    void semAlteracaoDevolveMapaVazio() {
+        Task task = new Task();
+        task.setNomeTarefa("Modelagem");
+
+        assertTrue(DIFFER.diff(DIFFER.snapshot(task), task).isEmpty());
+    }
+
+    @Test
+    void bigDecimalComEscalaDiferenteNaoEAlteracao() {
+        EntityDiffer<BigDecimal[]> differ = EntityDiffer.<BigDecimal[]>builder()
+                .campo("valor", v -> v[0])
+                .build();
+        BigDecimal[] valor = {new BigDecimal("10.0")};
+
+        EntityDiffer.Snapshot<BigDecimal[]> antes = differ.snapshot(valor);
+        valor[0] = new BigDecimal("10.00");
+
+        assertTrue(differ.diff(antes, valor).isEmpty());
+    }
+
+    @Test
+    void rejeitaCampoRepetidoESnapshotDeOutroComparador() {
+        assertThrows(IllegalArgumentException.class, () -> EntityDiffer.<Task>builder()
+                .campo("status", Task::getStatus)
+                .campo("status", Task::getStatus));
+
+        EntityDiffer<Task> outro = EntityDiffer.<Task>builder().campo("status", Task::getStatus).build();
+        Task task = new Task();
+        assertThrows(IllegalArgumentException.class, () -> DIFFER.diff(outro.snapshot(task), task));
+    }
+}
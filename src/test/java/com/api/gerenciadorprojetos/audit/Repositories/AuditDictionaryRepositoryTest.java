@@ -0,0 +1,59 @@
+package com.api.gerenciadorprojetos.audit.Repositories;
+
+import com.api.gerenciadorprojetos.Projects.Repositories.JpaConfig;
+import com.api.gerenciadorprojetos.audit.Entities.AuditDictionaryEntry;
+import com.api.gerenciadorprojetos.audit.Enums.TipoDicionario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Confere a gravação do dicionário do audit em um único comando na transação atual.
+ * <p>
+ * Executado apenas com {@code -Ddb.url=jdbc:postgresql://...}. Cada teste é desfeito ao final (rollback).
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(JpaConfig.class)
+@EnabledIfSystemProperty(named = "db.url", matches = ".+")
+class AuditDictionaryRepositoryTest {
+
+    private static final short ORIGEM = TipoDicionario.ORIGEM.getCodigo();
+
+    @Autowired
+    private AuditDictionaryRepository repository;
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("db.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("db.user", "admin"));
+        registry.add("spring.datasource.password", () -> System.getProperty("db.password", "admin"));
+    }
+
+    @Test
+    void gravacaoDevolveOMesmoIdParaOMesmoTexto() {
+        String valor = "http://teste-" + UUID.randomUUID();
+        assertNull(repository.findIdByTipoAndValor(ORIGEM, valor));
+
+        Integer id = repository.insertIfAbsentReturningId(ORIGEM, valor);
+
+        assertNotNull(id);
+        assertEquals(id, repository.insertIfAbsentReturningId(ORIGEM, valor));
+        assertEquals(id, repository.findIdByTipoAndValor(ORIGEM, valor));
+        assertTrue(repository.findByTipo(ORIGEM, PageRequest.of(0, 100_000)).stream()
+                .map(AuditDictionaryEntry::getValor).anyMatch(valor::equals));
+    }
+}
@@ -0,0 +1,148 @@
+package com.api.gerenciadorprojetos.audit.Services;
+
+import com.api.gerenciadorprojetos.Projects.Entities.Project;
+import com.api.gerenciadorprojetos.Projects.Enums.StatusProjeto;
+import com.api.gerenciadorprojetos.Projects.Repositories.JpaConfig;
+import com.api.gerenciadorprojetos.Projects.Repositories.ProjetoJpaRepository;
+import com.api.gerenciadorprojetos.Tasks.Entities.Task;
+import com.api.gerenciadorprojetos.Tasks.Enums.StatusTarefa;
+import com.api.gerenciadorprojetos.Tasks.Repositories.TaskRepository;
+import com.api.gerenciadorprojetos.Users.Entities.User;
+import com.api.gerenciadorprojetos.Users.Repositories.UserRepository;
+import com.api.gerenciadorprojetos.Utils.SecurityUtils;
+import com.api.gerenciadorprojetos.audit.DTO.AuditLogDTO;
+import com.api.gerenciadorprojetos.audit.Entities.AuditLog;
+import com.api.gerenciadorprojetos.audit.Enums.AcaoAuditoria;
+import com.api.gerenciadorprojetos.audit.Enums.EntidadeAuditada;
+import com.api.gerenciadorprojetos.audit.Enums.TipoDicionario;
+import com.api.gerenciadorprojetos.audit.Repositories.AuditDictionaryRepository;
+import com.api.gerenciadorprojetos.audit.Repositories.AuditLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.when;
+
+/**
+ * Confere que a pesquisa do audit retorna apenas as ações do usuário autenticado e as realizadas nos projetos em que
+ * ele está envolvido, e que a origem das ações de outros usuários não é exibida.
+ * <p>
+ * Executado apenas com {@code -Ddb.url=jdbc:postgresql://...}. Cada teste é desfeito ao final (rollback).
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, AuditLogService.class})
+@EnabledIfSystemProperty(named = "db.url", matches = ".+")
+class AuditLogServiceSearchTest {
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private AuditDictionaryRepository dictionaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjetoJpaRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @MockBean
+    private SecurityUtils securityUtils;
+
+    @DynamicPropertySource
+    static void banco(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("db.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("db.user", "admin"));
+        registry.add("spring.datasource.password", () -> System.getProperty("db.password", "admin"));
+    }
+
+    @Test
+    void pesquisaRetornaApenasAsAcoesVisiveisAoUsuario() {
+        User membro = usuario();
+        User outro = usuario();
+        Project projeto = projeto(outro, List.of(membro));
+        Project projetoAlheio = projeto(outro, List.of(outro));
+        Task tarefa = tarefa(projeto);
+        Task tarefaAlheia = tarefa(projetoAlheio);
+        String valorOrigem = "http://teste-" + UUID.randomUUID();
+        Integer origem = dictionaryRepository.insertIfAbsentReturningId(TipoDicionario.ORIGEM.getCodigo(), valorOrigem);
+
+        Long propria = registro(membro, EntidadeAuditada.PROJETO, projetoAlheio.getId(), origem);
+        Long noProjeto = registro(outro, EntidadeAuditada.PROJETO, projeto.getId(), origem);
+        Long naTarefa = registro(outro, EntidadeAuditada.TAREFA, tarefa.getId(), origem);
+        registro(outro, EntidadeAuditada.PROJETO, projetoAlheio.getId(), origem);
+        registro(outro, EntidadeAuditada.TAREFA, tarefaAlheia.getId(), origem);
+        registro(outro, null, null, origem);
+        when(securityUtils.getUsuarioLogado()).thenReturn(membro);
+
+        Map<Long, AuditLogDTO> visiveis = auditLogService.searchAudit(null, null, null, null, null, null, 500)
+                .getRegistros().stream().collect(Collectors.toMap(AuditLogDTO::getId, dto -> dto));
+
+        assertEquals(List.of(propria, noProjeto, naTarefa), visiveis.keySet().stream().sorted().toList());
+        assertEquals(valorOrigem, visiveis.get(propria).getOrigemAcao());
+        assertNull(visiveis.get(noProjeto).getOrigemAcao());
+        assertEquals(List.of(), auditLogService.searchAudit("Tarefa", tarefaAlheia.getId(), null, null, null, null, 50).getRegistros());
+    }
+
+    private Long registro(User usuario, EntidadeAuditada entidade, Long idEntidade, Integer origem) {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setHorarioRegistro(LocalDateTime.now());
+        auditLog.setIdUsuario(usuario.getId());
+        auditLog.setAcaoRealizada(AcaoAuditoria.ATUALIZAR_PROJETO);
+        auditLog.setEntidadeAfetada(entidade);
+        auditLog.setIdEntidade(idEntidade);
+        auditLog.setIdOrigem(origem);
+        return auditLogRepository.save(auditLog).getId();
+    }
+
+    private User usuario() {
+        String login = "audit-" + UUID.randomUUID();
+        return userRepository.save(new User(null, "Usuário", login, login + "@teste.com", "senha", LocalDateTime.now()));
+    }
+
+    private Project projeto(User criador, List<User> membros) {
+        Project project = new Project();
+        project.setNomeProjeto("Projeto");
+        project.setDescricao("Projeto de teste do audit");
+        project.setDataInicio(LocalDate.now());
+        project.setDataTerminoPrevista(LocalDate.now().plusDays(30));
+        project.setDataCriacaoProjeto(LocalDateTime.now());
+        project.setStatus(StatusProjeto.CRIADO);
+        project.setCriadorProjeto(criador);
+        project.setMembrosProjeto(membros);
+        return projectRepository.save(project);
+    }
+
+    private Task tarefa(Project project) {
+        Task task = new Task();
+        task.setNomeTarefa("Tarefa");
+        task.setDescricao("Tarefa de teste do audit");
+        task.setDataInicio(LocalDate.now());
+        task.setDataTerminoPrevista(LocalDate.now().plusDays(2));
+        task.setStatus(StatusTarefa.PENDENTE);
+        task.setProjeto(project);
+        return taskRepository.save(task);
+    }
+}
@@ -0,0 +1,55 @@
+package com.api.gerenciadorprojetos.config;
+
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CorrelationIdFilterTest {
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter(new StaticListableBeanFactory().getBeanProvider(Tracer.class));
+
+    @Test
+    void reutilizaOCabecalhoValidoDoCliente() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(CorrelationIdFilter.CABECALHO, "pedido-123");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> mdcDuranteARequisicao = new AtomicReference<>();
+
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                mdcDuranteARequisicao.set(MDC.get(CorrelationIdFilter.CHAVE_MDC));
+            }
+        });
+
+        assertEquals("pedido-123", response.getHeader(CorrelationIdFilter.CABECALHO));
+        assertEquals("pedido-123", request.getAttribute(CorrelationIdFilter.ATRIBUTO));
+        assertEquals("pedido-123", mdcDuranteARequisicao.get());
+        assertNull(MDC.get(CorrelationIdFilter.CHAVE_MDC));
+    }
+
+    @Test
+    void geraNovoIdQuandoOCabecalhoEInvalido() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(CorrelationIdFilter.CABECALHO, "id com espaço\ne quebra de linha");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        String gerado = response.getHeader(CorrelationIdFilter.CABECALHO);
+        assertNotEquals("id com espaço\ne quebra de linha", gerado);
+        assertEquals(36, gerado.length());
+    }
+}